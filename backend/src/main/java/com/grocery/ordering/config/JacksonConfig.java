@@ -0,0 +1,99 @@
+package com.grocery.ordering.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.grocery.ordering.dto.ApiResponses;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON serialization configuration.
+ * Response envelopes from {@link ApiResponses} are written with an
+ * {@link ObjectWriter} built once per record type, so the root serializer is
+ * resolved at startup rather than looked up on every response. Blackbird,
+ * which replaces reflective property access with generated lambdas, is
+ * registered unless disabled with {@code app.json.blackbird.enabled=false}.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Configuration
+public class JacksonConfig implements WebMvcConfigurer {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.json.blackbird.enabled", havingValue = "true", matchIfMissing = true)
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter jacksonConverter) {
+                converters.add(i, new EnvelopeMessageConverter(jacksonConverter.getObjectMapper()));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Jackson converter that only handles the {@link ApiResponses} envelopes,
+     * using writers prepared for each envelope type.
+     */
+    static final class EnvelopeMessageConverter extends MappingJackson2HttpMessageConverter {
+
+        private final Map<Class<?>, ObjectWriter> writers = new HashMap<>();
+
+        EnvelopeMessageConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+            for (Class<?> type : ApiResponses.class.getDeclaredClasses()) {
+                if (type.isRecord()) {
+                    writers.put(type, objectMapper.writerFor(type));
+                }
+            }
+        }
+
+        @Override
+        protected boolean supports(Class<?> clazz) {
+            return writers.containsKey(clazz);
+        }
+
+        @Override
+        public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+            return writers.containsKey(clazz) && super.canWrite(clazz, mediaType);
+        }
+
+        @Override
+        public boolean canRead(Class<?> clazz, MediaType mediaType) {
+            return false;
+        }
+
+        @Override
+        public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+            return false;
+        }
+
+        @Override
+        protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+            // The response stream belongs to the container, so the writer must not close it
+            writers.get(object.getClass()).writeValue(StreamUtils.nonClosing(outputMessage.getBody()), object);
+        }
+    }
+}
@@ -2,13 +2,19 @@ package com.grocery.ordering.config;
 
 import com.grocery.ordering.security.AuthEntryPointJwt;
 import com.grocery.ordering.security.AuthTokenFilter;
+import com.grocery.ordering.security.PrecompiledAuthorizationManager;
 import com.grocery.ordering.security.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
+import org.springframework.aop.Advisor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -33,7 +39,7 @@ import java.util.Arrays;
  */
 @Configuration
 @EnableWebSecurity
-@EnableMethodSecurity(prePostEnabled = true)
+@EnableMethodSecurity(prePostEnabled = false)
 public class SecurityConfig {
 
     @Autowired
@@ -50,6 +56,26 @@ public class SecurityConfig {
         return new AuthTokenFilter();
     }
 
+    /**
+     * Authorization manager for @PreAuthorize that checks role expressions as bitmasks.
+     * Declared static so that it is available before method security proxies are created.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static PrecompiledAuthorizationManager precompiledAuthorizationManager() {
+        return new PrecompiledAuthorizationManager();
+    }
+
+    /**
+     * Replaces the default @PreAuthorize interceptor (pre/post annotations are
+     * disabled above) with one backed by the precompiled authorization manager.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor preAuthorizeAuthorizationMethodInterceptor(PrecompiledAuthorizationManager precompiledAuthorizationManager) {
+        return AuthorizationManagerBeforeMethodInterceptor.preAuthorize(precompiledAuthorizationManager);
+    }
+
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
@@ -75,6 +101,9 @@ public class SecurityConfig {
             .exceptionHandling(exception -> exception.authenticationEntryPoint(unauthorizedHandler))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
+                // Async and error dispatches continue requests that were already authorized
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+
                 // Public endpoints
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/public/**").permitAll()
@@ -1,22 +1,71 @@
 package com.grocery.ordering.controller;
 
+import com.grocery.ordering.dto.ApiResponses.CategorySalesResponse;
+import com.grocery.ordering.dto.ApiResponses.CustomerListResponse;
+import com.grocery.ordering.dto.ApiResponses.CustomerResponse;
+import com.grocery.ordering.dto.ApiResponses.CustomerSearchResponse;
+import com.grocery.ordering.dto.ApiResponses.DailySalesResponse;
+import com.grocery.ordering.dto.ApiResponses.DashboardStatsResponse;
+import com.grocery.ordering.dto.ApiResponses.LoginRateLimitStats;
+import com.grocery.ordering.dto.ApiResponses.MessageResponse;
+import com.grocery.ordering.dto.ApiResponses.MethodAuthorizationStats;
+import com.grocery.ordering.dto.ApiResponses.OrderPageResponse;
+import com.grocery.ordering.dto.ApiResponses.OrderResponse;
+import com.grocery.ordering.dto.ApiResponses.ProductResponse;
+import com.grocery.ordering.dto.ApiResponses.ProductSalesResponse;
+import com.grocery.ordering.dto.ApiResponses.BulkStatusResponse;
+import com.grocery.ordering.dto.ApiResponses.DeliverySlotListResponse;
+import com.grocery.ordering.dto.ApiResponses.DeliverySlotResponse;
+import com.grocery.ordering.dto.ApiResponses.PickWaveListResponse;
+import com.grocery.ordering.dto.ApiResponses.PickWaveResponse;
+import com.grocery.ordering.dto.ApiResponses.PromotionListResponse;
+import com.grocery.ordering.dto.ApiResponses.PromotionResponse;
+import com.grocery.ordering.dto.ApiResponses.RecommendationRebuildResponse;
+import com.grocery.ordering.dto.ApiResponses.SalesRebuildResponse;
+import com.grocery.ordering.dto.ApiResponses.TopCustomersResponse;
 import com.grocery.ordering.dto.CustomerDTO;
 import com.grocery.ordering.dto.OrderDTO;
+import com.grocery.ordering.dto.OrderFilterDTO;
+import com.grocery.ordering.dto.OrderPageDTO;
 import com.grocery.ordering.dto.ProductDTO;
+import com.grocery.ordering.dto.BulkStatusResultDTO;
+import com.grocery.ordering.dto.BulkStatusUpdateDTO;
+import com.grocery.ordering.dto.DeliverySlotDTO;
+import com.grocery.ordering.dto.DeliverySlotRequestDTO;
+import com.grocery.ordering.dto.PickWaveDTO;
+import com.grocery.ordering.dto.PromotionDTO;
+import com.grocery.ordering.dto.SearchResultDTO;
 import com.grocery.ordering.entity.Order;
+import com.grocery.ordering.exception.ValidationException;
+import com.grocery.ordering.security.LoginRateLimiter;
+import com.grocery.ordering.security.PrecompiledAuthorizationManager;
 import com.grocery.ordering.service.CustomerService;
+import com.grocery.ordering.service.DashboardStatsService;
+import com.grocery.ordering.service.OrderExportService;
 import com.grocery.ordering.service.OrderService;
 import com.grocery.ordering.service.ProductService;
+import com.grocery.ordering.service.DeliverySlotService;
+import com.grocery.ordering.service.PickWaveService;
+import com.grocery.ordering.service.PromotionService;
+import com.grocery.ordering.service.RecommendationService;
+import com.grocery.ordering.service.SalesAggregateService;
+import com.grocery.ordering.util.ValidationUtils;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
-import java.util.HashMap;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -44,6 +93,36 @@ public class AdminController {
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private OrderExportService orderExportService;
+
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+
+    @Autowired
+    private SalesAggregateService salesAggregateService;
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @Autowired
+    private PromotionService promotionService;
+
+    @Autowired
+    private DeliverySlotService deliverySlotService;
+
+    @Autowired
+    private PickWaveService pickWaveService;
+
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
+    @Autowired
+    private PrecompiledAuthorizationManager precompiledAuthorizationManager;
+
+    @Value("${app.orders.export.timeout-ms:600000}")
+    private long exportTimeoutMs;
+
     // Customer Management Endpoints
 
     /**
@@ -54,32 +133,11 @@ public class AdminController {
      */
     @GetMapping("/customers/search")
     public ResponseEntity<?> searchCustomersByName(@RequestParam String customerName) {
-        try {
-            List<CustomerDTO> customers = customerService.searchCustomersByName(customerName);
-            
-            // Mask passwords for security
-            customers.forEach(customer -> {
-                // Password is not included in DTO, but ensure no sensitive data is exposed
-            });
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("customers", customers);
-            response.put("count", customers.size());
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to search customers by name: {}", customerName, e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
-        }
+        SearchResultDTO<CustomerDTO> result = customerService.searchCustomersByName(customerName);
+        
+        CustomerSearchResponse response = CustomerSearchResponse.of(result);
+        
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -89,27 +147,11 @@ public class AdminController {
      */
     @GetMapping("/customers")
     public ResponseEntity<?> getAllCustomers() {
-        try {
-            List<CustomerDTO> customers = customerService.getAllActiveCustomers();
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("customers", customers);
-            response.put("count", customers.size());
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to get all customers", e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Failed to retrieve customers");
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
+        List<CustomerDTO> customers = customerService.getAllActiveCustomers();
+        
+        CustomerListResponse response = CustomerListResponse.of(customers);
+        
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -120,20 +162,8 @@ public class AdminController {
      */
     @GetMapping("/customers/{customerId}")
     public ResponseEntity<?> getCustomerById(@PathVariable Long customerId) {
-        try {
-            CustomerDTO customer = customerService.getCustomerById(customerId);
-            return ResponseEntity.ok(customer);
-            
-        } catch (Exception e) {
-            logger.error("Failed to get customer by ID: {}", customerId, e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
-        }
+        CustomerDTO customer = customerService.getCustomerById(customerId);
+        return ResponseEntity.ok(customer);
     }
 
     /**
@@ -146,27 +176,11 @@ public class AdminController {
     @PutMapping("/customers/{customerId}")
     public ResponseEntity<?> updateCustomer(@PathVariable Long customerId, 
                                           @Valid @RequestBody CustomerDTO customerDTO) {
-        try {
-            CustomerDTO updatedCustomer = customerService.updateCustomer(customerId, customerDTO);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Customer updated successfully");
-            response.put("customer", updatedCustomer);
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to update customer ID: {}", customerId, e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
-        }
+        CustomerDTO updatedCustomer = customerService.updateCustomer(customerId, customerDTO);
+        
+        CustomerResponse response = CustomerResponse.ok("Customer updated successfully", updatedCustomer);
+        
+        return ResponseEntity.ok(response);
     }
 
     // Product Management Endpoints
@@ -179,27 +193,11 @@ public class AdminController {
      */
     @PostMapping("/products")
     public ResponseEntity<?> registerProduct(@Valid @RequestBody ProductDTO productDTO) {
-        try {
-            ProductDTO createdProduct = productService.registerProduct(productDTO);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Product registered successfully");
-            response.put("product", createdProduct);
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to register product: {}", productDTO.getProductName(), e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
-        }
+        ProductDTO createdProduct = productService.registerProduct(productDTO);
+        
+        ProductResponse response = ProductResponse.ok("Product registered successfully", createdProduct);
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     /**
@@ -212,27 +210,11 @@ public class AdminController {
     @PutMapping("/products/{productId}")
     public ResponseEntity<?> updateProduct(@PathVariable Long productId, 
                                          @Valid @RequestBody ProductDTO productDTO) {
-        try {
-            ProductDTO updatedProduct = productService.updateProduct(productId, productDTO);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Product updated successfully");
-            response.put("product", updatedProduct);
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to update product ID: {}", productId, e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
-        }
+        ProductDTO updatedProduct = productService.updateProduct(productId, productDTO);
+        
+        ProductResponse response = ProductResponse.ok("Product updated successfully", updatedProduct);
+        
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -243,26 +225,11 @@ public class AdminController {
      */
     @DeleteMapping("/products/{productId}")
     public ResponseEntity<?> deleteProduct(@PathVariable Long productId) {
-        try {
-            productService.deleteProduct(productId);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Product deleted successfully");
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to delete product ID: {}", productId, e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
-        }
+        productService.deleteProduct(productId);
+        
+        MessageResponse response = MessageResponse.ok("Product deleted successfully");
+        
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -275,63 +242,71 @@ public class AdminController {
     @PutMapping("/products/{productId}/quantity")
     public ResponseEntity<?> updateProductQuantity(@PathVariable Long productId, 
                                                  @RequestBody Map<String, Integer> quantityData) {
-        try {
-            Integer quantity = quantityData.get("quantity");
-            if (quantity == null) {
-                throw new RuntimeException("Quantity is required");
-            }
-            
-            productService.updateProductQuantity(productId, quantity);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Product quantity updated successfully");
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to update quantity for product ID: {}", productId, e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        Integer quantity = quantityData.get("quantity");
+        if (quantity == null) {
+            throw new ValidationException("quantity", "Quantity is required");
         }
+        
+        productService.updateProductQuantity(productId, quantity);
+        
+        MessageResponse response = MessageResponse.ok("Product quantity updated successfully");
+        
+        return ResponseEntity.ok(response);
     }
 
     // Order Management Endpoints
 
     /**
-     * Get all orders.
+     * Get one page of orders, newest first.
      * 
-     * @return ResponseEntity with all orders
+     * @param filter the optional status, from, to and customerId filters
+     * @param cursor the nextCursor of the previous page, if any
+     * @param size the page size
+     * @return ResponseEntity with the page of orders
      */
     @GetMapping("/orders")
-    public ResponseEntity<?> getAllOrders() {
-        try {
-            List<OrderDTO> orders = orderService.getAllOrders();
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("orders", orders);
-            response.put("count", orders.size());
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to get all orders", e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Failed to retrieve orders");
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
+    public ResponseEntity<?> getOrders(OrderFilterDTO filter,
+                                       @RequestParam(required = false) String cursor,
+                                       @RequestParam(defaultValue = "${app.orders.page.default-size:50}") int size) {
+        OrderPageDTO page = orderService.getOrderPage(filter, cursor, size);
+        
+        OrderPageResponse response = OrderPageResponse.of(page);
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Export orders as CSV or NDJSON.
+     * Rows are streamed to the client as they are read from the database,
+     * on an async request with the export timeout rather than the default.
+     * 
+     * @param format csv or ndjson
+     * @param from the first order day, if any
+     * @param to the last order day, if any
+     * @param response the response the export is written to as an attachment
+     * @return the task streaming the export
+     */
+    @GetMapping("/orders/export")
+    public WebAsyncTask<Void> exportOrders(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            HttpServletResponse response) {
+        OrderExportService.Format exportFormat = OrderExportService.Format.of(format);
+        ValidationUtils.validateDateRange(from, to);
+
+        String filename = "orders"
+            + (from != null ? "-from-" + from : "")
+            + (to != null ? "-to-" + to : "")
+            + "." + exportFormat.getExtension();
+        response.setContentType(exportFormat.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(filename).build().toString());
+
+        return new WebAsyncTask<>(exportTimeoutMs, () -> {
+            orderExportService.exportOrders(from, to, exportFormat, response.getOutputStream());
+            return null;
+        });
     }
 
     /**
@@ -344,32 +319,331 @@ public class AdminController {
     @PutMapping("/orders/{orderId}/status")
     public ResponseEntity<?> updateOrderStatus(@PathVariable Long orderId, 
                                              @RequestBody Map<String, String> statusData) {
-        try {
-            String statusString = statusData.get("status");
-            if (statusString == null) {
-                throw new RuntimeException("Status is required");
-            }
-            
-            Order.OrderStatus status = Order.OrderStatus.valueOf(statusString.toUpperCase());
-            OrderDTO updatedOrder = orderService.updateOrderStatus(orderId, status);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Order status updated successfully");
-            response.put("order", updatedOrder);
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to update status for order ID: {}", orderId, e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        String statusString = statusData.get("status");
+        if (statusString == null) {
+            throw new ValidationException("status", "Status is required");
         }
+        
+        Order.OrderStatus status = Order.OrderStatus.valueOf(statusString.toUpperCase());
+        OrderDTO updatedOrder = orderService.updateOrderStatus(orderId, status);
+        
+        OrderResponse response = OrderResponse.ok("Order status updated successfully", updatedOrder);
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Move many orders to a new status at once. Orders that are not allowed
+     * to move to the status from their current one are left unchanged and
+     * listed in the result.
+     * 
+     * @param request the order IDs and the new status
+     * @return ResponseEntity with the number of orders updated and those left unchanged
+     */
+    @PutMapping("/orders/status")
+    public ResponseEntity<?> bulkUpdateOrderStatus(@Valid @RequestBody BulkStatusUpdateDTO request) {
+        logger.info("Admin moving {} orders to {}", request.getOrderIds().size(), request.getStatus());
+        BulkStatusResultDTO result = orderService.bulkUpdateStatus(request.getOrderIds(), request.getStatus());
+        
+        BulkStatusResponse response = BulkStatusResponse.of(result);
+        
+        return ResponseEntity.ok(response);
+    }
+
+    // Dashboard Endpoints
+
+    /**
+     * Get dashboard statistics.
+     * 
+     * @return ResponseEntity with entity counts and the newest orders
+     */
+    @GetMapping("/dashboard/stats")
+    public ResponseEntity<?> getDashboardStats() {
+        DashboardStatsResponse response = DashboardStatsResponse.of(dashboardStatsService.getStats());
+        
+        return ResponseEntity.ok(response);
+    }
+
+    // Sales Report Endpoints
+
+    /**
+     * Get daily sales from the rollups.
+     * 
+     * @param from the first day, defaults to 30 days before the last day
+     * @param to the last day, defaults to today
+     * @return ResponseEntity with one entry per day that had sales
+     */
+    @GetMapping("/reports/sales/daily")
+    public ResponseEntity<?> getDailySales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        DailySalesResponse response = DailySalesResponse.of(salesAggregateService.getDailySales(from, to));
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get the best selling products from the rollups.
+     * 
+     * @param limit the number of products
+     * @return ResponseEntity with products by revenue
+     */
+    @GetMapping("/reports/sales/products")
+    public ResponseEntity<?> getProductSales(@RequestParam(defaultValue = "10") int limit) {
+        ProductSalesResponse response = ProductSalesResponse.of(salesAggregateService.getTopProducts(limit));
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get sales by category from the rollups.
+     * 
+     * @return ResponseEntity with categories by revenue
+     */
+    @GetMapping("/reports/sales/categories")
+    public ResponseEntity<?> getCategorySales() {
+        CategorySalesResponse response = CategorySalesResponse.of(salesAggregateService.getCategorySales());
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get the customers with the highest spend and the most orders from their running totals.
+     * 
+     * @param limit the number of customers per ranking
+     * @return ResponseEntity with both rankings
+     */
+    @GetMapping("/reports/customers/top")
+    public ResponseEntity<?> getTopCustomers(@RequestParam(defaultValue = "10") int limit) {
+        TopCustomersResponse response = TopCustomersResponse.of(salesAggregateService.getTopCustomers(limit));
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Rebuild the sales rollups from the order history.
+     * 
+     * @return ResponseEntity with a summary of the rebuild
+     */
+    @PostMapping("/reports/sales/rebuild")
+    public ResponseEntity<?> rebuildSalesRollups() {
+        logger.info("Admin rebuilding sales rollups");
+        SalesRebuildResponse response = SalesRebuildResponse.of(salesAggregateService.rebuildRollups());
+        
+        return ResponseEntity.ok(response);
+    }
+
+    // Recommendation Endpoints
+
+    /**
+     * Rebuild the "frequently bought together" matrix from the order history.
+     * 
+     * @return ResponseEntity with a summary of the rebuild
+     */
+    @PostMapping("/recommendations/rebuild")
+    public ResponseEntity<?> rebuildRecommendations() {
+        logger.info("Admin rebuilding recommendations");
+        RecommendationRebuildResponse response = RecommendationRebuildResponse.of(recommendationService.rebuild());
+        
+        return ResponseEntity.ok(response);
+    }
+
+    // Promotion Endpoints
+
+    /**
+     * Get all promotions, newest first.
+     * 
+     * @return ResponseEntity with list of promotions
+     */
+    @GetMapping("/promotions")
+    public ResponseEntity<?> getAllPromotions() {
+        List<PromotionDTO> promotions = promotionService.getAllPromotions();
+        
+        PromotionListResponse response = PromotionListResponse.of(promotions);
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Create promotion.
+     * 
+     * @param promotionDTO the promotion data
+     * @return ResponseEntity with the created promotion
+     */
+    @PostMapping("/promotions")
+    public ResponseEntity<?> createPromotion(@Valid @RequestBody PromotionDTO promotionDTO) {
+        logger.info("Admin creating promotion: {}", promotionDTO.getName());
+        PromotionDTO createdPromotion = promotionService.createPromotion(promotionDTO);
+        
+        PromotionResponse response = PromotionResponse.ok("Promotion created successfully", createdPromotion);
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Deactivate promotion.
+     * 
+     * @param promotionId the promotion ID
+     * @return ResponseEntity with deactivation result
+     */
+    @DeleteMapping("/promotions/{promotionId}")
+    public ResponseEntity<?> deactivatePromotion(@PathVariable Long promotionId) {
+        promotionService.deactivatePromotion(promotionId);
+        
+        MessageResponse response = MessageResponse.ok("Promotion deactivated successfully");
+        
+        return ResponseEntity.ok(response);
+    }
+
+    // Delivery Slot Endpoints
+
+    /**
+     * Get the delivery slots of a date range with the places left in each.
+     * 
+     * @param from the first date, defaulting to today
+     * @param to the last date, defaulting to the end of the booking window
+     * @return ResponseEntity with list of delivery slots
+     */
+    @GetMapping("/delivery-slots")
+    public ResponseEntity<?> getDeliverySlots(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<DeliverySlotDTO> slots = deliverySlotService.getSlots(from, to);
+        
+        DeliverySlotListResponse response = DeliverySlotListResponse.of(slots);
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Create delivery slot.
+     * 
+     * @param request the slot date, times and capacity
+     * @return ResponseEntity with the created slot
+     */
+    @PostMapping("/delivery-slots")
+    public ResponseEntity<?> createDeliverySlot(@Valid @RequestBody DeliverySlotRequestDTO request) {
+        logger.info("Admin creating delivery slot on {} at {}", request.getSlotDate(), request.getStartTime());
+        DeliverySlotDTO slot = deliverySlotService.createSlot(request);
+        
+        DeliverySlotResponse response = DeliverySlotResponse.ok("Delivery slot created successfully", slot);
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // Pick Wave Endpoints
+
+    /**
+     * Get the newest pick waves.
+     * 
+     * @return ResponseEntity with list of pick waves, without their pick lists
+     */
+    @GetMapping("/pick-waves")
+    public ResponseEntity<?> getPickWaves() {
+        List<PickWaveDTO> waves = pickWaveService.getRecentWaves();
+        
+        PickWaveListResponse response = PickWaveListResponse.of(waves);
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get a pick wave with its pick list.
+     * 
+     * @param waveId the wave ID
+     * @return ResponseEntity with the pick wave
+     */
+    @GetMapping("/pick-waves/{waveId}")
+    public ResponseEntity<?> getPickWave(@PathVariable Long waveId) {
+        PickWaveDTO wave = pickWaveService.getWave(waveId);
+        
+        PickWaveResponse response = PickWaveResponse.ok("Pick wave retrieved successfully", wave);
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Create a pick wave from the oldest pending and confirmed orders.
+     * 
+     * @param category only orders with an item in this category
+     * @param deliverySlotId only orders for this delivery slot
+     * @param size the maximum number of orders in the wave
+     * @return ResponseEntity with the created pick wave and its pick list
+     */
+    @PostMapping("/pick-waves")
+    public ResponseEntity<?> createPickWave(@RequestParam(required = false) String category,
+                                            @RequestParam(required = false) Long deliverySlotId,
+                                            @RequestParam(required = false) Integer size) {
+        logger.info("Admin creating pick wave for category: {}, delivery slot: {}", category, deliverySlotId);
+        PickWaveDTO wave = pickWaveService.createWave(category, deliverySlotId, size);
+        
+        PickWaveResponse response = PickWaveResponse.ok("Pick wave created successfully", wave);
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Move every order of a pick wave to a new status.
+     * 
+     * @param waveId the wave ID
+     * @param statusData the status update data
+     * @return ResponseEntity with the updated pick wave
+     */
+    @PutMapping("/pick-waves/{waveId}/status")
+    public ResponseEntity<?> updatePickWaveStatus(@PathVariable Long waveId,
+                                                  @RequestBody Map<String, String> statusData) {
+        String statusString = statusData.get("status");
+        if (statusString == null) {
+            throw new ValidationException("status", "Status is required");
+        }
+        
+        Order.OrderStatus status = Order.OrderStatus.valueOf(statusString.toUpperCase());
+        PickWaveDTO wave = pickWaveService.updateWaveStatus(waveId, status);
+        
+        PickWaveResponse response = PickWaveResponse.ok("Pick wave status updated successfully", wave);
+        
+        return ResponseEntity.ok(response);
+    }
+
+    // Security Monitoring Endpoints
+
+    /**
+     * Get login rate limiter statistics.
+     * 
+     * @return ResponseEntity with allowed and rejected login attempt counts
+     */
+    @GetMapping("/security/login-rate-limit")
+    public ResponseEntity<?> getLoginRateLimitStats() {
+        LoginRateLimitStats response = LoginRateLimitStats.of(
+            loginRateLimiter.getAllowedAttempts(),
+            loginRateLimiter.getRejectedByIp(),
+            loginRateLimiter.getRejectedByUser(),
+            loginRateLimiter.getTrackedIpCount(),
+            loginRateLimiter.getTrackedUserCount());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get method security statistics.
+     * 
+     * @return ResponseEntity with check counts and time spent in @PreAuthorize checks
+     */
+    @GetMapping("/security/method-authorization")
+    public ResponseEntity<?> getMethodAuthorizationStats() {
+        long compiled = precompiledAuthorizationManager.getCompiledChecks();
+        long delegated = precompiledAuthorizationManager.getDelegatedChecks();
+        long totalNanos = precompiledAuthorizationManager.getTotalNanos();
+        long checks = compiled + delegated;
+
+        MethodAuthorizationStats response = MethodAuthorizationStats.of(
+            compiled,
+            delegated,
+            precompiledAuthorizationManager.getDeniedChecks(),
+            precompiledAuthorizationManager.getCompiledMethodCount(),
+            checks > 0 ? totalNanos / checks : 0,
+            precompiledAuthorizationManager.getMaxNanos());
+
+        return ResponseEntity.ok(response);
     }
 }
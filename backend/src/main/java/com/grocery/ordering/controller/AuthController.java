@@ -1,19 +1,29 @@
 package com.grocery.ordering.controller;
 
+import com.grocery.ordering.dto.ApiResponses.MessageResponse;
+import com.grocery.ordering.dto.ApiResponses.TokenIntrospectionResponse;
+import com.grocery.ordering.dto.ApiResponses.TokenValidationResponse;
+import com.grocery.ordering.dto.ApiResponses.UserExistsResponse;
 import com.grocery.ordering.dto.AuthResponseDTO;
 import com.grocery.ordering.dto.CustomerRegistrationDTO;
 import com.grocery.ordering.dto.LoginDTO;
+import com.grocery.ordering.dto.TokenIntrospectionDTO;
+import com.grocery.ordering.exception.AuthenticationFailedException;
+import com.grocery.ordering.security.LoginRateLimiter;
 import com.grocery.ordering.service.AuthService;
 import com.grocery.ordering.service.CustomerService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -36,82 +46,67 @@ public class AuthController {
     @Autowired
     private CustomerService customerService;
 
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
+    @Value("${app.jwt.introspection.max-batch:100}")
+    private int introspectionMaxBatch;
+
     /**
      * Authenticate user (admin or customer).
      * 
      * @param loginDTO the login credentials
+     * @param request the HTTP request, used to identify the client IP
      * @return ResponseEntity with authentication result
      */
     @PostMapping("/login")
-    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginDTO loginDTO) {
-        try {
-            logger.info("Login attempt for user: {}", loginDTO.getUsername());
-            
-            AuthResponseDTO response = authService.authenticateUser(loginDTO);
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Login failed for user: {}", loginDTO.getUsername(), e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+    public ResponseEntity<?> authenticateUser(@Valid @RequestBody LoginDTO loginDTO, HttpServletRequest request) {
+        if (!loginRateLimiter.tryAcquire(request.getRemoteAddr(), loginDTO.getUsername())) {
+            return tooManyAttempts();
         }
+
+        logger.info("Login attempt for user: {}", loginDTO.getUsername());
+        
+        AuthResponseDTO response = authService.authenticateUser(loginDTO);
+        return ResponseEntity.ok(response);
     }
 
     /**
      * Authenticate admin user specifically.
      * 
      * @param loginDTO the login credentials
+     * @param request the HTTP request, used to identify the client IP
      * @return ResponseEntity with authentication result
      */
     @PostMapping("/admin/login")
-    public ResponseEntity<?> authenticateAdmin(@Valid @RequestBody LoginDTO loginDTO) {
-        try {
-            logger.info("Admin login attempt for user: {}", loginDTO.getUsername());
-            
-            AuthResponseDTO response = authService.authenticateAdmin(loginDTO);
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Admin login failed for user: {}", loginDTO.getUsername(), e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+    public ResponseEntity<?> authenticateAdmin(@Valid @RequestBody LoginDTO loginDTO, HttpServletRequest request) {
+        if (!loginRateLimiter.tryAcquire(request.getRemoteAddr(), loginDTO.getUsername())) {
+            return tooManyAttempts();
         }
+
+        logger.info("Admin login attempt for user: {}", loginDTO.getUsername());
+        
+        AuthResponseDTO response = authService.authenticateAdmin(loginDTO);
+        return ResponseEntity.ok(response);
     }
 
     /**
      * Authenticate customer user specifically.
      * 
      * @param loginDTO the login credentials
+     * @param request the HTTP request, used to identify the client IP
      * @return ResponseEntity with authentication result
      */
     @PostMapping("/customer/login")
-    public ResponseEntity<?> authenticateCustomer(@Valid @RequestBody LoginDTO loginDTO) {
-        try {
-            logger.info("Customer login attempt for user: {}", loginDTO.getUsername());
-            
-            AuthResponseDTO response = authService.authenticateCustomer(loginDTO);
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Customer login failed for user: {}", loginDTO.getUsername(), e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errorResponse);
+    public ResponseEntity<?> authenticateCustomer(@Valid @RequestBody LoginDTO loginDTO, HttpServletRequest request) {
+        if (!loginRateLimiter.tryAcquire(request.getRemoteAddr(), loginDTO.getUsername())) {
+            return tooManyAttempts();
         }
+
+        logger.info("Customer login attempt for user: {}", loginDTO.getUsername());
+        
+        AuthResponseDTO response = authService.authenticateCustomer(loginDTO);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -122,48 +117,54 @@ public class AuthController {
      */
     @PostMapping("/register")
     public ResponseEntity<?> registerCustomer(@Valid @RequestBody CustomerRegistrationDTO registrationDTO) {
-        try {
-            logger.info("Customer registration attempt for email: {}", registrationDTO.getEmail());
-            
-            customerService.registerCustomer(registrationDTO);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Customer registered successfully");
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-            
-        } catch (Exception e) {
-            logger.error("Customer registration failed for email: {}", registrationDTO.getEmail(), e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        logger.info("Customer registration attempt for email: {}", registrationDTO.getEmail());
+        
+        customerService.registerCustomer(registrationDTO);
+        
+        MessageResponse response = MessageResponse.ok("Customer registered successfully");
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Exchange a refresh token for a new access token.
+     * 
+     * @param refreshData the request body carrying the refresh token
+     * @return ResponseEntity with new access and refresh tokens
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refreshToken(@RequestBody Map<String, String> refreshData) {
+        String refreshToken = refreshData.get("refreshToken");
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new AuthenticationFailedException("Refresh token is required");
         }
+
+        AuthResponseDTO response = authService.refreshAccessToken(refreshToken);
+        return ResponseEntity.ok(response);
     }
 
     /**
-     * Logout user.
+     * Logout user and revoke the bearer token.
      * 
+     * @param authorization the Authorization header carrying the bearer token
+     * @param logoutData optional body carrying the refresh token to revoke
      * @return ResponseEntity with logout result
      */
     @PostMapping("/logout")
-    public ResponseEntity<?> logoutUser() {
+    public ResponseEntity<?> logoutUser(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                        @RequestBody(required = false) Map<String, String> logoutData) {
         try {
-            AuthResponseDTO response = authService.logoutUser();
+            String token = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+            String refreshToken = logoutData != null ? logoutData.get("refreshToken") : null;
+            AuthResponseDTO response = authService.logoutUser(token, refreshToken);
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
             logger.error("Logout failed", e);
             
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Logout failed");
-            errorResponse.put("timestamp", System.currentTimeMillis());
+            MessageResponse errorResponse = MessageResponse.error("Logout failed");
             
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         }
@@ -178,31 +179,44 @@ public class AuthController {
     @PostMapping("/validate")
     public ResponseEntity<?> validateToken(@RequestParam String token) {
         try {
-            boolean isValid = authService.validateToken(token);
+            TokenIntrospectionDTO result = authService.introspectTokens(List.of(token)).get(0);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("valid", isValid);
-            response.put("timestamp", System.currentTimeMillis());
-            
-            if (isValid) {
-                String username = authService.getUsernameFromToken(token);
-                response.put("username", username);
-            }
+            TokenValidationResponse response = TokenValidationResponse.of(result.isValid(), result.getSub());
             
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
             logger.error("Token validation failed", e);
             
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("valid", false);
-            errorResponse.put("message", "Token validation failed");
-            errorResponse.put("timestamp", System.currentTimeMillis());
+            TokenValidationResponse errorResponse = TokenValidationResponse.error("Token validation failed");
             
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
         }
     }
 
+    /**
+     * Introspect a batch of JWT tokens for edge proxies.
+     * Each token is verified once.
+     * 
+     * @param introspectionData the request body carrying the tokens
+     * @return ResponseEntity with one result per token, in request order
+     */
+    @PostMapping("/introspect")
+    public ResponseEntity<?> introspectTokens(@RequestBody Map<String, List<String>> introspectionData) {
+        List<String> tokens = introspectionData.get("tokens");
+        if (tokens == null || tokens.isEmpty() || tokens.size() > introspectionMaxBatch) {
+            MessageResponse errorResponse = MessageResponse.error("Between 1 and " + introspectionMaxBatch + " tokens are required");
+            
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+
+        List<TokenIntrospectionDTO> results = authService.introspectTokens(tokens);
+
+        TokenIntrospectionResponse response = new TokenIntrospectionResponse(results);
+        
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Check if user exists.
      * 
@@ -214,21 +228,29 @@ public class AuthController {
         try {
             boolean exists = authService.userExists(username);
             
-            Map<String, Object> response = new HashMap<>();
-            response.put("exists", exists);
-            response.put("timestamp", System.currentTimeMillis());
+            UserExistsResponse response = UserExistsResponse.of(exists);
             
             return ResponseEntity.ok(response);
             
         } catch (Exception e) {
             logger.error("User existence check failed", e);
             
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("exists", false);
-            errorResponse.put("message", "User existence check failed");
-            errorResponse.put("timestamp", System.currentTimeMillis());
+            UserExistsResponse errorResponse = UserExistsResponse.error("User existence check failed");
             
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         }
     }
+
+    /**
+     * Build the response for a login attempt rejected by the rate limiter.
+     * 
+     * @return ResponseEntity with 429 status and Retry-After header
+     */
+    private ResponseEntity<?> tooManyAttempts() {
+        MessageResponse errorResponse = MessageResponse.error("Too many login attempts. Please try again later.");
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(loginRateLimiter.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
 }
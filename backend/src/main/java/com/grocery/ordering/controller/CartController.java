@@ -0,0 +1,120 @@
+package com.grocery.ordering.controller;
+
+import com.grocery.ordering.dto.ApiResponses.CartResponse;
+import com.grocery.ordering.dto.ApiResponses.OrderResponse;
+import com.grocery.ordering.dto.CartCheckoutDTO;
+import com.grocery.ordering.dto.CartDTO;
+import com.grocery.ordering.dto.CartItemRequestDTO;
+import com.grocery.ordering.dto.OrderDTO;
+import com.grocery.ordering.exception.ValidationException;
+import com.grocery.ordering.security.UserPrincipal;
+import com.grocery.ordering.service.CartService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for the customer's shopping cart.
+ * Handles adding, changing and removing cart items and checking the cart out.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/api/customers/cart")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('CUSTOMER')")
+public class CartController {
+
+    @Autowired
+    private CartService cartService;
+
+    /**
+     * Get the cart of the authenticated customer.
+     *
+     * @param userPrincipal the authenticated user
+     * @return ResponseEntity with the cart
+     */
+    @GetMapping
+    public ResponseEntity<?> getCart(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        CartDTO cart = cartService.getCart(userPrincipal.getId());
+        return ResponseEntity.ok(CartResponse.ok("Cart retrieved successfully", cart));
+    }
+
+    /**
+     * Add a product to the cart, on top of any quantity already in it.
+     *
+     * @param request the product and quantity to add
+     * @param userPrincipal the authenticated user
+     * @return ResponseEntity with the updated cart
+     */
+    @PostMapping("/items")
+    public ResponseEntity<?> addItem(@Valid @RequestBody CartItemRequestDTO request,
+                                     @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        if (request.getProductId() == null) {
+            throw new ValidationException("productId", "Product ID is required");
+        }
+        CartDTO cart = cartService.addItem(userPrincipal.getId(), request.getProductId(), request.getQuantity());
+        return ResponseEntity.ok(CartResponse.ok("Item added to cart", cart));
+    }
+
+    /**
+     * Set the quantity of a product in the cart; a quantity of 0 removes it.
+     *
+     * @param productId the product ID
+     * @param request the new quantity
+     * @param userPrincipal the authenticated user
+     * @return ResponseEntity with the updated cart
+     */
+    @PutMapping("/items/{productId}")
+    public ResponseEntity<?> updateItem(@PathVariable Long productId,
+                                        @Valid @RequestBody CartItemRequestDTO request,
+                                        @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        CartDTO cart = cartService.updateItem(userPrincipal.getId(), productId, request.getQuantity());
+        return ResponseEntity.ok(CartResponse.ok("Cart updated", cart));
+    }
+
+    /**
+     * Remove a product from the cart.
+     *
+     * @param productId the product ID
+     * @param userPrincipal the authenticated user
+     * @return ResponseEntity with the updated cart
+     */
+    @DeleteMapping("/items/{productId}")
+    public ResponseEntity<?> removeItem(@PathVariable Long productId,
+                                        @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        CartDTO cart = cartService.removeItem(userPrincipal.getId(), productId);
+        return ResponseEntity.ok(CartResponse.ok("Item removed from cart", cart));
+    }
+
+    /**
+     * Empty the cart.
+     *
+     * @param userPrincipal the authenticated user
+     * @return ResponseEntity with the emptied cart
+     */
+    @DeleteMapping
+    public ResponseEntity<?> clearCart(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        CartDTO cart = cartService.clearCart(userPrincipal.getId());
+        return ResponseEntity.ok(CartResponse.ok("Cart cleared", cart));
+    }
+
+    /**
+     * Place the cart as an order.
+     *
+     * @param checkout optional delivery details, defaulting to the customer's profile
+     * @param userPrincipal the authenticated user
+     * @return ResponseEntity with the created order
+     */
+    @PostMapping("/checkout")
+    public ResponseEntity<?> checkout(@Valid @RequestBody(required = false) CartCheckoutDTO checkout,
+                                      @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        OrderDTO order = cartService.checkout(userPrincipal.getId(), checkout);
+        return ResponseEntity.status(HttpStatus.CREATED).body(OrderResponse.ok("Order created successfully", order));
+    }
+}
@@ -1,21 +1,33 @@
 package com.grocery.ordering.controller;
 
+import com.grocery.ordering.dto.ApiResponses.CustomerResponse;
+import com.grocery.ordering.dto.ApiResponses.DeliverySlotListResponse;
+import com.grocery.ordering.dto.ApiResponses.MessageResponse;
+import com.grocery.ordering.dto.ApiResponses.OrderListResponse;
+import com.grocery.ordering.dto.ApiResponses.OrderResponse;
+import com.grocery.ordering.dto.ApiResponses.ReorderResponse;
 import com.grocery.ordering.dto.CustomerDTO;
 import com.grocery.ordering.dto.OrderDTO;
+import com.grocery.ordering.dto.ReorderResultDTO;
+import com.grocery.ordering.exception.ValidationException;
 import com.grocery.ordering.security.UserPrincipal;
 import com.grocery.ordering.service.CustomerService;
+import com.grocery.ordering.service.DeliverySlotService;
+import com.grocery.ordering.service.OrderEventService;
 import com.grocery.ordering.service.OrderService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -39,6 +51,12 @@ public class CustomerController {
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private DeliverySlotService deliverySlotService;
+
+    @Autowired
+    private OrderEventService orderEventService;
+
     /**
      * Get current customer profile.
      * 
@@ -48,20 +66,8 @@ public class CustomerController {
     @GetMapping("/profile")
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> getCurrentCustomer(@AuthenticationPrincipal UserPrincipal userPrincipal) {
-        try {
-            CustomerDTO customer = customerService.getCustomerById(userPrincipal.getId());
-            return ResponseEntity.ok(customer);
-            
-        } catch (Exception e) {
-            logger.error("Failed to get customer profile for ID: {}", userPrincipal.getId(), e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
-        }
+        CustomerDTO customer = customerService.getCustomerById(userPrincipal.getId());
+        return ResponseEntity.ok(customer);
     }
 
     /**
@@ -75,27 +81,11 @@ public class CustomerController {
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> updateCustomer(@Valid @RequestBody CustomerDTO customerDTO,
                                           @AuthenticationPrincipal UserPrincipal userPrincipal) {
-        try {
-            CustomerDTO updatedCustomer = customerService.updateCustomer(userPrincipal.getId(), customerDTO);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Customer profile updated successfully");
-            response.put("customer", updatedCustomer);
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to update customer profile for ID: {}", userPrincipal.getId(), e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
-        }
+        CustomerDTO updatedCustomer = customerService.updateCustomer(userPrincipal.getId(), customerDTO);
+        
+        CustomerResponse response = CustomerResponse.ok("Customer profile updated successfully", updatedCustomer);
+        
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -109,31 +99,16 @@ public class CustomerController {
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> updatePassword(@RequestBody Map<String, String> passwordData,
                                           @AuthenticationPrincipal UserPrincipal userPrincipal) {
-        try {
-            String newPassword = passwordData.get("newPassword");
-            if (newPassword == null || newPassword.trim().isEmpty()) {
-                throw new RuntimeException("New password is required");
-            }
-            
-            customerService.updateCustomerPassword(userPrincipal.getId(), newPassword);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Password updated successfully");
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to update password for customer ID: {}", userPrincipal.getId(), e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        String newPassword = passwordData.get("newPassword");
+        if (newPassword == null || newPassword.trim().isEmpty()) {
+            throw new ValidationException("newPassword", "New password is required");
         }
+        
+        customerService.updateCustomerPassword(userPrincipal.getId(), newPassword);
+        
+        MessageResponse response = MessageResponse.ok("Password updated successfully");
+        
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -145,27 +120,24 @@ public class CustomerController {
     @GetMapping("/orders")
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> getCustomerOrders(@AuthenticationPrincipal UserPrincipal userPrincipal) {
-        try {
-            List<OrderDTO> orders = orderService.getCustomerOrderDetails(userPrincipal.getId());
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("orders", orders);
-            response.put("count", orders.size());
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to get orders for customer ID: {}", userPrincipal.getId(), e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
+        List<OrderDTO> orders = orderService.getCustomerOrderDetails(userPrincipal.getId());
+        
+        OrderListResponse response = OrderListResponse.of(orders);
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Stream status changes of the customer's orders as Server-Sent Events,
+     * instead of polling the order history.
+     * 
+     * @param userPrincipal the authenticated user
+     * @return the event stream
+     */
+    @GetMapping(value = "/orders/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public SseEmitter streamOrderEvents(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return orderEventService.subscribe(userPrincipal.getId());
     }
 
     /**
@@ -179,30 +151,14 @@ public class CustomerController {
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> createOrder(@Valid @RequestBody OrderDTO orderDTO,
                                        @AuthenticationPrincipal UserPrincipal userPrincipal) {
-        try {
-            // Set customer ID from authenticated user
-            orderDTO.setCustomerId(userPrincipal.getId());
-            
-            OrderDTO createdOrder = orderService.createOrder(orderDTO);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Order created successfully");
-            response.put("order", createdOrder);
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to create order for customer ID: {}", userPrincipal.getId(), e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
-        }
+        // Set customer ID from authenticated user
+        orderDTO.setCustomerId(userPrincipal.getId());
+        
+        OrderDTO createdOrder = orderService.createOrder(orderDTO);
+        
+        OrderResponse response = OrderResponse.ok("Order created successfully", createdOrder);
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     /**
@@ -216,26 +172,14 @@ public class CustomerController {
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> getOrderDetails(@PathVariable Long orderId,
                                            @AuthenticationPrincipal UserPrincipal userPrincipal) {
-        try {
-            OrderDTO order = orderService.getOrderById(orderId);
-            
-            // Verify that the order belongs to the authenticated customer
-            if (!order.getCustomerId().equals(userPrincipal.getId())) {
-                throw new RuntimeException("Access denied: Order does not belong to the authenticated customer");
-            }
-            
-            return ResponseEntity.ok(order);
-            
-        } catch (Exception e) {
-            logger.error("Failed to get order details for order ID: {} and customer ID: {}", orderId, userPrincipal.getId(), e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        OrderDTO order = orderService.getOrderById(orderId);
+        
+        // Verify that the order belongs to the authenticated customer
+        if (!order.getCustomerId().equals(userPrincipal.getId())) {
+            throw new AccessDeniedException("Order does not belong to the authenticated customer");
         }
+        
+        return ResponseEntity.ok(order);
     }
 
     /**
@@ -249,33 +193,52 @@ public class CustomerController {
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> cancelOrder(@PathVariable Long orderId,
                                        @AuthenticationPrincipal UserPrincipal userPrincipal) {
-        try {
-            // First verify that the order belongs to the authenticated customer
-            OrderDTO order = orderService.getOrderById(orderId);
-            if (!order.getCustomerId().equals(userPrincipal.getId())) {
-                throw new RuntimeException("Access denied: Order does not belong to the authenticated customer");
-            }
-            
-            OrderDTO cancelledOrder = orderService.cancelOrder(orderId);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Order cancelled successfully");
-            response.put("order", cancelledOrder);
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to cancel order ID: {} for customer ID: {}", orderId, userPrincipal.getId(), e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        // First verify that the order belongs to the authenticated customer
+        OrderDTO order = orderService.getOrderById(orderId);
+        if (!order.getCustomerId().equals(userPrincipal.getId())) {
+            throw new AccessDeniedException("Order does not belong to the authenticated customer");
         }
+        
+        OrderDTO cancelledOrder = orderService.cancelOrder(orderId);
+        
+        OrderResponse response = OrderResponse.ok("Order cancelled successfully", cancelledOrder);
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Reorder a past order in one request: the basket is rebuilt at current
+     * prices and, when {@code place} is set and every item is available,
+     * placed as a new order.
+     * 
+     * @param orderId the past order ID
+     * @param place whether to place the order when every item is available
+     * @param userPrincipal the authenticated user
+     * @return ResponseEntity with the new order, or the priced basket with unavailable items flagged
+     */
+    @PostMapping("/orders/{orderId}/reorder")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<?> reorder(@PathVariable Long orderId,
+                                     @RequestParam(defaultValue = "false") boolean place,
+                                     @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        ReorderResultDTO result = orderService.reorder(orderId, userPrincipal.getId(), place);
+        
+        ReorderResponse response = ReorderResponse.of(result);
+        
+        return ResponseEntity.status(result.isPlaced() ? HttpStatus.CREATED : HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Get the delivery slots that can still be booked, with the places left in each.
+     * 
+     * @return ResponseEntity with list of delivery slots
+     */
+    @GetMapping("/delivery-slots")
+    @PreAuthorize("hasRole('CUSTOMER')")
+    public ResponseEntity<?> getDeliverySlots() {
+        DeliverySlotListResponse response = DeliverySlotListResponse.of(deliverySlotService.getAvailableSlots());
+        
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -287,25 +250,10 @@ public class CustomerController {
     @DeleteMapping("/profile")
     @PreAuthorize("hasRole('CUSTOMER')")
     public ResponseEntity<?> deactivateAccount(@AuthenticationPrincipal UserPrincipal userPrincipal) {
-        try {
-            customerService.deactivateCustomer(userPrincipal.getId());
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "Account deactivated successfully");
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to deactivate account for customer ID: {}", userPrincipal.getId(), e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
+        customerService.deactivateCustomer(userPrincipal.getId());
+        
+        MessageResponse response = MessageResponse.ok("Account deactivated successfully");
+        
+        return ResponseEntity.ok(response);
     }
 }
@@ -1,11 +1,18 @@
 package com.grocery.ordering.controller;
 
 import com.grocery.ordering.dto.CustomerDTO;
+import com.grocery.ordering.dto.DashboardStatsDTO;
 import com.grocery.ordering.dto.OrderDTO;
+import com.grocery.ordering.dto.OrderFilterDTO;
+import com.grocery.ordering.dto.OrderPageDTO;
 import com.grocery.ordering.dto.ProductDTO;
+import com.grocery.ordering.dto.SearchResultDTO;
+import com.grocery.ordering.dto.TrendingProductDTO;
 import com.grocery.ordering.service.CustomerService;
+import com.grocery.ordering.service.DashboardStatsService;
 import com.grocery.ordering.service.OrderService;
 import com.grocery.ordering.service.ProductService;
+import com.grocery.ordering.service.TrendingProductService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,6 +20,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -28,6 +36,10 @@ public class JspController {
 
     private static final Logger logger = LoggerFactory.getLogger(JspController.class);
 
+    private static final int ORDER_PAGE_SIZE = 50;
+
+    private static final int FEATURED_PRODUCTS = 8;
+
     @Autowired
     private CustomerService customerService;
 
@@ -37,6 +49,12 @@ public class JspController {
     @Autowired
     private OrderService orderService;
 
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+
+    @Autowired
+    private TrendingProductService trendingProductService;
+
     /**
      * Display login page.
      * 
@@ -76,14 +94,12 @@ public class JspController {
     @GetMapping("/admin/dashboard")
     public String adminDashboard(Model model) {
         try {
-            List<CustomerDTO> customers = customerService.getAllActiveCustomers();
-            List<ProductDTO> products = productService.getAllActiveProducts();
-            List<OrderDTO> orders = orderService.getAllOrders();
+            DashboardStatsDTO stats = dashboardStatsService.getStats();
             
-            model.addAttribute("customerCount", customers.size());
-            model.addAttribute("productCount", products.size());
-            model.addAttribute("orderCount", orders.size());
-            model.addAttribute("recentOrders", orders.subList(0, Math.min(5, orders.size())));
+            model.addAttribute("customerCount", stats.getActiveCustomers());
+            model.addAttribute("productCount", stats.getActiveProducts());
+            model.addAttribute("orderCount", stats.getTotalOrders());
+            model.addAttribute("recentOrders", stats.getRecentOrders());
             
         } catch (Exception e) {
             logger.error("Error loading admin dashboard", e);
@@ -124,7 +140,7 @@ public class JspController {
     public String searchCustomers(@RequestParam(required = false) String customerName, Model model) {
         if (customerName != null && !customerName.trim().isEmpty()) {
             try {
-                List<CustomerDTO> customers = customerService.searchCustomersByName(customerName);
+                List<CustomerDTO> customers = customerService.searchCustomersByName(customerName).getResults();
                 model.addAttribute("customers", customers);
                 model.addAttribute("searchTerm", customerName);
                 
@@ -172,8 +188,9 @@ public class JspController {
     public String searchProducts(@RequestParam(required = false) String productName, Model model) {
         if (productName != null && !productName.trim().isEmpty()) {
             try {
-                List<ProductDTO> products = productService.searchProductsByName(productName);
-                model.addAttribute("products", products);
+                SearchResultDTO<ProductDTO> result = productService.searchProductsByName(productName);
+                model.addAttribute("products", result.getResults());
+                model.addAttribute("suggestions", result.getSuggestions());
                 model.addAttribute("searchTerm", productName);
                 
             } catch (Exception e) {
@@ -189,14 +206,16 @@ public class JspController {
     /**
      * Display order management page.
      * 
+     * @param cursor the cursor of the page to show, or null for the newest orders
      * @param model the model for JSP
      * @return order management JSP page
      */
     @GetMapping("/admin/orders")
-    public String orderManagement(Model model) {
+    public String orderManagement(@RequestParam(required = false) String cursor, Model model) {
         try {
-            List<OrderDTO> orders = orderService.getAllOrders();
-            model.addAttribute("orders", orders);
+            OrderPageDTO page = orderService.getOrderPage(new OrderFilterDTO(), cursor, ORDER_PAGE_SIZE);
+            model.addAttribute("orders", page.getOrders());
+            model.addAttribute("nextCursor", page.getNextCursor());
             
         } catch (Exception e) {
             logger.error("Error loading orders", e);
@@ -243,10 +262,25 @@ public class JspController {
     @GetMapping("/")
     public String homePage(Model model) {
         try {
-            List<ProductDTO> featuredProducts = productService.getInStockProducts();
+            // Trending products of the day, topped up with other in-stock products when there are few sales
+            List<ProductDTO> featuredProducts = new ArrayList<>(FEATURED_PRODUCTS);
+            for (TrendingProductDTO trending : trendingProductService.getTrendingProducts(
+                    TrendingProductService.Window.DAY, FEATURED_PRODUCTS)) {
+                featuredProducts.add(trending.getProduct());
+            }
+            if (featuredProducts.size() < FEATURED_PRODUCTS) {
+                for (ProductDTO product : productService.getInStockProducts()) {
+                    if (featuredProducts.size() == FEATURED_PRODUCTS) {
+                        break;
+                    }
+                    if (featuredProducts.stream().noneMatch(p -> p.getProductId().equals(product.getProductId()))) {
+                        featuredProducts.add(product);
+                    }
+                }
+            }
             List<String> categories = productService.getAllCategories();
             
-            model.addAttribute("featuredProducts", featuredProducts.subList(0, Math.min(8, featuredProducts.size())));
+            model.addAttribute("featuredProducts", featuredProducts);
             model.addAttribute("categories", categories);
             
         } catch (Exception e) {
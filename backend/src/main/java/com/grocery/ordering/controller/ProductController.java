@@ -1,18 +1,25 @@
 package com.grocery.ordering.controller;
 
+import com.grocery.ordering.dto.ApiResponses.CategoryListResponse;
+import com.grocery.ordering.dto.ApiResponses.ProductListResponse;
+import com.grocery.ordering.dto.ApiResponses.ProductSearchResponse;
+import com.grocery.ordering.dto.ApiResponses.RelatedProductsResponse;
+import com.grocery.ordering.dto.ApiResponses.TrendingProductsResponse;
 import com.grocery.ordering.dto.ProductDTO;
+import com.grocery.ordering.dto.RelatedProductDTO;
+import com.grocery.ordering.dto.SearchResultDTO;
+import com.grocery.ordering.dto.TrendingProductDTO;
 import com.grocery.ordering.service.ProductService;
+import com.grocery.ordering.service.RecommendationService;
+import com.grocery.ordering.service.TrendingProductService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * REST Controller for product operations.
@@ -31,6 +38,12 @@ public class ProductController {
     @Autowired
     private ProductService productService;
 
+    @Autowired
+    private TrendingProductService trendingProductService;
+
+    @Autowired
+    private RecommendationService recommendationService;
+
     /**
      * Search products by name.
      * 
@@ -40,27 +53,11 @@ public class ProductController {
     @GetMapping("/search")
     @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN')")
     public ResponseEntity<?> searchProductsByName(@RequestParam String productName) {
-        try {
-            List<ProductDTO> products = productService.searchProductsByName(productName);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("products", products);
-            response.put("count", products.size());
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to search products by name: {}", productName, e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
-        }
+        SearchResultDTO<ProductDTO> result = productService.searchProductsByName(productName);
+        
+        ProductSearchResponse response = ProductSearchResponse.of(result);
+        
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -72,27 +69,11 @@ public class ProductController {
     @GetMapping("/search/all")
     @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN')")
     public ResponseEntity<?> searchProducts(@RequestParam String searchTerm) {
-        try {
-            List<ProductDTO> products = productService.searchProducts(searchTerm);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("products", products);
-            response.put("count", products.size());
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to search products with term: {}", searchTerm, e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
-        }
+        SearchResultDTO<ProductDTO> result = productService.searchProducts(searchTerm);
+        
+        ProductSearchResponse response = ProductSearchResponse.of(result);
+        
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -103,27 +84,11 @@ public class ProductController {
     @GetMapping
     @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN')")
     public ResponseEntity<?> getAllProducts() {
-        try {
-            List<ProductDTO> products = productService.getAllActiveProducts();
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("products", products);
-            response.put("count", products.size());
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to get all products", e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Failed to retrieve products");
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
+        List<ProductDTO> products = productService.getAllActiveProducts();
+        
+        ProductListResponse response = ProductListResponse.of(products);
+        
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -135,20 +100,26 @@ public class ProductController {
     @GetMapping("/{productId}")
     @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN')")
     public ResponseEntity<?> getProductById(@PathVariable Long productId) {
-        try {
-            ProductDTO product = productService.getProductById(productId);
-            return ResponseEntity.ok(product);
-            
-        } catch (Exception e) {
-            logger.error("Failed to get product by ID: {}", productId, e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
-        }
+        ProductDTO product = productService.getProductById(productId);
+        return ResponseEntity.ok(product);
+    }
+
+    /**
+     * Get in-stock products frequently bought together with a product.
+     * 
+     * @param productId the product ID
+     * @param limit the number of products
+     * @return ResponseEntity with related products
+     */
+    @GetMapping("/{productId}/related")
+    @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN')")
+    public ResponseEntity<?> getRelatedProducts(@PathVariable Long productId,
+                                                @RequestParam(defaultValue = "5") int limit) {
+        List<RelatedProductDTO> products = recommendationService.getRelatedProducts(productId, limit);
+        
+        RelatedProductsResponse response = RelatedProductsResponse.of(productId, products);
+        
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -160,28 +131,11 @@ public class ProductController {
     @GetMapping("/category/{category}")
     @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN')")
     public ResponseEntity<?> getProductsByCategory(@PathVariable String category) {
-        try {
-            List<ProductDTO> products = productService.getProductsByCategory(category);
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("products", products);
-            response.put("category", category);
-            response.put("count", products.size());
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to get products by category: {}", category, e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", e.getMessage());
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
-        }
+        List<ProductDTO> products = productService.getProductsByCategory(category);
+        
+        ProductListResponse response = ProductListResponse.of(category, products);
+        
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -192,27 +146,30 @@ public class ProductController {
     @GetMapping("/in-stock")
     @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN')")
     public ResponseEntity<?> getInStockProducts() {
-        try {
-            List<ProductDTO> products = productService.getInStockProducts();
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("products", products);
-            response.put("count", products.size());
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to get in-stock products", e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Failed to retrieve in-stock products");
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
+        List<ProductDTO> products = productService.getInStockProducts();
+        
+        ProductListResponse response = ProductListResponse.of(products);
+        
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get the best selling in-stock products of the last hour or day.
+     * 
+     * @param window the window, hour or day
+     * @param limit the number of products
+     * @return ResponseEntity with trending products
+     */
+    @GetMapping("/trending")
+    @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN')")
+    public ResponseEntity<?> getTrendingProducts(@RequestParam(defaultValue = "day") String window,
+                                                 @RequestParam(defaultValue = "8") int limit) {
+        TrendingProductService.Window trendingWindow = TrendingProductService.Window.of(window);
+        List<TrendingProductDTO> products = trendingProductService.getTrendingProducts(trendingWindow, limit);
+        
+        TrendingProductsResponse response = TrendingProductsResponse.of(trendingWindow.name().toLowerCase(), products);
+        
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -223,26 +180,10 @@ public class ProductController {
     @GetMapping("/categories")
     @PreAuthorize("hasAnyRole('CUSTOMER', 'ADMIN')")
     public ResponseEntity<?> getAllCategories() {
-        try {
-            List<String> categories = productService.getAllCategories();
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("categories", categories);
-            response.put("count", categories.size());
-            response.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            logger.error("Failed to get all categories", e);
-            
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "Failed to retrieve categories");
-            errorResponse.put("timestamp", System.currentTimeMillis());
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
+        List<String> categories = productService.getAllCategories();
+        
+        CategoryListResponse response = CategoryListResponse.of(categories);
+        
+        return ResponseEntity.ok(response);
     }
 }
@@ -0,0 +1,419 @@
+package com.grocery.ordering.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.grocery.ordering.util.ValidationPlan;
+
+import java.util.List;
+
+/**
+ * Typed response envelopes for the REST controllers.
+ * Each record keeps the JSON keys of the map it replaces ({@code success},
+ * {@code message}, {@code timestamp} and the payload), so clients see the same
+ * documents, while serialization goes through a writer prepared once per type
+ * (see {@link com.grocery.ordering.config.JacksonConfig}).
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public final class ApiResponses {
+
+    private ApiResponses() {
+    }
+
+    private static long now() {
+        return System.currentTimeMillis();
+    }
+
+    /**
+     * Envelope carrying only a status message.
+     */
+    public record MessageResponse(boolean success, String message, long timestamp) {
+
+        public static MessageResponse ok(String message) {
+            return new MessageResponse(true, message, now());
+        }
+
+        public static MessageResponse error(String message) {
+            return new MessageResponse(false, message, now());
+        }
+    }
+
+    /**
+     * Envelope for error responses; {@code errors} lists field violations and is omitted when empty.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ErrorResponse(boolean success, String message, List<ValidationPlan.Violation> errors, long timestamp) {
+
+        public static ErrorResponse of(String message, List<ValidationPlan.Violation> errors) {
+            return new ErrorResponse(false, message, errors, now());
+        }
+    }
+
+    /**
+     * Envelope for a single product.
+     */
+    public record ProductResponse(boolean success, String message, ProductDTO product, long timestamp) {
+
+        public static ProductResponse ok(String message, ProductDTO product) {
+            return new ProductResponse(true, message, product, now());
+        }
+    }
+
+    /**
+     * Envelope for a shopping cart.
+     */
+    public record CartResponse(boolean success, String message, CartDTO cart, long timestamp) {
+
+        public static CartResponse ok(String message, CartDTO cart) {
+            return new CartResponse(true, message, cart, now());
+        }
+    }
+
+    /**
+     * Envelope for a single customer.
+     */
+    public record CustomerResponse(boolean success, String message, CustomerDTO customer, long timestamp) {
+
+        public static CustomerResponse ok(String message, CustomerDTO customer) {
+            return new CustomerResponse(true, message, customer, now());
+        }
+    }
+
+    /**
+     * Envelope for a single order.
+     */
+    public record OrderResponse(boolean success, String message, OrderDTO order, long timestamp) {
+
+        public static OrderResponse ok(String message, OrderDTO order) {
+            return new OrderResponse(true, message, order, now());
+        }
+    }
+
+    /**
+     * Envelope for a product list; {@code category} is only present for category listings.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ProductListResponse(boolean success, List<ProductDTO> products, String category, int count, long timestamp) {
+
+        public static ProductListResponse of(List<ProductDTO> products) {
+            return new ProductListResponse(true, products, null, products.size(), now());
+        }
+
+        public static ProductListResponse of(String category, List<ProductDTO> products) {
+            return new ProductListResponse(true, products, category, products.size(), now());
+        }
+    }
+
+    /**
+     * Envelope for product search results.
+     */
+    public record ProductSearchResponse(boolean success, List<ProductDTO> products, int count, long totalCount,
+                                        List<String> suggestions, double queryTimeMs, long timestamp) {
+
+        public static ProductSearchResponse of(SearchResultDTO<ProductDTO> result) {
+            return new ProductSearchResponse(true, result.getResults(), result.getResults().size(),
+                result.getTotalCount(), result.getSuggestions(), result.getQueryTimeMs(), now());
+        }
+    }
+
+    /**
+     * Envelope for a customer list.
+     */
+    public record CustomerListResponse(boolean success, List<CustomerDTO> customers, int count, long timestamp) {
+
+        public static CustomerListResponse of(List<CustomerDTO> customers) {
+            return new CustomerListResponse(true, customers, customers.size(), now());
+        }
+    }
+
+    /**
+     * Envelope for customer search results.
+     */
+    public record CustomerSearchResponse(boolean success, List<CustomerDTO> customers, int count, long totalCount,
+                                         double queryTimeMs, long timestamp) {
+
+        public static CustomerSearchResponse of(SearchResultDTO<CustomerDTO> result) {
+            return new CustomerSearchResponse(true, result.getResults(), result.getResults().size(),
+                result.getTotalCount(), result.getQueryTimeMs(), now());
+        }
+    }
+
+    /**
+     * Envelope for an order list.
+     */
+    public record OrderListResponse(boolean success, List<OrderDTO> orders, int count, long timestamp) {
+
+        public static OrderListResponse of(List<OrderDTO> orders) {
+            return new OrderListResponse(true, orders, orders.size(), now());
+        }
+    }
+
+    /**
+     * Result of a reorder: the new order when it was placed, otherwise the priced basket to review.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ReorderResponse(boolean success, String message, boolean placed, OrderDTO order,
+                                  ReorderBasketDTO basket, long timestamp) {
+
+        public static ReorderResponse of(ReorderResultDTO result) {
+            if (result.isPlaced()) {
+                return new ReorderResponse(true, "Order created successfully", true, result.getOrder(), null, now());
+            }
+            String message = result.getBasket().isAllAvailable()
+                ? "Basket ready to order"
+                : "Some items are unavailable, review the basket";
+            return new ReorderResponse(true, message, false, null, result.getBasket(), now());
+        }
+    }
+
+    /**
+     * Envelope for one page of orders; {@code nextCursor} is omitted on the last page.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record OrderPageResponse(boolean success, List<OrderDTO> orders, int count, String nextCursor,
+                                    boolean hasMore, long timestamp) {
+
+        public static OrderPageResponse of(OrderPageDTO page) {
+            return new OrderPageResponse(true, page.getOrders(), page.getOrders().size(), page.getNextCursor(),
+                page.hasMore(), now());
+        }
+    }
+
+    /**
+     * Envelope for the admin dashboard statistics.
+     */
+    public record DashboardStatsResponse(boolean success, long activeCustomers, long activeProducts, long totalOrders,
+                                         List<OrderDTO> recentOrders, long timestamp) {
+
+        public static DashboardStatsResponse of(DashboardStatsDTO stats) {
+            return new DashboardStatsResponse(true, stats.getActiveCustomers(), stats.getActiveProducts(),
+                stats.getTotalOrders(), stats.getRecentOrders(), now());
+        }
+    }
+
+    /**
+     * Envelope for the daily sales report.
+     */
+    public record DailySalesResponse(boolean success, List<DailySalesDTO> days, int count, long timestamp) {
+
+        public static DailySalesResponse of(List<DailySalesDTO> days) {
+            return new DailySalesResponse(true, days, days.size(), now());
+        }
+    }
+
+    /**
+     * Envelope for the product sales report.
+     */
+    public record ProductSalesResponse(boolean success, List<ProductSalesDTO> products, int count, long timestamp) {
+
+        public static ProductSalesResponse of(List<ProductSalesDTO> products) {
+            return new ProductSalesResponse(true, products, products.size(), now());
+        }
+    }
+
+    /**
+     * Envelope for the category sales report.
+     */
+    public record CategorySalesResponse(boolean success, List<CategorySalesDTO> categories, int count, long timestamp) {
+
+        public static CategorySalesResponse of(List<CategorySalesDTO> categories) {
+            return new CategorySalesResponse(true, categories, categories.size(), now());
+        }
+    }
+
+    /**
+     * Envelope for the top customers report.
+     */
+    public record TopCustomersResponse(boolean success, List<CustomerSalesDTO> bySpend,
+                                       List<CustomerSalesDTO> byOrderCount, long timestamp) {
+
+        public static TopCustomersResponse of(TopCustomersDTO topCustomers) {
+            return new TopCustomersResponse(true, topCustomers.getBySpend(), topCustomers.getByOrderCount(), now());
+        }
+    }
+
+    /**
+     * Envelope for a single promotion.
+     */
+    public record PromotionResponse(boolean success, String message, PromotionDTO promotion, long timestamp) {
+
+        public static PromotionResponse ok(String message, PromotionDTO promotion) {
+            return new PromotionResponse(true, message, promotion, now());
+        }
+    }
+
+    /**
+     * Envelope for a list of promotions.
+     */
+    public record PromotionListResponse(boolean success, List<PromotionDTO> promotions, int count, long timestamp) {
+
+        public static PromotionListResponse of(List<PromotionDTO> promotions) {
+            return new PromotionListResponse(true, promotions, promotions.size(), now());
+        }
+    }
+
+    /**
+     * Envelope for a single delivery slot.
+     */
+    public record DeliverySlotResponse(boolean success, String message, DeliverySlotDTO slot, long timestamp) {
+
+        public static DeliverySlotResponse ok(String message, DeliverySlotDTO slot) {
+            return new DeliverySlotResponse(true, message, slot, now());
+        }
+    }
+
+    /**
+     * Envelope for a list of delivery slots.
+     */
+    public record DeliverySlotListResponse(boolean success, List<DeliverySlotDTO> slots, int count, long timestamp) {
+
+        public static DeliverySlotListResponse of(List<DeliverySlotDTO> slots) {
+            return new DeliverySlotListResponse(true, slots, slots.size(), now());
+        }
+    }
+
+    /**
+     * Envelope for a single pick wave.
+     */
+    public record PickWaveResponse(boolean success, String message, PickWaveDTO wave, long timestamp) {
+
+        public static PickWaveResponse ok(String message, PickWaveDTO wave) {
+            return new PickWaveResponse(true, message, wave, now());
+        }
+    }
+
+    /**
+     * Envelope for a list of pick waves.
+     */
+    public record PickWaveListResponse(boolean success, List<PickWaveDTO> waves, int count, long timestamp) {
+
+        public static PickWaveListResponse of(List<PickWaveDTO> waves) {
+            return new PickWaveListResponse(true, waves, waves.size(), now());
+        }
+    }
+
+    /**
+     * Envelope for a bulk order status update.
+     */
+    public record BulkStatusResponse(boolean success, String message, BulkStatusResultDTO result, long timestamp) {
+
+        public static BulkStatusResponse of(BulkStatusResultDTO result) {
+            return new BulkStatusResponse(true, result.getUpdated() + " of " + result.getRequested()
+                + " orders moved to " + result.getStatus(), result, now());
+        }
+    }
+
+    /**
+     * Envelope for a sales rollup rebuild.
+     */
+    public record SalesRebuildResponse(boolean success, String message, SalesRebuildResultDTO result, long timestamp) {
+
+        public static SalesRebuildResponse of(SalesRebuildResultDTO result) {
+            return new SalesRebuildResponse(true, "Sales rollups rebuilt successfully", result, now());
+        }
+    }
+
+    /**
+     * Envelope for the trending products of a window.
+     */
+    public record TrendingProductsResponse(boolean success, String window, List<TrendingProductDTO> products, int count,
+                                           long timestamp) {
+
+        public static TrendingProductsResponse of(String window, List<TrendingProductDTO> products) {
+            return new TrendingProductsResponse(true, window, products, products.size(), now());
+        }
+    }
+
+    /**
+     * Envelope for the products frequently bought together with a product.
+     */
+    public record RelatedProductsResponse(boolean success, Long productId, List<RelatedProductDTO> products, int count,
+                                          long timestamp) {
+
+        public static RelatedProductsResponse of(Long productId, List<RelatedProductDTO> products) {
+            return new RelatedProductsResponse(true, productId, products, products.size(), now());
+        }
+    }
+
+    /**
+     * Envelope for a recommendation rebuild.
+     */
+    public record RecommendationRebuildResponse(boolean success, String message, RecommendationRebuildResultDTO result,
+                                                long timestamp) {
+
+        public static RecommendationRebuildResponse of(RecommendationRebuildResultDTO result) {
+            return new RecommendationRebuildResponse(true, "Recommendations rebuilt successfully", result, now());
+        }
+    }
+
+    /**
+     * Envelope for the category list.
+     */
+    public record CategoryListResponse(boolean success, List<String> categories, int count, long timestamp) {
+
+        public static CategoryListResponse of(List<String> categories) {
+            return new CategoryListResponse(true, categories, categories.size(), now());
+        }
+    }
+
+    /**
+     * Result of a token validation; {@code username} is present for valid tokens only.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record TokenValidationResponse(boolean valid, String username, String message, long timestamp) {
+
+        public static TokenValidationResponse of(boolean valid, String username) {
+            return new TokenValidationResponse(valid, username, null, now());
+        }
+
+        public static TokenValidationResponse error(String message) {
+            return new TokenValidationResponse(false, null, message, now());
+        }
+    }
+
+    /**
+     * Result of a batch token introspection.
+     */
+    public record TokenIntrospectionResponse(List<TokenIntrospectionDTO> results) {
+    }
+
+    /**
+     * Result of a user existence check.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record UserExistsResponse(boolean exists, String message, long timestamp) {
+
+        public static UserExistsResponse of(boolean exists) {
+            return new UserExistsResponse(exists, null, now());
+        }
+
+        public static UserExistsResponse error(String message) {
+            return new UserExistsResponse(false, message, now());
+        }
+    }
+
+    /**
+     * Login rate limiter counters.
+     */
+    public record LoginRateLimitStats(boolean success, long allowedAttempts, long rejectedByIp, long rejectedByUser,
+                                      int trackedIps, int trackedUsers, long timestamp) {
+
+        public static LoginRateLimitStats of(long allowedAttempts, long rejectedByIp, long rejectedByUser,
+                                             int trackedIps, int trackedUsers) {
+            return new LoginRateLimitStats(true, allowedAttempts, rejectedByIp, rejectedByUser, trackedIps, trackedUsers, now());
+        }
+    }
+
+    /**
+     * Method authorization counters.
+     */
+    public record MethodAuthorizationStats(boolean success, long compiledChecks, long delegatedChecks, long deniedChecks,
+                                           int methods, long averageNanos, long maxNanos, long timestamp) {
+
+        public static MethodAuthorizationStats of(long compiledChecks, long delegatedChecks, long deniedChecks,
+                                                  int methods, long averageNanos, long maxNanos) {
+            return new MethodAuthorizationStats(true, compiledChecks, delegatedChecks, deniedChecks, methods,
+                averageNanos, maxNanos, now());
+        }
+    }
+}
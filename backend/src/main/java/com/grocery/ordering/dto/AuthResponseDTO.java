@@ -10,6 +10,7 @@ package com.grocery.ordering.dto;
 public class AuthResponseDTO {
 
     private String token;
+    private String refreshToken;
     private String type = "Bearer";
     private Long id;
     private String username;
@@ -46,6 +47,14 @@ public class AuthResponseDTO {
         this.token = token;
     }
 
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
     public String getType() {
         return type;
     }
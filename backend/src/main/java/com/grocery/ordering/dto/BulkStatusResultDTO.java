@@ -0,0 +1,51 @@
+package com.grocery.ordering.dto;
+
+import com.grocery.ordering.entity.Order;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the outcome of a bulk order status update.
+ * Orders that could not move to the new status are listed by their current status.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class BulkStatusResultDTO {
+
+    private final Order.OrderStatus status;
+    private final int requested;
+    private final int updated;
+    private final List<Long> notFound;
+    private final Map<Order.OrderStatus, List<Long>> rejected;
+
+    public BulkStatusResultDTO(Order.OrderStatus status, int requested, int updated, List<Long> notFound,
+                               Map<Order.OrderStatus, List<Long>> rejected) {
+        this.status = status;
+        this.requested = requested;
+        this.updated = updated;
+        this.notFound = notFound;
+        this.rejected = rejected;
+    }
+
+    // Getters
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public List<Long> getNotFound() {
+        return notFound;
+    }
+
+    public Map<Order.OrderStatus, List<Long>> getRejected() {
+        return rejected;
+    }
+}
@@ -0,0 +1,41 @@
+package com.grocery.ordering.dto;
+
+import com.grocery.ordering.entity.Order;
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+/**
+ * Data Transfer Object for moving many orders to a new status at once.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class BulkStatusUpdateDTO {
+
+    @NotEmpty(message = "Order IDs are required")
+    private List<@NotNull(message = "Order ID must not be null") Long> orderIds;
+
+    @NotNull(message = "Status is required")
+    private Order.OrderStatus status;
+
+    // Constructors
+    public BulkStatusUpdateDTO() {
+    }
+
+    // Getters and Setters
+    public List<Long> getOrderIds() {
+        return orderIds;
+    }
+
+    public void setOrderIds(List<Long> orderIds) {
+        this.orderIds = orderIds;
+    }
+
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Order.OrderStatus status) {
+        this.status = status;
+    }
+}
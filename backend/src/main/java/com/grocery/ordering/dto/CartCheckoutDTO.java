@@ -0,0 +1,50 @@
+package com.grocery.ordering.dto;
+
+import jakarta.validation.constraints.*;
+
+/**
+ * Data Transfer Object for checking out a cart.
+ * Fields left empty default to the customer's profile.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class CartCheckoutDTO {
+
+    @Size(max = 500, message = "Delivery address must not exceed 500 characters")
+    private String deliveryAddress;
+
+    @Pattern(regexp = "^[0-9]{10}$", message = "Contact number must be exactly 10 digits")
+    private String contactNumber;
+
+    private Long deliverySlotId;
+
+    // Constructors
+    public CartCheckoutDTO() {
+    }
+
+    // Getters and Setters
+    public String getDeliveryAddress() {
+        return deliveryAddress;
+    }
+
+    public void setDeliveryAddress(String deliveryAddress) {
+        this.deliveryAddress = deliveryAddress;
+    }
+
+    public String getContactNumber() {
+        return contactNumber;
+    }
+
+    public void setContactNumber(String contactNumber) {
+        this.contactNumber = contactNumber;
+    }
+
+    public Long getDeliverySlotId() {
+        return deliverySlotId;
+    }
+
+    public void setDeliverySlotId(Long deliverySlotId) {
+        this.deliverySlotId = deliverySlotId;
+    }
+}
@@ -0,0 +1,62 @@
+package com.grocery.ordering.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a customer's shopping cart.
+ * The subtotal, discount, total and item count cover the available lines only.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class CartDTO {
+
+    private final Long customerId;
+    private final List<CartLineDTO> lines;
+    private final int itemCount;
+    private final BigDecimal subtotal;
+    private final BigDecimal discount;
+    private final BigDecimal total;
+    private final boolean allAvailable;
+
+    public CartDTO(Long customerId, List<CartLineDTO> lines, int itemCount, BigDecimal subtotal, BigDecimal discount,
+                   BigDecimal total, boolean allAvailable) {
+        this.customerId = customerId;
+        this.lines = lines;
+        this.itemCount = itemCount;
+        this.subtotal = subtotal;
+        this.discount = discount;
+        this.total = total;
+        this.allAvailable = allAvailable;
+    }
+
+    // Getters
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public List<CartLineDTO> getLines() {
+        return lines;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public BigDecimal getSubtotal() {
+        return subtotal;
+    }
+
+    public BigDecimal getDiscount() {
+        return discount;
+    }
+
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    public boolean isAllAvailable() {
+        return allAvailable;
+    }
+}
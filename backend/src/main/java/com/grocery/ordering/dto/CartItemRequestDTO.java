@@ -0,0 +1,45 @@
+package com.grocery.ordering.dto;
+
+import jakarta.validation.constraints.*;
+
+/**
+ * Data Transfer Object for adding a product to a cart or changing its quantity.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class CartItemRequestDTO {
+
+    private Long productId;
+
+    @NotNull(message = "Quantity is required")
+    @Min(value = 0, message = "Quantity must not be negative")
+    @Max(value = 1000, message = "Quantity must not exceed 1000")
+    private Integer quantity;
+
+    // Constructors
+    public CartItemRequestDTO() {
+    }
+
+    public CartItemRequestDTO(Long productId, Integer quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    // Getters and Setters
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,81 @@
+package com.grocery.ordering.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for one line of a shopping cart, priced at the
+ * product's current price with the discount of the promotions that apply.
+ * Lines that cannot be bought as they stand carry the reason and are left
+ * out of the cart subtotal.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class CartLineDTO {
+
+    private final Long productId;
+    private final String productName;
+    private final String imageUrl;
+    private final int quantity;
+    private final int availableQuantity;
+    private final BigDecimal unitPrice;
+    private final BigDecimal lineTotal;
+    private final BigDecimal discount;
+    private final boolean available;
+    private final String unavailableReason;
+
+    public CartLineDTO(Long productId, String productName, String imageUrl, int quantity, int availableQuantity,
+                       BigDecimal unitPrice, BigDecimal lineTotal, BigDecimal discount, String unavailableReason) {
+        this.productId = productId;
+        this.productName = productName;
+        this.imageUrl = imageUrl;
+        this.quantity = quantity;
+        this.availableQuantity = availableQuantity;
+        this.unitPrice = unitPrice;
+        this.lineTotal = lineTotal;
+        this.discount = discount;
+        this.available = unavailableReason == null;
+        this.unavailableReason = unavailableReason;
+    }
+
+    // Getters
+    public Long getProductId() {
+        return productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public int getAvailableQuantity() {
+        return availableQuantity;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public BigDecimal getLineTotal() {
+        return lineTotal;
+    }
+
+    public BigDecimal getDiscount() {
+        return discount;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public String getUnavailableReason() {
+        return unavailableReason;
+    }
+}
@@ -0,0 +1,35 @@
+package com.grocery.ordering.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for the sales rollup of one product category.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class CategorySalesDTO {
+
+    private final String category;
+    private final long unitsSold;
+    private final BigDecimal revenue;
+
+    public CategorySalesDTO(String category, long unitsSold, BigDecimal revenue) {
+        this.category = category;
+        this.unitsSold = unitsSold;
+        this.revenue = revenue;
+    }
+
+    // Getters
+    public String getCategory() {
+        return category;
+    }
+
+    public long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+}
@@ -46,6 +46,17 @@ public class CustomerDTO {
         this.contactNumber = contactNumber;
     }
 
+    /**
+     * Projection constructor used by JPQL constructor expressions.
+     */
+    public CustomerDTO(Long customerId, String customerName, String email, String address, String contactNumber,
+                       LocalDateTime createdAt, LocalDateTime updatedAt, Boolean isActive) {
+        this(customerId, customerName, email, address, contactNumber);
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.isActive = isActive;
+    }
+
     // Getters and Setters
     public Long getCustomerId() {
         return customerId;
@@ -0,0 +1,53 @@
+package com.grocery.ordering.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for the running order count and spend of a customer.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class CustomerSalesDTO {
+
+    private final Long customerId;
+    private final long orderCount;
+    private final BigDecimal totalSpent;
+    private String customerName;
+    private String email;
+
+    public CustomerSalesDTO(Long customerId, long orderCount, BigDecimal totalSpent) {
+        this.customerId = customerId;
+        this.orderCount = orderCount;
+        this.totalSpent = totalSpent;
+    }
+
+    // Getters and Setters
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public BigDecimal getTotalSpent() {
+        return totalSpent;
+    }
+
+    public String getCustomerName() {
+        return customerName;
+    }
+
+    public void setCustomerName(String customerName) {
+        this.customerName = customerName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
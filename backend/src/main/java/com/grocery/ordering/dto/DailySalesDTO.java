@@ -0,0 +1,42 @@
+package com.grocery.ordering.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for the sales rollup of one day.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class DailySalesDTO {
+
+    private final LocalDate salesDate;
+    private final long orderCount;
+    private final long unitsSold;
+    private final BigDecimal revenue;
+
+    public DailySalesDTO(LocalDate salesDate, long orderCount, long unitsSold, BigDecimal revenue) {
+        this.salesDate = salesDate;
+        this.orderCount = orderCount;
+        this.unitsSold = unitsSold;
+        this.revenue = revenue;
+    }
+
+    // Getters
+    public LocalDate getSalesDate() {
+        return salesDate;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+}
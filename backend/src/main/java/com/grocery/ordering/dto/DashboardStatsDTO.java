@@ -0,0 +1,41 @@
+package com.grocery.ordering.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the admin dashboard statistics.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class DashboardStatsDTO {
+
+    private final long activeCustomers;
+    private final long activeProducts;
+    private final long totalOrders;
+    private final List<OrderDTO> recentOrders;
+
+    public DashboardStatsDTO(long activeCustomers, long activeProducts, long totalOrders, List<OrderDTO> recentOrders) {
+        this.activeCustomers = activeCustomers;
+        this.activeProducts = activeProducts;
+        this.totalOrders = totalOrders;
+        this.recentOrders = recentOrders;
+    }
+
+    // Getters
+    public long getActiveCustomers() {
+        return activeCustomers;
+    }
+
+    public long getActiveProducts() {
+        return activeProducts;
+    }
+
+    public long getTotalOrders() {
+        return totalOrders;
+    }
+
+    public List<OrderDTO> getRecentOrders() {
+        return recentOrders;
+    }
+}
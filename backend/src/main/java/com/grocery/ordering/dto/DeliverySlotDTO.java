@@ -0,0 +1,61 @@
+package com.grocery.ordering.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Data Transfer Object for a delivery slot and the places left in it.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class DeliverySlotDTO {
+
+    private final Long slotId;
+    private final LocalDate slotDate;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final int capacity;
+    private final int remaining;
+    private final boolean available;
+
+    public DeliverySlotDTO(Long slotId, LocalDate slotDate, LocalTime startTime, LocalTime endTime,
+                           int capacity, int remaining) {
+        this.slotId = slotId;
+        this.slotDate = slotDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.capacity = capacity;
+        this.remaining = Math.max(remaining, 0);
+        this.available = remaining > 0;
+    }
+
+    // Getters
+    public Long getSlotId() {
+        return slotId;
+    }
+
+    public LocalDate getSlotDate() {
+        return slotDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getRemaining() {
+        return remaining;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+}
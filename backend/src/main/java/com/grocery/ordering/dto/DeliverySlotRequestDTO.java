@@ -0,0 +1,65 @@
+package com.grocery.ordering.dto;
+
+import jakarta.validation.constraints.*;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Data Transfer Object for creating a delivery slot.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class DeliverySlotRequestDTO {
+
+    @NotNull(message = "Slot date is required")
+    private LocalDate slotDate;
+
+    @NotNull(message = "Start time is required")
+    private LocalTime startTime;
+
+    @NotNull(message = "End time is required")
+    private LocalTime endTime;
+
+    @NotNull(message = "Capacity is required")
+    @Min(value = 1, message = "Capacity must be at least 1")
+    @Max(value = 10000, message = "Capacity must not exceed 10000")
+    private Integer capacity;
+
+    // Constructors
+    public DeliverySlotRequestDTO() {
+    }
+
+    // Getters and Setters
+    public LocalDate getSlotDate() {
+        return slotDate;
+    }
+
+    public void setSlotDate(LocalDate slotDate) {
+        this.slotDate = slotDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+}
@@ -35,6 +35,8 @@ public class OrderDTO {
     @Pattern(regexp = "^[0-9]{10}$", message = "Contact number must be exactly 10 digits")
     private String contactNumber;
 
+    private Long deliverySlotId;
+
     private List<OrderItemDTO> orderItems;
 
     // Constructors
@@ -50,6 +52,28 @@ public class OrderDTO {
         this.orderStatus = orderStatus;
     }
 
+    /**
+     * Projection constructor used by JPQL constructor expressions; order items are attached separately.
+     */
+    public OrderDTO(Long orderId, Long customerId, String customerName, String customerEmail, LocalDateTime orderDate,
+                    BigDecimal totalAmount, Order.OrderStatus orderStatus, String deliveryAddress, String contactNumber) {
+        this(orderId, customerId, customerName, orderDate, totalAmount, orderStatus);
+        this.customerEmail = customerEmail;
+        this.deliveryAddress = deliveryAddress;
+        this.contactNumber = contactNumber;
+    }
+
+    /**
+     * Projection constructor used by JPQL constructor expressions that include the delivery slot.
+     */
+    public OrderDTO(Long orderId, Long customerId, String customerName, String customerEmail, LocalDateTime orderDate,
+                    BigDecimal totalAmount, Order.OrderStatus orderStatus, String deliveryAddress, String contactNumber,
+                    Long deliverySlotId) {
+        this(orderId, customerId, customerName, customerEmail, orderDate, totalAmount, orderStatus, deliveryAddress,
+            contactNumber);
+        this.deliverySlotId = deliverySlotId;
+    }
+
     // Getters and Setters
     public Long getOrderId() {
         return orderId;
@@ -123,6 +147,14 @@ public class OrderDTO {
         this.contactNumber = contactNumber;
     }
 
+    public Long getDeliverySlotId() {
+        return deliverySlotId;
+    }
+
+    public void setDeliverySlotId(Long deliverySlotId) {
+        this.deliverySlotId = deliverySlotId;
+    }
+
     public List<OrderItemDTO> getOrderItems() {
         return orderItems;
     }
@@ -142,6 +174,7 @@ public class OrderDTO {
                 ", orderStatus=" + orderStatus +
                 ", deliveryAddress='" + deliveryAddress + '\'' +
                 ", contactNumber='" + contactNumber + '\'' +
+                ", deliverySlotId=" + deliverySlotId +
                 '}';
     }
 }
@@ -0,0 +1,20 @@
+package com.grocery.ordering.dto;
+
+import com.grocery.ordering.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One row of the order export: an order line together with its order and
+ * customer. Orders without lines produce a single row with null line fields.
+ * 
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public record OrderExportRow(Long orderId, LocalDateTime orderDate, Order.OrderStatus orderStatus,
+                             BigDecimal totalAmount, Long customerId, String customerName, String customerEmail,
+                             String deliveryAddress, String contactNumber, Long orderItemId, Long productId,
+                             String productName, Integer quantity, BigDecimal unitPrice, BigDecimal totalPrice,
+                             BigDecimal discountAmount, String appliedPromotions) {
+}
@@ -31,6 +31,9 @@ public class OrderItemDTO {
     @Digits(integer = 8, fraction = 2, message = "Total price must be a valid monetary amount")
     private BigDecimal totalPrice;
 
+    private BigDecimal discountAmount;
+    private String appliedPromotions;
+
     // Constructors
     public OrderItemDTO() {
     }
@@ -44,6 +47,25 @@ public class OrderItemDTO {
         this.totalPrice = totalPrice;
     }
 
+    /**
+     * Projection constructor used by JPQL constructor expressions.
+     */
+    public OrderItemDTO(Long orderItemId, Long orderId, Long productId, String productName, Integer quantity,
+                        BigDecimal unitPrice, BigDecimal totalPrice) {
+        this(orderItemId, productId, productName, quantity, unitPrice, totalPrice);
+        this.orderId = orderId;
+    }
+
+    /**
+     * Projection constructor used by JPQL constructor expressions that include the applied discount.
+     */
+    public OrderItemDTO(Long orderItemId, Long orderId, Long productId, String productName, Integer quantity,
+                        BigDecimal unitPrice, BigDecimal totalPrice, BigDecimal discountAmount, String appliedPromotions) {
+        this(orderItemId, orderId, productId, productName, quantity, unitPrice, totalPrice);
+        this.discountAmount = discountAmount;
+        this.appliedPromotions = appliedPromotions;
+    }
+
     // Getters and Setters
     public Long getOrderItemId() {
         return orderItemId;
@@ -101,6 +123,22 @@ public class OrderItemDTO {
         this.totalPrice = totalPrice;
     }
 
+    public BigDecimal getDiscountAmount() {
+        return discountAmount;
+    }
+
+    public void setDiscountAmount(BigDecimal discountAmount) {
+        this.discountAmount = discountAmount;
+    }
+
+    public String getAppliedPromotions() {
+        return appliedPromotions;
+    }
+
+    public void setAppliedPromotions(String appliedPromotions) {
+        this.appliedPromotions = appliedPromotions;
+    }
+
     @Override
     public String toString() {
         return "OrderItemDTO{" +
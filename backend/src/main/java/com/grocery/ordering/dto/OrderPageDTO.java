@@ -0,0 +1,36 @@
+package com.grocery.ordering.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one page of a keyset-paginated order listing.
+ * 
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class OrderPageDTO {
+
+    private final List<OrderDTO> orders;
+    private final String nextCursor;
+
+    public OrderPageDTO(List<OrderDTO> orders, String nextCursor) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters
+    public List<OrderDTO> getOrders() {
+        return orders;
+    }
+
+    /**
+     * Cursor for the following page, or null if this is the last page.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.grocery.ordering.dto;
+
+import com.grocery.ordering.entity.Order;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for a change of an order's status.
+ * Published in-process when an order moves to a new status and pushed
+ * to the customer's open order event streams once the change commits.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class OrderStatusEventDTO {
+
+    private final Long orderId;
+    private final Long customerId;
+    private final Order.OrderStatus previousStatus;
+    private final Order.OrderStatus orderStatus;
+    private final LocalDateTime changedAt;
+
+    public OrderStatusEventDTO(Long orderId, Long customerId, Order.OrderStatus previousStatus,
+                               Order.OrderStatus orderStatus) {
+        this.orderId = orderId;
+        this.customerId = customerId;
+        this.previousStatus = previousStatus;
+        this.orderStatus = orderStatus;
+        this.changedAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public Order.OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public Order.OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+}
@@ -0,0 +1,52 @@
+package com.grocery.ordering.dto;
+
+/**
+ * Data Transfer Object for one product to pick for a wave, summed over its orders.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class PickListLineDTO {
+
+    private final String category;
+    private final String aisle;
+    private final Long productId;
+    private final String productName;
+    private final long quantity;
+    private final long orderCount;
+
+    public PickListLineDTO(String category, String aisle, Long productId, String productName, Long quantity,
+                           Long orderCount) {
+        this.category = category;
+        this.aisle = aisle;
+        this.productId = productId;
+        this.productName = productName;
+        this.quantity = quantity != null ? quantity : 0;
+        this.orderCount = orderCount != null ? orderCount : 0;
+    }
+
+    // Getters
+    public String getCategory() {
+        return category;
+    }
+
+    public String getAisle() {
+        return aisle;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+}
@@ -0,0 +1,75 @@
+package com.grocery.ordering.dto;
+
+import com.grocery.ordering.entity.Order;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a pick wave and, when requested, its pick list.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class PickWaveDTO {
+
+    private final Long waveId;
+    private final String category;
+    private final Long deliverySlotId;
+    private final Order.OrderStatus orderStatus;
+    private final int orderCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final List<PickListLineDTO> pickList;
+    private final Long totalUnits;
+
+    public PickWaveDTO(Long waveId, String category, Long deliverySlotId, Order.OrderStatus orderStatus,
+                       int orderCount, LocalDateTime createdAt, LocalDateTime updatedAt,
+                       List<PickListLineDTO> pickList) {
+        this.waveId = waveId;
+        this.category = category;
+        this.deliverySlotId = deliverySlotId;
+        this.orderStatus = orderStatus;
+        this.orderCount = orderCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.pickList = pickList;
+        this.totalUnits = pickList != null ? pickList.stream().mapToLong(PickListLineDTO::getQuantity).sum() : null;
+    }
+
+    // Getters
+    public Long getWaveId() {
+        return waveId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public Long getDeliverySlotId() {
+        return deliverySlotId;
+    }
+
+    public Order.OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public List<PickListLineDTO> getPickList() {
+        return pickList;
+    }
+
+    public Long getTotalUnits() {
+        return totalUnits;
+    }
+}
@@ -33,6 +33,9 @@ public class ProductDTO {
     @Size(max = 50, message = "Category must not exceed 50 characters")
     private String category;
 
+    @Size(max = 20, message = "Aisle must not exceed 20 characters")
+    private String aisle;
+
     private String imageUrl;
     private Boolean isReserved;
     private Long reservedBy;
@@ -53,6 +56,21 @@ public class ProductDTO {
         this.category = category;
     }
 
+    /**
+     * Projection constructor used by JPQL constructor expressions.
+     */
+    public ProductDTO(Long productId, String productName, BigDecimal price, Integer quantity, String description,
+                      String category, String imageUrl, Boolean isReserved, Long reservedBy,
+                      LocalDateTime createdAt, LocalDateTime updatedAt, Boolean isActive) {
+        this(productId, productName, price, quantity, description, category);
+        this.imageUrl = imageUrl;
+        this.isReserved = isReserved;
+        this.reservedBy = reservedBy;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.isActive = isActive;
+    }
+
     // Getters and Setters
     public Long getProductId() {
         return productId;
@@ -102,6 +120,14 @@ public class ProductDTO {
         this.category = category;
     }
 
+    public String getAisle() {
+        return aisle;
+    }
+
+    public void setAisle(String aisle) {
+        this.aisle = aisle;
+    }
+
     public String getImageUrl() {
         return imageUrl;
     }
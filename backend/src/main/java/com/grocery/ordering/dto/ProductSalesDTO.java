@@ -0,0 +1,47 @@
+package com.grocery.ordering.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for the sales rollup of one product.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class ProductSalesDTO {
+
+    private final Long productId;
+    private final String productName;
+    private final String category;
+    private final long unitsSold;
+    private final BigDecimal revenue;
+
+    public ProductSalesDTO(Long productId, String productName, String category, long unitsSold, BigDecimal revenue) {
+        this.productId = productId;
+        this.productName = productName;
+        this.category = category;
+        this.unitsSold = unitsSold;
+        this.revenue = revenue;
+    }
+
+    // Getters
+    public Long getProductId() {
+        return productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+}
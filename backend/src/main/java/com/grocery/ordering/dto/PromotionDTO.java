@@ -0,0 +1,173 @@
+package com.grocery.ordering.dto;
+
+import com.grocery.ordering.entity.Promotion;
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for Promotion entity.
+ * Which fields are required depends on the promotion type: a percentage off
+ * and a buy-X-get-Y offer need a product or a category, and a basket
+ * threshold needs the threshold and an amount or percentage off.
+ * 
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class PromotionDTO {
+
+    private Long promotionId;
+
+    @NotBlank(message = "Promotion name is required")
+    @Size(max = 100, message = "Promotion name must not exceed 100 characters")
+    private String name;
+
+    @NotNull(message = "Promotion type is required")
+    private Promotion.PromotionType promotionType;
+
+    private Long productId;
+
+    @Size(max = 50, message = "Category must not exceed 50 characters")
+    private String category;
+
+    @DecimalMin(value = "0.0", inclusive = false, message = "Percentage off must be greater than 0")
+    @DecimalMax(value = "100.0", inclusive = false, message = "Percentage off must be less than 100")
+    @Digits(integer = 3, fraction = 2, message = "Percentage off must have at most 2 decimal places")
+    private BigDecimal percentOff;
+
+    @Min(value = 1, message = "Buy quantity must be at least 1")
+    private Integer buyQuantity;
+
+    @Min(value = 1, message = "Free quantity must be at least 1")
+    private Integer freeQuantity;
+
+    @DecimalMin(value = "0.0", inclusive = false, message = "Threshold amount must be greater than 0")
+    @Digits(integer = 8, fraction = 2, message = "Threshold amount must be a valid monetary amount")
+    private BigDecimal thresholdAmount;
+
+    @DecimalMin(value = "0.0", inclusive = false, message = "Amount off must be greater than 0")
+    @Digits(integer = 8, fraction = 2, message = "Amount off must be a valid monetary amount")
+    private BigDecimal amountOff;
+
+    private LocalDateTime startsAt;
+    private LocalDateTime endsAt;
+    private Boolean isActive;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public PromotionDTO() {
+    }
+
+    // Getters and Setters
+    public Long getPromotionId() {
+        return promotionId;
+    }
+
+    public void setPromotionId(Long promotionId) {
+        this.promotionId = promotionId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Promotion.PromotionType getPromotionType() {
+        return promotionType;
+    }
+
+    public void setPromotionType(Promotion.PromotionType promotionType) {
+        this.promotionType = promotionType;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public BigDecimal getPercentOff() {
+        return percentOff;
+    }
+
+    public void setPercentOff(BigDecimal percentOff) {
+        this.percentOff = percentOff;
+    }
+
+    public Integer getBuyQuantity() {
+        return buyQuantity;
+    }
+
+    public void setBuyQuantity(Integer buyQuantity) {
+        this.buyQuantity = buyQuantity;
+    }
+
+    public Integer getFreeQuantity() {
+        return freeQuantity;
+    }
+
+    public void setFreeQuantity(Integer freeQuantity) {
+        this.freeQuantity = freeQuantity;
+    }
+
+    public BigDecimal getThresholdAmount() {
+        return thresholdAmount;
+    }
+
+    public void setThresholdAmount(BigDecimal thresholdAmount) {
+        this.thresholdAmount = thresholdAmount;
+    }
+
+    public BigDecimal getAmountOff() {
+        return amountOff;
+    }
+
+    public void setAmountOff(BigDecimal amountOff) {
+        this.amountOff = amountOff;
+    }
+
+    public LocalDateTime getStartsAt() {
+        return startsAt;
+    }
+
+    public void setStartsAt(LocalDateTime startsAt) {
+        this.startsAt = startsAt;
+    }
+
+    public LocalDateTime getEndsAt() {
+        return endsAt;
+    }
+
+    public void setEndsAt(LocalDateTime endsAt) {
+        this.endsAt = endsAt;
+    }
+
+    public Boolean getIsActive() {
+        return isActive;
+    }
+
+    public void setIsActive(Boolean isActive) {
+        this.isActive = isActive;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,39 @@
+package com.grocery.ordering.dto;
+
+/**
+ * Data Transfer Object summarizing a rebuild of the co-occurrence matrix.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class RecommendationRebuildResultDTO {
+
+    private final long ordersScanned;
+    private final int products;
+    private final int chunks;
+    private final long durationMs;
+
+    public RecommendationRebuildResultDTO(long ordersScanned, int products, int chunks, long durationMs) {
+        this.ordersScanned = ordersScanned;
+        this.products = products;
+        this.chunks = chunks;
+        this.durationMs = durationMs;
+    }
+
+    // Getters
+    public long getOrdersScanned() {
+        return ordersScanned;
+    }
+
+    public int getProducts() {
+        return products;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+}
@@ -0,0 +1,35 @@
+package com.grocery.ordering.dto;
+
+/**
+ * Data Transfer Object for a product frequently bought together with
+ * another: the product, the number of baskets that held both, and their
+ * cosine similarity between 0 and 1.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class RelatedProductDTO {
+
+    private final ProductDTO product;
+    private final long boughtTogether;
+    private final double score;
+
+    public RelatedProductDTO(ProductDTO product, long boughtTogether, double score) {
+        this.product = product;
+        this.boughtTogether = boughtTogether;
+        this.score = score;
+    }
+
+    // Getters
+    public ProductDTO getProduct() {
+        return product;
+    }
+
+    public long getBoughtTogether() {
+        return boughtTogether;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,58 @@
+package com.grocery.ordering.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Data Transfer Object for a basket rebuilt from a past order, with the
+ * total of its available lines and the past order's delivery details.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class ReorderBasketDTO {
+
+    private final Long sourceOrderId;
+    private final List<ReorderLineDTO> lines;
+    private final BigDecimal totalAmount;
+    private final boolean allAvailable;
+    private final String deliveryAddress;
+    private final String contactNumber;
+
+    public ReorderBasketDTO(Long sourceOrderId, List<ReorderLineDTO> lines, String deliveryAddress, String contactNumber) {
+        this.sourceOrderId = sourceOrderId;
+        this.lines = lines;
+        this.totalAmount = lines.stream()
+            .filter(ReorderLineDTO::isAvailable)
+            .map(ReorderLineDTO::getLineTotal)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        this.allAvailable = !lines.isEmpty() && lines.stream().allMatch(ReorderLineDTO::isAvailable);
+        this.deliveryAddress = deliveryAddress;
+        this.contactNumber = contactNumber;
+    }
+
+    // Getters
+    public Long getSourceOrderId() {
+        return sourceOrderId;
+    }
+
+    public List<ReorderLineDTO> getLines() {
+        return lines;
+    }
+
+    public BigDecimal getTotalAmount() {
+        return totalAmount;
+    }
+
+    public boolean isAllAvailable() {
+        return allAvailable;
+    }
+
+    public String getDeliveryAddress() {
+        return deliveryAddress;
+    }
+
+    public String getContactNumber() {
+        return contactNumber;
+    }
+}
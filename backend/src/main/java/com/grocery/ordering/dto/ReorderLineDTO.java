@@ -0,0 +1,74 @@
+package com.grocery.ordering.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for one line of a reorder basket, priced at the
+ * product's current price. Unavailable lines carry the reason and are
+ * left out of the basket total.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class ReorderLineDTO {
+
+    private final Long productId;
+    private final String productName;
+    private final int quantity;
+    private final int availableQuantity;
+    private final BigDecimal previousUnitPrice;
+    private final BigDecimal unitPrice;
+    private final BigDecimal lineTotal;
+    private final boolean available;
+    private final String unavailableReason;
+
+    public ReorderLineDTO(Long productId, String productName, int quantity, int availableQuantity,
+                          BigDecimal previousUnitPrice, BigDecimal unitPrice, String unavailableReason) {
+        this.productId = productId;
+        this.productName = productName;
+        this.quantity = quantity;
+        this.availableQuantity = availableQuantity;
+        this.previousUnitPrice = previousUnitPrice;
+        this.unitPrice = unitPrice;
+        this.lineTotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
+        this.available = unavailableReason == null;
+        this.unavailableReason = unavailableReason;
+    }
+
+    // Getters
+    public Long getProductId() {
+        return productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public int getAvailableQuantity() {
+        return availableQuantity;
+    }
+
+    public BigDecimal getPreviousUnitPrice() {
+        return previousUnitPrice;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public BigDecimal getLineTotal() {
+        return lineTotal;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public String getUnavailableReason() {
+        return unavailableReason;
+    }
+}
@@ -0,0 +1,32 @@
+package com.grocery.ordering.dto;
+
+/**
+ * Data Transfer Object for the result of a reorder: the rebuilt basket,
+ * and the new order when it was placed.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class ReorderResultDTO {
+
+    private final ReorderBasketDTO basket;
+    private final OrderDTO order;
+
+    public ReorderResultDTO(ReorderBasketDTO basket, OrderDTO order) {
+        this.basket = basket;
+        this.order = order;
+    }
+
+    // Getters
+    public ReorderBasketDTO getBasket() {
+        return basket;
+    }
+
+    public OrderDTO getOrder() {
+        return order;
+    }
+
+    public boolean isPlaced() {
+        return order != null;
+    }
+}
@@ -0,0 +1,58 @@
+package com.grocery.ordering.dto;
+
+/**
+ * Data Transfer Object summarizing a rebuild of the sales rollups.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class SalesRebuildResultDTO {
+
+    private final long ordersScanned;
+    private final int chunks;
+    private final int dailyRows;
+    private final int productRows;
+    private final int categoryRows;
+    private final int customerRows;
+    private final long durationMs;
+
+    public SalesRebuildResultDTO(long ordersScanned, int chunks, int dailyRows, int productRows, int categoryRows,
+                                 int customerRows, long durationMs) {
+        this.ordersScanned = ordersScanned;
+        this.chunks = chunks;
+        this.dailyRows = dailyRows;
+        this.productRows = productRows;
+        this.categoryRows = categoryRows;
+        this.customerRows = customerRows;
+        this.durationMs = durationMs;
+    }
+
+    // Getters
+    public long getOrdersScanned() {
+        return ordersScanned;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public int getDailyRows() {
+        return dailyRows;
+    }
+
+    public int getProductRows() {
+        return productRows;
+    }
+
+    public int getCategoryRows() {
+        return categoryRows;
+    }
+
+    public int getCustomerRows() {
+        return customerRows;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+}
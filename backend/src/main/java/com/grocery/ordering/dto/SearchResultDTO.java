@@ -0,0 +1,60 @@
+package com.grocery.ordering.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for search results.
+ * A search with no hits is a normal result: it carries an empty result list,
+ * a total count of zero and, where available, suggestions for other queries.
+ *
+ * @param <T> the type of the search results
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class SearchResultDTO<T> {
+
+    private final String query;
+    private final List<T> results;
+    private final long totalCount;
+    private final List<String> suggestions;
+    private final double queryTimeMs;
+    private final boolean cached;
+
+    public SearchResultDTO(String query, List<T> results, List<String> suggestions, double queryTimeMs, boolean cached) {
+        this.query = query;
+        this.results = results;
+        this.totalCount = results.size();
+        this.suggestions = suggestions;
+        this.queryTimeMs = queryTimeMs;
+        this.cached = cached;
+    }
+
+    // Getters
+    public String getQuery() {
+        return query;
+    }
+
+    public List<T> getResults() {
+        return results;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public List<String> getSuggestions() {
+        return suggestions;
+    }
+
+    public double getQueryTimeMs() {
+        return queryTimeMs;
+    }
+
+    public boolean isCached() {
+        return cached;
+    }
+
+    public boolean isEmpty() {
+        return results.isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+package com.grocery.ordering.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Data Transfer Object for the introspection result of a single token.
+ * Kept compact for edge proxies: fields other than {@code valid} are
+ * omitted for invalid tokens.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TokenIntrospectionDTO {
+
+    private static final TokenIntrospectionDTO INVALID = new TokenIntrospectionDTO(false, null, null, null);
+
+    private final boolean valid;
+    private final String sub;
+    private final String role;
+    private final Long exp;
+
+    private TokenIntrospectionDTO(boolean valid, String sub, String role, Long exp) {
+        this.valid = valid;
+        this.sub = sub;
+        this.role = role;
+        this.exp = exp;
+    }
+
+    /**
+     * Result for a verified, unrevoked token.
+     *
+     * @param sub the token subject
+     * @param role the role claim, may be null for tokens issued without one
+     * @param exp the expiry as epoch seconds
+     * @return the introspection result
+     */
+    public static TokenIntrospectionDTO valid(String sub, String role, long exp) {
+        return new TokenIntrospectionDTO(true, sub, role, exp);
+    }
+
+    /**
+     * Result for a malformed, expired, forged or revoked token.
+     *
+     * @return the shared invalid result
+     */
+    public static TokenIntrospectionDTO invalid() {
+        return INVALID;
+    }
+
+    // Getters
+    public boolean isValid() {
+        return valid;
+    }
+
+    public String getSub() {
+        return sub;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public Long getExp() {
+        return exp;
+    }
+}
@@ -0,0 +1,29 @@
+package com.grocery.ordering.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the top customers report, ranked by spend and by order count.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class TopCustomersDTO {
+
+    private final List<CustomerSalesDTO> bySpend;
+    private final List<CustomerSalesDTO> byOrderCount;
+
+    public TopCustomersDTO(List<CustomerSalesDTO> bySpend, List<CustomerSalesDTO> byOrderCount) {
+        this.bySpend = bySpend;
+        this.byOrderCount = byOrderCount;
+    }
+
+    // Getters
+    public List<CustomerSalesDTO> getBySpend() {
+        return bySpend;
+    }
+
+    public List<CustomerSalesDTO> getByOrderCount() {
+        return byOrderCount;
+    }
+}
@@ -0,0 +1,35 @@
+package com.grocery.ordering.dto;
+
+/**
+ * Data Transfer Object for a trending product: the product with its
+ * time-decayed units sold estimate, which may overstate the true figure by
+ * at most {@code maxOvercount}.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class TrendingProductDTO {
+
+    private final ProductDTO product;
+    private final double score;
+    private final double maxOvercount;
+
+    public TrendingProductDTO(ProductDTO product, double score, double maxOvercount) {
+        this.product = product;
+        this.score = score;
+        this.maxOvercount = maxOvercount;
+    }
+
+    // Getters
+    public ProductDTO getProduct() {
+        return product;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public double getMaxOvercount() {
+        return maxOvercount;
+    }
+}
@@ -0,0 +1,98 @@
+package com.grocery.ordering.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * CartItem entity holding one line of a customer's saved cart.
+ * Carts live in memory while in use; these rows are their periodic
+ * snapshot, read back when a customer's cart is not in memory.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "cart_items", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_cart_items_customer_product", columnNames = {"customer_id", "product_id"})
+})
+public class CartItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "cart_item_id")
+    private Long cartItemId;
+
+    @Column(name = "customer_id", nullable = false)
+    private Long customerId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public CartItem() {
+    }
+
+    public CartItem(Long customerId, Long productId, Integer quantity, LocalDateTime updatedAt) {
+        this.customerId = customerId;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public Long getCartItemId() {
+        return cartItemId;
+    }
+
+    public void setCartItemId(Long cartItemId) {
+        this.cartItemId = cartItemId;
+    }
+
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "CartItem{" +
+                "cartItemId=" + cartItemId +
+                ", customerId=" + customerId +
+                ", productId=" + productId +
+                ", quantity=" + quantity +
+                '}';
+    }
+}
@@ -0,0 +1,147 @@
+package com.grocery.ordering.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * DeliverySlot entity representing a delivery window with limited capacity.
+ * Bookings change {@code booked} only through conditional updates, so the
+ * capacity is never exceeded however many orders are placed at once.
+ * 
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "delivery_slots", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_delivery_slots_date_start", columnNames = {"slot_date", "start_time"})
+})
+public class DeliverySlot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "slot_id")
+    private Long slotId;
+
+    @NotNull(message = "Slot date is required")
+    @Column(name = "slot_date", nullable = false)
+    private LocalDate slotDate;
+
+    @NotNull(message = "Start time is required")
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    @NotNull(message = "End time is required")
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+
+    @NotNull(message = "Capacity is required")
+    @Min(value = 0, message = "Capacity cannot be negative")
+    @Column(name = "capacity", nullable = false)
+    private Integer capacity;
+
+    @Column(name = "booked", nullable = false)
+    private Integer booked = 0;
+
+    @Column(name = "is_active")
+    private Boolean isActive = true;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public DeliverySlot() {
+    }
+
+    public DeliverySlot(LocalDate slotDate, LocalTime startTime, LocalTime endTime, Integer capacity) {
+        this.slotDate = slotDate;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.capacity = capacity;
+    }
+
+    // Lifecycle callbacks
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getSlotId() {
+        return slotId;
+    }
+
+    public void setSlotId(Long slotId) {
+        this.slotId = slotId;
+    }
+
+    public LocalDate getSlotDate() {
+        return slotDate;
+    }
+
+    public void setSlotDate(LocalDate slotDate) {
+        this.slotDate = slotDate;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(LocalTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(LocalTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public Integer getBooked() {
+        return booked;
+    }
+
+    public void setBooked(Integer booked) {
+        this.booked = booked;
+    }
+
+    public Boolean getIsActive() {
+        return isActive;
+    }
+
+    public void setIsActive(Boolean isActive) {
+        this.isActive = isActive;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "DeliverySlot{" +
+                "slotId=" + slotId +
+                ", slotDate=" + slotDate +
+                ", startTime=" + startTime +
+                ", endTime=" + endTime +
+                ", capacity=" + capacity +
+                ", booked=" + booked +
+                '}';
+    }
+}
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Order entity representing an order in the grocery ordering system.
@@ -13,7 +15,12 @@ import java.util.List;
  * @version 1.0.0
  */
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    @Index(name = "idx_orders_date_id", columnList = "order_date, order_id"),
+    @Index(name = "idx_orders_status_date_id", columnList = "order_status, order_date, order_id"),
+    @Index(name = "idx_orders_customer_date_id", columnList = "customer_id, order_date, order_id"),
+    @Index(name = "idx_orders_pick_wave_status", columnList = "pick_wave_id, order_status")
+})
 public class Order {
 
     @Id
@@ -47,6 +54,12 @@ public class Order {
     @Column(name = "contact_number", nullable = false, length = 10)
     private String contactNumber;
 
+    @Column(name = "delivery_slot_id")
+    private Long deliverySlotId;
+
+    @Column(name = "pick_wave_id")
+    private Long pickWaveId;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<OrderItem> orderItems;
 
@@ -124,6 +137,22 @@ public class Order {
         this.contactNumber = contactNumber;
     }
 
+    public Long getDeliverySlotId() {
+        return deliverySlotId;
+    }
+
+    public void setDeliverySlotId(Long deliverySlotId) {
+        this.deliverySlotId = deliverySlotId;
+    }
+
+    public Long getPickWaveId() {
+        return pickWaveId;
+    }
+
+    public void setPickWaveId(Long pickWaveId) {
+        this.pickWaveId = pickWaveId;
+    }
+
     public List<OrderItem> getOrderItems() {
         return orderItems;
     }
@@ -141,11 +170,14 @@ public class Order {
                 ", orderStatus=" + orderStatus +
                 ", deliveryAddress='" + deliveryAddress + '\'' +
                 ", contactNumber='" + contactNumber + '\'' +
+                ", deliverySlotId=" + deliverySlotId +
                 '}';
     }
 
     /**
-     * Enum for order status
+     * Enum for order status.
+     * An order moves forward one status at a time and can be cancelled
+     * until it is delivered; DELIVERED and CANCELLED are final.
      */
     public enum OrderStatus {
         PENDING,
@@ -153,6 +185,37 @@ public class Order {
         PROCESSING,
         SHIPPED,
         DELIVERED,
-        CANCELLED
+        CANCELLED;
+
+        /**
+         * Check whether an order in this status may move to the given status.
+         *
+         * @param next the new status
+         * @return true if the transition is allowed
+         */
+        public boolean canTransitionTo(OrderStatus next) {
+            return switch (this) {
+                case PENDING -> next == CONFIRMED || next == CANCELLED;
+                case CONFIRMED -> next == PROCESSING || next == CANCELLED;
+                case PROCESSING -> next == SHIPPED || next == CANCELLED;
+                case SHIPPED -> next == DELIVERED || next == CANCELLED;
+                case DELIVERED, CANCELLED -> false;
+            };
+        }
+
+        /**
+         * Get the statuses an order may move to this status from.
+         *
+         * @return the set of preceding statuses
+         */
+        public Set<OrderStatus> predecessors() {
+            Set<OrderStatus> predecessors = EnumSet.noneOf(OrderStatus.class);
+            for (OrderStatus status : values()) {
+                if (status.canTransitionTo(this)) {
+                    predecessors.add(status);
+                }
+            }
+            return predecessors;
+        }
     }
 }
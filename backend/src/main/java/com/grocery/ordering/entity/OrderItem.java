@@ -6,6 +6,8 @@ import java.math.BigDecimal;
 
 /**
  * OrderItem entity representing an item in an order.
+ * The total price is what the customer pays for the line, after the
+ * discount of any promotions applied.
  * 
  * @author Chirag Singhal
  * @version 1.0.0
@@ -44,6 +46,15 @@ public class OrderItem {
     @Column(name = "total_price", nullable = false, precision = 10, scale = 2)
     private BigDecimal totalPrice;
 
+    @NotNull(message = "Discount amount is required")
+    @DecimalMin(value = "0.0", message = "Discount amount must not be negative")
+    @Column(name = "discount_amount", nullable = false, precision = 10, scale = 2,
+            columnDefinition = "DECIMAL(10,2) DEFAULT 0.00")
+    private BigDecimal discountAmount = BigDecimal.ZERO;
+
+    @Column(name = "applied_promotions", length = 50)
+    private String appliedPromotions;
+
     // Constructors
     public OrderItem() {
     }
@@ -61,7 +72,8 @@ public class OrderItem {
     @PreUpdate
     protected void calculateTotalPrice() {
         if (unitPrice != null && quantity != null) {
-            this.totalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
+            this.totalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity))
+                .subtract(discountAmount != null ? discountAmount : BigDecimal.ZERO);
         }
     }
 
@@ -116,6 +128,23 @@ public class OrderItem {
         this.totalPrice = totalPrice;
     }
 
+    public BigDecimal getDiscountAmount() {
+        return discountAmount;
+    }
+
+    public void setDiscountAmount(BigDecimal discountAmount) {
+        this.discountAmount = discountAmount;
+        calculateTotalPrice();
+    }
+
+    public String getAppliedPromotions() {
+        return appliedPromotions;
+    }
+
+    public void setAppliedPromotions(String appliedPromotions) {
+        this.appliedPromotions = appliedPromotions;
+    }
+
     @Override
     public String toString() {
         return "OrderItem{" +
@@ -123,6 +152,7 @@ public class OrderItem {
                 ", quantity=" + quantity +
                 ", unitPrice=" + unitPrice +
                 ", totalPrice=" + totalPrice +
+                ", discountAmount=" + discountAmount +
                 '}';
     }
 }
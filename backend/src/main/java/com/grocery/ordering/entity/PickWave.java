@@ -0,0 +1,130 @@
+package com.grocery.ordering.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * PickWave entity representing a batch of orders picked in the warehouse together.
+ * Orders join a wave through {@code orders.pick_wave_id} and move through
+ * their statuses together, with one bulk update per transition.
+ * 
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "pick_waves")
+public class PickWave {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "wave_id")
+    private Long waveId;
+
+    @Column(name = "category", length = 50)
+    private String category;
+
+    @Column(name = "delivery_slot_id")
+    private Long deliverySlotId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_status", nullable = false, length = 20)
+    private Order.OrderStatus orderStatus = Order.OrderStatus.CONFIRMED;
+
+    @Column(name = "order_count", nullable = false)
+    private Integer orderCount = 0;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public PickWave() {
+    }
+
+    public PickWave(String category, Long deliverySlotId) {
+        this.category = category;
+        this.deliverySlotId = deliverySlotId;
+    }
+
+    // Lifecycle callbacks
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getWaveId() {
+        return waveId;
+    }
+
+    public void setWaveId(Long waveId) {
+        this.waveId = waveId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public Long getDeliverySlotId() {
+        return deliverySlotId;
+    }
+
+    public void setDeliverySlotId(Long deliverySlotId) {
+        this.deliverySlotId = deliverySlotId;
+    }
+
+    public Order.OrderStatus getOrderStatus() {
+        return orderStatus;
+    }
+
+    public void setOrderStatus(Order.OrderStatus orderStatus) {
+        this.orderStatus = orderStatus;
+    }
+
+    public Integer getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(Integer orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "PickWave{" +
+                "waveId=" + waveId +
+                ", category='" + category + '\'' +
+                ", deliverySlotId=" + deliverySlotId +
+                ", orderStatus=" + orderStatus +
+                ", orderCount=" + orderCount +
+                '}';
+    }
+}
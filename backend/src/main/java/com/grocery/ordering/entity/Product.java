@@ -43,6 +43,10 @@ public class Product {
     @Column(name = "category", length = 50)
     private String category;
 
+    @Size(max = 20, message = "Aisle must not exceed 20 characters")
+    @Column(name = "aisle", length = 20)
+    private String aisle;
+
     @Column(name = "image_url")
     private String imageUrl;
 
@@ -134,6 +138,14 @@ public class Product {
         this.category = category;
     }
 
+    public String getAisle() {
+        return aisle;
+    }
+
+    public void setAisle(String aisle) {
+        this.aisle = aisle;
+    }
+
     public String getImageUrl() {
         return imageUrl;
     }
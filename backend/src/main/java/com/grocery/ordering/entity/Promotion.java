@@ -0,0 +1,228 @@
+package com.grocery.ordering.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Promotion entity representing a discount rule.
+ * A line promotion targets one product or one category; a basket
+ * promotion applies once the basket subtotal reaches a threshold.
+ * 
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "promotions", indexes = {
+    @Index(name = "idx_promotions_active_window", columnList = "is_active, starts_at, ends_at")
+})
+public class Promotion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "promotion_id")
+    private Long promotionId;
+
+    @NotBlank(message = "Promotion name is required")
+    @Size(max = 100, message = "Promotion name must not exceed 100 characters")
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    @NotNull(message = "Promotion type is required")
+    @Enumerated(EnumType.STRING)
+    @Column(name = "promotion_type", nullable = false, length = 20)
+    private PromotionType promotionType;
+
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "category", length = 50)
+    private String category;
+
+    @Column(name = "percent_off", precision = 5, scale = 2)
+    private BigDecimal percentOff;
+
+    @Column(name = "buy_quantity")
+    private Integer buyQuantity;
+
+    @Column(name = "free_quantity")
+    private Integer freeQuantity;
+
+    @Column(name = "threshold_amount", precision = 10, scale = 2)
+    private BigDecimal thresholdAmount;
+
+    @Column(name = "amount_off", precision = 10, scale = 2)
+    private BigDecimal amountOff;
+
+    @Column(name = "starts_at")
+    private LocalDateTime startsAt;
+
+    @Column(name = "ends_at")
+    private LocalDateTime endsAt;
+
+    @Column(name = "is_active")
+    private Boolean isActive = true;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public Promotion() {
+    }
+
+    // Lifecycle callbacks
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getPromotionId() {
+        return promotionId;
+    }
+
+    public void setPromotionId(Long promotionId) {
+        this.promotionId = promotionId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public PromotionType getPromotionType() {
+        return promotionType;
+    }
+
+    public void setPromotionType(PromotionType promotionType) {
+        this.promotionType = promotionType;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public BigDecimal getPercentOff() {
+        return percentOff;
+    }
+
+    public void setPercentOff(BigDecimal percentOff) {
+        this.percentOff = percentOff;
+    }
+
+    public Integer getBuyQuantity() {
+        return buyQuantity;
+    }
+
+    public void setBuyQuantity(Integer buyQuantity) {
+        this.buyQuantity = buyQuantity;
+    }
+
+    public Integer getFreeQuantity() {
+        return freeQuantity;
+    }
+
+    public void setFreeQuantity(Integer freeQuantity) {
+        this.freeQuantity = freeQuantity;
+    }
+
+    public BigDecimal getThresholdAmount() {
+        return thresholdAmount;
+    }
+
+    public void setThresholdAmount(BigDecimal thresholdAmount) {
+        this.thresholdAmount = thresholdAmount;
+    }
+
+    public BigDecimal getAmountOff() {
+        return amountOff;
+    }
+
+    public void setAmountOff(BigDecimal amountOff) {
+        this.amountOff = amountOff;
+    }
+
+    public LocalDateTime getStartsAt() {
+        return startsAt;
+    }
+
+    public void setStartsAt(LocalDateTime startsAt) {
+        this.startsAt = startsAt;
+    }
+
+    public LocalDateTime getEndsAt() {
+        return endsAt;
+    }
+
+    public void setEndsAt(LocalDateTime endsAt) {
+        this.endsAt = endsAt;
+    }
+
+    public Boolean getIsActive() {
+        return isActive;
+    }
+
+    public void setIsActive(Boolean isActive) {
+        this.isActive = isActive;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "Promotion{" +
+                "promotionId=" + promotionId +
+                ", name='" + name + '\'' +
+                ", promotionType=" + promotionType +
+                ", isActive=" + isActive +
+                '}';
+    }
+
+    /**
+     * Enum for promotion type
+     */
+    public enum PromotionType {
+        PERCENT_OFF,
+        BUY_X_GET_Y,
+        BASKET_THRESHOLD
+    }
+}
@@ -0,0 +1,84 @@
+package com.grocery.ordering.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * SalesByCustomer entity holding the running order count and spend of one customer.
+ * Cancelled orders are not counted; spend is the sum of the order totals.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "sales_by_customer", indexes = {
+    @Index(name = "idx_sales_by_customer_total_spent", columnList = "total_spent"),
+    @Index(name = "idx_sales_by_customer_order_count", columnList = "order_count")
+})
+public class SalesByCustomer {
+
+    @Id
+    @Column(name = "customer_id")
+    private Long customerId;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "total_spent", nullable = false, precision = 14, scale = 2)
+    private BigDecimal totalSpent = BigDecimal.ZERO;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public SalesByCustomer() {
+    }
+
+    public SalesByCustomer(Long customerId) {
+        this.customerId = customerId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getCustomerId() {
+        return customerId;
+    }
+
+    public void setCustomerId(Long customerId) {
+        this.customerId = customerId;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public BigDecimal getTotalSpent() {
+        return totalSpent;
+    }
+
+    public void setTotalSpent(BigDecimal totalSpent) {
+        this.totalSpent = totalSpent;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "SalesByCustomer{" +
+                "customerId=" + customerId +
+                ", orderCount=" + orderCount +
+                ", totalSpent=" + totalSpent +
+                '}';
+    }
+}
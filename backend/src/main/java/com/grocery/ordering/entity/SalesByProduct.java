@@ -0,0 +1,109 @@
+package com.grocery.ordering.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * SalesByProduct entity holding the all-time sales rollup for one product.
+ * The product name and category are copied so reports read only this table;
+ * revenue is the sum of the order line totals.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "sales_by_product", indexes = {
+    @Index(name = "idx_sales_by_product_revenue", columnList = "revenue")
+})
+public class SalesByProduct {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "product_name", length = 100)
+    private String productName;
+
+    @Column(name = "category", length = 50)
+    private String category;
+
+    @Column(name = "units_sold", nullable = false)
+    private long unitsSold;
+
+    @Column(name = "revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public SalesByProduct() {
+    }
+
+    public SalesByProduct(Long productId, String productName, String category) {
+        this.productId = productId;
+        this.productName = productName;
+        this.category = category;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getProductId() {
+        return productId;
+    }
+
+    public void setProductId(Long productId) {
+        this.productId = productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public void setProductName(String productName) {
+        this.productName = productName;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public long getUnitsSold() {
+        return unitsSold;
+    }
+
+    public void setUnitsSold(long unitsSold) {
+        this.unitsSold = unitsSold;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "SalesByProduct{" +
+                "productId=" + productId +
+                ", productName='" + productName + '\'' +
+                ", unitsSold=" + unitsSold +
+                ", revenue=" + revenue +
+                '}';
+    }
+}
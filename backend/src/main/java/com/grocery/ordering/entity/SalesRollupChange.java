@@ -0,0 +1,43 @@
+package com.grocery.ordering.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * SalesRollupChange entity noting an order whose sales changed while a
+ * rollup rebuild was running, so the rebuild sums its chunk again.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "sales_rollup_changes")
+public class SalesRollupChange {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    // Constructors
+    public SalesRollupChange() {
+    }
+
+    public SalesRollupChange(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    // Getters and Setters
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    @Override
+    public String toString() {
+        return "SalesRollupChange{" +
+                "orderId=" + orderId +
+                '}';
+    }
+}
@@ -0,0 +1,68 @@
+package com.grocery.ordering.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * SalesRollupState entity: the single row guarding the sales rollups.
+ * Transactions writing to the rollups hold a shared lock on it until they
+ * end, and a rebuild holds it exclusively while it starts and finishes, so
+ * the database sees every wait and detects any deadlock, on every instance.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "sales_rollup_state")
+public class SalesRollupState {
+
+    public static final long STATE_ID = 1L;
+
+    @Id
+    @Column(name = "state_id")
+    private Long stateId;
+
+    @Column(name = "rebuilding", nullable = false)
+    private boolean rebuilding;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public SalesRollupState() {
+    }
+
+    // Getters and Setters
+    public Long getStateId() {
+        return stateId;
+    }
+
+    public void setStateId(Long stateId) {
+        this.stateId = stateId;
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding;
+    }
+
+    public void setRebuilding(boolean rebuilding) {
+        this.rebuilding = rebuilding;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "SalesRollupState{" +
+                "stateId=" + stateId +
+                ", rebuilding=" + rebuilding +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
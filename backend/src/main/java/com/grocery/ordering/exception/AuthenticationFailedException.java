@@ -0,0 +1,14 @@
+package com.grocery.ordering.exception;
+
+/**
+ * Thrown when credentials or tokens presented by a client are not accepted.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class AuthenticationFailedException extends BusinessException {
+
+    public AuthenticationFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.grocery.ordering.exception;
+
+/**
+ * Base class for expected business errors such as missing resources or invalid input.
+ * These errors are part of normal traffic, so no stack trace is captured and
+ * the message is the only diagnostic; {@link GlobalExceptionHandler} maps each
+ * subclass to its HTTP status.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public abstract class BusinessException extends RuntimeException {
+
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+}
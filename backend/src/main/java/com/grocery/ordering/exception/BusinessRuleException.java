@@ -0,0 +1,15 @@
+package com.grocery.ordering.exception;
+
+/**
+ * Thrown when a well-formed request breaks a business rule,
+ * such as ordering more than is in stock or cancelling a shipped order.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class BusinessRuleException extends BusinessException {
+
+    public BusinessRuleException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.grocery.ordering.exception;
+
+/**
+ * Thrown when creating or renaming a resource would clash with an existing one.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class DuplicateResourceException extends BusinessException {
+
+    public DuplicateResourceException(String message) {
+        super(message);
+    }
+}
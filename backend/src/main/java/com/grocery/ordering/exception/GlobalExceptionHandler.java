@@ -0,0 +1,103 @@
+package com.grocery.ordering.exception;
+
+import com.grocery.ordering.dto.ApiResponses.ErrorResponse;
+import com.grocery.ordering.util.ValidationPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+import java.util.List;
+
+/**
+ * Maps exceptions thrown by REST controllers to error responses.
+ * Expected business errors are logged at debug level without stack traces;
+ * anything else is logged in full and reported as an internal error.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@RestControllerAdvice(annotations = RestController.class)
+public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    private static final String INTERNAL_ERROR_MESSAGE = "An unexpected error occurred";
+    private static final String ACCESS_DENIED_MESSAGE = "Access denied";
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleNotFound(ResourceNotFoundException e) {
+        return error(HttpStatus.NOT_FOUND, e);
+    }
+
+    @ExceptionHandler(DuplicateResourceException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicate(DuplicateResourceException e) {
+        return error(HttpStatus.CONFLICT, e);
+    }
+
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<ErrorResponse> handleValidation(ValidationException e) {
+        logger.debug("Validation failed: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+            .body(ErrorResponse.of(e.getMessage(), e.getViolations()));
+    }
+
+    @ExceptionHandler(BusinessRuleException.class)
+    public ResponseEntity<ErrorResponse> handleBusinessRule(BusinessRuleException e) {
+        return error(HttpStatus.BAD_REQUEST, e);
+    }
+
+    @ExceptionHandler(AuthenticationFailedException.class)
+    public ResponseEntity<ErrorResponse> handleAuthenticationFailed(AuthenticationFailedException e) {
+        return error(HttpStatus.UNAUTHORIZED, e);
+    }
+
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<ErrorResponse> handleAuthentication(AuthenticationException e) {
+        logger.debug("Authentication failed: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ErrorResponse.of(e.getMessage(), null));
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAccessDenied(AccessDeniedException e) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(ErrorResponse.of(ACCESS_DENIED_MESSAGE, null));
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleUnexpected(Exception e) {
+        logger.error("Unexpected error handling request", e);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ErrorResponse.of(INTERNAL_ERROR_MESSAGE, null));
+    }
+
+    /**
+     * Report bean validation and binding failures on requests in the same shape as {@link ValidationException}.
+     */
+    @Override
+    protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, HttpHeaders headers,
+                                                                  HttpStatusCode status, WebRequest request) {
+        List<ValidationPlan.Violation> violations = ex.getBindingResult().getFieldErrors().stream()
+            .map(fieldError -> new ValidationPlan.Violation(fieldError.getField(), fieldError.isBindingFailure()
+                ? "Invalid value for " + fieldError.getField()
+                : fieldError.getDefaultMessage()))
+            .toList();
+        String message = violations.isEmpty()
+            ? "Validation failed"
+            : String.join("; ", violations.stream().map(ValidationPlan.Violation::message).toList());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ErrorResponse.of(message, violations));
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatus status, BusinessException e) {
+        logger.debug("{}: {}", status, e.getMessage());
+        return ResponseEntity.status(status).body(ErrorResponse.of(e.getMessage(), null));
+    }
+}
@@ -0,0 +1,16 @@
+package com.grocery.ordering.exception;
+
+/**
+ * Thrown when an already rotated refresh token is presented again.
+ * Transactions must not roll back on this exception, so that the
+ * revocation of the token family is kept.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class RefreshTokenReuseException extends AuthenticationFailedException {
+
+    public RefreshTokenReuseException(String message) {
+        super(message);
+    }
+}
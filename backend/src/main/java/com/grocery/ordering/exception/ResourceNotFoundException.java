@@ -0,0 +1,14 @@
+package com.grocery.ordering.exception;
+
+/**
+ * Thrown when a requested customer, product, order or other resource does not exist.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class ResourceNotFoundException extends BusinessException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,31 @@
+package com.grocery.ordering.exception;
+
+import com.grocery.ordering.util.ValidationPlan;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Thrown when input fails validation, carrying every violation found.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class ValidationException extends BusinessException {
+
+    private final List<ValidationPlan.Violation> violations;
+
+    public ValidationException(List<ValidationPlan.Violation> violations) {
+        super(violations.stream().map(ValidationPlan.Violation::message).collect(Collectors.joining("; ")));
+        this.violations = List.copyOf(violations);
+    }
+
+    public ValidationException(String field, String message) {
+        super(message);
+        this.violations = List.of(new ValidationPlan.Violation(field, message));
+    }
+
+    public List<ValidationPlan.Violation> getViolations() {
+        return violations;
+    }
+}
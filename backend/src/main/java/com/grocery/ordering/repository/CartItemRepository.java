@@ -0,0 +1,40 @@
+package com.grocery.ordering.repository;
+
+import com.grocery.ordering.entity.CartItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for CartItem entity operations.
+ * Reads and replaces the saved snapshot of a customer's cart.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Repository
+public interface CartItemRepository extends JpaRepository<CartItem, Long> {
+
+    /**
+     * Find the saved cart lines of a customer.
+     *
+     * @param customerId the customer ID
+     * @return list of cart items, oldest first
+     */
+    @Query("SELECT ci FROM CartItem ci WHERE ci.customerId = :customerId ORDER BY ci.cartItemId")
+    List<CartItem> findByCustomerId(@Param("customerId") Long customerId);
+
+    /**
+     * Delete the saved cart lines of a customer.
+     *
+     * @param customerId the customer ID
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.customerId = :customerId")
+    int deleteByCustomerId(@Param("customerId") Long customerId);
+}
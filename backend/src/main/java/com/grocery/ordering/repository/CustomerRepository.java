@@ -1,11 +1,13 @@
 package com.grocery.ordering.repository;
 
+import com.grocery.ordering.dto.CustomerDTO;
 import com.grocery.ordering.entity.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +21,14 @@ import java.util.Optional;
 @Repository
 public interface CustomerRepository extends JpaRepository<Customer, Long> {
 
+    /**
+     * Constructor expression selecting customers straight into CustomerDTOs,
+     * so read-only listings do not load managed entities.
+     */
+    String CUSTOMER_VIEW = "SELECT new com.grocery.ordering.dto.CustomerDTO(c.customerId, c.customerName, c.email, "
+        + "c.address, c.contactNumber, c.createdAt, c.updatedAt, c.isActive) FROM Customer c ";
+
+
     /**
      * Find customer by email address.
      * 
@@ -92,4 +102,30 @@ public interface CustomerRepository extends JpaRepository<Customer, Long> {
      */
     @Query("SELECT c FROM Customer c WHERE LOWER(c.email) LIKE LOWER(CONCAT('%', :email, '%')) AND c.isActive = true")
     List<Customer> findByEmailContainingIgnoreCase(@Param("email") String email);
+
+    /**
+     * Find all active customers as DTOs.
+     * 
+     * @return list of active customer DTOs
+     */
+    @Query(CUSTOMER_VIEW + "WHERE c.isActive = true")
+    List<CustomerDTO> findActiveCustomerViews();
+
+    /**
+     * Find the given customers as DTOs.
+     * 
+     * @param customerIds the customer IDs
+     * @return list of customer DTOs, in no particular order
+     */
+    @Query(CUSTOMER_VIEW + "WHERE c.customerId IN :customerIds")
+    List<CustomerDTO> findCustomerViewsByIds(@Param("customerIds") Collection<Long> customerIds);
+
+    /**
+     * Find customers by name (case-insensitive search) as DTOs.
+     * 
+     * @param customerName the customer name to search for
+     * @return list of customer DTOs matching the name
+     */
+    @Query(CUSTOMER_VIEW + "WHERE LOWER(c.customerName) LIKE LOWER(CONCAT('%', :customerName, '%')) AND c.isActive = true")
+    List<CustomerDTO> findCustomerViewsByName(@Param("customerName") String customerName);
 }
@@ -0,0 +1,65 @@
+package com.grocery.ordering.repository;
+
+import com.grocery.ordering.entity.DeliverySlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Repository interface for DeliverySlot entity operations.
+ * 
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Repository
+public interface DeliverySlotRepository extends JpaRepository<DeliverySlot, Long> {
+
+    /**
+     * Find the slots of a date range in delivery order.
+     * 
+     * @param from the first date
+     * @param to the last date
+     * @return list of slots ordered by date and start time
+     */
+    @Query("SELECT s FROM DeliverySlot s WHERE s.slotDate BETWEEN :from AND :to ORDER BY s.slotDate, s.startTime")
+    List<DeliverySlot> findBySlotDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Check whether a slot already starts at the given date and time.
+     * 
+     * @param slotDate the slot date
+     * @param startTime the start time
+     * @return true if such a slot exists
+     */
+    @Query("SELECT COUNT(s) > 0 FROM DeliverySlot s WHERE s.slotDate = :slotDate AND s.startTime = :startTime")
+    boolean existsBySlotDateAndStartTime(@Param("slotDate") LocalDate slotDate, @Param("startTime") LocalTime startTime);
+
+    /**
+     * Book one place in a slot if it is active and not full.
+     * 
+     * @param slotId the slot ID
+     * @return 1 if the place was booked, 0 if the slot is full, inactive or missing
+     */
+    @Modifying
+    @Query("UPDATE DeliverySlot s SET s.booked = s.booked + 1 "
+        + "WHERE s.slotId = :slotId AND s.isActive = true AND s.booked < s.capacity")
+    int tryBook(@Param("slotId") Long slotId);
+
+    /**
+     * Release booked places in a slot, never below none booked.
+     * 
+     * @param slotId the slot ID
+     * @param places the number of places to release
+     * @return 1 if places were released, 0 if none was booked
+     */
+    @Modifying
+    @Query("UPDATE DeliverySlot s SET s.booked = CASE WHEN s.booked > :places THEN s.booked - :places ELSE 0 END "
+        + "WHERE s.slotId = :slotId AND s.booked > 0")
+    int release(@Param("slotId") Long slotId, @Param("places") int places);
+}
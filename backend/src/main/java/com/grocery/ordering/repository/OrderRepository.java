@@ -1,13 +1,26 @@
 package com.grocery.ordering.repository;
 
+import com.grocery.ordering.dto.OrderDTO;
+import com.grocery.ordering.dto.OrderExportRow;
+import com.grocery.ordering.dto.OrderItemDTO;
 import com.grocery.ordering.entity.Order;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Order entity operations.
@@ -19,6 +32,21 @@ import java.util.List;
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    /**
+     * Constructor expression selecting orders with their customer into
+     * OrderDTOs; order items are selected separately with {@link #ORDER_ITEM_VIEW}.
+     */
+    String ORDER_VIEW = "SELECT new com.grocery.ordering.dto.OrderDTO(o.orderId, c.customerId, c.customerName, c.email, "
+        + "o.orderDate, o.totalAmount, o.orderStatus, o.deliveryAddress, o.contactNumber, o.deliverySlotId) "
+        + "FROM Order o JOIN o.customer c ";
+
+    /**
+     * Constructor expression selecting order items with their product name into OrderItemDTOs.
+     */
+    String ORDER_ITEM_VIEW = "SELECT new com.grocery.ordering.dto.OrderItemDTO(oi.orderItemId, oi.order.orderId, "
+        + "p.productId, p.productName, oi.quantity, oi.unitPrice, oi.totalPrice, oi.discountAmount, oi.appliedPromotions) "
+        + "FROM OrderItem oi JOIN oi.product p ";
+
     /**
      * Find orders by customer ID.
      * 
@@ -37,6 +65,16 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.product WHERE o.customer.customerId = :customerId ORDER BY o.orderDate DESC")
     List<Order> findByCustomerCustomerIdWithItems(@Param("customerId") Long customerId);
 
+    /**
+     * Find an order with its customer, items and their current products in one query.
+     * 
+     * @param orderId the order ID
+     * @return Optional containing the order with its items if found
+     */
+    @Query("SELECT DISTINCT o FROM Order o JOIN FETCH o.customer LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.product "
+        + "WHERE o.orderId = :orderId")
+    Optional<Order> findByIdWithItems(@Param("orderId") Long orderId);
+
     /**
      * Find orders by status.
      * 
@@ -98,14 +136,6 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     @Query("SELECT o FROM Order o WHERE o.customer.email = :email ORDER BY o.orderDate DESC")
     List<Order> findByCustomerEmail(@Param("email") String email);
 
-    /**
-     * Find all orders with customer and order items details.
-     * 
-     * @return list of all orders with complete details
-     */
-    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.customer LEFT JOIN FETCH o.orderItems oi LEFT JOIN FETCH oi.product ORDER BY o.orderDate DESC")
-    List<Order> findAllWithDetails();
-
     /**
      * Find orders by customer name (case-insensitive).
      * 
@@ -116,11 +146,299 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order> findByCustomerNameContainingIgnoreCase(@Param("customerName") String customerName);
 
     /**
-     * Find top customers by order count.
+     * Find orders of a customer as DTOs, newest first.
+     * 
+     * @param customerId the customer ID
+     * @return list of order DTOs without items
+     */
+    @Query(ORDER_VIEW + "WHERE c.customerId = :customerId ORDER BY o.orderDate DESC")
+    List<OrderDTO> findOrderViewsByCustomerId(@Param("customerId") Long customerId);
+
+    /**
+     * Find orders by status as DTOs.
+     * 
+     * @param status the order status
+     * @return list of order DTOs without items
+     */
+    @Query(ORDER_VIEW + "WHERE o.orderStatus = :status")
+    List<OrderDTO> findOrderViewsByStatus(@Param("status") Order.OrderStatus status);
+
+    /**
+     * Find orders placed since a date as DTOs, newest first.
+     * 
+     * @param since the earliest order date
+     * @return list of order DTOs without items
+     */
+    @Query(ORDER_VIEW + "WHERE o.orderDate >= :since ORDER BY o.orderDate DESC")
+    List<OrderDTO> findOrderViewsSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Find the newest orders as DTOs.
+     * 
+     * @param limit the maximum number of orders to return
+     * @return list of order DTOs without items
+     */
+    @Query(ORDER_VIEW + "ORDER BY o.orderDate DESC, o.orderId DESC")
+    List<OrderDTO> findRecentOrderViews(Limit limit);
+
+    /**
+     * Find one page of orders as DTOs, newest first, with optional filters.
+     * Paging is by keyset: only orders strictly after the given date and ID
+     * are returned, so the cost of a page does not depend on its depth.
+     * 
+     * @param status the order status, or null for any
+     * @param from the earliest order date, or null for no lower bound
+     * @param to the order date to stop before, or null for no upper bound
+     * @param customerId the customer ID, or null for any customer
+     * @param afterDate the order date of the last order of the previous page, or null for the first page
+     * @param afterId the ID of the last order of the previous page
+     * @param limit the maximum number of orders to return
+     * @return list of order DTOs without items
+     */
+    @Query(ORDER_VIEW + "WHERE (:status IS NULL OR o.orderStatus = :status) "
+        + "AND (:from IS NULL OR o.orderDate >= :from) "
+        + "AND (:to IS NULL OR o.orderDate < :to) "
+        + "AND (:customerId IS NULL OR c.customerId = :customerId) "
+        + "AND (:afterDate IS NULL OR o.orderDate < :afterDate OR (o.orderDate = :afterDate AND o.orderId < :afterId)) "
+        + "ORDER BY o.orderDate DESC, o.orderId DESC")
+    List<OrderDTO> findOrderViewPage(@Param("status") Order.OrderStatus status,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to,
+                                     @Param("customerId") Long customerId,
+                                     @Param("afterDate") LocalDateTime afterDate,
+                                     @Param("afterId") Long afterId,
+                                     Limit limit);
+
+    /**
+     * Stream order lines with their order and customer for export, oldest first.
+     * Rows are read through a forward-only cursor in batches of the fetch size
+     * and are not attached to the persistence context; the stream must be
+     * consumed and closed within a transaction.
+     * 
+     * @param from the earliest order date, or null for no lower bound
+     * @param to the order date to stop before, or null for no upper bound
+     * @return stream of export rows ordered by order date, order and line
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.grocery.ordering.dto.OrderExportRow(o.orderId, o.orderDate, o.orderStatus, o.totalAmount, "
+        + "c.customerId, c.customerName, c.email, o.deliveryAddress, o.contactNumber, "
+        + "oi.orderItemId, p.productId, p.productName, oi.quantity, oi.unitPrice, oi.totalPrice, "
+        + "oi.discountAmount, oi.appliedPromotions) "
+        + "FROM Order o JOIN o.customer c LEFT JOIN o.orderItems oi LEFT JOIN oi.product p "
+        + "WHERE (:from IS NULL OR o.orderDate >= :from) AND (:to IS NULL OR o.orderDate < :to) "
+        + "ORDER BY o.orderDate, o.orderId, oi.orderItemId")
+    Stream<OrderExportRow> streamExportRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Find the highest order ID.
+     * 
+     * @return the highest order ID, or null if there are no orders
+     */
+    @Query("SELECT MAX(o.orderId) FROM Order o")
+    Long findMaxOrderId();
+
+    /**
+     * Find the lowest order ID.
+     * 
+     * @return the lowest order ID, or null if there are no orders
+     */
+    @Query("SELECT MIN(o.orderId) FROM Order o")
+    Long findMinOrderId();
+
+    /**
+     * Find the date, total, units and customer of the orders in an ID range, for rebuilding the daily and customer sales rollups.
+     * 
+     * @param fromId the first order ID
+     * @param toId the last order ID
+     * @param excluded the status of orders to leave out
+     * @return rows of order date, total amount, units and customer ID
+     */
+    @Query("SELECT o.orderDate, o.totalAmount, (SELECT COALESCE(SUM(oi.quantity), 0) FROM OrderItem oi WHERE oi.order = o), "
+        + "o.customer.customerId "
+        + "FROM Order o WHERE o.orderId BETWEEN :fromId AND :toId AND o.orderStatus <> :excluded")
+    List<Object[]> findOrderSalesInRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                         @Param("excluded") Order.OrderStatus excluded);
+
+    /**
+     * Sum the order lines in an ID range by product, for rebuilding the product and category sales rollups.
+     * 
+     * @param fromId the first order ID
+     * @param toId the last order ID
+     * @param excluded the status of orders to leave out
+     * @return rows of product ID, product name, category, units and revenue
+     */
+    @Query("SELECT p.productId, p.productName, p.category, SUM(oi.quantity), SUM(oi.totalPrice) "
+        + "FROM OrderItem oi JOIN oi.product p JOIN oi.order o "
+        + "WHERE o.orderId BETWEEN :fromId AND :toId AND o.orderStatus <> :excluded "
+        + "GROUP BY p.productId, p.productName, p.category")
+    List<Object[]> sumProductSalesInRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                          @Param("excluded") Order.OrderStatus excluded);
+
+    /**
+     * Find the date, total, units and customer of the given orders, for removing them from the daily and customer sales rollups.
+     * 
+     * @param orderIds the order IDs
+     * @return rows of order date, total amount, units and customer ID
+     */
+    @Query("SELECT o.orderDate, o.totalAmount, (SELECT COALESCE(SUM(oi.quantity), 0) FROM OrderItem oi WHERE oi.order = o), "
+        + "o.customer.customerId "
+        + "FROM Order o WHERE o.orderId IN :orderIds")
+    List<Object[]> findOrderSalesByIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Sum the order lines of the given orders by product, for removing them from the product and category sales rollups.
+     * 
+     * @param orderIds the order IDs
+     * @return rows of product ID, product name, category, units and revenue
+     */
+    @Query("SELECT p.productId, p.productName, p.category, SUM(oi.quantity), SUM(oi.totalPrice) "
+        + "FROM OrderItem oi JOIN oi.product p "
+        + "WHERE oi.order.orderId IN :orderIds "
+        + "GROUP BY p.productId, p.productName, p.category")
+    List<Object[]> sumProductSalesByIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Find the products of the orders in an ID range, for rebuilding the co-occurrence matrix.
+     * 
+     * @param fromId the first order ID
+     * @param toId the last order ID
+     * @param excluded the status of orders to leave out
+     * @return rows of order ID and product ID, grouped by order
+     */
+    @Query("SELECT o.orderId, oi.product.productId FROM OrderItem oi JOIN oi.order o "
+        + "WHERE o.orderId BETWEEN :fromId AND :toId AND o.orderStatus <> :excluded ORDER BY o.orderId")
+    List<Object[]> findOrderProductsInRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                            @Param("excluded") Order.OrderStatus excluded);
+
+    /**
+     * Find the order lines placed since a time, for warming the trending products sketch.
+     * 
+     * @param since the earliest order date
+     * @param excluded the status of orders to leave out
+     * @return rows of product ID, quantity and order date
+     */
+    @Query("SELECT oi.product.productId, oi.quantity, o.orderDate FROM OrderItem oi JOIN oi.order o "
+        + "WHERE o.orderDate >= :since AND o.orderStatus <> :excluded")
+    List<Object[]> findOrderLinesSince(@Param("since") LocalDateTime since,
+                                       @Param("excluded") Order.OrderStatus excluded);
+
+    /**
+     * Find the items of the given orders as DTOs.
+     * 
+     * @param orderIds the order IDs
+     * @return list of order item DTOs
+     */
+    @Query(ORDER_ITEM_VIEW + "WHERE oi.order.orderId IN :orderIds ORDER BY oi.orderItemId")
+    List<OrderItemDTO> findOrderItemViewsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Find the oldest orders waiting for a pick wave, optionally only those
+     * for a delivery slot or with an item in a category.
+     * 
+     * @param statuses the statuses of orders that can join a wave
+     * @param category the category an order must have an item in, or null for any
+     * @param deliverySlotId the delivery slot of the orders, or null for any
+     * @param limit the maximum number of orders
+     * @return rows of order ID, order status and customer ID, oldest first
+     */
+    @Query("SELECT o.orderId, o.orderStatus, o.customer.customerId FROM Order o WHERE o.pickWaveId IS NULL AND o.orderStatus IN :statuses "
+        + "AND (:deliverySlotId IS NULL OR o.deliverySlotId = :deliverySlotId) "
+        + "AND (:category IS NULL OR EXISTS (SELECT oi.orderItemId FROM OrderItem oi "
+        + "WHERE oi.order = o AND oi.product.category = :category)) "
+        + "ORDER BY o.orderDate, o.orderId")
+    List<Object[]> findPickWaveCandidates(@Param("statuses") Collection<Order.OrderStatus> statuses,
+                                          @Param("category") String category,
+                                          @Param("deliverySlotId") Long deliverySlotId,
+                                          Limit limit);
+
+    /**
+     * Add orders to a pick wave and set their status, skipping any that
+     * joined another wave or changed status since they were selected.
+     * 
+     * @param waveId the wave ID
+     * @param orderIds the order IDs
+     * @param statuses the statuses of orders that can join a wave
+     * @param status the status of the orders in the wave
+     * @return the number of orders added
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.pickWaveId = :waveId, o.orderStatus = :status "
+        + "WHERE o.orderId IN :orderIds AND o.pickWaveId IS NULL AND o.orderStatus IN :statuses")
+    int assignToPickWave(@Param("waveId") Long waveId, @Param("orderIds") Collection<Long> orderIds,
+                         @Param("statuses") Collection<Order.OrderStatus> statuses,
+                         @Param("status") Order.OrderStatus status);
+
+    /**
+     * Find the orders of a pick wave that are in one of the given statuses,
+     * locking them until the transaction ends so their statuses cannot
+     * change before they are updated.
+     * 
+     * @param waveId the wave ID
+     * @param statuses the statuses of the orders to find
+     * @return rows of order ID, order status and customer ID
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o.orderId, o.orderStatus, o.customer.customerId FROM Order o "
+        + "WHERE o.pickWaveId = :waveId AND o.orderStatus IN :statuses")
+    List<Object[]> findPickWaveOrders(@Param("waveId") Long waveId,
+                                      @Param("statuses") Collection<Order.OrderStatus> statuses);
+
+    /**
+     * Move the orders of a pick wave that are in one of the given statuses to a new status.
+     * 
+     * @param waveId the wave ID
+     * @param from the statuses of the orders to move
+     * @param to the new status
+     * @return the number of orders moved
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.orderStatus = :to WHERE o.pickWaveId = :waveId AND o.orderStatus IN :from")
+    int updatePickWaveStatus(@Param("waveId") Long waveId, @Param("from") Collection<Order.OrderStatus> from,
+                             @Param("to") Order.OrderStatus to);
+
+    /**
+     * Find the status and customer of each of the given orders.
+     * 
+     * @param orderIds the order IDs
+     * @return rows of order ID, order status and customer ID
+     */
+    @Query("SELECT o.orderId, o.orderStatus, o.customer.customerId FROM Order o WHERE o.orderId IN :orderIds")
+    List<Object[]> findStatusesByIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Move the given orders that are still in one of the given statuses to a new status.
+     * 
+     * @param orderIds the order IDs
+     * @param from the statuses the orders may move from
+     * @param to the new status
+     * @return the number of orders moved
+     */
+    @Modifying
+    @Query("UPDATE Order o SET o.orderStatus = :to WHERE o.orderId IN :orderIds AND o.orderStatus IN :from")
+    int updateStatuses(@Param("orderIds") Collection<Long> orderIds,
+                       @Param("from") Collection<Order.OrderStatus> from,
+                       @Param("to") Order.OrderStatus to);
+
+    /**
+     * Sum the ordered quantity of each product over the given orders, for restoring stock.
+     * 
+     * @param orderIds the order IDs
+     * @return rows of product ID and quantity
+     */
+    @Query("SELECT oi.product.productId, SUM(oi.quantity) FROM OrderItem oi "
+        + "WHERE oi.order.orderId IN :orderIds GROUP BY oi.product.productId")
+    List<Object[]> sumQuantitiesByProduct(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * Count the given orders booked into each delivery slot, for releasing the slots.
      * 
-     * @param limit the maximum number of customers to return
-     * @return list of customer IDs with their order counts
+     * @param orderIds the order IDs
+     * @return rows of delivery slot ID and order count
      */
-    @Query("SELECT o.customer.customerId, COUNT(o) as orderCount FROM Order o GROUP BY o.customer.customerId ORDER BY orderCount DESC")
-    List<Object[]> findTopCustomersByOrderCount();
+    @Query("SELECT o.deliverySlotId, COUNT(o) FROM Order o "
+        + "WHERE o.orderId IN :orderIds AND o.deliverySlotId IS NOT NULL GROUP BY o.deliverySlotId")
+    List<Object[]> countByDeliverySlot(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -0,0 +1,48 @@
+package com.grocery.ordering.repository;
+
+import com.grocery.ordering.dto.PickListLineDTO;
+import com.grocery.ordering.entity.Order;
+import com.grocery.ordering.entity.PickWave;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for PickWave entity operations.
+ * 
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Repository
+public interface PickWaveRepository extends JpaRepository<PickWave, Long> {
+
+    /**
+     * Find the newest pick waves.
+     * 
+     * @param limit the maximum number of waves
+     * @return list of pick waves, newest first
+     */
+    @Query("SELECT w FROM PickWave w ORDER BY w.waveId DESC")
+    List<PickWave> findNewest(Limit limit);
+
+    /**
+     * Aggregate the quantity to pick of each product across the orders of a
+     * wave that have not been cancelled, in the order the warehouse is walked:
+     * by category, then aisle, then product name.
+     * 
+     * @param waveId the wave ID
+     * @param excluded the status of orders to leave out
+     * @return list of pick list lines
+     */
+    @Query("SELECT new com.grocery.ordering.dto.PickListLineDTO(p.category, p.aisle, p.productId, p.productName, "
+        + "SUM(oi.quantity), COUNT(DISTINCT o.orderId)) "
+        + "FROM OrderItem oi JOIN oi.order o JOIN oi.product p "
+        + "WHERE o.pickWaveId = :waveId AND o.orderStatus <> :excluded "
+        + "GROUP BY p.category, p.aisle, p.productId, p.productName "
+        + "ORDER BY p.category, p.aisle, p.productName")
+    List<PickListLineDTO> findPickList(@Param("waveId") Long waveId, @Param("excluded") Order.OrderStatus excluded);
+}
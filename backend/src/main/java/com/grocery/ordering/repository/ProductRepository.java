@@ -1,12 +1,16 @@
 package com.grocery.ordering.repository;
 
+import com.grocery.ordering.dto.ProductDTO;
 import com.grocery.ordering.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +24,15 @@ import java.util.Optional;
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
+    /**
+     * Constructor expression selecting products straight into ProductDTOs,
+     * so read-only listings do not load managed entities.
+     */
+    String PRODUCT_VIEW = "SELECT new com.grocery.ordering.dto.ProductDTO(p.productId, p.productName, p.price, p.quantity, "
+        + "p.description, p.category, p.imageUrl, p.isReserved, p.reservedBy, p.createdAt, p.updatedAt, p.isActive) "
+        + "FROM Product p ";
+
+
     /**
      * Find products by name (case-insensitive search).
      * 
@@ -102,6 +115,14 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT DISTINCT p.category FROM Product p WHERE p.isActive = true AND p.category IS NOT NULL")
     List<String> findDistinctCategories();
 
+    /**
+     * Get the names of all active products.
+     * 
+     * @return list of active product names
+     */
+    @Query("SELECT p.productName FROM Product p WHERE p.isActive = true")
+    List<String> findActiveProductNames();
+
     /**
      * Count total number of active products.
      * 
@@ -126,4 +147,78 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      */
     @Query("SELECT p FROM Product p WHERE (LOWER(p.productName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(p.category) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND p.isActive = true")
     List<Product> searchProducts(@Param("searchTerm") String searchTerm);
+
+    /**
+     * Find all active products as DTOs.
+     * 
+     * @return list of active product DTOs
+     */
+    @Query(PRODUCT_VIEW + "WHERE p.isActive = true")
+    List<ProductDTO> findActiveProductViews();
+
+    /**
+     * Find active products in a category as DTOs.
+     * 
+     * @param category the product category
+     * @return list of product DTOs in the category
+     */
+    @Query(PRODUCT_VIEW + "WHERE p.category = :category AND p.isActive = true")
+    List<ProductDTO> findProductViewsByCategory(@Param("category") String category);
+
+    /**
+     * Find products that are in stock as DTOs.
+     * 
+     * @return list of in-stock product DTOs
+     */
+    @Query(PRODUCT_VIEW + "WHERE p.quantity > 0 AND p.isActive = true")
+    List<ProductDTO> findInStockProductViews();
+
+    /**
+     * Find the given products as DTOs, whether or not they are active or in stock.
+     * 
+     * @param productIds the product IDs
+     * @return list of product DTOs, in no particular order
+     */
+    @Query(PRODUCT_VIEW + "WHERE p.productId IN :productIds")
+    List<ProductDTO> findProductViewsByIds(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * Find the given products that are in stock as DTOs.
+     * 
+     * @param productIds the product IDs
+     * @return list of in-stock product DTOs, in no particular order
+     */
+    @Query(PRODUCT_VIEW + "WHERE p.productId IN :productIds AND p.quantity > 0 AND p.isActive = true")
+    List<ProductDTO> findInStockProductViewsByIds(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * Find products by name (case-insensitive search) as DTOs.
+     * 
+     * @param productName the product name to search for
+     * @return list of product DTOs matching the name
+     */
+    @Query(PRODUCT_VIEW + "WHERE LOWER(p.productName) LIKE LOWER(CONCAT('%', :productName, '%')) AND p.isActive = true")
+    List<ProductDTO> findProductViewsByName(@Param("productName") String productName);
+
+    /**
+     * Search products by name or category (case-insensitive) as DTOs.
+     * 
+     * @param searchTerm the search term
+     * @return list of product DTOs matching the search term
+     */
+    @Query(PRODUCT_VIEW + "WHERE (LOWER(p.productName) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR LOWER(p.category) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) AND p.isActive = true")
+    List<ProductDTO> searchProductViews(@Param("searchTerm") String searchTerm);
+
+    /**
+     * Add to the stock of a product, such as when orders are cancelled.
+     * 
+     * @param productId the product ID
+     * @param quantity the quantity to add
+     * @param now the update time
+     * @return 1 if the product was updated, 0 if it does not exist
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.quantity = p.quantity + :quantity, p.updatedAt = :now WHERE p.productId = :productId")
+    int addStock(@Param("productId") Long productId, @Param("quantity") long quantity,
+                 @Param("now") LocalDateTime now);
 }
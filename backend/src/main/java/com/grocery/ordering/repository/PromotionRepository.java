@@ -0,0 +1,37 @@
+package com.grocery.ordering.repository;
+
+import com.grocery.ordering.entity.Promotion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for Promotion entity operations.
+ * 
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Repository
+public interface PromotionRepository extends JpaRepository<Promotion, Long> {
+
+    /**
+     * Find active promotions that have not ended yet, including those still to start.
+     * 
+     * @param now the current time
+     * @return list of current and upcoming promotions
+     */
+    @Query("SELECT p FROM Promotion p WHERE p.isActive = true AND (p.endsAt IS NULL OR p.endsAt > :now)")
+    List<Promotion> findCurrentAndUpcoming(@Param("now") LocalDateTime now);
+
+    /**
+     * Find all promotions, newest first.
+     * 
+     * @return list of promotions
+     */
+    @Query("SELECT p FROM Promotion p ORDER BY p.promotionId DESC")
+    List<Promotion> findAllNewestFirst();
+}
@@ -0,0 +1,71 @@
+package com.grocery.ordering.repository;
+
+import com.grocery.ordering.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for RefreshToken entity operations.
+ * Provides lookup by token hash and bulk revocation queries.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * Find refresh token by the hash of its value.
+     *
+     * @param tokenHash the SHA-256 hex digest of the token
+     * @return Optional containing the refresh token if found
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Mark a refresh token as used, only if it has not been used or revoked yet.
+     *
+     * @param id the refresh token ID
+     * @param usedAt the time of use
+     * @return 1 if this call consumed the token, 0 if it was already consumed
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.usedAt = :usedAt WHERE r.refreshTokenId = :id AND r.usedAt IS NULL AND r.isRevoked = false")
+    int markUsed(@Param("id") Long id, @Param("usedAt") LocalDateTime usedAt);
+
+    /**
+     * Revoke every token in a rotation family.
+     *
+     * @param familyId the family ID
+     * @return number of tokens revoked
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.isRevoked = true WHERE r.familyId = :familyId AND r.isRevoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    /**
+     * Revoke every token issued to a user.
+     *
+     * @param username the username
+     * @return number of tokens revoked
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.isRevoked = true WHERE r.username = :username AND r.isRevoked = false")
+    int revokeAllForUser(@Param("username") String username);
+
+    /**
+     * Delete expired refresh tokens.
+     *
+     * @param now the current time
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
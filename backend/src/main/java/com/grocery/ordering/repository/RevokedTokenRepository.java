@@ -0,0 +1,41 @@
+package com.grocery.ordering.repository;
+
+import com.grocery.ordering.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for RevokedToken entity operations.
+ * Provides access to the persisted JWT revocation list.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Find revocations that are still relevant (token not yet expired).
+     *
+     * @param now the current time
+     * @return list of unexpired revoked tokens
+     */
+    @Query("SELECT r FROM RevokedToken r WHERE r.expiresAt > :now")
+    List<RevokedToken> findUnexpired(@Param("now") LocalDateTime now);
+
+    /**
+     * Delete revocations whose tokens have expired.
+     *
+     * @param now the current time
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,58 @@
+package com.grocery.ordering.repository;
+
+import com.grocery.ordering.dto.CategorySalesDTO;
+import com.grocery.ordering.entity.SalesByCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for SalesByCategory entity operations.
+ * Provides atomic increments and report queries for the category sales rollup.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Repository
+public interface SalesByCategoryRepository extends JpaRepository<SalesByCategory, String> {
+
+    /**
+     * Add to the rollup of a category in place, creating its row on the first sale.
+     *
+     * @param category the category
+     * @param units the change in units sold
+     * @param revenue the change in revenue
+     * @param now the update time
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sales_by_category (category, units_sold, revenue, updated_at) "
+        + "VALUES (:category, :units, :revenue, :now) ON DUPLICATE KEY UPDATE "
+        + "units_sold = units_sold + VALUES(units_sold), revenue = revenue + VALUES(revenue), "
+        + "updated_at = VALUES(updated_at)", nativeQuery = true)
+    void addSales(@Param("category") String category, @Param("units") long units,
+                  @Param("revenue") BigDecimal revenue, @Param("now") LocalDateTime now);
+
+    /**
+     * Find all category rollups as DTOs.
+     *
+     * @return list of category sales DTOs, highest revenue first
+     */
+    @Query("SELECT new com.grocery.ordering.dto.CategorySalesDTO(s.category, s.unitsSold, s.revenue) "
+        + "FROM SalesByCategory s ORDER BY s.revenue DESC, s.category")
+    List<CategorySalesDTO> findCategorySales();
+
+    /**
+     * Delete all rollups.
+     *
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM SalesByCategory s")
+    int deleteAllRollups();
+}
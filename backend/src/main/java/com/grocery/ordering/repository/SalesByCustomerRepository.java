@@ -0,0 +1,70 @@
+package com.grocery.ordering.repository;
+
+import com.grocery.ordering.dto.CustomerSalesDTO;
+import com.grocery.ordering.entity.SalesByCustomer;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for SalesByCustomer entity operations.
+ * Provides atomic increments and indexed top-N reads of the customer running totals.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Repository
+public interface SalesByCustomerRepository extends JpaRepository<SalesByCustomer, Long> {
+
+    /**
+     * Add to the running totals of a customer in place, creating their row on the first order.
+     *
+     * @param customerId the customer ID
+     * @param orders the change in order count
+     * @param spent the change in spend
+     * @param now the update time
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sales_by_customer (customer_id, order_count, total_spent, updated_at) "
+        + "VALUES (:customerId, :orders, :spent, :now) ON DUPLICATE KEY UPDATE "
+        + "order_count = order_count + VALUES(order_count), total_spent = total_spent + VALUES(total_spent), "
+        + "updated_at = VALUES(updated_at)", nativeQuery = true)
+    void addSales(@Param("customerId") Long customerId, @Param("orders") long orders,
+                  @Param("spent") BigDecimal spent, @Param("now") LocalDateTime now);
+
+    /**
+     * Find the customers with the highest spend, as DTOs without customer details.
+     *
+     * @param limit the maximum number of customers
+     * @return list of customer sales DTOs, highest spend first
+     */
+    @Query("SELECT new com.grocery.ordering.dto.CustomerSalesDTO(s.customerId, s.orderCount, s.totalSpent) "
+        + "FROM SalesByCustomer s WHERE s.orderCount > 0 ORDER BY s.totalSpent DESC, s.customerId")
+    List<CustomerSalesDTO> findTopBySpend(Limit limit);
+
+    /**
+     * Find the customers with the most orders, as DTOs without customer details.
+     *
+     * @param limit the maximum number of customers
+     * @return list of customer sales DTOs, most orders first
+     */
+    @Query("SELECT new com.grocery.ordering.dto.CustomerSalesDTO(s.customerId, s.orderCount, s.totalSpent) "
+        + "FROM SalesByCustomer s WHERE s.orderCount > 0 ORDER BY s.orderCount DESC, s.customerId")
+    List<CustomerSalesDTO> findTopByOrderCount(Limit limit);
+
+    /**
+     * Delete all rollups.
+     *
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM SalesByCustomer s")
+    int deleteAllRollups();
+}
@@ -0,0 +1,65 @@
+package com.grocery.ordering.repository;
+
+import com.grocery.ordering.dto.ProductSalesDTO;
+import com.grocery.ordering.entity.SalesByProduct;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for SalesByProduct entity operations.
+ * Provides atomic increments and report queries for the product sales rollup.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Repository
+public interface SalesByProductRepository extends JpaRepository<SalesByProduct, Long> {
+
+    /**
+     * Add to the rollup of a product in place, refreshing its name and category,
+     * and creating its row on the first sale.
+     *
+     * @param productId the product ID
+     * @param productName the current product name
+     * @param category the current product category
+     * @param units the change in units sold
+     * @param revenue the change in revenue
+     * @param now the update time
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sales_by_product (product_id, product_name, category, units_sold, revenue, updated_at) "
+        + "VALUES (:productId, :productName, :category, :units, :revenue, :now) ON DUPLICATE KEY UPDATE "
+        + "product_name = VALUES(product_name), category = VALUES(category), "
+        + "units_sold = units_sold + VALUES(units_sold), revenue = revenue + VALUES(revenue), "
+        + "updated_at = VALUES(updated_at)", nativeQuery = true)
+    void addSales(@Param("productId") Long productId, @Param("productName") String productName,
+                  @Param("category") String category, @Param("units") long units,
+                  @Param("revenue") BigDecimal revenue, @Param("now") LocalDateTime now);
+
+    /**
+     * Find the best selling products by revenue as DTOs.
+     *
+     * @param limit the maximum number of products
+     * @return list of product sales DTOs, highest revenue first
+     */
+    @Query("SELECT new com.grocery.ordering.dto.ProductSalesDTO(s.productId, s.productName, s.category, s.unitsSold, s.revenue) "
+        + "FROM SalesByProduct s ORDER BY s.revenue DESC, s.productId")
+    List<ProductSalesDTO> findTopProducts(Limit limit);
+
+    /**
+     * Delete all rollups.
+     *
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM SalesByProduct s")
+    int deleteAllRollups();
+}
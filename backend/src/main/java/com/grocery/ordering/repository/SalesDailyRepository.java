@@ -0,0 +1,62 @@
+package com.grocery.ordering.repository;
+
+import com.grocery.ordering.dto.DailySalesDTO;
+import com.grocery.ordering.entity.SalesDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for SalesDaily entity operations.
+ * Provides atomic increments and report queries for the daily sales rollup.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Repository
+public interface SalesDailyRepository extends JpaRepository<SalesDaily, LocalDate> {
+
+    /**
+     * Add to the rollup of a day in place, creating its row on the first sale.
+     *
+     * @param salesDate the day
+     * @param orders the change in order count
+     * @param units the change in units sold
+     * @param revenue the change in revenue
+     * @param now the update time
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sales_daily (sales_date, order_count, units_sold, revenue, updated_at) "
+        + "VALUES (:salesDate, :orders, :units, :revenue, :now) ON DUPLICATE KEY UPDATE "
+        + "order_count = order_count + VALUES(order_count), units_sold = units_sold + VALUES(units_sold), "
+        + "revenue = revenue + VALUES(revenue), updated_at = VALUES(updated_at)", nativeQuery = true)
+    void addSales(@Param("salesDate") LocalDate salesDate, @Param("orders") long orders, @Param("units") long units,
+                  @Param("revenue") BigDecimal revenue, @Param("now") LocalDateTime now);
+
+    /**
+     * Find the rollups of a date range as DTOs, oldest first.
+     *
+     * @param from the first day
+     * @param to the last day
+     * @return list of daily sales DTOs
+     */
+    @Query("SELECT new com.grocery.ordering.dto.DailySalesDTO(s.salesDate, s.orderCount, s.unitsSold, s.revenue) "
+        + "FROM SalesDaily s WHERE s.salesDate BETWEEN :from AND :to ORDER BY s.salesDate")
+    List<DailySalesDTO> findDailySales(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Delete all rollups.
+     *
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM SalesDaily s")
+    int deleteAllRollups();
+}
@@ -0,0 +1,48 @@
+package com.grocery.ordering.repository;
+
+import com.grocery.ordering.entity.SalesRollupChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for SalesRollupChange entity operations.
+ * Provides the journal of orders changed during a rollup rebuild.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Repository
+public interface SalesRollupChangeRepository extends JpaRepository<SalesRollupChange, Long> {
+
+    /**
+     * Note an order as changed, once however often it changes.
+     *
+     * @param orderId the order ID
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollup_changes (order_id) VALUES (:orderId) "
+        + "ON DUPLICATE KEY UPDATE order_id = order_id", nativeQuery = true)
+    void note(@Param("orderId") Long orderId);
+
+    /**
+     * Find the IDs of all noted orders.
+     *
+     * @return list of order IDs
+     */
+    @Query("SELECT c.orderId FROM SalesRollupChange c")
+    List<Long> findAllOrderIds();
+
+    /**
+     * Delete all noted orders.
+     *
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM SalesRollupChange c")
+    int deleteAllChanges();
+}
@@ -0,0 +1,55 @@
+package com.grocery.ordering.repository;
+
+import com.grocery.ordering.entity.SalesRollupState;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for SalesRollupState entity operations.
+ * Provides the shared and exclusive locks on the rollup state row.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Repository
+public interface SalesRollupStateRepository extends JpaRepository<SalesRollupState, Long> {
+
+    /**
+     * Read the rollup state with a shared lock held until the transaction ends.
+     *
+     * @param stateId the state row ID
+     * @return Optional containing the state if its row exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT s FROM SalesRollupState s WHERE s.stateId = :stateId")
+    Optional<SalesRollupState> lockShared(@Param("stateId") Long stateId);
+
+    /**
+     * Read the rollup state with an exclusive lock held until the transaction ends.
+     *
+     * @param stateId the state row ID
+     * @return Optional containing the state if its row exists
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM SalesRollupState s WHERE s.stateId = :stateId")
+    Optional<SalesRollupState> lockExclusive(@Param("stateId") Long stateId);
+
+    /**
+     * Create the rollup state row if it does not exist yet.
+     *
+     * @param stateId the state row ID
+     * @param now the creation time
+     */
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollup_state (state_id, rebuilding, updated_at) "
+        + "VALUES (:stateId, false, :now) ON DUPLICATE KEY UPDATE state_id = state_id", nativeQuery = true)
+    void createIfMissing(@Param("stateId") Long stateId, @Param("now") LocalDateTime now);
+}
@@ -4,12 +4,14 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * Utility class for JWT token operations.
@@ -23,12 +25,31 @@ public class JwtUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
 
+    /**
+     * Claim carrying the user's role, so token holders can be authorized without a user lookup.
+     */
+    public static final String ROLE_CLAIM = "role";
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
     @Value("${app.jwt.expiration}")
     private int jwtExpirationMs;
 
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
+    /**
+     * Derive the signing key and build the parser once, instead of on every token.
+     */
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     /**
      * Generate JWT token from authentication object.
      * 
@@ -40,6 +61,8 @@ public class JwtUtils {
         
         return Jwts.builder()
                 .setSubject(userPrincipal.getUsername())
+                .setId(UUID.randomUUID().toString())
+                .claim(ROLE_CLAIM, userPrincipal.getRole())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
                 .signWith(getSigningKey(), SignatureAlgorithm.HS256)
@@ -53,8 +76,21 @@ public class JwtUtils {
      * @return JWT token string
      */
     public String generateTokenFromUsername(String username) {
+        return generateTokenFromUsername(username, null);
+    }
+
+    /**
+     * Generate JWT token from username and role.
+     * 
+     * @param username the username
+     * @param role the user's role, omitted from the token if null
+     * @return JWT token string
+     */
+    public String generateTokenFromUsername(String username, String role) {
         return Jwts.builder()
                 .setSubject(username)
+                .setId(UUID.randomUUID().toString())
+                .claim(ROLE_CLAIM, role)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
                 .signWith(getSigningKey(), SignatureAlgorithm.HS256)
@@ -68,9 +104,7 @@ public class JwtUtils {
      * @return username
      */
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody()
                 .getSubject();
@@ -84,10 +118,7 @@ public class JwtUtils {
      */
     public boolean validateJwtToken(String authToken) {
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(authToken);
+            jwtParser.parseClaimsJws(authToken);
             return true;
         } catch (MalformedJwtException e) {
             logger.error("Invalid JWT token: {}", e.getMessage());
@@ -101,13 +132,40 @@ public class JwtUtils {
         return false;
     }
 
+    /**
+     * Parse and verify JWT token once, returning its claims.
+     * Invalid tokens are presented by clients all the time, so they are
+     * logged at debug level only.
+     * 
+     * @param authToken the JWT token
+     * @return the token claims, or null if the token is invalid
+     */
+    public Claims getClaimsFromJwtToken(String authToken) {
+        try {
+            return jwtParser
+                .parseClaimsJws(authToken)
+                .getBody();
+        } catch (MalformedJwtException e) {
+            logger.debug("Invalid JWT token: {}", e.getMessage());
+        } catch (ExpiredJwtException e) {
+            logger.debug("JWT token is expired: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            logger.debug("JWT token is unsupported: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            logger.debug("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            logger.debug("JWT signature is invalid: {}", e.getMessage());
+        }
+        return null;
+    }
+
     /**
      * Get signing key for JWT operations.
      * 
      * @return SecretKey for signing
      */
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        return signingKey;
     }
 
     /**
@@ -117,9 +175,7 @@ public class JwtUtils {
      * @return expiration date
      */
     public Date getExpirationDateFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
+        return jwtParser
                 .parseClaimsJws(token)
                 .getBody()
                 .getExpiration();
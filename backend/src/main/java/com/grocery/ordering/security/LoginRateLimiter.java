@@ -0,0 +1,168 @@
+package com.grocery.ordering.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory rate limiter for login attempts.
+ * Keeps one token bucket per client IP and one per username so that a scripted
+ * client cannot force unbounded BCrypt verifications.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginRateLimiter.class);
+
+    private final ConcurrentHashMap<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+
+    private final LongAdder allowedAttempts = new LongAdder();
+    private final LongAdder rejectedByIp = new LongAdder();
+    private final LongAdder rejectedByUser = new LongAdder();
+
+    private final int ipCapacity;
+    private final long ipRefillIntervalNanos;
+    private final int userCapacity;
+    private final long userRefillIntervalNanos;
+
+    public LoginRateLimiter(@Value("${app.auth.rate-limit.ip.capacity:20}") int ipCapacity,
+                            @Value("${app.auth.rate-limit.ip.refill-per-minute:20}") int ipRefillPerMinute,
+                            @Value("${app.auth.rate-limit.user.capacity:5}") int userCapacity,
+                            @Value("${app.auth.rate-limit.user.refill-per-minute:5}") int userRefillPerMinute) {
+        this.ipCapacity = ipCapacity;
+        this.ipRefillIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, ipRefillPerMinute);
+        this.userCapacity = userCapacity;
+        this.userRefillIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, userRefillPerMinute);
+    }
+
+    /**
+     * Try to consume one login attempt for the given client IP and username.
+     *
+     * @param clientIp the remote address of the caller
+     * @param username the username or email being logged in
+     * @return true if the attempt may proceed, false if it is over the limit
+     */
+    public boolean tryAcquire(String clientIp, String username) {
+        long now = System.nanoTime();
+
+        if (clientIp != null) {
+            TokenBucket ipBucket = ipBuckets.computeIfAbsent(clientIp,
+                key -> new TokenBucket(ipCapacity, ipRefillIntervalNanos, now));
+            if (!ipBucket.tryConsume(now)) {
+                rejectedByIp.increment();
+                logger.warn("Login attempt rejected by IP rate limit: {}", clientIp);
+                return false;
+            }
+        }
+
+        if (username != null) {
+            String key = username.trim().toLowerCase(Locale.ROOT);
+            TokenBucket userBucket = userBuckets.computeIfAbsent(key,
+                k -> new TokenBucket(userCapacity, userRefillIntervalNanos, now));
+            if (!userBucket.tryConsume(now)) {
+                rejectedByUser.increment();
+                logger.warn("Login attempt rejected by account rate limit: {}", key);
+                return false;
+            }
+        }
+
+        allowedAttempts.increment();
+        return true;
+    }
+
+    /**
+     * Seconds a client should wait before retrying a rejected attempt.
+     *
+     * @return retry delay in seconds
+     */
+    public long getRetryAfterSeconds() {
+        long interval = Math.max(ipRefillIntervalNanos, userRefillIntervalNanos);
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(interval));
+    }
+
+    /**
+     * Drop buckets that have been idle long enough to refill completely.
+     * A full bucket carries no state, so evicting it changes no decision.
+     */
+    @Scheduled(fixedDelayString = "${app.auth.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        int before = ipBuckets.size() + userBuckets.size();
+
+        ipBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        userBuckets.values().removeIf(bucket -> bucket.isFull(now));
+
+        int evicted = before - (ipBuckets.size() + userBuckets.size());
+        if (evicted > 0) {
+            logger.debug("Evicted {} idle login rate limit buckets", evicted);
+        }
+    }
+
+    public long getAllowedAttempts() {
+        return allowedAttempts.sum();
+    }
+
+    public long getRejectedByIp() {
+        return rejectedByIp.sum();
+    }
+
+    public long getRejectedByUser() {
+        return rejectedByUser.sum();
+    }
+
+    public int getTrackedIpCount() {
+        return ipBuckets.size();
+    }
+
+    public int getTrackedUserCount() {
+        return userBuckets.size();
+    }
+
+    /**
+     * Lock-free token bucket stored as a single theoretical arrival time
+     * (the GCRA form of a token bucket). The bucket is full once the clock
+     * passes the stored time, and each attempt pushes it forward by one interval.
+     */
+    static final class TokenBucket {
+
+        private final AtomicLong theoreticalArrival;
+        private final long intervalNanos;
+        private final long burstNanos;
+
+        TokenBucket(int capacity, long intervalNanos, long now) {
+            this.intervalNanos = intervalNanos;
+            this.burstNanos = intervalNanos * Math.max(1, capacity);
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        boolean tryConsume(long now) {
+            while (true) {
+                long current = theoreticalArrival.get();
+                long base = current - now > 0 ? current : now;
+                long next = base + intervalNanos;
+                if (next - now > burstNanos) {
+                    return false;
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return true;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            return theoreticalArrival.get() - now <= 0;
+        }
+    }
+}
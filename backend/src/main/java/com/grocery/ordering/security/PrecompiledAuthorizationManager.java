@@ -0,0 +1,226 @@
+package com.grocery.ordering.security;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.aopalliance.intercept.MethodInvocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Authorization manager for {@link PreAuthorize} that avoids SpEL evaluation
+ * for plain {@code hasRole}/{@code hasAnyRole} expressions.
+ * Such expressions are compiled once per method into a bitmask of roles and
+ * checked against the principal's authorities. Any other expression is
+ * delegated to the standard {@link PreAuthorizeAuthorizationManager}.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class PrecompiledAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrecompiledAuthorizationManager.class);
+
+    private static final Pattern ROLE_EXPRESSION = Pattern.compile("^\\s*has(Any)?Role\\((.*)\\)\\s*$");
+    private static final Pattern ROLE_ARGUMENT = Pattern.compile("^\\s*'([A-Za-z0-9_]+)'\\s*$");
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final int MAX_ROLES = Long.SIZE;
+
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    // Marker for methods whose expression cannot be compiled to a bitmask
+    private static final Rule DELEGATE = new Rule(0L, null);
+
+    private final PreAuthorizeAuthorizationManager delegate = new PreAuthorizeAuthorizationManager();
+
+    private final Map<Method, Rule> rules = new ConcurrentHashMap<>();
+    private final Map<String, Long> authorityBits = new ConcurrentHashMap<>();
+    private final AtomicInteger nextBit = new AtomicInteger();
+
+    private final LongAdder compiledChecks = new LongAdder();
+    private final LongAdder delegatedChecks = new LongAdder();
+    private final LongAdder deniedChecks = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        long start = System.nanoTime();
+
+        Rule rule = rules.computeIfAbsent(invocation.getMethod(),
+            method -> compile(method, AopUtils.getTargetClass(invocation.getThis())));
+
+        AuthorizationDecision decision;
+        if (rule == DELEGATE) {
+            delegatedChecks.increment();
+            decision = delegate.check(authentication, invocation);
+        } else {
+            compiledChecks.increment();
+            decision = (principalMask(authentication.get()) & rule.requiredMask) != 0 ? GRANTED : DENIED;
+        }
+
+        if (decision != null && !decision.isGranted()) {
+            deniedChecks.increment();
+        }
+        record(System.nanoTime() - start);
+        return decision;
+    }
+
+    /**
+     * Compile the role requirements of every request handler at startup,
+     * so the first request to each endpoint does not pay for parsing.
+     *
+     * @param event the application ready event
+     */
+    @EventListener
+    public void precompileHandlers(ApplicationReadyEvent event) {
+        RequestMappingHandlerMapping mapping = event.getApplicationContext()
+            .getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+
+        int compiled = 0;
+        for (HandlerMethod handlerMethod : mapping.getHandlerMethods().values()) {
+            Method method = handlerMethod.getMethod();
+            Rule rule = rules.computeIfAbsent(method, m -> compile(m, handlerMethod.getBeanType()));
+            if (rule != DELEGATE) {
+                compiled++;
+            }
+        }
+        logger.info("Precompiled {} @PreAuthorize role checks over {} roles", compiled, authorityBits.size());
+    }
+
+    public long getCompiledChecks() {
+        return compiledChecks.sum();
+    }
+
+    public long getDelegatedChecks() {
+        return delegatedChecks.sum();
+    }
+
+    public long getDeniedChecks() {
+        return deniedChecks.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Get the number of methods whose expression was compiled to a role mask,
+     * leaving out those delegated to SpEL evaluation.
+     *
+     * @return the number of compiled methods
+     */
+    public int getCompiledMethodCount() {
+        return (int) rules.values().stream().filter(rule -> rule != DELEGATE).count();
+    }
+
+    private Rule compile(Method method, Class<?> targetClass) {
+        PreAuthorize annotation = AnnotatedElementUtils.findMergedAnnotation(method, PreAuthorize.class);
+        if (annotation == null && targetClass != null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(targetClass, PreAuthorize.class);
+        }
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(method.getDeclaringClass(), PreAuthorize.class);
+        }
+        if (annotation == null) {
+            return DELEGATE;
+        }
+
+        Matcher matcher = ROLE_EXPRESSION.matcher(annotation.value());
+        if (!matcher.matches()) {
+            logger.debug("Delegating non-role expression on {}: {}", method, annotation.value());
+            return DELEGATE;
+        }
+
+        String[] arguments = matcher.group(2).split(",");
+        if (matcher.group(1) == null && arguments.length != 1) {
+            return DELEGATE;
+        }
+
+        long mask = 0L;
+        for (String argument : arguments) {
+            Matcher roleMatcher = ROLE_ARGUMENT.matcher(argument);
+            if (!roleMatcher.matches()) {
+                return DELEGATE;
+            }
+            String role = roleMatcher.group(1);
+            Long bit = bitFor(role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role);
+            if (bit == null) {
+                return DELEGATE;
+            }
+            mask |= bit;
+        }
+
+        return new Rule(mask, annotation.value());
+    }
+
+    private Long bitFor(String authority) {
+        return authorityBits.computeIfAbsent(authority, key -> {
+            int index = nextBit.getAndIncrement();
+            return index < MAX_ROLES ? 1L << index : null;
+        });
+    }
+
+    private long principalMask(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return 0L;
+        }
+
+        long mask = 0L;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            Long bit = authorityBits.get(authority.getAuthority());
+            if (bit != null) {
+                mask |= bit;
+            }
+        }
+        return mask;
+    }
+
+    private void record(long elapsedNanos) {
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+
+        // Expose per-request cost; the handler has not written the response yet
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletResponse response = servletAttributes.getResponse();
+            if (response != null && !response.isCommitted()) {
+                response.addHeader("Server-Timing", "authz;dur=" + (elapsedNanos / 1000) / 1000.0);
+            }
+        }
+    }
+
+    /**
+     * Compiled role requirement: granted if the principal holds any role in the mask.
+     */
+    private record Rule(long requiredMask, String expression) {
+    }
+}
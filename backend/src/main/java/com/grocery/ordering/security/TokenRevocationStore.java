@@ -0,0 +1,135 @@
+package com.grocery.ordering.security;
+
+import com.grocery.ordering.entity.RevokedToken;
+import com.grocery.ordering.repository.RevokedTokenRepository;
+import com.grocery.ordering.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Store of revoked JWT ids, kept until the tokens would have expired.
+ * Lookups go through a Bloom filter first so that non-revoked tokens,
+ * which are almost all of them, never touch the exact set.
+ * Revocations are persisted so that they survive restarts.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Component
+public class TokenRevocationStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationStore.class);
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Value("${app.jwt.revocation.expected-insertions:100000}")
+    private int expectedInsertions;
+
+    @Value("${app.jwt.revocation.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    // jti -> expiry (epoch millis)
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter;
+
+    /**
+     * Load unexpired revocations from the database into memory.
+     */
+    @PostConstruct
+    public void loadPersistedRevocations() {
+        List<RevokedToken> persisted = revokedTokenRepository.findUnexpired(LocalDateTime.now());
+        for (RevokedToken token : persisted) {
+            revoked.put(token.getJti(), toEpochMillis(token.getExpiresAt()));
+        }
+        rebuildFilter();
+        logger.info("Loaded {} revoked tokens", persisted.size());
+    }
+
+    /**
+     * Revoke a token until its expiry.
+     *
+     * @param jti the token id
+     * @param username the token subject
+     * @param expiration the token expiration
+     */
+    public void revoke(String jti, String username, Date expiration) {
+        if (jti == null || expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+
+        revokedTokenRepository.save(new RevokedToken(jti, username,
+            LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault())));
+
+        synchronized (this) {
+            revoked.put(jti, expiration.getTime());
+            filter.put(jti);
+        }
+        logger.info("Token revoked for user: {}", username);
+    }
+
+    /**
+     * Check whether a token id has been revoked.
+     *
+     * @param jti the token id
+     * @return true if the token is revoked and not yet expired
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+
+        Long expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * Remove expired revocations from memory and the database.
+     * The Bloom filter cannot delete keys, so it is rebuilt from what remains.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = revoked.size();
+
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+
+        if (revoked.size() != before) {
+            rebuildFilter();
+        }
+        logger.debug("Purged {} expired revocations ({} rows)", before - revoked.size(), deleted);
+    }
+
+    public int getRevokedCount() {
+        return revoked.size();
+    }
+
+    private synchronized void rebuildFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revoked.size() * 2), falsePositiveRate);
+        for (String jti : revoked.keySet()) {
+            rebuilt.put(jti);
+        }
+        filter = rebuilt;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        return instant.toEpochMilli();
+    }
+}
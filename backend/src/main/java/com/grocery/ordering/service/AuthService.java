@@ -2,13 +2,18 @@ package com.grocery.ordering.service;
 
 import com.grocery.ordering.dto.AuthResponseDTO;
 import com.grocery.ordering.dto.LoginDTO;
+import com.grocery.ordering.dto.TokenIntrospectionDTO;
 import com.grocery.ordering.entity.AdminUser;
 import com.grocery.ordering.entity.Customer;
+import com.grocery.ordering.exception.AuthenticationFailedException;
+import com.grocery.ordering.exception.RefreshTokenReuseException;
 import com.grocery.ordering.repository.AdminUserRepository;
 import com.grocery.ordering.repository.CustomerRepository;
 import com.grocery.ordering.security.JwtUtils;
+import com.grocery.ordering.security.TokenRevocationStore;
 import com.grocery.ordering.security.UserPrincipal;
 import com.grocery.ordering.util.ValidationUtils;
+import io.jsonwebtoken.Claims;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,8 +23,11 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -47,6 +55,12 @@ public class AuthService {
     @Autowired
     private JwtUtils jwtUtils;
 
+    @Autowired
+    private TokenRevocationStore tokenRevocationStore;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
     /**
      * Authenticate user and generate JWT token.
      * 
@@ -77,17 +91,19 @@ public class AuthService {
 
             logger.info("User authenticated successfully: {}", userPrincipal.getUsername());
 
-            return new AuthResponseDTO(
+            AuthResponseDTO response = new AuthResponseDTO(
                 jwt,
                 userPrincipal.getId(),
                 userPrincipal.getUsername(),
                 userPrincipal.getEmail(),
                 userPrincipal.getRole()
             );
+            response.setRefreshToken(refreshTokenService.createRefreshToken(userPrincipal));
+            return response;
 
         } catch (AuthenticationException e) {
             logger.error("Authentication failed for user: {}", loginDTO.getUsername());
-            throw new RuntimeException("Please Enter Correct UserName and Password");
+            throw new AuthenticationFailedException("Please Enter Correct UserName and Password");
         }
     }
 
@@ -113,7 +129,7 @@ public class AuthService {
             }
 
             if (adminUser.isEmpty()) {
-                throw new RuntimeException("Please Enter Correct UserName and Password");
+                throw new AuthenticationFailedException("Please Enter Correct UserName and Password");
             }
 
             // Authenticate admin
@@ -131,17 +147,19 @@ public class AuthService {
 
             logger.info("Admin authenticated successfully: {}", userPrincipal.getUsername());
 
-            return new AuthResponseDTO(
+            AuthResponseDTO response = new AuthResponseDTO(
                 jwt,
                 userPrincipal.getId(),
                 userPrincipal.getUsername(),
                 userPrincipal.getEmail(),
                 userPrincipal.getRole()
             );
+            response.setRefreshToken(refreshTokenService.createRefreshToken(userPrincipal));
+            return response;
 
         } catch (AuthenticationException e) {
             logger.error("Admin authentication failed for user: {}", loginDTO.getUsername());
-            throw new RuntimeException("Please Enter Correct UserName and Password");
+            throw new AuthenticationFailedException("Please Enter Correct UserName and Password");
         }
     }
 
@@ -163,7 +181,7 @@ public class AuthService {
             // Check if user is customer
             Optional<Customer> customer = customerRepository.findByEmailAndIsActive(loginDTO.getUsername(), true);
             if (customer.isEmpty()) {
-                throw new RuntimeException("Please Enter Correct UserName and Password");
+                throw new AuthenticationFailedException("Please Enter Correct UserName and Password");
             }
 
             // Authenticate customer
@@ -181,27 +199,69 @@ public class AuthService {
 
             logger.info("Customer authenticated successfully: {}", userPrincipal.getUsername());
 
-            return new AuthResponseDTO(
+            AuthResponseDTO response = new AuthResponseDTO(
                 jwt,
                 userPrincipal.getId(),
                 userPrincipal.getUsername(),
                 userPrincipal.getEmail(),
                 userPrincipal.getRole()
             );
+            response.setRefreshToken(refreshTokenService.createRefreshToken(userPrincipal));
+            return response;
 
         } catch (AuthenticationException e) {
             logger.error("Customer authentication failed for user: {}", loginDTO.getUsername());
-            throw new RuntimeException("Please Enter Correct UserName and Password");
+            throw new AuthenticationFailedException("Please Enter Correct UserName and Password");
         }
     }
 
     /**
-     * Logout user by clearing security context.
-     * Note: JWT tokens are stateless, so actual logout is handled on client side.
+     * Issue a new access token from a refresh token without verifying the password.
+     * The refresh token is rotated: the presented one is consumed and a new one returned.
      * 
+     * @param refreshToken the refresh token presented by the client
+     * @return AuthResponseDTO with the new access and refresh tokens
+     * @throws RuntimeException if the refresh token is invalid, expired or reused, or the user is no longer active
+     */
+    @Transactional(noRollbackFor = RefreshTokenReuseException.class)
+    public AuthResponseDTO refreshAccessToken(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotateRefreshToken(refreshToken);
+        UserPrincipal user = rotation.user();
+
+        String jwt = jwtUtils.generateTokenFromUsername(user.getUsername(), user.getRole());
+        logger.info("Access token refreshed for user: {}", user.getUsername());
+
+        AuthResponseDTO response = new AuthResponseDTO(
+            jwt,
+            user.getId(),
+            user.getUsername(),
+            user.getEmail(),
+            user.getRole()
+        );
+        response.setRefreshToken(rotation.successor());
+        return response;
+    }
+
+    /**
+     * Logout user by revoking the presented tokens and clearing security context.
+     * The access token id stays on the revocation list until the token expires.
+     * 
+     * @param token the JWT token being logged out, may be null
+     * @param refreshToken the refresh token to revoke, may be null
      * @return success message
      */
-    public AuthResponseDTO logoutUser() {
+    public AuthResponseDTO logoutUser(String token, String refreshToken) {
+        if (token != null) {
+            Claims claims = jwtUtils.getClaimsFromJwtToken(token);
+            if (claims != null) {
+                tokenRevocationStore.revoke(claims.getId(), claims.getSubject(), claims.getExpiration());
+            }
+        }
+
+        if (refreshToken != null) {
+            refreshTokenService.revokeRefreshToken(refreshToken);
+        }
+
         SecurityContextHolder.clearContext();
         logger.info("User logged out successfully");
         return new AuthResponseDTO("Logout successful", true);
@@ -211,10 +271,37 @@ public class AuthService {
      * Validate JWT token.
      * 
      * @param token the JWT token to validate
-     * @return true if token is valid, false otherwise
+     * @return true if token is valid and not revoked, false otherwise
      */
     public boolean validateToken(String token) {
-        return jwtUtils.validateJwtToken(token);
+        Claims claims = jwtUtils.getClaimsFromJwtToken(token);
+        return claims != null && !tokenRevocationStore.isRevoked(claims.getId());
+    }
+
+    /**
+     * Introspect a batch of JWT tokens for edge proxies.
+     * Each token is verified once and its subject, role and expiry are read
+     * from the same parsed claims; results are returned in request order.
+     * 
+     * @param tokens the JWT tokens to introspect
+     * @return one introspection result per token
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<TokenIntrospectionDTO> introspectTokens(List<String> tokens) {
+        List<TokenIntrospectionDTO> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            Claims claims = token == null || token.isBlank() ? null : jwtUtils.getClaimsFromJwtToken(token);
+            if (claims == null || claims.getExpiration() == null || tokenRevocationStore.isRevoked(claims.getId())) {
+                results.add(TokenIntrospectionDTO.invalid());
+            } else {
+                results.add(TokenIntrospectionDTO.valid(
+                    claims.getSubject(),
+                    claims.get(JwtUtils.ROLE_CLAIM, String.class),
+                    claims.getExpiration().getTime() / 1000
+                ));
+            }
+        }
+        return results;
     }
 
     /**
@@ -254,7 +341,7 @@ public class AuthService {
     public UserPrincipal getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
-            throw new RuntimeException("No authenticated user found");
+            throw new AuthenticationFailedException("No authenticated user found");
         }
 
         return (UserPrincipal) authentication.getPrincipal();
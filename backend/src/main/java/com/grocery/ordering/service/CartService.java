@@ -0,0 +1,593 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.dto.CartCheckoutDTO;
+import com.grocery.ordering.dto.CartDTO;
+import com.grocery.ordering.dto.CartLineDTO;
+import com.grocery.ordering.dto.OrderDTO;
+import com.grocery.ordering.dto.OrderItemDTO;
+import com.grocery.ordering.dto.ProductDTO;
+import com.grocery.ordering.entity.CartItem;
+import com.grocery.ordering.entity.Customer;
+import com.grocery.ordering.exception.BusinessRuleException;
+import com.grocery.ordering.exception.ResourceNotFoundException;
+import com.grocery.ordering.exception.ValidationException;
+import com.grocery.ordering.repository.CartItemRepository;
+import com.grocery.ordering.repository.CustomerRepository;
+import com.grocery.ordering.repository.ProductRepository;
+import com.grocery.ordering.util.PromotionTable;
+import com.grocery.ordering.util.TransactionUtils;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for server-side shopping carts.
+ * Carts in use are held in memory and kept priced line by line: adding or
+ * changing a product reprices that line only and adjusts the subtotal by
+ * the difference. Changed carts are snapshotted to the cart_items table on
+ * a schedule, idle carts are snapshotted and evicted, and a cart that is not
+ * in memory is loaded back from its snapshot.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class CartService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CartService.class);
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PromotionService promotionService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.cart.idle-ttl-ms:1800000}")
+    private long idleTtlMs;
+
+    @Value("${app.cart.reprice-after-ms:60000}")
+    private long repriceAfterMs;
+
+    @Value("${app.cart.max-lines:100}")
+    private int maxLines;
+
+    private final ConcurrentHashMap<Long, Cart> carts = new ConcurrentHashMap<>();
+
+    /**
+     * Get a customer's cart, repricing lines that were priced too long ago.
+     *
+     * @param customerId the customer ID
+     * @return the cart
+     */
+    public CartDTO getCart(Long customerId) {
+        return withCart(customerId, cart -> {
+            repriceStaleLines(cart, System.currentTimeMillis());
+            return cart.toDTO(promotionService.getTable());
+        });
+    }
+
+    /**
+     * Add a quantity of a product to a cart.
+     *
+     * @param customerId the customer ID
+     * @param productId the product ID
+     * @param quantity the quantity to add
+     * @return the updated cart
+     * @throws ResourceNotFoundException if the product does not exist
+     * @throws BusinessRuleException if the product is not sold or not enough is in stock
+     */
+    public CartDTO addItem(Long customerId, Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new ValidationException("quantity", "Quantity must be at least 1");
+        }
+        ProductDTO product = findProduct(productId);
+        return withCart(customerId, cart -> {
+            Line line = cart.lines.get(productId);
+            int newQuantity = (line != null ? line.quantity : 0) + quantity;
+            return setQuantity(cart, product, newQuantity);
+        });
+    }
+
+    /**
+     * Set the quantity of a product in a cart; a quantity of 0 removes it.
+     *
+     * @param customerId the customer ID
+     * @param productId the product ID
+     * @param quantity the new quantity
+     * @return the updated cart
+     * @throws ResourceNotFoundException if the product does not exist
+     * @throws BusinessRuleException if the product is not sold or not enough is in stock
+     */
+    public CartDTO updateItem(Long customerId, Long productId, int quantity) {
+        if (quantity < 0) {
+            throw new ValidationException("quantity", "Quantity must not be negative");
+        }
+        if (quantity == 0) {
+            return removeItem(customerId, productId);
+        }
+        ProductDTO product = findProduct(productId);
+        return withCart(customerId, cart -> setQuantity(cart, product, quantity));
+    }
+
+    /**
+     * Remove a product from a cart.
+     *
+     * @param customerId the customer ID
+     * @param productId the product ID
+     * @return the updated cart
+     */
+    public CartDTO removeItem(Long customerId, Long productId) {
+        return withCart(customerId, cart -> {
+            Line line = cart.lines.remove(productId);
+            if (line != null) {
+                cart.unaccount(line);
+                cart.version++;
+            }
+            return cart.toDTO(promotionService.getTable());
+        });
+    }
+
+    /**
+     * Remove every product from a cart.
+     *
+     * @param customerId the customer ID
+     * @return the emptied cart
+     */
+    public CartDTO clearCart(Long customerId) {
+        return withCart(customerId, cart -> {
+            if (!cart.lines.isEmpty()) {
+                cart.lines.clear();
+                cart.subtotal = BigDecimal.ZERO;
+                cart.itemCount = 0;
+                cart.version++;
+            }
+            return cart.toDTO(promotionService.getTable());
+        });
+    }
+
+    /**
+     * Place the cart as an order.
+     * The lines are already priced and checked against stock, so only lines
+     * priced too long ago are looked up again before the order is created;
+     * stock is still taken from each product when the order is saved. The
+     * lines are taken out of the cart under its lock before the order is
+     * created, so a concurrent checkout finds the cart empty, and are put
+     * back if the order rolls back.
+     *
+     * @param customerId the customer ID
+     * @param checkout delivery details, defaulting to the customer's profile
+     * @return the created order
+     * @throws BusinessRuleException if the cart is empty or a line is unavailable
+     */
+    @Transactional
+    public OrderDTO checkout(Long customerId, CartCheckoutDTO checkout) {
+        Customer customer = customerRepository.findById(customerId)
+            .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + customerId));
+        String deliveryAddress = checkout != null && hasText(checkout.getDeliveryAddress())
+            ? checkout.getDeliveryAddress().trim() : customer.getAddress();
+        String contactNumber = checkout != null && hasText(checkout.getContactNumber())
+            ? checkout.getContactNumber() : customer.getContactNumber();
+        if (!hasText(deliveryAddress)) {
+            throw new ValidationException("deliveryAddress", "Delivery address is required");
+        }
+        if (!hasText(contactNumber)) {
+            throw new ValidationException("contactNumber", "Contact number is required");
+        }
+
+        Map<Long, Line> ordered = new LinkedHashMap<>();
+        OrderDTO order = withCart(customerId, cart -> {
+            repriceStaleLines(cart, System.currentTimeMillis());
+            if (cart.lines.isEmpty()) {
+                throw new BusinessRuleException("Cart is empty");
+            }
+            List<OrderItemDTO> items = new ArrayList<>(cart.lines.size());
+            for (Line line : cart.lines.values()) {
+                if (line.unavailableReason != null) {
+                    throw new BusinessRuleException(line.productName + ": " + line.unavailableReason);
+                }
+                items.add(new OrderItemDTO(null, line.productId, line.productName, line.quantity,
+                    line.unitPrice, line.lineTotal));
+            }
+            OrderDTO newOrder = new OrderDTO();
+            newOrder.setCustomerId(customerId);
+            newOrder.setTotalAmount(cart.subtotal);
+            newOrder.setDeliveryAddress(deliveryAddress);
+            newOrder.setContactNumber(contactNumber);
+            newOrder.setDeliverySlotId(checkout != null ? checkout.getDeliverySlotId() : null);
+            newOrder.setOrderItems(items);
+
+            ordered.putAll(cart.lines);
+            cart.lines.clear();
+            cart.subtotal = BigDecimal.ZERO;
+            cart.itemCount = 0;
+            cart.version++;
+            return newOrder;
+        });
+        TransactionUtils.afterRollback(() -> restoreLines(customerId, ordered.values()));
+
+        OrderDTO created = orderService.createOrder(order);
+        cartItemRepository.deleteByCustomerId(customerId);
+        // The snapshot was deleted with the order, so anything added since must be written again
+        TransactionUtils.afterCommit(() -> withCart(customerId, cart -> {
+            cart.savedVersion = -1;
+            return null;
+        }));
+
+        logger.info("Cart checked out as order {} for customer ID: {}", created.getOrderId(), customerId);
+        return created;
+    }
+
+    /**
+     * Snapshot changed carts and evict carts that have been idle longer than the idle TTL.
+     * Each cart is written in its own transaction, so one failure does not hold back the rest.
+     */
+    @Scheduled(fixedDelayString = "${app.cart.snapshot-interval-ms:30000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized void snapshotCarts() {
+        long idleBefore = System.currentTimeMillis() - idleTtlMs;
+        int written = 0;
+        int evicted = 0;
+        for (Cart cart : carts.values()) {
+            try {
+                synchronized (cart) {
+                    if (cart.lastAccess < idleBefore) {
+                        // Written under the cart lock so no change can slip in between the write and the eviction
+                        if (cart.isDirty()) {
+                            writeSnapshot(cart.customerId, cart.snapshot());
+                            written++;
+                        }
+                        cart.evicted = true;
+                        carts.remove(cart.customerId, cart);
+                        evicted++;
+                        continue;
+                    }
+                }
+                if (flush(cart)) {
+                    written++;
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Failed to snapshot cart of customer ID {}: {}", cart.customerId, e.getMessage());
+            }
+        }
+        if (written > 0 || evicted > 0) {
+            logger.debug("Snapshotted {} carts, evicted {} idle carts, {} in memory", written, evicted, carts.size());
+        }
+    }
+
+    /**
+     * Snapshot every changed cart on shutdown.
+     */
+    @PreDestroy
+    public synchronized void flushAll() {
+        for (Cart cart : carts.values()) {
+            try {
+                flush(cart);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to snapshot cart of customer ID {} on shutdown: {}", cart.customerId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Get the number of carts held in memory.
+     *
+     * @return the number of carts in memory
+     */
+    public int getCartsInMemory() {
+        return carts.size();
+    }
+
+    /**
+     * Run an action on a customer's cart under its lock, loading the cart if
+     * it is not in memory; retried if the cart is evicted in between.
+     */
+    private <T> T withCart(Long customerId, Function<Cart, T> action) {
+        while (true) {
+            Cart cart = carts.get(customerId);
+            if (cart == null) {
+                Cart loaded = loadCart(customerId);
+                cart = carts.putIfAbsent(customerId, loaded);
+                if (cart == null) {
+                    cart = loaded;
+                }
+            }
+            synchronized (cart) {
+                if (!cart.evicted) {
+                    cart.lastAccess = System.currentTimeMillis();
+                    return action.apply(cart);
+                }
+            }
+        }
+    }
+
+    /**
+     * Put the lines of a checkout that rolled back back into the cart, adding
+     * to any quantity of the same product put in the cart since.
+     */
+    private void restoreLines(Long customerId, Collection<Line> lines) {
+        withCart(customerId, cart -> {
+            for (Line line : lines) {
+                Line current = cart.lines.get(line.productId);
+                if (current == null) {
+                    cart.lines.put(line.productId, line);
+                } else {
+                    cart.unaccount(current);
+                    current.quantity += line.quantity;
+                    current.reprice(current.product, current.pricedAt);
+                    line = current;
+                }
+                cart.account(line);
+            }
+            cart.version++;
+            return null;
+        });
+        logger.info("Restored {} cart lines of customer ID {} after a failed checkout", lines.size(), customerId);
+    }
+
+    /**
+     * Load a cart from its snapshot, pricing every line in one product query.
+     */
+    private Cart loadCart(Long customerId) {
+        Cart cart = new Cart(customerId);
+        List<CartItem> rows = cartItemRepository.findByCustomerId(customerId);
+        if (rows.isEmpty()) {
+            return cart;
+        }
+        Map<Long, ProductDTO> products = productRepository.findProductViewsByIds(
+                rows.stream().map(CartItem::getProductId).toList()).stream()
+            .collect(Collectors.toMap(ProductDTO::getProductId, Function.identity()));
+        long now = System.currentTimeMillis();
+        for (CartItem row : rows) {
+            ProductDTO product = products.get(row.getProductId());
+            if (product != null) {
+                Line line = new Line(row.getProductId(), row.getQuantity());
+                line.reprice(product, now);
+                cart.lines.put(line.productId, line);
+                cart.account(line);
+            }
+        }
+        // Products deleted since the snapshot are dropped, so it needs writing again
+        cart.savedVersion = cart.lines.size() == rows.size() ? 0 : -1;
+        logger.debug("Loaded cart of customer ID {} with {} lines", customerId, cart.lines.size());
+        return cart;
+    }
+
+    private CartDTO setQuantity(Cart cart, ProductDTO product, int quantity) {
+        Line line = cart.lines.get(product.getProductId());
+        if (line == null && cart.lines.size() >= maxLines) {
+            throw new BusinessRuleException("A cart can hold at most " + maxLines + " products");
+        }
+        String reason = unavailableReason(product, quantity);
+        if (reason != null) {
+            throw new BusinessRuleException(product.getProductName() + ": " + reason);
+        }
+        if (line == null) {
+            line = new Line(product.getProductId(), quantity);
+            cart.lines.put(line.productId, line);
+        } else {
+            cart.unaccount(line);
+            line.quantity = quantity;
+        }
+        line.reprice(product, System.currentTimeMillis());
+        cart.account(line);
+        cart.version++;
+        return cart.toDTO(promotionService.getTable());
+    }
+
+    /**
+     * Reprice the lines priced before the reprice interval, in one product query.
+     */
+    private void repriceStaleLines(Cart cart, long now) {
+        long pricedBefore = now - repriceAfterMs;
+        List<Long> stale = new ArrayList<>();
+        for (Line line : cart.lines.values()) {
+            if (line.pricedAt < pricedBefore) {
+                stale.add(line.productId);
+            }
+        }
+        if (stale.isEmpty()) {
+            return;
+        }
+        Map<Long, ProductDTO> products = productRepository.findProductViewsByIds(stale).stream()
+            .collect(Collectors.toMap(ProductDTO::getProductId, Function.identity()));
+        for (Long productId : stale) {
+            Line line = cart.lines.get(productId);
+            ProductDTO product = products.get(productId);
+            cart.unaccount(line);
+            if (product == null) {
+                cart.lines.remove(productId);
+                cart.version++;
+            } else {
+                line.reprice(product, now);
+                cart.account(line);
+            }
+        }
+    }
+
+    private ProductDTO findProduct(Long productId) {
+        List<ProductDTO> products = productRepository.findProductViewsByIds(List.of(productId));
+        if (products.isEmpty()) {
+            throw new ResourceNotFoundException("Product not found with ID: " + productId);
+        }
+        return products.get(0);
+    }
+
+    /**
+     * Write a cart's snapshot if it changed since the last write.
+     *
+     * @return true if a snapshot was written
+     */
+    private boolean flush(Cart cart) {
+        List<CartItem> rows;
+        long version;
+        synchronized (cart) {
+            if (cart.evicted || !cart.isDirty()) {
+                return false;
+            }
+            rows = cart.snapshot();
+            version = cart.version;
+        }
+        writeSnapshot(cart.customerId, rows);
+        synchronized (cart) {
+            cart.savedVersion = Math.max(cart.savedVersion, version);
+        }
+        return true;
+    }
+
+    private void writeSnapshot(Long customerId, List<CartItem> rows) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            cartItemRepository.deleteByCustomerId(customerId);
+            cartItemRepository.saveAll(rows);
+        });
+    }
+
+    private static String unavailableReason(ProductDTO product, int quantity) {
+        if (!Boolean.TRUE.equals(product.getIsActive())) {
+            return "No longer sold";
+        }
+        if (product.getQuantity() <= 0) {
+            return "Out of stock";
+        }
+        if (product.getQuantity() < quantity) {
+            return "Only " + product.getQuantity() + " in stock";
+        }
+        return null;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    /**
+     * A cart in memory. Its subtotal and item count cover the available lines
+     * and are adjusted as lines change. Guarded by its own monitor.
+     */
+    private static final class Cart {
+
+        private final Long customerId;
+        private final Map<Long, Line> lines = new LinkedHashMap<>();
+        private BigDecimal subtotal = BigDecimal.ZERO;
+        private int itemCount;
+        private long version;
+        private long savedVersion;
+        private volatile long lastAccess = System.currentTimeMillis();
+        private boolean evicted;
+
+        private Cart(Long customerId) {
+            this.customerId = customerId;
+        }
+
+        private boolean isDirty() {
+            return version != savedVersion;
+        }
+
+        private void account(Line line) {
+            if (line.unavailableReason == null) {
+                subtotal = subtotal.add(line.lineTotal);
+                itemCount += line.quantity;
+            }
+        }
+
+        private void unaccount(Line line) {
+            if (line.unavailableReason == null) {
+                subtotal = subtotal.subtract(line.lineTotal);
+                itemCount -= line.quantity;
+            }
+        }
+
+        private List<CartItem> snapshot() {
+            LocalDateTime now = LocalDateTime.now();
+            List<CartItem> rows = new ArrayList<>(lines.size());
+            for (Line line : lines.values()) {
+                rows.add(new CartItem(customerId, line.productId, line.quantity, now));
+            }
+            return rows;
+        }
+
+        /**
+         * Describe the cart with its available lines priced against the promotions.
+         */
+        private CartDTO toDTO(PromotionTable promotions) {
+            List<PromotionTable.Line> available = new ArrayList<>(lines.size());
+            for (Line line : lines.values()) {
+                if (line.unavailableReason == null) {
+                    available.add(new PromotionTable.Line(line.productId, line.product.getCategory(),
+                        line.unitPrice, line.quantity));
+                }
+            }
+            PromotionTable.PricedBasket priced = promotions.price(available);
+
+            List<CartLineDTO> dtos = new ArrayList<>(lines.size());
+            int pricedIndex = 0;
+            for (Line line : lines.values()) {
+                BigDecimal discount = line.unavailableReason == null
+                    ? priced.lines().get(pricedIndex++).discount() : BigDecimal.ZERO;
+                dtos.add(new CartLineDTO(line.productId, line.productName, line.product.getImageUrl(), line.quantity,
+                    line.product.getQuantity(), line.unitPrice, line.lineTotal, discount, line.unavailableReason));
+            }
+            return new CartDTO(customerId, dtos, itemCount, subtotal, priced.discount(), subtotal.subtract(priced.discount()),
+                available.size() == lines.size());
+        }
+    }
+
+    /**
+     * One product in a cart, with the product as last looked up.
+     */
+    private static final class Line {
+
+        private final Long productId;
+        private int quantity;
+        private ProductDTO product;
+        private String productName;
+        private BigDecimal unitPrice;
+        private BigDecimal lineTotal;
+        private String unavailableReason;
+        private long pricedAt;
+
+        private Line(Long productId, int quantity) {
+            this.productId = productId;
+            this.quantity = quantity;
+        }
+
+        private void reprice(ProductDTO product, long now) {
+            this.product = product;
+            this.productName = product.getProductName();
+            this.unitPrice = product.getPrice();
+            this.lineTotal = unitPrice.multiply(BigDecimal.valueOf(quantity));
+            this.unavailableReason = unavailableReason(product, quantity);
+            this.pricedAt = now;
+        }
+    }
+}
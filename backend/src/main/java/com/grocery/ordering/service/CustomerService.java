@@ -2,19 +2,25 @@ package com.grocery.ordering.service;
 
 import com.grocery.ordering.dto.CustomerDTO;
 import com.grocery.ordering.dto.CustomerRegistrationDTO;
+import com.grocery.ordering.dto.SearchResultDTO;
 import com.grocery.ordering.entity.Customer;
+import com.grocery.ordering.exception.DuplicateResourceException;
+import com.grocery.ordering.exception.ResourceNotFoundException;
+import com.grocery.ordering.exception.ValidationException;
 import com.grocery.ordering.repository.CustomerRepository;
+import com.grocery.ordering.util.NegativeResultCache;
 import com.grocery.ordering.util.ValidationUtils;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Service class for Customer operations.
@@ -35,6 +41,25 @@ public class CustomerService {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+
+    @Value("${app.search.negative-cache.ttl-ms:60000}")
+    private long negativeCacheTtlMs;
+
+    @Value("${app.search.negative-cache.max-entries:10000}")
+    private int negativeCacheMaxEntries;
+
+    private NegativeResultCache searchMissCache;
+
+    @PostConstruct
+    public void init() {
+        searchMissCache = new NegativeResultCache(negativeCacheTtlMs, negativeCacheMaxEntries);
+    }
+
     /**
      * Register a new customer.
      * 
@@ -50,12 +75,12 @@ public class CustomerService {
 
         // Check if email already exists
         if (customerRepository.existsByEmail(registrationDTO.getEmail())) {
-            throw new RuntimeException("Email already exists: " + registrationDTO.getEmail());
+            throw new DuplicateResourceException("Email already exists: " + registrationDTO.getEmail());
         }
 
         // Check if passwords match
         if (!registrationDTO.isPasswordMatching()) {
-            throw new RuntimeException("Passwords do not match");
+            throw new ValidationException("confirmPassword", "Passwords do not match");
         }
 
         // Create new customer
@@ -67,6 +92,8 @@ public class CustomerService {
         customer.setContactNumber(registrationDTO.getContactNumber());
 
         Customer savedCustomer = customerRepository.save(customer);
+        searchMissCache.invalidateAll();
+        dashboardStatsService.customerActivated();
         logger.info("Customer registered successfully with ID: {}", savedCustomer.getCustomerId());
 
         return convertToDTO(savedCustomer);
@@ -83,16 +110,16 @@ public class CustomerService {
     public CustomerDTO updateCustomer(Long customerId, CustomerDTO customerDTO) {
         logger.info("Updating customer with ID: {}", customerId);
 
-        Customer customer = customerRepository.findById(customerId)
-            .orElseThrow(() -> new RuntimeException("Customer not found with ID: " + customerId));
-
-        // Validate input
+        // Validate input before touching the database
         ValidationUtils.validateCustomerUpdate(customerDTO);
 
+        Customer customer = customerRepository.findById(customerId)
+            .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + customerId));
+
         // Check if email is being changed and if it already exists
         if (!customer.getEmail().equals(customerDTO.getEmail()) && 
             customerRepository.existsByEmail(customerDTO.getEmail())) {
-            throw new RuntimeException("Email already exists: " + customerDTO.getEmail());
+            throw new DuplicateResourceException("Email already exists: " + customerDTO.getEmail());
         }
 
         // Update customer details
@@ -102,6 +129,7 @@ public class CustomerService {
         customer.setContactNumber(customerDTO.getContactNumber());
 
         Customer updatedCustomer = customerRepository.save(customer);
+        searchMissCache.invalidateAll();
         logger.info("Customer updated successfully with ID: {}", updatedCustomer.getCustomerId());
 
         return convertToDTO(updatedCustomer);
@@ -118,7 +146,7 @@ public class CustomerService {
         logger.info("Updating password for customer ID: {}", customerId);
 
         Customer customer = customerRepository.findById(customerId)
-            .orElseThrow(() -> new RuntimeException("Customer not found with ID: " + customerId));
+            .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + customerId));
 
         // Validate password
         ValidationUtils.validatePassword(newPassword);
@@ -126,6 +154,9 @@ public class CustomerService {
         customer.setPassword(passwordEncoder.encode(newPassword));
         customerRepository.save(customer);
 
+        // Existing sessions must log in again with the new password
+        refreshTokenService.revokeAllForUser(customer.getEmail());
+
         logger.info("Password updated successfully for customer ID: {}", customerId);
     }
 
@@ -139,7 +170,7 @@ public class CustomerService {
     @Transactional(readOnly = true)
     public CustomerDTO getCustomerById(Long customerId) {
         Customer customer = customerRepository.findById(customerId)
-            .orElseThrow(() -> new RuntimeException("Customer not found with ID: " + customerId));
+            .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + customerId));
 
         return convertToDTO(customer);
     }
@@ -154,34 +185,44 @@ public class CustomerService {
     @Transactional(readOnly = true)
     public CustomerDTO getCustomerByEmail(String email) {
         Customer customer = customerRepository.findByEmailAndIsActive(email, true)
-            .orElseThrow(() -> new RuntimeException("Customer not found with email: " + email));
+            .orElseThrow(() -> new ResourceNotFoundException("Customer not found with email: " + email));
 
         return convertToDTO(customer);
     }
 
     /**
      * Search customers by name.
+     * A search without hits returns an empty result; recent misses are
+     * answered from the negative result cache.
      * 
      * @param customerName the customer name to search for
-     * @return list of CustomerDTOs matching the search criteria
+     * @return search result with matching CustomerDTOs
      */
     @Transactional(readOnly = true)
-    public List<CustomerDTO> searchCustomersByName(String customerName) {
+    public SearchResultDTO<CustomerDTO> searchCustomersByName(String customerName) {
         logger.info("Searching customers by name: {}", customerName);
 
         if (customerName == null || customerName.trim().isEmpty()) {
-            throw new RuntimeException("Customer name cannot be empty");
+            throw new ValidationException("customerName", "Customer name cannot be empty");
         }
 
-        List<Customer> customers = customerRepository.findByCustomerNameContainingIgnoreCase(customerName.trim());
-        
+        long start = System.nanoTime();
+        if (searchMissCache.get(customerName) != null) {
+            return new SearchResultDTO<>(customerName, List.of(), List.of(), elapsedMs(start), true);
+        }
+
+        List<CustomerDTO> customers = customerRepository.findCustomerViewsByName(customerName.trim());
+
+        // Customer names are not offered as suggestions
         if (customers.isEmpty()) {
-            throw new RuntimeException("Customer not found");
+            searchMissCache.put(customerName, List.of());
         }
 
-        return customers.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return new SearchResultDTO<>(customerName, customers, List.of(), elapsedMs(start), false);
+    }
+
+    public NegativeResultCache getSearchMissCache() {
+        return searchMissCache;
     }
 
     /**
@@ -191,10 +232,7 @@ public class CustomerService {
      */
     @Transactional(readOnly = true)
     public List<CustomerDTO> getAllActiveCustomers() {
-        List<Customer> customers = customerRepository.findByIsActiveTrue();
-        return customers.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return customerRepository.findActiveCustomerViews();
     }
 
     /**
@@ -206,14 +244,22 @@ public class CustomerService {
         logger.info("Deactivating customer with ID: {}", customerId);
 
         Customer customer = customerRepository.findById(customerId)
-            .orElseThrow(() -> new RuntimeException("Customer not found with ID: " + customerId));
+            .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + customerId));
 
+        if (Boolean.TRUE.equals(customer.getIsActive())) {
+            dashboardStatsService.customerDeactivated();
+        }
         customer.setIsActive(false);
         customerRepository.save(customer);
+        refreshTokenService.revokeAllForUser(customer.getEmail());
 
         logger.info("Customer deactivated successfully with ID: {}", customerId);
     }
 
+    private static double elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1000 / 1000.0;
+    }
+
     /**
      * Convert Customer entity to CustomerDTO.
      * 
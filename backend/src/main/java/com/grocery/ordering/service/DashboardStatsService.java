@@ -0,0 +1,124 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.dto.DashboardStatsDTO;
+import com.grocery.ordering.repository.CustomerRepository;
+import com.grocery.ordering.repository.OrderRepository;
+import com.grocery.ordering.repository.ProductRepository;
+import com.grocery.ordering.util.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service class for admin dashboard statistics.
+ * Entity counts are kept in memory: they are loaded from the count queries
+ * at startup, adjusted by the services that create or deactivate entities
+ * once their transaction commits, and reconciled with the database
+ * periodically in case another instance or a direct database change
+ * altered them.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class DashboardStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardStatsService.class);
+
+    private static final int RECENT_ORDERS = 5;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final AtomicLong activeCustomers = new AtomicLong();
+    private final AtomicLong activeProducts = new AtomicLong();
+    private final AtomicLong totalOrders = new AtomicLong();
+
+    private volatile boolean loaded;
+
+    /**
+     * Load the counters once the application, including its seed data, is ready.
+     *
+     * @param event the application ready event
+     */
+    @EventListener
+    public void loadCounters(ApplicationReadyEvent event) {
+        reconcile();
+    }
+
+    /**
+     * Reset the counters from the count queries.
+     */
+    @Scheduled(initialDelayString = "${app.dashboard.reconcile-interval-ms:300000}",
+               fixedDelayString = "${app.dashboard.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        long customers = customerRepository.countActiveCustomers();
+        long products = productRepository.countActiveProducts();
+        long orders = orderRepository.countTotalOrders();
+
+        long customerDrift = activeCustomers.getAndSet(customers) - customers;
+        long productDrift = activeProducts.getAndSet(products) - products;
+        long orderDrift = totalOrders.getAndSet(orders) - orders;
+        if (loaded && (customerDrift != 0 || productDrift != 0 || orderDrift != 0)) {
+            logger.info("Dashboard counters reconciled, drift: customers {}, products {}, orders {}",
+                customerDrift, productDrift, orderDrift);
+        }
+        loaded = true;
+    }
+
+    /**
+     * Get the dashboard statistics: three counters and the five newest orders, without their items.
+     *
+     * @return the dashboard statistics
+     */
+    public DashboardStatsDTO getStats() {
+        if (!loaded) {
+            reconcile();
+        }
+        return new DashboardStatsDTO(activeCustomers.get(), activeProducts.get(), totalOrders.get(),
+            orderRepository.findRecentOrderViews(Limit.of(RECENT_ORDERS)));
+    }
+
+    public void customerActivated() {
+        afterCommit(activeCustomers, 1);
+    }
+
+    public void customerDeactivated() {
+        afterCommit(activeCustomers, -1);
+    }
+
+    public void productAdded() {
+        afterCommit(activeProducts, 1);
+    }
+
+    public void productRemoved() {
+        afterCommit(activeProducts, -1);
+    }
+
+    public void orderCreated() {
+        afterCommit(totalOrders, 1);
+    }
+
+    /**
+     * Apply a change to a counter once the current transaction commits, or
+     * immediately when there is none, so rolled back writes are not counted.
+     */
+    private static void afterCommit(AtomicLong counter, long delta) {
+        TransactionUtils.afterCommit(() -> counter.addAndGet(delta));
+    }
+}
@@ -0,0 +1,321 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.dto.DeliverySlotDTO;
+import com.grocery.ordering.dto.DeliverySlotRequestDTO;
+import com.grocery.ordering.entity.DeliverySlot;
+import com.grocery.ordering.exception.BusinessRuleException;
+import com.grocery.ordering.exception.ResourceNotFoundException;
+import com.grocery.ordering.exception.ValidationException;
+import com.grocery.ordering.repository.DeliverySlotRepository;
+import com.grocery.ordering.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for delivery slots.
+ * A place in a slot is booked with a conditional update of its row, which
+ * only succeeds while the slot has capacity left, so concurrent checkouts
+ * never overbook a slot and never lock it for longer than the update. The
+ * places left in the bookable slots are also counted in memory: full slots
+ * are rejected without touching the database, and the slot listing is
+ * served from a cached list that is rebuilt after a booking or release
+ * commits rather than queried for every customer.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class DeliverySlotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeliverySlotService.class);
+
+    private static final Comparator<SlotState> DELIVERY_ORDER =
+        Comparator.comparing(SlotState::startsAt).thenComparing(SlotState::slotId);
+
+    @Autowired
+    private DeliverySlotRepository deliverySlotRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.delivery.slots.template:09:00-12:00,12:00-15:00,15:00-18:00,18:00-21:00}")
+    private String template;
+
+    @Value("${app.delivery.slots.capacity:20}")
+    private int defaultCapacity;
+
+    @Value("${app.delivery.slots.days-ahead:7}")
+    private int daysAhead;
+
+    /**
+     * A bookable slot and the places left in it.
+     */
+    private record SlotState(Long slotId, LocalDate slotDate, LocalTime startTime, LocalTime endTime, int capacity,
+                             AtomicInteger remaining) {
+
+        private LocalDateTime startsAt() {
+            return slotDate.atTime(startTime);
+        }
+    }
+
+    /**
+     * The cached slot listing and the start of its earliest slot, after which it is rebuilt.
+     */
+    private record Listing(List<DeliverySlotDTO> slots, LocalDateTime validUntil) {
+    }
+
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private volatile Map<Long, SlotState> slots = Map.of();
+    private volatile Listing listing = new Listing(List.of(), LocalDateTime.MIN);
+    private List<LocalTime[]> windows;
+
+    @PostConstruct
+    public void init() {
+        windows = new ArrayList<>();
+        for (String window : template.split(",")) {
+            if (window.isBlank()) {
+                continue;
+            }
+            String[] times = window.trim().split("-");
+            LocalTime start = LocalTime.parse(times[0].trim());
+            LocalTime end = LocalTime.parse(times[1].trim());
+            if (!end.isAfter(start)) {
+                throw new IllegalStateException("Delivery slot window must end after it starts: " + window);
+            }
+            windows.add(new LocalTime[] {start, end});
+        }
+    }
+
+    /**
+     * Create the slots of the coming days and load them once the application is ready.
+     *
+     * @param event the application ready event
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void load(ApplicationReadyEvent event) {
+        refresh();
+    }
+
+    /**
+     * Create the template slots of any day that has come into the booking
+     * window, and reload the bookable slots with their booked places from
+     * the database, which correct any drift of the in-memory counters.
+     */
+    @Scheduled(fixedDelayString = "${app.delivery.slots.refresh-interval-ms:60000}",
+        initialDelayString = "${app.delivery.slots.refresh-interval-ms:60000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public synchronized void refresh() {
+        LocalDate today = LocalDate.now();
+        LocalDate last = today.plusDays(daysAhead);
+        // A new transaction, as this also runs once the transaction creating a slot has committed
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        try {
+            Integer created = transaction.execute(status -> createTemplateSlots(today, last));
+            if (created != null && created > 0) {
+                logger.info("Created {} delivery slots up to {}", created, last);
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the same slots first
+            logger.debug("Delivery slots already created: {}", e.getMessage());
+        }
+
+        transaction.setReadOnly(true);
+        List<DeliverySlot> loaded = transaction.execute(status -> deliverySlotRepository.findBySlotDateBetween(today, last));
+        Map<Long, SlotState> states = new HashMap<>();
+        for (DeliverySlot slot : loaded) {
+            if (Boolean.TRUE.equals(slot.getIsActive())) {
+                states.put(slot.getSlotId(), new SlotState(slot.getSlotId(), slot.getSlotDate(), slot.getStartTime(),
+                    slot.getEndTime(), slot.getCapacity(), new AtomicInteger(slot.getCapacity() - slot.getBooked())));
+            }
+        }
+        slots = Map.copyOf(states);
+        stale.set(true);
+        logger.debug("Loaded {} bookable delivery slots", states.size());
+    }
+
+    /**
+     * Get the slots that can still be booked, with the places left in each.
+     * The list is cached and only rebuilt after a booking or release, or
+     * once its earliest slot has started.
+     *
+     * @return list of delivery slot DTOs in delivery order
+     */
+    public List<DeliverySlotDTO> getAvailableSlots() {
+        Listing current = listing;
+        LocalDateTime now = LocalDateTime.now();
+        if (stale.getAndSet(false) || !now.isBefore(current.validUntil())) {
+            current = buildListing(now);
+            listing = current;
+        }
+        return current.slots();
+    }
+
+    /**
+     * Get the slots of a date range with their booked places, for administration.
+     *
+     * @param from the first date, or null for today
+     * @param to the last date, or null for the end of the booking window
+     * @return list of delivery slot DTOs in delivery order
+     */
+    public List<DeliverySlotDTO> getSlots(LocalDate from, LocalDate to) {
+        LocalDate first = from != null ? from : LocalDate.now();
+        LocalDate last = to != null ? to : LocalDate.now().plusDays(daysAhead);
+        if (last.isBefore(first)) {
+            throw new ValidationException("to", "End date must not be before the start date");
+        }
+        return deliverySlotRepository.findBySlotDateBetween(first, last).stream()
+            .map(slot -> new DeliverySlotDTO(slot.getSlotId(), slot.getSlotDate(), slot.getStartTime(),
+                slot.getEndTime(), slot.getCapacity(),
+                Boolean.TRUE.equals(slot.getIsActive()) ? slot.getCapacity() - slot.getBooked() : 0))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Book a place in a slot for the order being placed in the current
+     * transaction. The slot row stays locked until that transaction ends,
+     * so this is best called once the rest of the order is in place.
+     *
+     * @param slotId the slot ID
+     * @throws ResourceNotFoundException if the slot is not open for booking
+     * @throws BusinessRuleException if the slot has started or is full
+     */
+    @Transactional
+    public void book(Long slotId) {
+        SlotState state = slots.get(slotId);
+        if (state == null) {
+            throw new ResourceNotFoundException("Delivery slot not found with ID: " + slotId);
+        }
+        if (!LocalDateTime.now().isBefore(state.startsAt())) {
+            throw new BusinessRuleException("Delivery slot has already started");
+        }
+        if (state.remaining().get() <= 0 || deliverySlotRepository.tryBook(slotId) == 0) {
+            throw new BusinessRuleException("Delivery slot is full");
+        }
+        TransactionUtils.afterCommit(() -> {
+            state.remaining().decrementAndGet();
+            stale.set(true);
+        });
+    }
+
+    /**
+     * Release the place an order held in a slot, once the current transaction commits.
+     *
+     * @param slotId the slot ID
+     */
+    @Transactional
+    public void release(Long slotId) {
+        release(slotId, 1);
+    }
+
+    /**
+     * Release the places of several cancelled orders in a slot with one update.
+     *
+     * @param slotId the slot ID
+     * @param places the number of places to release
+     */
+    @Transactional
+    public void release(Long slotId, int places) {
+        if (deliverySlotRepository.release(slotId, places) == 0) {
+            return;
+        }
+        SlotState state = slots.get(slotId);
+        if (state != null) {
+            TransactionUtils.afterCommit(() -> {
+                state.remaining().accumulateAndGet(places, (remaining, released) ->
+                    Math.min(remaining + released, state.capacity()));
+                stale.set(true);
+            });
+        }
+    }
+
+    /**
+     * Create a delivery slot outside the daily template.
+     *
+     * @param request the slot date, times and capacity
+     * @return the created slot
+     * @throws ValidationException if the slot ends before it starts or is in the past
+     * @throws BusinessRuleException if a slot already starts at the same time
+     */
+    @Transactional
+    public DeliverySlotDTO createSlot(DeliverySlotRequestDTO request) {
+        if (!request.getEndTime().isAfter(request.getStartTime())) {
+            throw new ValidationException("endTime", "End time must be after the start time");
+        }
+        if (request.getSlotDate().isBefore(LocalDate.now())) {
+            throw new ValidationException("slotDate", "Slot date must not be in the past");
+        }
+        if (deliverySlotRepository.existsBySlotDateAndStartTime(request.getSlotDate(), request.getStartTime())) {
+            throw new BusinessRuleException("A delivery slot already starts at " + request.getStartTime()
+                + " on " + request.getSlotDate());
+        }
+
+        DeliverySlot slot = deliverySlotRepository.save(new DeliverySlot(request.getSlotDate(),
+            request.getStartTime(), request.getEndTime(), request.getCapacity()));
+        TransactionUtils.afterCommit(this::refresh);
+
+        logger.info("Delivery slot created with ID: {}", slot.getSlotId());
+        return new DeliverySlotDTO(slot.getSlotId(), slot.getSlotDate(), slot.getStartTime(), slot.getEndTime(),
+            slot.getCapacity(), slot.getCapacity());
+    }
+
+    private int createTemplateSlots(LocalDate first, LocalDate last) {
+        Set<LocalDateTime> existing = new HashSet<>();
+        for (DeliverySlot slot : deliverySlotRepository.findBySlotDateBetween(first, last)) {
+            existing.add(slot.getSlotDate().atTime(slot.getStartTime()));
+        }
+        List<DeliverySlot> missing = new ArrayList<>();
+        for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+            for (LocalTime[] window : windows) {
+                if (!existing.contains(date.atTime(window[0]))) {
+                    missing.add(new DeliverySlot(date, window[0], window[1], defaultCapacity));
+                }
+            }
+        }
+        deliverySlotRepository.saveAll(missing);
+        return missing.size();
+    }
+
+    private Listing buildListing(LocalDateTime now) {
+        List<SlotState> open = slots.values().stream()
+            .filter(state -> now.isBefore(state.startsAt()))
+            .sorted(DELIVERY_ORDER)
+            .toList();
+        List<DeliverySlotDTO> dtos = new ArrayList<>(open.size());
+        for (SlotState state : open) {
+            dtos.add(new DeliverySlotDTO(state.slotId(), state.slotDate(), state.startTime(), state.endTime(),
+                state.capacity(), state.remaining().get()));
+        }
+        LocalDateTime validUntil = open.isEmpty() ? LocalDateTime.MAX : open.get(0).startsAt();
+        return new Listing(List.copyOf(dtos), validUntil);
+    }
+}
@@ -0,0 +1,169 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.dto.OrderStatusEventDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Service class pushing order status changes to customers over Server-Sent Events.
+ * Each open stream is an {@link SseEmitter} on an asynchronous request, so
+ * an idle subscriber holds a connection but no request thread. Status
+ * changes published by {@link OrderService} and {@link PickWaveService}
+ * are delivered once their transaction commits, by a small pool of sender
+ * threads, so a slow client never holds up the request that changed the order.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Service
+public class OrderEventService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderEventService.class);
+
+    private static final String STATUS_EVENT = "order-status";
+
+    @Value("${app.orders.events.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${app.orders.events.max-streams-per-customer:5}")
+    private int maxStreamsPerCustomer;
+
+    @Value("${app.orders.events.sender-threads:2}")
+    private int senderThreads;
+
+    private final Map<Long, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger streams = new AtomicInteger();
+    private ExecutorService sender;
+
+    @PostConstruct
+    public void init() {
+        sender = Executors.newFixedThreadPool(Math.max(1, senderThreads));
+    }
+
+    /**
+     * Open an order event stream for a customer. When the customer already
+     * has the maximum number of streams open, the oldest is closed.
+     *
+     * @param customerId the customer ID
+     * @return the emitter of the stream
+     */
+    public SseEmitter subscribe(Long customerId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        List<SseEmitter> emitters = subscribers.compute(customerId, (id, open) -> {
+            List<SseEmitter> list = open != null ? open : new CopyOnWriteArrayList<>();
+            list.add(emitter);
+            streams.incrementAndGet();
+            return list;
+        });
+        emitter.onCompletion(() -> remove(customerId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove(customerId, emitter));
+        while (emitters.size() > maxStreamsPerCustomer) {
+            SseEmitter oldest = emitters.get(0);
+            remove(customerId, oldest);
+            oldest.complete();
+        }
+
+        // Sent at once so the response is committed and the client knows it is connected
+        try {
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        logger.debug("Order event stream opened for customer ID: {}, {} streams open", customerId, streams.get());
+        return emitter;
+    }
+
+    /**
+     * Push an order status change to the customer's streams once the
+     * transaction that made it commits, or at once when there is none.
+     *
+     * @param event the status change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusEventDTO event) {
+        Long customerId = event.getCustomerId();
+        List<SseEmitter> emitters = subscribers.get(customerId);
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+        sendAll(customerId, emitters, () -> SseEmitter.event()
+            .name(STATUS_EVENT)
+            .id(event.getOrderId() + "-" + event.getOrderStatus())
+            .data(event, MediaType.APPLICATION_JSON));
+    }
+
+    /**
+     * Send a comment on every open stream, so proxies keep idle connections
+     * open and streams of clients that have gone away are closed. The sends
+     * are handed to the sender threads, so a slow client never holds up the
+     * scheduler thread shared with the other scheduled tasks.
+     */
+    @Scheduled(fixedDelayString = "${app.orders.events.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        if (streams.get() == 0) {
+            return;
+        }
+        subscribers.forEach((customerId, emitters) ->
+            sendAll(customerId, emitters, () -> SseEmitter.event().comment("heartbeat")));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+    }
+
+    /**
+     * Send an event to each of a customer's streams on a sender thread.
+     */
+    private void sendAll(Long customerId, List<SseEmitter> emitters, Supplier<SseEmitter.SseEventBuilder> event) {
+        try {
+            sender.execute(() -> {
+                for (SseEmitter emitter : emitters) {
+                    send(customerId, emitter, event.get());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Order events for customer ID {} dropped during shutdown", customerId);
+        }
+    }
+
+    private void send(Long customerId, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // The client has gone away or the stream has already completed
+            remove(customerId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(Long customerId, SseEmitter emitter) {
+        subscribers.computeIfPresent(customerId, (id, emitters) -> {
+            if (emitters.remove(emitter)) {
+                streams.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
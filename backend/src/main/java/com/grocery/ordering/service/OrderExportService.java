@@ -0,0 +1,222 @@
+package com.grocery.ordering.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.grocery.ordering.dto.OrderDTO;
+import com.grocery.ordering.dto.OrderExportRow;
+import com.grocery.ordering.dto.OrderItemDTO;
+import com.grocery.ordering.exception.ValidationException;
+import com.grocery.ordering.repository.OrderRepository;
+import com.grocery.ordering.util.ValidationUtils;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Service class for exporting orders.
+ * Orders are read through a forward-only cursor and written to the output
+ * as they arrive, so memory use does not grow with the size of the export.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class OrderExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderExportService.class);
+
+    private static final String CSV_HEADER = "order_id,order_date,order_status,total_amount,customer_id,customer_name,"
+        + "customer_email,delivery_address,contact_number,order_item_id,product_id,product_name,quantity,unit_price,"
+        + "line_total,discount_amount,applied_promotions";
+
+    /**
+     * Supported export formats.
+     */
+    public enum Format {
+        /** One line per order item, orders without items as a single line. */
+        CSV("text/csv", "csv"),
+        /** One JSON order per line, with its items nested. */
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Parse a format name.
+         *
+         * @param name the format name, case-insensitive
+         * @return the format
+         * @throws ValidationException if the format is not supported
+         */
+        public static Format of(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException("format", "Format must be csv or ndjson");
+            }
+        }
+    }
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ObjectWriter orderWriter;
+
+    @PostConstruct
+    public void init() {
+        orderWriter = objectMapper.writerFor(OrderDTO.class)
+            .withRootValueSeparator("\n")
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Write all orders placed within a date range to the output.
+     *
+     * @param from the first day, or null for no lower bound
+     * @param to the last day, or null for no upper bound
+     * @param format the export format
+     * @param output the stream to write to; it is flushed but not closed
+     * @return the number of rows read
+     * @throws IOException if writing fails
+     */
+    public long exportOrders(LocalDate from, LocalDate to, Format format, OutputStream output) throws IOException {
+        ValidationUtils.validateDateRange(from, to);
+        logger.info("Exporting orders from {} to {} as {}", from, to, format);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        long rows;
+        try (Stream<OrderExportRow> stream = orderRepository.streamExportRows(
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null)) {
+            rows = format == Format.CSV ? writeCsv(stream.iterator(), writer) : writeNdjson(stream.iterator(), writer);
+        }
+        writer.flush();
+
+        logger.info("Exported {} order rows as {}", rows, format);
+        return rows;
+    }
+
+    private long writeCsv(Iterator<OrderExportRow> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long count = 0;
+        while (rows.hasNext()) {
+            OrderExportRow row = rows.next();
+            writer.write(String.valueOf(row.orderId()));
+            writeCsvField(writer, row.orderDate());
+            writeCsvField(writer, row.orderStatus());
+            writeCsvField(writer, row.totalAmount());
+            writeCsvField(writer, row.customerId());
+            writeCsvField(writer, row.customerName());
+            writeCsvField(writer, row.customerEmail());
+            writeCsvField(writer, row.deliveryAddress());
+            writeCsvField(writer, row.contactNumber());
+            writeCsvField(writer, row.orderItemId());
+            writeCsvField(writer, row.productId());
+            writeCsvField(writer, row.productName());
+            writeCsvField(writer, row.quantity());
+            writeCsvField(writer, row.unitPrice());
+            writeCsvField(writer, row.totalPrice());
+            writeCsvField(writer, row.discountAmount());
+            writeCsvField(writer, row.appliedPromotions());
+            writer.write('\n');
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Write a comma and the value, quoted when it contains separators or
+     * quotes, and prefixed with a quote when a spreadsheet would read it as
+     * a formula.
+     */
+    private static void writeCsvField(Writer writer, Object value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(text);
+        }
+    }
+
+    /**
+     * Rows arrive grouped by order, so only the order being assembled is held in memory.
+     */
+    private long writeNdjson(Iterator<OrderExportRow> rows, Writer writer) throws IOException {
+        long count = 0;
+        try (SequenceWriter sequence = orderWriter.writeValues(writer)) {
+            OrderDTO current = null;
+            while (rows.hasNext()) {
+                OrderExportRow row = rows.next();
+                if (current == null || !current.getOrderId().equals(row.orderId())) {
+                    if (current != null) {
+                        sequence.write(current);
+                    }
+                    current = toOrder(row);
+                }
+                if (row.orderItemId() != null) {
+                    current.getOrderItems().add(new OrderItemDTO(row.orderItemId(), row.orderId(), row.productId(),
+                        row.productName(), row.quantity(), row.unitPrice(), row.totalPrice(), row.discountAmount(),
+                        row.appliedPromotions()));
+                }
+                count++;
+            }
+            if (current != null) {
+                sequence.write(current);
+                sequence.flush();
+                writer.write('\n');
+            }
+        }
+        return count;
+    }
+
+    private static OrderDTO toOrder(OrderExportRow row) {
+        OrderDTO order = new OrderDTO(row.orderId(), row.customerId(), row.customerName(), row.customerEmail(),
+            row.orderDate(), row.totalAmount(), row.orderStatus(), row.deliveryAddress(), row.contactNumber());
+        order.setOrderItems(new ArrayList<>());
+        return order;
+    }
+}
@@ -1,23 +1,45 @@
 package com.grocery.ordering.service;
 
+import com.grocery.ordering.dto.BulkStatusResultDTO;
 import com.grocery.ordering.dto.OrderDTO;
+import com.grocery.ordering.dto.OrderFilterDTO;
 import com.grocery.ordering.dto.OrderItemDTO;
+import com.grocery.ordering.dto.OrderPageDTO;
+import com.grocery.ordering.dto.OrderStatusEventDTO;
+import com.grocery.ordering.dto.ReorderBasketDTO;
+import com.grocery.ordering.dto.ReorderLineDTO;
+import com.grocery.ordering.dto.ReorderResultDTO;
 import com.grocery.ordering.entity.Customer;
 import com.grocery.ordering.entity.Order;
 import com.grocery.ordering.entity.OrderItem;
 import com.grocery.ordering.entity.Product;
+import com.grocery.ordering.exception.BusinessRuleException;
+import com.grocery.ordering.exception.ResourceNotFoundException;
+import com.grocery.ordering.exception.ValidationException;
 import com.grocery.ordering.repository.CustomerRepository;
 import com.grocery.ordering.repository.OrderRepository;
 import com.grocery.ordering.repository.ProductRepository;
+import com.grocery.ordering.util.KeysetCursor;
+import com.grocery.ordering.util.PromotionTable;
+import com.grocery.ordering.util.ValidationUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -42,6 +64,36 @@ public class OrderService {
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+
+    @Autowired
+    private SalesAggregateService salesAggregateService;
+
+    @Autowired
+    private TrendingProductService trendingProductService;
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @Autowired
+    private PromotionService promotionService;
+
+    @Autowired
+    private DeliverySlotService deliverySlotService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.orders.page.max-size:200}")
+    private int maxPageSize;
+
+    @Value("${app.orders.bulk.max-size:10000}")
+    private int maxBulkSize;
+
+    @Value("${app.orders.bulk.chunk-size:1000}")
+    private int bulkChunkSize;
+
     /**
      * Create a new order.
      * 
@@ -50,11 +102,21 @@ public class OrderService {
      * @throws RuntimeException if order creation fails
      */
     public OrderDTO createOrder(OrderDTO orderDTO) {
+        return createOrder(orderDTO, Map.of());
+    }
+
+    /**
+     * Create a new order, taking products already loaded in this transaction
+     * from the given map and loading only the rest.
+     */
+    private OrderDTO createOrder(OrderDTO orderDTO, Map<Long, Product> loadedProducts) {
         logger.info("Creating new order for customer ID: {}", orderDTO.getCustomerId());
+        // Before any other lock, so a rebuild finishing meanwhile cannot deadlock with this order
+        salesAggregateService.lockRollups();
 
         // Validate customer exists
         Customer customer = customerRepository.findById(orderDTO.getCustomerId())
-            .orElseThrow(() -> new RuntimeException("Customer not found with ID: " + orderDTO.getCustomerId()));
+            .orElseThrow(() -> new ResourceNotFoundException("Customer not found with ID: " + orderDTO.getCustomerId()));
 
         // Create new order
         Order order = new Order();
@@ -62,22 +124,35 @@ public class OrderService {
         order.setTotalAmount(orderDTO.getTotalAmount());
         order.setDeliveryAddress(orderDTO.getDeliveryAddress());
         order.setContactNumber(orderDTO.getContactNumber());
+        order.setDeliverySlotId(orderDTO.getDeliverySlotId());
         order.setOrderStatus(Order.OrderStatus.PENDING);
 
         // Save order first to get ID
         Order savedOrder = orderRepository.save(order);
+        dashboardStatsService.orderCreated();
 
         // Process order items if provided
         if (orderDTO.getOrderItems() != null && !orderDTO.getOrderItems().isEmpty()) {
-            BigDecimal calculatedTotal = BigDecimal.ZERO;
+            List<OrderItem> orderItems = new ArrayList<>(orderDTO.getOrderItems().size());
+            // Products not already loaded are loaded in one query rather than one per item
+            Map<Long, Product> products = new HashMap<>(loadedProducts);
+            List<Long> missingIds = orderDTO.getOrderItems().stream()
+                .map(OrderItemDTO::getProductId).distinct()
+                .filter(productId -> !products.containsKey(productId)).toList();
+            if (!missingIds.isEmpty()) {
+                productRepository.findAllById(missingIds)
+                    .forEach(product -> products.put(product.getProductId(), product));
+            }
             
             for (OrderItemDTO itemDTO : orderDTO.getOrderItems()) {
-                Product product = productRepository.findById(itemDTO.getProductId())
-                    .orElseThrow(() -> new RuntimeException("Product not found with ID: " + itemDTO.getProductId()));
+                Product product = products.get(itemDTO.getProductId());
+                if (product == null) {
+                    throw new ResourceNotFoundException("Product not found with ID: " + itemDTO.getProductId());
+                }
 
                 // Check if sufficient quantity is available
                 if (product.getQuantity() < itemDTO.getQuantity()) {
-                    throw new RuntimeException("Insufficient quantity for product: " + product.getProductName() + 
+                    throw new BusinessRuleException("Insufficient quantity for product: " + product.getProductName() + 
                         ". Available: " + product.getQuantity() + ", Requested: " + itemDTO.getQuantity());
                 }
 
@@ -93,14 +168,37 @@ public class OrderService {
                 product.setQuantity(product.getQuantity() - itemDTO.getQuantity());
                 productRepository.save(product);
 
-                calculatedTotal = calculatedTotal.add(orderItem.getTotalPrice());
+                orderItems.add(orderItem);
+            }
+
+            // Apply promotions to the whole basket in one pass
+            List<PromotionTable.Line> lines = new ArrayList<>(orderItems.size());
+            for (OrderItem orderItem : orderItems) {
+                Product product = orderItem.getProduct();
+                lines.add(new PromotionTable.Line(product.getProductId(), product.getCategory(),
+                    orderItem.getUnitPrice(), orderItem.getQuantity()));
+            }
+            PromotionTable.PricedBasket priced = promotionService.price(lines);
+            for (int i = 0; i < orderItems.size(); i++) {
+                PromotionTable.PricedLine pricedLine = priced.lines().get(i);
+                orderItems.get(i).setDiscountAmount(pricedLine.discount());
+                orderItems.get(i).setAppliedPromotions(appliedPromotions(pricedLine));
             }
 
-            // Update order total amount
-            savedOrder.setTotalAmount(calculatedTotal);
+            // Update order total amount; the items are saved with the order
+            savedOrder.setOrderItems(orderItems);
+            savedOrder.setTotalAmount(priced.total());
             savedOrder = orderRepository.save(savedOrder);
         }
 
+        salesAggregateService.recordOrder(savedOrder);
+        trendingProductService.recordOrder(savedOrder);
+        recommendationService.recordOrder(savedOrder);
+        // Booked last, so the slot row is locked only from here until the order commits
+        if (savedOrder.getDeliverySlotId() != null) {
+            deliverySlotService.book(savedOrder.getDeliverySlotId());
+        }
+
         logger.info("Order created successfully with ID: {}", savedOrder.getOrderId());
         return convertToDTO(savedOrder);
     }
@@ -116,14 +214,11 @@ public class OrderService {
         logger.info("Fetching order details for customer ID: {}", customerId);
 
         // Validate customer exists
-        customerRepository.findById(customerId)
-            .orElseThrow(() -> new RuntimeException("Customer not found with ID: " + customerId));
+        if (!customerRepository.existsById(customerId)) {
+            throw new ResourceNotFoundException("Customer not found with ID: " + customerId);
+        }
 
-        List<Order> orders = orderRepository.findByCustomerCustomerIdWithItems(customerId);
-        
-        return orders.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return withItems(orderRepository.findOrderViewsByCustomerId(customerId));
     }
 
     /**
@@ -136,43 +231,236 @@ public class OrderService {
     @Transactional(readOnly = true)
     public OrderDTO getOrderById(Long orderId) {
         Order order = orderRepository.findById(orderId)
-            .orElseThrow(() -> new RuntimeException("Order not found with ID: " + orderId));
+            .orElseThrow(() -> new ResourceNotFoundException("Order not found with ID: " + orderId));
 
         return convertToDTO(order);
     }
 
     /**
      * Update order status.
+     * The order must be allowed to move to the new status from its current
+     * one; moving it to CANCELLED cancels it as {@link #cancelOrder} does.
      * 
      * @param orderId the order ID
      * @param status the new order status
      * @return updated OrderDTO
-     * @throws RuntimeException if order not found
+     * @throws ResourceNotFoundException if order not found
+     * @throws BusinessRuleException if the order cannot move to the new status
      */
     public OrderDTO updateOrderStatus(Long orderId, Order.OrderStatus status) {
         logger.info("Updating order status for ID: {} to {}", orderId, status);
 
         Order order = orderRepository.findById(orderId)
-            .orElseThrow(() -> new RuntimeException("Order not found with ID: " + orderId));
+            .orElseThrow(() -> new ResourceNotFoundException("Order not found with ID: " + orderId));
 
+        if (!order.getOrderStatus().canTransitionTo(status)) {
+            throw new BusinessRuleException("Order cannot move from " + order.getOrderStatus() + " to " + status);
+        }
+        if (status == Order.OrderStatus.CANCELLED) {
+            return convertToDTO(cancel(order));
+        }
+        Order.OrderStatus previousStatus = order.getOrderStatus();
         order.setOrderStatus(status);
         Order updatedOrder = orderRepository.save(order);
+        eventPublisher.publishEvent(new OrderStatusEventDTO(orderId, order.getCustomer().getCustomerId(),
+            previousStatus, status));
 
         logger.info("Order status updated successfully for ID: {}", orderId);
         return convertToDTO(updatedOrder);
     }
 
     /**
-     * Get all orders.
+     * Move many orders to a new status. The current statuses are read and
+     * the allowed transitions applied with one query and one bulk update per
+     * chunk of order IDs. Cancelling restores stock with one update per
+     * product, and releases delivery slots and reverses sales with one
+     * update per slot and per rollup row, however many orders are cancelled.
+     * 
+     * @param orderIds the order IDs
+     * @param status the new order status
+     * @return the number of orders updated, with the IDs not found or not allowed to move
+     * @throws ValidationException if too many order IDs are given
+     * @throws BusinessRuleException if orders change status while being updated
+     */
+    public BulkStatusResultDTO bulkUpdateStatus(List<Long> orderIds, Order.OrderStatus status) {
+        List<Long> ids = orderIds.stream().distinct().toList();
+        if (ids.size() > maxBulkSize) {
+            throw new ValidationException("orderIds", "At most " + maxBulkSize + " orders can be updated at once");
+        }
+        logger.info("Updating status of {} orders to {}", ids.size(), status);
+        if (status == Order.OrderStatus.CANCELLED) {
+            salesAggregateService.lockRollups();
+        }
+
+        Set<Order.OrderStatus> from = status.predecessors();
+        List<Long> updated = new ArrayList<>();
+        List<Long> notFound = new ArrayList<>();
+        Map<Order.OrderStatus, List<Long>> rejected = new EnumMap<>(Order.OrderStatus.class);
+        for (int start = 0; start < ids.size(); start += bulkChunkSize) {
+            List<Long> chunk = ids.subList(start, Math.min(start + bulkChunkSize, ids.size()));
+            Map<Long, Order.OrderStatus> current = new HashMap<>();
+            Map<Long, Long> customers = new HashMap<>();
+            for (Object[] row : orderRepository.findStatusesByIds(chunk)) {
+                current.put((Long) row[0], (Order.OrderStatus) row[1]);
+                customers.put((Long) row[0], (Long) row[2]);
+            }
+            List<Long> eligible = new ArrayList<>(chunk.size());
+            for (Long orderId : chunk) {
+                Order.OrderStatus currentStatus = current.get(orderId);
+                if (currentStatus == null) {
+                    notFound.add(orderId);
+                } else if (from.contains(currentStatus)) {
+                    eligible.add(orderId);
+                } else {
+                    rejected.computeIfAbsent(currentStatus, s -> new ArrayList<>()).add(orderId);
+                }
+            }
+            if (eligible.isEmpty()) {
+                continue;
+            }
+            // The side effects of cancelling must match the orders actually moved
+            if (orderRepository.updateStatuses(eligible, from, status) != eligible.size()) {
+                throw new BusinessRuleException("Orders changed status while being updated, please try again");
+            }
+            for (Long orderId : eligible) {
+                eventPublisher.publishEvent(new OrderStatusEventDTO(orderId, customers.get(orderId),
+                    current.get(orderId), status));
+            }
+            updated.addAll(eligible);
+        }
+        if (status == Order.OrderStatus.CANCELLED) {
+            cancelInBulk(updated);
+        }
+
+        logger.info("Updated status of {} orders to {}", updated.size(), status);
+        return new BulkStatusResultDTO(status, ids.size(), updated.size(), notFound, rejected);
+    }
+
+    /**
+     * Get one page of orders, newest first.
+     * Orders of the page are selected first, then their items with a single
+     * query, so the work and memory per request are bounded by the page size.
      * 
-     * @return list of all OrderDTOs
+     * @param filter the optional status, date range and customer filters
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size the requested page size, capped at the configured maximum
+     * @return the page of OrderDTOs with the cursor for the next page
      */
     @Transactional(readOnly = true)
-    public List<OrderDTO> getAllOrders() {
-        List<Order> orders = orderRepository.findAllWithDetails();
-        return orders.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+    public OrderPageDTO getOrderPage(OrderFilterDTO filter, String cursor, int size) {
+        ValidationUtils.validateDateRange(filter.getFrom(), filter.getTo());
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+
+        List<OrderDTO> orders = new ArrayList<>(orderRepository.findOrderViewPage(
+            filter.getStatus(),
+            filter.getFrom() != null ? filter.getFrom().atStartOfDay() : null,
+            filter.getTo() != null ? filter.getTo().plusDays(1).atStartOfDay() : null,
+            filter.getCustomerId(),
+            after != null ? after.timestamp() : null,
+            after != null ? after.id() : null,
+            Limit.of(pageSize + 1)));
+
+        String nextCursor = null;
+        if (orders.size() > pageSize) {
+            orders.remove(pageSize);
+            OrderDTO last = orders.get(pageSize - 1);
+            nextCursor = new KeysetCursor(last.getOrderDate(), last.getOrderId()).encode();
+        }
+
+        return new OrderPageDTO(withItems(orders), nextCursor);
+    }
+
+    /**
+     * Rebuild a basket from a past order of a customer, priced at current
+     * prices, and place it as a new order when asked and every line is
+     * available. The past order, its items and their current products are
+     * read in one query; placing the order reuses those products instead of
+     * loading them again.
+     * 
+     * @param orderId the past order ID
+     * @param customerId the customer placing the reorder
+     * @param place whether to place the order when every line is available
+     * @return the basket, and the new order if it was placed
+     * @throws ResourceNotFoundException if the order does not exist or belongs to another customer
+     */
+    public ReorderResultDTO reorder(Long orderId, Long customerId, boolean place) {
+        logger.info("Reordering order ID: {} for customer ID: {}", orderId, customerId);
+
+        Order pastOrder = orderRepository.findByIdWithItems(orderId)
+            .filter(order -> order.getCustomer().getCustomerId().equals(customerId))
+            .orElseThrow(() -> new ResourceNotFoundException("Order not found with ID: " + orderId));
+
+        // Merge repeated products so stock is checked against the full quantity
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        Map<Long, OrderItem> pastItems = new HashMap<>();
+        if (pastOrder.getOrderItems() != null) {
+            for (OrderItem item : pastOrder.getOrderItems()) {
+                Long productId = item.getProduct().getProductId();
+                quantities.merge(productId, item.getQuantity(), Integer::sum);
+                pastItems.putIfAbsent(productId, item);
+            }
+        }
+
+        List<ReorderLineDTO> lines = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> {
+            OrderItem pastItem = pastItems.get(productId);
+            Product product = pastItem.getProduct();
+            lines.add(new ReorderLineDTO(productId, product.getProductName(), quantity, product.getQuantity(),
+                pastItem.getUnitPrice(), product.getPrice(), unavailableReason(product, quantity)));
+        });
+        ReorderBasketDTO basket = new ReorderBasketDTO(orderId, lines, pastOrder.getDeliveryAddress(),
+            pastOrder.getContactNumber());
+
+        if (!place || !basket.isAllAvailable()) {
+            return new ReorderResultDTO(basket, null);
+        }
+
+        OrderDTO newOrder = new OrderDTO();
+        newOrder.setCustomerId(customerId);
+        newOrder.setTotalAmount(basket.getTotalAmount());
+        newOrder.setDeliveryAddress(basket.getDeliveryAddress());
+        newOrder.setContactNumber(basket.getContactNumber());
+        List<OrderItemDTO> items = new ArrayList<>(lines.size());
+        for (ReorderLineDTO line : lines) {
+            OrderItemDTO item = new OrderItemDTO();
+            item.setProductId(line.getProductId());
+            item.setQuantity(line.getQuantity());
+            items.add(item);
+        }
+        newOrder.setOrderItems(items);
+        Map<Long, Product> products = new HashMap<>();
+        pastItems.forEach((productId, item) -> products.put(productId, item.getProduct()));
+        return new ReorderResultDTO(basket, createOrder(newOrder, products));
+    }
+
+    /**
+     * IDs of the promotions applied to a line, comma separated, or null if none.
+     */
+    private static String appliedPromotions(PromotionTable.PricedLine pricedLine) {
+        if (pricedLine.linePromotionId() == 0 && pricedLine.basketPromotionId() == 0) {
+            return null;
+        }
+        if (pricedLine.basketPromotionId() == 0) {
+            return String.valueOf(pricedLine.linePromotionId());
+        }
+        if (pricedLine.linePromotionId() == 0) {
+            return String.valueOf(pricedLine.basketPromotionId());
+        }
+        return pricedLine.linePromotionId() + "," + pricedLine.basketPromotionId();
+    }
+
+    private static String unavailableReason(Product product, int quantity) {
+        if (!Boolean.TRUE.equals(product.getIsActive())) {
+            return "No longer sold";
+        }
+        if (product.getQuantity() <= 0) {
+            return "Out of stock";
+        }
+        if (product.getQuantity() < quantity) {
+            return "Only " + product.getQuantity() + " in stock";
+        }
+        return null;
     }
 
     /**
@@ -183,10 +471,7 @@ public class OrderService {
      */
     @Transactional(readOnly = true)
     public List<OrderDTO> getOrdersByStatus(Order.OrderStatus status) {
-        List<Order> orders = orderRepository.findByOrderStatus(status);
-        return orders.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return withItems(orderRepository.findOrderViewsByStatus(status));
     }
 
     /**
@@ -197,10 +482,7 @@ public class OrderService {
     @Transactional(readOnly = true)
     public List<OrderDTO> getRecentOrders() {
         LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        List<Order> orders = orderRepository.findRecentOrders(thirtyDaysAgo);
-        return orders.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return withItems(orderRepository.findOrderViewsSince(thirtyDaysAgo));
     }
 
     /**
@@ -208,20 +490,30 @@ public class OrderService {
      * 
      * @param orderId the order ID
      * @return updated OrderDTO
-     * @throws RuntimeException if order not found or cannot be cancelled
+     * @throws ResourceNotFoundException if order not found
+     * @throws BusinessRuleException if the order cannot be cancelled
      */
     public OrderDTO cancelOrder(Long orderId) {
         logger.info("Cancelling order with ID: {}", orderId);
 
         Order order = orderRepository.findById(orderId)
-            .orElseThrow(() -> new RuntimeException("Order not found with ID: " + orderId));
+            .orElseThrow(() -> new ResourceNotFoundException("Order not found with ID: " + orderId));
 
         // Check if order can be cancelled
-        if (order.getOrderStatus() == Order.OrderStatus.DELIVERED || 
-            order.getOrderStatus() == Order.OrderStatus.CANCELLED) {
-            throw new RuntimeException("Order cannot be cancelled. Current status: " + order.getOrderStatus());
+        if (!order.getOrderStatus().canTransitionTo(Order.OrderStatus.CANCELLED)) {
+            throw new BusinessRuleException("Order cannot be cancelled. Current status: " + order.getOrderStatus());
         }
 
+        return convertToDTO(cancel(order));
+    }
+
+    /**
+     * Cancel an order that is allowed to be cancelled: restore the stock of
+     * its products, free its delivery slot and remove it from the sales rollups.
+     */
+    private Order cancel(Order order) {
+        salesAggregateService.lockRollups();
+
         // Restore product quantities if order is cancelled
         if (order.getOrderItems() != null) {
             for (OrderItem item : order.getOrderItems()) {
@@ -231,11 +523,66 @@ public class OrderService {
             }
         }
 
+        // Free the delivery slot for other customers
+        if (order.getDeliverySlotId() != null) {
+            deliverySlotService.release(order.getDeliverySlotId());
+        }
+
+        salesAggregateService.reverseOrder(order);
+        Order.OrderStatus previousStatus = order.getOrderStatus();
         order.setOrderStatus(Order.OrderStatus.CANCELLED);
         Order updatedOrder = orderRepository.save(order);
+        eventPublisher.publishEvent(new OrderStatusEventDTO(order.getOrderId(), order.getCustomer().getCustomerId(),
+            previousStatus, Order.OrderStatus.CANCELLED));
 
-        logger.info("Order cancelled successfully with ID: {}", orderId);
-        return convertToDTO(updatedOrder);
+        logger.info("Order cancelled successfully with ID: {}", order.getOrderId());
+        return updatedOrder;
+    }
+
+    /**
+     * Apply the side effects of cancelling orders already moved to CANCELLED
+     * by a bulk update. Quantities and slot places are summed over all the
+     * orders first, so each product and slot is updated once.
+     */
+    private void cancelInBulk(List<Long> orderIds) {
+        Map<Long, Long> quantities = new HashMap<>();
+        Map<Long, Long> slotPlaces = new HashMap<>();
+        for (int start = 0; start < orderIds.size(); start += bulkChunkSize) {
+            List<Long> chunk = orderIds.subList(start, Math.min(start + bulkChunkSize, orderIds.size()));
+            for (Object[] row : orderRepository.sumQuantitiesByProduct(chunk)) {
+                quantities.merge((Long) row[0], ((Number) row[1]).longValue(), Long::sum);
+            }
+            for (Object[] row : orderRepository.countByDeliverySlot(chunk)) {
+                slotPlaces.merge((Long) row[0], ((Number) row[1]).longValue(), Long::sum);
+            }
+            salesAggregateService.reverseOrders(chunk);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        quantities.forEach((productId, quantity) -> productRepository.addStock(productId, quantity, now));
+        slotPlaces.forEach((slotId, places) -> deliverySlotService.release(slotId, places.intValue()));
+        logger.info("Restored stock of {} products for {} cancelled orders", quantities.size(), orderIds.size());
+    }
+
+    /**
+     * Load the items of projected orders with one query and attach them.
+     * 
+     * @param orders the order DTOs
+     * @return the same order DTOs with their items
+     */
+    private List<OrderDTO> withItems(List<OrderDTO> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        List<Long> orderIds = orders.stream()
+            .map(OrderDTO::getOrderId)
+            .collect(Collectors.toList());
+        Map<Long, List<OrderItemDTO>> itemsByOrder = orderRepository.findOrderItemViewsByOrderIds(orderIds).stream()
+            .collect(Collectors.groupingBy(OrderItemDTO::getOrderId));
+        for (OrderDTO order : orders) {
+            order.setOrderItems(itemsByOrder.getOrDefault(order.getOrderId(), new ArrayList<>()));
+        }
+        return orders;
     }
 
     /**
@@ -255,6 +602,7 @@ public class OrderService {
         dto.setOrderStatus(order.getOrderStatus());
         dto.setDeliveryAddress(order.getDeliveryAddress());
         dto.setContactNumber(order.getContactNumber());
+        dto.setDeliverySlotId(order.getDeliverySlotId());
 
         // Convert order items
         if (order.getOrderItems() != null) {
@@ -282,6 +630,8 @@ public class OrderService {
         dto.setQuantity(orderItem.getQuantity());
         dto.setUnitPrice(orderItem.getUnitPrice());
         dto.setTotalPrice(orderItem.getTotalPrice());
+        dto.setDiscountAmount(orderItem.getDiscountAmount());
+        dto.setAppliedPromotions(orderItem.getAppliedPromotions());
         return dto;
     }
 }
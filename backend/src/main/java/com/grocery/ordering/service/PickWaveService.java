@@ -0,0 +1,186 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.dto.OrderStatusEventDTO;
+import com.grocery.ordering.dto.PickWaveDTO;
+import com.grocery.ordering.entity.Order;
+import com.grocery.ordering.entity.PickWave;
+import com.grocery.ordering.exception.BusinessRuleException;
+import com.grocery.ordering.exception.ResourceNotFoundException;
+import com.grocery.ordering.exception.ValidationException;
+import com.grocery.ordering.repository.OrderRepository;
+import com.grocery.ordering.repository.PickWaveRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for warehouse pick waves.
+ * A wave takes the oldest pending and confirmed orders, optionally for one
+ * delivery slot or with items in one category, and its pick list sums the
+ * quantity of each product over all of them in category and aisle order.
+ * The orders of a wave are added to it and moved through their statuses
+ * with one bulk update each, however many orders the wave holds.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class PickWaveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PickWaveService.class);
+
+    private static final Set<Order.OrderStatus> WAITING =
+        EnumSet.of(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED);
+
+    private static final Set<Order.OrderStatus> WAVE_TARGETS =
+        EnumSet.of(Order.OrderStatus.PROCESSING, Order.OrderStatus.SHIPPED, Order.OrderStatus.DELIVERED);
+
+    @Autowired
+    private PickWaveRepository pickWaveRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.fulfilment.wave.default-size:200}")
+    private int defaultSize;
+
+    @Value("${app.fulfilment.wave.max-size:1000}")
+    private int maxSize;
+
+    @Value("${app.fulfilment.wave.list-limit:50}")
+    private int listLimit;
+
+    /**
+     * Create a pick wave from the oldest orders waiting for one and confirm them.
+     *
+     * @param category the category the orders must have an item in, or null for any
+     * @param deliverySlotId the delivery slot of the orders, or null for any
+     * @param size the maximum number of orders, or null for the configured default
+     * @return the wave with its pick list
+     * @throws BusinessRuleException if no order is waiting for a wave
+     */
+    public PickWaveDTO createWave(String category, Long deliverySlotId, Integer size) {
+        String waveCategory = category != null && !category.trim().isEmpty() ? category.trim() : null;
+        int waveSize = Math.max(1, Math.min(size != null ? size : defaultSize, maxSize));
+
+        List<Object[]> candidates = orderRepository.findPickWaveCandidates(WAITING, waveCategory, deliverySlotId,
+            Limit.of(waveSize));
+        List<Long> orderIds = candidates.stream().map(row -> (Long) row[0]).toList();
+        if (orderIds.isEmpty()) {
+            throw new BusinessRuleException("No pending or confirmed orders are waiting for a pick wave");
+        }
+
+        PickWave wave = pickWaveRepository.save(new PickWave(waveCategory, deliverySlotId));
+        // Orders claimed by a concurrent wave or cancelled meanwhile are skipped
+        int added = orderRepository.assignToPickWave(wave.getWaveId(), orderIds, WAITING,
+            Order.OrderStatus.CONFIRMED);
+        if (added == 0) {
+            throw new BusinessRuleException("No pending or confirmed orders are waiting for a pick wave");
+        }
+        // Only the orders the update actually added are announced
+        Set<Long> assigned = orderRepository.findPickWaveOrders(wave.getWaveId(),
+                EnumSet.of(Order.OrderStatus.CONFIRMED)).stream()
+            .map(row -> (Long) row[0])
+            .collect(Collectors.toSet());
+        publishStatusChanges(candidates.stream().filter(row -> assigned.contains((Long) row[0])).toList(),
+            Order.OrderStatus.CONFIRMED);
+        wave.setOrderCount(added);
+        wave = pickWaveRepository.save(wave);
+
+        logger.info("Pick wave created with ID: {} for {} orders", wave.getWaveId(), added);
+        return convertToDTO(wave, true);
+    }
+
+    /**
+     * Get the newest pick waves, without their pick lists.
+     *
+     * @return list of pick wave DTOs, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<PickWaveDTO> getRecentWaves() {
+        return pickWaveRepository.findNewest(Limit.of(listLimit)).stream()
+            .map(wave -> convertToDTO(wave, false))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Get a pick wave with its pick list.
+     *
+     * @param waveId the wave ID
+     * @return the wave with its pick list
+     * @throws ResourceNotFoundException if the wave does not exist
+     */
+    @Transactional(readOnly = true)
+    public PickWaveDTO getWave(Long waveId) {
+        return convertToDTO(findWave(waveId), true);
+    }
+
+    /**
+     * Move the orders of a pick wave to the next status with one bulk update.
+     * Orders that have been cancelled or moved on by themselves since the
+     * wave was created are left as they are.
+     *
+     * @param waveId the wave ID
+     * @param status the new status: PROCESSING, SHIPPED or DELIVERED
+     * @return the wave with its pick list
+     * @throws ValidationException if the status is not one a wave can move to
+     * @throws BusinessRuleException if the wave cannot move to the status from its current one
+     */
+    public PickWaveDTO updateWaveStatus(Long waveId, Order.OrderStatus status) {
+        if (!WAVE_TARGETS.contains(status)) {
+            throw new ValidationException("status", "A pick wave can only move to PROCESSING, SHIPPED or DELIVERED");
+        }
+        PickWave wave = findWave(waveId);
+        if (!wave.getOrderStatus().canTransitionTo(status)) {
+            throw new BusinessRuleException("Pick wave cannot move from " + wave.getOrderStatus() + " to " + status);
+        }
+
+        // Locked, so exactly these orders are moved and no status changes in between
+        List<Object[]> moving = orderRepository.findPickWaveOrders(waveId, status.predecessors());
+        int moved = orderRepository.updatePickWaveStatus(waveId, status.predecessors(), status);
+        publishStatusChanges(moving, status);
+        wave.setOrderStatus(status);
+        wave = pickWaveRepository.save(wave);
+
+        logger.info("Pick wave {} moved to {}: {} orders updated", waveId, status, moved);
+        return convertToDTO(wave, true);
+    }
+
+    /**
+     * Publish a status change for each row of order ID, previous status and
+     * customer ID whose status differs from the new one.
+     */
+    private void publishStatusChanges(List<Object[]> orders, Order.OrderStatus status) {
+        for (Object[] row : orders) {
+            if (row[1] != status) {
+                eventPublisher.publishEvent(new OrderStatusEventDTO((Long) row[0], (Long) row[2],
+                    (Order.OrderStatus) row[1], status));
+            }
+        }
+    }
+
+    private PickWave findWave(Long waveId) {
+        return pickWaveRepository.findById(waveId)
+            .orElseThrow(() -> new ResourceNotFoundException("Pick wave not found with ID: " + waveId));
+    }
+
+    private PickWaveDTO convertToDTO(PickWave wave, boolean withPickList) {
+        return new PickWaveDTO(wave.getWaveId(), wave.getCategory(), wave.getDeliverySlotId(), wave.getOrderStatus(),
+            wave.getOrderCount(), wave.getCreatedAt(), wave.getUpdatedAt(),
+            withPickList ? pickWaveRepository.findPickList(wave.getWaveId(), Order.OrderStatus.CANCELLED) : null);
+    }
+}
@@ -1,17 +1,28 @@
 package com.grocery.ordering.service;
 
 import com.grocery.ordering.dto.ProductDTO;
+import com.grocery.ordering.dto.SearchResultDTO;
 import com.grocery.ordering.entity.Product;
+import com.grocery.ordering.exception.BusinessRuleException;
+import com.grocery.ordering.exception.DuplicateResourceException;
+import com.grocery.ordering.exception.ResourceNotFoundException;
 import com.grocery.ordering.repository.ProductRepository;
+import com.grocery.ordering.util.NegativeResultCache;
+import com.grocery.ordering.util.SearchSuggester;
+import com.grocery.ordering.util.TransactionUtils;
 import com.grocery.ordering.util.ValidationUtils;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * Service class for Product operations.
@@ -26,9 +37,31 @@ public class ProductService {
 
     private static final Logger logger = LoggerFactory.getLogger(ProductService.class);
 
+    private static final int MAX_SUGGESTIONS = 5;
+
     @Autowired
     private ProductRepository productRepository;
 
+    @Autowired
+    private DashboardStatsService dashboardStatsService;
+
+    @Value("${app.search.negative-cache.ttl-ms:60000}")
+    private long negativeCacheTtlMs;
+
+    @Value("${app.search.negative-cache.max-entries:10000}")
+    private int negativeCacheMaxEntries;
+
+    private NegativeResultCache searchMissCache;
+
+    // Product names and categories suggestions are drawn from, with the change generation they were loaded at
+    private volatile CachedVocabulary vocabulary;
+    private final AtomicLong vocabularyGeneration = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        searchMissCache = new NegativeResultCache(negativeCacheTtlMs, negativeCacheMaxEntries);
+    }
+
     /**
      * Register a new product.
      * 
@@ -44,7 +77,7 @@ public class ProductService {
 
         // Check if product with same name already exists
         if (productRepository.findByProductNameAndIsActiveTrue(productDTO.getProductName()).isPresent()) {
-            throw new RuntimeException("Product with name '" + productDTO.getProductName() + "' already exists");
+            throw new DuplicateResourceException("Product with name '" + productDTO.getProductName() + "' already exists");
         }
 
         // Create new product
@@ -54,9 +87,12 @@ public class ProductService {
         product.setQuantity(productDTO.getQuantity());
         product.setDescription(productDTO.getDescription());
         product.setCategory(productDTO.getCategory());
+        product.setAisle(productDTO.getAisle());
         product.setImageUrl(productDTO.getImageUrl());
 
         Product savedProduct = productRepository.save(product);
+        invalidateSearchCaches();
+        dashboardStatsService.productAdded();
         logger.info("Product registered successfully with ID: {}", savedProduct.getProductId());
 
         return convertToDTO(savedProduct);
@@ -73,16 +109,16 @@ public class ProductService {
     public ProductDTO updateProduct(Long productId, ProductDTO productDTO) {
         logger.info("Updating product with ID: {}", productId);
 
-        Product product = productRepository.findById(productId)
-            .orElseThrow(() -> new RuntimeException("Product not found with ID: " + productId));
-
-        // Validate input
+        // Validate input before touching the database
         ValidationUtils.validateProduct(productDTO);
 
+        Product product = productRepository.findById(productId)
+            .orElseThrow(() -> new ResourceNotFoundException("Product not found with ID: " + productId));
+
         // Check if product name is being changed and if it already exists
         if (!product.getProductName().equals(productDTO.getProductName()) && 
             productRepository.findByProductNameAndIsActiveTrue(productDTO.getProductName()).isPresent()) {
-            throw new RuntimeException("Product with name '" + productDTO.getProductName() + "' already exists");
+            throw new DuplicateResourceException("Product with name '" + productDTO.getProductName() + "' already exists");
         }
 
         // Update product details
@@ -91,9 +127,11 @@ public class ProductService {
         product.setQuantity(productDTO.getQuantity());
         product.setDescription(productDTO.getDescription());
         product.setCategory(productDTO.getCategory());
+        product.setAisle(productDTO.getAisle());
         product.setImageUrl(productDTO.getImageUrl());
 
         Product updatedProduct = productRepository.save(product);
+        invalidateSearchCaches();
         logger.info("Product updated successfully with ID: {}", updatedProduct.getProductId());
 
         return convertToDTO(updatedProduct);
@@ -109,10 +147,14 @@ public class ProductService {
         logger.info("Deleting product with ID: {}", productId);
 
         Product product = productRepository.findById(productId)
-            .orElseThrow(() -> new RuntimeException("Product not found with ID: " + productId));
+            .orElseThrow(() -> new ResourceNotFoundException("Product not found with ID: " + productId));
 
+        if (Boolean.TRUE.equals(product.getIsActive())) {
+            dashboardStatsService.productRemoved();
+        }
         product.setIsActive(false);
         productRepository.save(product);
+        invalidateSearchCaches();
 
         logger.info("Product deleted successfully with ID: {}", productId);
     }
@@ -127,68 +169,58 @@ public class ProductService {
     @Transactional(readOnly = true)
     public ProductDTO getProductById(Long productId) {
         Product product = productRepository.findById(productId)
-            .orElseThrow(() -> new RuntimeException("Product not found with ID: " + productId));
+            .orElseThrow(() -> new ResourceNotFoundException("Product not found with ID: " + productId));
 
         return convertToDTO(product);
     }
 
     /**
      * Search products by name.
+     * A search without hits returns an empty result with suggestions;
+     * recent misses are answered from the negative result cache.
      * 
      * @param productName the product name to search for
-     * @return list of ProductDTOs matching the search criteria
+     * @return search result with matching ProductDTOs
      */
     @Transactional(readOnly = true)
-    public List<ProductDTO> searchProductsByName(String productName) {
+    public SearchResultDTO<ProductDTO> searchProductsByName(String productName) {
         logger.info("Searching products by name: {}", productName);
 
         ValidationUtils.validateSearchTerm(productName);
 
-        List<Product> products = productRepository.findByProductNameContainingIgnoreCase(productName.trim());
-        
-        if (products.isEmpty()) {
-            throw new RuntimeException("Product not found");
-        }
-
-        return products.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return search("name:", productName, () -> productRepository.findProductViewsByName(productName.trim()));
     }
 
     /**
      * Search products by name or category.
+     * A search without hits returns an empty result with suggestions;
+     * recent misses are answered from the negative result cache.
      * 
      * @param searchTerm the search term
-     * @return list of ProductDTOs matching the search criteria
+     * @return search result with matching ProductDTOs
      */
     @Transactional(readOnly = true)
-    public List<ProductDTO> searchProducts(String searchTerm) {
+    public SearchResultDTO<ProductDTO> searchProducts(String searchTerm) {
         logger.info("Searching products with term: {}", searchTerm);
 
         ValidationUtils.validateSearchTerm(searchTerm);
 
-        List<Product> products = productRepository.searchProducts(searchTerm.trim());
-        
-        if (products.isEmpty()) {
-            throw new RuntimeException("Product not found");
-        }
+        return search("all:", searchTerm, () -> productRepository.searchProductViews(searchTerm.trim()));
+    }
 
-        return products.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+    public NegativeResultCache getSearchMissCache() {
+        return searchMissCache;
     }
 
     /**
      * Get all active products.
+     * Read-only listings select DTOs directly rather than managed entities.
      * 
      * @return list of all active ProductDTOs
      */
     @Transactional(readOnly = true)
     public List<ProductDTO> getAllActiveProducts() {
-        List<Product> products = productRepository.findByIsActiveTrue();
-        return products.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return productRepository.findActiveProductViews();
     }
 
     /**
@@ -201,10 +233,7 @@ public class ProductService {
     public List<ProductDTO> getProductsByCategory(String category) {
         ValidationUtils.preventSQLInjection(category, "Category");
         
-        List<Product> products = productRepository.findByCategoryAndIsActiveTrue(category);
-        return products.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return productRepository.findProductViewsByCategory(category);
     }
 
     /**
@@ -214,10 +243,7 @@ public class ProductService {
      */
     @Transactional(readOnly = true)
     public List<ProductDTO> getInStockProducts() {
-        List<Product> products = productRepository.findInStockProducts();
-        return products.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return productRepository.findInStockProductViews();
     }
 
     /**
@@ -241,7 +267,7 @@ public class ProductService {
         logger.info("Updating quantity for product ID: {} to {}", productId, quantity);
 
         Product product = productRepository.findById(productId)
-            .orElseThrow(() -> new RuntimeException("Product not found with ID: " + productId));
+            .orElseThrow(() -> new ResourceNotFoundException("Product not found with ID: " + productId));
 
         ValidationUtils.validateQuantity(quantity);
 
@@ -263,10 +289,10 @@ public class ProductService {
         logger.info("Reserving product ID: {} for customer ID: {}, quantity: {}", productId, customerId, quantity);
 
         Product product = productRepository.findById(productId)
-            .orElseThrow(() -> new RuntimeException("Product not found with ID: " + productId));
+            .orElseThrow(() -> new ResourceNotFoundException("Product not found with ID: " + productId));
 
         if (product.getQuantity() < quantity) {
-            throw new RuntimeException("Insufficient quantity available. Available: " + product.getQuantity());
+            throw new BusinessRuleException("Insufficient quantity available. Available: " + product.getQuantity());
         }
 
         product.setQuantity(product.getQuantity() - quantity);
@@ -277,6 +303,61 @@ public class ProductService {
         logger.info("Product reserved successfully for customer ID: {}", customerId);
     }
 
+    private SearchResultDTO<ProductDTO> search(String scope, String query, Supplier<List<ProductDTO>> finder) {
+        long start = System.nanoTime();
+
+        List<String> cachedSuggestions = searchMissCache.get(scope + query);
+        if (cachedSuggestions != null) {
+            return new SearchResultDTO<>(query, List.of(), cachedSuggestions, elapsedMs(start), true);
+        }
+
+        List<ProductDTO> products = finder.get();
+
+        List<String> suggestions = List.of();
+        if (products.isEmpty()) {
+            suggestions = SearchSuggester.suggest(query, vocabulary(), MAX_SUGGESTIONS);
+            searchMissCache.put(scope + query, suggestions);
+        }
+
+        return new SearchResultDTO<>(query, products, suggestions, elapsedMs(start), false);
+    }
+
+    /**
+     * Get the vocabulary of product names and categories, loading it again
+     * if a product has changed since it was loaded.
+     */
+    private SearchSuggester.Vocabulary vocabulary() {
+        long generation = vocabularyGeneration.get();
+        CachedVocabulary cached = vocabulary;
+        if (cached != null && cached.generation() == generation) {
+            return cached.vocabulary();
+        }
+        List<String> candidates = new ArrayList<>(productRepository.findActiveProductNames());
+        candidates.addAll(productRepository.findDistinctCategories());
+        // Tagged with the generation read before loading, so a load racing a change is loaded again
+        SearchSuggester.Vocabulary loaded = new SearchSuggester.Vocabulary(candidates);
+        vocabulary = new CachedVocabulary(loaded, generation);
+        return loaded;
+    }
+
+    /**
+     * Drop cached misses and the suggestion vocabulary once the product
+     * change commits, so neither is reloaded from the old rows.
+     */
+    private void invalidateSearchCaches() {
+        TransactionUtils.afterCommit(() -> {
+            vocabularyGeneration.incrementAndGet();
+            searchMissCache.invalidateAll();
+        });
+    }
+
+    private record CachedVocabulary(SearchSuggester.Vocabulary vocabulary, long generation) {
+    }
+
+    private static double elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1000 / 1000.0;
+    }
+
     /**
      * Convert Product entity to ProductDTO.
      * 
@@ -291,6 +372,7 @@ public class ProductService {
         dto.setQuantity(product.getQuantity());
         dto.setDescription(product.getDescription());
         dto.setCategory(product.getCategory());
+        dto.setAisle(product.getAisle());
         dto.setImageUrl(product.getImageUrl());
         dto.setIsReserved(product.getIsReserved());
         dto.setReservedBy(product.getReservedBy());
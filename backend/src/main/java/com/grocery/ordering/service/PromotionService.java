@@ -0,0 +1,277 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.dto.PromotionDTO;
+import com.grocery.ordering.entity.Promotion;
+import com.grocery.ordering.exception.ResourceNotFoundException;
+import com.grocery.ordering.exception.ValidationException;
+import com.grocery.ordering.repository.ProductRepository;
+import com.grocery.ordering.repository.PromotionRepository;
+import com.grocery.ordering.util.PromotionTable;
+import com.grocery.ordering.util.TransactionUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for promotions and basket pricing.
+ * Active promotions are compiled into a {@link PromotionTable} that every
+ * basket is priced against. The table is compiled again when a promotion is
+ * created or deactivated, and when the earliest start or end time among the
+ * compiled promotions passes.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class PromotionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PromotionService.class);
+
+    @Autowired
+    private PromotionRepository promotionRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    /**
+     * The compiled table, the time until which it is valid and the promotion changes it has seen.
+     */
+    private record Compiled(PromotionTable table, LocalDateTime validUntil, long generation) {
+
+        private boolean isCurrent(LocalDateTime now, long latestGeneration) {
+            return generation == latestGeneration && now.isBefore(validUntil);
+        }
+    }
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Compiled compiled;
+
+    /**
+     * Compile the active promotions once the application is ready.
+     *
+     * @param event the application ready event
+     */
+    @EventListener
+    public void load(ApplicationReadyEvent event) {
+        getTable();
+    }
+
+    /**
+     * Price a basket against the active promotions.
+     *
+     * @param lines the basket lines
+     * @return the priced basket
+     */
+    public PromotionTable.PricedBasket price(List<PromotionTable.Line> lines) {
+        return getTable().price(lines);
+    }
+
+    /**
+     * Get the compiled table of the active promotions, compiling it first if
+     * it is missing or out of date.
+     *
+     * @return the promotion table
+     */
+    public PromotionTable getTable() {
+        Compiled current = compiled;
+        if (current == null || !current.isCurrent(LocalDateTime.now(), generation.get())) {
+            current = compile();
+        }
+        return current.table();
+    }
+
+    /**
+     * Get all promotions, newest first.
+     *
+     * @return list of promotion DTOs
+     */
+    public List<PromotionDTO> getAllPromotions() {
+        return promotionRepository.findAllNewestFirst().stream()
+            .map(this::convertToDTO)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Create a promotion.
+     *
+     * @param promotionDTO the promotion data
+     * @return the created promotion
+     * @throws ValidationException if a field the promotion type needs is missing
+     */
+    @Transactional
+    public PromotionDTO createPromotion(PromotionDTO promotionDTO) {
+        validate(promotionDTO);
+
+        Promotion promotion = new Promotion();
+        promotion.setName(promotionDTO.getName().trim());
+        promotion.setPromotionType(promotionDTO.getPromotionType());
+        promotion.setProductId(promotionDTO.getProductId());
+        promotion.setCategory(promotionDTO.getProductId() == null ? promotionDTO.getCategory() : null);
+        promotion.setPercentOff(promotionDTO.getPercentOff());
+        promotion.setBuyQuantity(promotionDTO.getBuyQuantity());
+        promotion.setFreeQuantity(promotionDTO.getFreeQuantity());
+        promotion.setThresholdAmount(promotionDTO.getThresholdAmount());
+        promotion.setAmountOff(promotionDTO.getAmountOff());
+        promotion.setStartsAt(promotionDTO.getStartsAt());
+        promotion.setEndsAt(promotionDTO.getEndsAt());
+        promotion.setIsActive(true);
+        Promotion savedPromotion = promotionRepository.save(promotion);
+        invalidateAfterCommit();
+
+        logger.info("Promotion created with ID: {}", savedPromotion.getPromotionId());
+        return convertToDTO(savedPromotion);
+    }
+
+    /**
+     * Deactivate a promotion.
+     *
+     * @param promotionId the promotion ID
+     * @throws ResourceNotFoundException if the promotion does not exist
+     */
+    @Transactional
+    public void deactivatePromotion(Long promotionId) {
+        Promotion promotion = promotionRepository.findById(promotionId)
+            .orElseThrow(() -> new ResourceNotFoundException("Promotion not found with ID: " + promotionId));
+        promotion.setIsActive(false);
+        promotionRepository.save(promotion);
+        invalidateAfterCommit();
+
+        logger.info("Promotion deactivated with ID: {}", promotionId);
+    }
+
+    /**
+     * Compile the promotions active now; the result is valid until the
+     * earliest start of an upcoming promotion or end of an active one.
+     */
+    private synchronized Compiled compile() {
+        LocalDateTime now = LocalDateTime.now();
+        // Read before the promotions, so a change committed meanwhile forces another compile
+        long seenGeneration = generation.get();
+        Compiled current = compiled;
+        if (current != null && current.isCurrent(now, seenGeneration)) {
+            return current;
+        }
+
+        LocalDateTime validUntil = LocalDateTime.MAX;
+        PromotionTable.Builder builder = new PromotionTable.Builder();
+        int skipped = 0;
+        for (Promotion promotion : promotionRepository.findCurrentAndUpcoming(now)) {
+            if (promotion.getStartsAt() != null && promotion.getStartsAt().isAfter(now)) {
+                validUntil = min(validUntil, promotion.getStartsAt());
+                continue;
+            }
+            if (promotion.getEndsAt() != null) {
+                validUntil = min(validUntil, promotion.getEndsAt());
+            }
+            try {
+                addRule(builder, promotion);
+            } catch (RuntimeException e) {
+                skipped++;
+                logger.warn("Skipping invalid promotion {}: {}", promotion.getPromotionId(), e.getMessage());
+            }
+        }
+        Compiled result = new Compiled(builder.build(), validUntil, seenGeneration);
+        compiled = result;
+        logger.info("Compiled {} active promotion rules, {} skipped", result.table().size(), skipped);
+        return result;
+    }
+
+    private static void addRule(PromotionTable.Builder builder, Promotion promotion) {
+        long id = promotion.getPromotionId();
+        switch (promotion.getPromotionType()) {
+            case PERCENT_OFF -> builder.percentOff(id, promotion.getProductId(), promotion.getCategory(),
+                promotion.getPercentOff());
+            case BUY_X_GET_Y -> builder.buyXGetY(id, promotion.getProductId(), promotion.getCategory(),
+                promotion.getBuyQuantity(), promotion.getFreeQuantity());
+            case BASKET_THRESHOLD -> builder.basketThreshold(id, promotion.getThresholdAmount(),
+                promotion.getAmountOff(), promotion.getPercentOff());
+        }
+    }
+
+    /**
+     * Mark the compiled table out of date once the current transaction
+     * commits, so the next basket priced compiles the promotions again.
+     */
+    private void invalidateAfterCommit() {
+        TransactionUtils.afterCommit(generation::incrementAndGet);
+    }
+
+    private void validate(PromotionDTO promotionDTO) {
+        if (promotionDTO.getStartsAt() != null && promotionDTO.getEndsAt() != null
+                && !promotionDTO.getEndsAt().isAfter(promotionDTO.getStartsAt())) {
+            throw new ValidationException("endsAt", "End time must be after the start time");
+        }
+        switch (promotionDTO.getPromotionType()) {
+            case PERCENT_OFF -> {
+                validateTarget(promotionDTO);
+                if (promotionDTO.getPercentOff() == null) {
+                    throw new ValidationException("percentOff", "Percentage off is required");
+                }
+            }
+            case BUY_X_GET_Y -> {
+                validateTarget(promotionDTO);
+                if (promotionDTO.getBuyQuantity() == null) {
+                    throw new ValidationException("buyQuantity", "Buy quantity is required");
+                }
+                if (promotionDTO.getFreeQuantity() == null) {
+                    throw new ValidationException("freeQuantity", "Free quantity is required");
+                }
+            }
+            case BASKET_THRESHOLD -> {
+                if (promotionDTO.getThresholdAmount() == null) {
+                    throw new ValidationException("thresholdAmount", "Threshold amount is required");
+                }
+                if (promotionDTO.getAmountOff() == null && promotionDTO.getPercentOff() == null) {
+                    throw new ValidationException("amountOff", "Amount off or percentage off is required");
+                }
+                if (promotionDTO.getAmountOff() != null
+                        && promotionDTO.getAmountOff().compareTo(promotionDTO.getThresholdAmount()) >= 0) {
+                    throw new ValidationException("amountOff", "Amount off must be less than the threshold amount");
+                }
+            }
+        }
+    }
+
+    private void validateTarget(PromotionDTO promotionDTO) {
+        if (promotionDTO.getProductId() != null) {
+            if (!productRepository.existsById(promotionDTO.getProductId())) {
+                throw new ResourceNotFoundException("Product not found with ID: " + promotionDTO.getProductId());
+            }
+        } else if (promotionDTO.getCategory() == null || promotionDTO.getCategory().trim().isEmpty()) {
+            throw new ValidationException("productId", "A product or a category is required");
+        }
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private PromotionDTO convertToDTO(Promotion promotion) {
+        PromotionDTO dto = new PromotionDTO();
+        dto.setPromotionId(promotion.getPromotionId());
+        dto.setName(promotion.getName());
+        dto.setPromotionType(promotion.getPromotionType());
+        dto.setProductId(promotion.getProductId());
+        dto.setCategory(promotion.getCategory());
+        dto.setPercentOff(promotion.getPercentOff());
+        dto.setBuyQuantity(promotion.getBuyQuantity());
+        dto.setFreeQuantity(promotion.getFreeQuantity());
+        dto.setThresholdAmount(promotion.getThresholdAmount());
+        dto.setAmountOff(promotion.getAmountOff());
+        dto.setStartsAt(promotion.getStartsAt());
+        dto.setEndsAt(promotion.getEndsAt());
+        dto.setIsActive(promotion.getIsActive());
+        dto.setCreatedAt(promotion.getCreatedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,326 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.dto.ProductDTO;
+import com.grocery.ordering.dto.RecommendationRebuildResultDTO;
+import com.grocery.ordering.dto.RelatedProductDTO;
+import com.grocery.ordering.entity.Order;
+import com.grocery.ordering.exception.BusinessRuleException;
+import com.grocery.ordering.repository.OrderRepository;
+import com.grocery.ordering.repository.ProductRepository;
+import com.grocery.ordering.util.CoOccurrenceMatrix;
+import com.grocery.ordering.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for "frequently bought together" recommendations.
+ * Products bought in the same order are counted in an in-memory
+ * co-occurrence matrix, built from the order history at startup and
+ * updated with every committed order, so related products are read from
+ * memory rather than by joining the order items. The related products of
+ * each product are resolved to in-stock views at most once per snapshot TTL.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class RecommendationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecommendationService.class);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.recommendations.max-neighbours:50}")
+    private int maxNeighbours;
+
+    @Value("${app.recommendations.max-basket-size:100}")
+    private int maxBasketSize;
+
+    @Value("${app.recommendations.max-limit:20}")
+    private int maxLimit;
+
+    @Value("${app.recommendations.rebuild.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.recommendations.rebuild.threads:4}")
+    private int threads;
+
+    @Value("${app.recommendations.snapshot-ttl-ms:5000}")
+    private long snapshotTtlMs;
+
+    @Value("${app.recommendations.snapshot-max-entries:10000}")
+    private int snapshotMaxEntries;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private CoOccurrenceMatrix matrix;
+    // IDs of the orders committed while a rebuild runs; guarded by the write lock
+    private Set<Long> pendingOrderIds;
+
+    @PostConstruct
+    public void init() {
+        matrix = new CoOccurrenceMatrix(maxNeighbours, maxBasketSize);
+    }
+
+    /**
+     * Build the matrix from the order history once the application is ready.
+     *
+     * @param event the application ready event
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void load(ApplicationReadyEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Count the products of a new order once the current transaction
+     * commits, so rolled back orders are not counted. Orders of a single
+     * product are counted too, as they are by a rebuild, since every basket
+     * weighs in the similarity scores.
+     *
+     * @param order the order, with its items
+     */
+    public void recordOrder(Order order) {
+        if (order.getOrderItems() == null || order.getOrderItems().isEmpty()) {
+            return;
+        }
+        Long orderId = order.getOrderId();
+        long[] productIds = order.getOrderItems().stream()
+            .mapToLong(item -> item.getProduct().getProductId())
+            .toArray();
+        Runnable apply = () -> {
+            lock.writeLock().lock();
+            try {
+                matrix.addBasket(productIds);
+                if (pendingOrderIds != null) {
+                    pendingOrderIds.add(orderId);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        };
+        TransactionUtils.afterCommit(apply);
+    }
+
+    /**
+     * Get the in-stock products most often bought together with a product.
+     *
+     * @param productId the product ID
+     * @param limit the number of products, clamped to 1..max-limit
+     * @return list of related product DTOs, most similar first
+     */
+    public List<RelatedProductDTO> getRelatedProducts(Long productId, int limit) {
+        int size = Math.max(1, Math.min(limit, maxLimit));
+        long now = System.currentTimeMillis();
+        Snapshot snapshot = snapshots.get(productId);
+        if (snapshot == null || now - snapshot.takenAt() >= snapshotTtlMs) {
+            // Concurrent refreshes compute the same list, so the last one simply wins
+            snapshot = new Snapshot(resolve(productId, maxLimit), now);
+            if (snapshots.size() >= snapshotMaxEntries) {
+                snapshots.values().removeIf(stale -> now - stale.takenAt() >= snapshotTtlMs);
+            }
+            if (snapshots.size() < snapshotMaxEntries) {
+                snapshots.put(productId, snapshot);
+            }
+        }
+        List<RelatedProductDTO> related = snapshot.products();
+        return related.size() > size ? related.subList(0, size) : related;
+    }
+
+    /**
+     * Resolve the neighbours of a product in the matrix to in-stock product views.
+     */
+    private List<RelatedProductDTO> resolve(Long productId, int size) {
+        List<CoOccurrenceMatrix.Neighbour> neighbours;
+        lock.readLock().lock();
+        try {
+            // Candidates are over-fetched to make up for products that went out of stock
+            neighbours = matrix.related(productId, size * 2);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (neighbours.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ProductDTO> products = productRepository.findInStockProductViewsByIds(
+                neighbours.stream().map(CoOccurrenceMatrix.Neighbour::productId).toList()).stream()
+            .collect(Collectors.toMap(ProductDTO::getProductId, Function.identity()));
+        List<RelatedProductDTO> related = new ArrayList<>(size);
+        for (CoOccurrenceMatrix.Neighbour neighbour : neighbours) {
+            ProductDTO product = products.get(neighbour.productId());
+            if (product != null) {
+                related.add(new RelatedProductDTO(product, neighbour.count(),
+                    Math.round(neighbour.score() * 1000.0) / 1000.0));
+                if (related.size() == size) {
+                    break;
+                }
+            }
+        }
+        return List.copyOf(related);
+    }
+
+    /**
+     * Rebuild the matrix from the order history.
+     * Order ID ranges are counted in parallel, each in its own read-only
+     * transaction, into partial matrices, while orders committed meanwhile
+     * are noted. Order IDs are not assigned in commit order, so under the
+     * lock the chunks holding noted orders are counted again and the orders
+     * placed after the chunks were laid out are counted from a tail read,
+     * before the merged matrix is swapped in. Orders committed after that
+     * are added to the new matrix as usual.
+     *
+     * @return summary of the rebuild
+     * @throws BusinessRuleException if a rebuild is already running
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RecommendationRebuildResultDTO rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new BusinessRuleException("A recommendation rebuild is already running");
+        }
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        lock.writeLock().lock();
+        try {
+            pendingOrderIds = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            Long minId = readOnly.execute(status -> orderRepository.findMinOrderId());
+            Long maxId = readOnly.execute(status -> orderRepository.findMaxOrderId());
+
+            List<Future<CoOccurrenceMatrix>> chunks = new ArrayList<>();
+            if (maxId != null) {
+                for (long fromId = minId; fromId <= maxId; fromId += chunkSize) {
+                    long chunkFrom = fromId;
+                    long chunkTo = Math.min(fromId + chunkSize - 1, maxId);
+                    chunks.add(executor.submit(() -> readOnly.execute(status -> countBaskets(chunkFrom, chunkTo))));
+                }
+            }
+            List<CoOccurrenceMatrix> chunkMatrices = new ArrayList<>(chunks.size());
+            for (Future<CoOccurrenceMatrix> chunk : chunks) {
+                chunkMatrices.add(chunk.get());
+            }
+
+            CoOccurrenceMatrix rebuilt = new CoOccurrenceMatrix(maxNeighbours, maxBasketSize);
+            lock.writeLock().lock();
+            try {
+                // A noted order may have committed after its chunk was read, so the chunk is counted again
+                Set<Integer> stale = new HashSet<>();
+                for (Long orderId : pendingOrderIds) {
+                    if (maxId != null && orderId >= minId && orderId <= maxId) {
+                        stale.add((int) ((orderId - minId) / chunkSize));
+                    }
+                }
+                for (int chunk = 0; chunk < chunkMatrices.size(); chunk++) {
+                    long chunkFrom = minId + (long) chunk * chunkSize;
+                    long chunkTo = Math.min(chunkFrom + chunkSize - 1, maxId);
+                    rebuilt.merge(stale.contains(chunk)
+                        ? readOnly.execute(status -> countBaskets(chunkFrom, chunkTo))
+                        : chunkMatrices.get(chunk));
+                }
+                Long latestId = readOnly.execute(status -> orderRepository.findMaxOrderId());
+                if (latestId != null && (maxId == null || latestId > maxId)) {
+                    long tailFrom = maxId != null ? maxId + 1 : 0;
+                    rebuilt.merge(readOnly.execute(status -> countBaskets(tailFrom, latestId)));
+                }
+                matrix = rebuilt;
+                pendingOrderIds = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            snapshots.clear();
+
+            long durationMs = (System.nanoTime() - started) / 1_000_000;
+            logger.info("Recommendations rebuilt from {} orders in {} chunks in {} ms, {} products with neighbours",
+                rebuilt.baskets(), chunks.size(), durationMs, rebuilt.products());
+            return new RecommendationRebuildResultDTO(rebuilt.baskets(), rebuilt.products(), chunks.size(), durationMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Recommendation rebuild was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Recommendation rebuild failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+            lock.writeLock().lock();
+            try {
+                pendingOrderIds = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * Count the baskets of an order ID range; rows arrive grouped by order.
+     */
+    private CoOccurrenceMatrix countBaskets(long fromId, long toId) {
+        CoOccurrenceMatrix partial = new CoOccurrenceMatrix(maxNeighbours, maxBasketSize);
+        long[] basket = new long[16];
+        int size = 0;
+        long currentOrder = Long.MIN_VALUE;
+        for (Object[] row : orderRepository.findOrderProductsInRange(fromId, toId, Order.OrderStatus.CANCELLED)) {
+            long orderId = (Long) row[0];
+            if (orderId != currentOrder && size > 0) {
+                partial.addBasket(Arrays.copyOf(basket, size));
+                size = 0;
+            }
+            currentOrder = orderId;
+            if (size == basket.length) {
+                basket = Arrays.copyOf(basket, size * 2);
+            }
+            basket[size++] = (Long) row[1];
+        }
+        if (size > 0) {
+            partial.addBasket(Arrays.copyOf(basket, size));
+        }
+        return partial;
+    }
+
+    /**
+     * Related products of a product, resolved to in-stock views at a point in time.
+     */
+    private record Snapshot(List<RelatedProductDTO> products, long takenAt) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.entity.RefreshToken;
+import com.grocery.ordering.exception.AuthenticationFailedException;
+import com.grocery.ordering.exception.RefreshTokenReuseException;
+import com.grocery.ordering.repository.RefreshTokenRepository;
+import com.grocery.ordering.security.UserDetailsServiceImpl;
+import com.grocery.ordering.security.UserPrincipal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Service class for refresh token operations.
+ * Issues opaque refresh tokens, rotates them on every use and detects reuse.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Value("${app.jwt.refresh-expiration:604800000}")
+    private long refreshExpirationMs;
+
+    /**
+     * Issue a refresh token starting a new rotation family.
+     *
+     * @param userPrincipal the authenticated user
+     * @return the raw refresh token to hand to the client
+     */
+    public String createRefreshToken(UserPrincipal userPrincipal) {
+        return issue(UUID.randomUUID().toString(), userPrincipal.getId(), userPrincipal.getUsername(),
+            userPrincipal.getEmail(), userPrincipal.getRole());
+    }
+
+    /**
+     * Consume a refresh token and issue its successor in the same family.
+     * Presenting a token that was already used revokes the whole family.
+     * The user is reloaded, so a disabled user is refused and a renamed
+     * user's tokens carry the current details.
+     *
+     * @param rawToken the refresh token presented by the client
+     * @return the reloaded user and the successor's raw value
+     * @throws RefreshTokenReuseException if the token was already used
+     * @throws RuntimeException if the token is unknown, revoked or expired, or the user is no longer active
+     */
+    @Transactional(noRollbackFor = RefreshTokenReuseException.class)
+    public Rotation rotateRefreshToken(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(rawToken))
+            .orElseThrow(() -> new AuthenticationFailedException("Invalid refresh token"));
+
+        if (Boolean.TRUE.equals(current.getIsRevoked())) {
+            throw new AuthenticationFailedException("Refresh token has been revoked");
+        }
+
+        if (current.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new AuthenticationFailedException("Refresh token has expired");
+        }
+
+        UserPrincipal user = loadActiveUser(current);
+
+        if (refreshTokenRepository.markUsed(current.getRefreshTokenId(), LocalDateTime.now()) == 0) {
+            int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId());
+            logger.warn("Refresh token reuse detected for user: {}, revoked {} tokens", current.getUsername(), revoked);
+            throw new RefreshTokenReuseException("Refresh token has already been used");
+        }
+
+        String successor = issue(current.getFamilyId(), user.getId(), user.getUsername(),
+            user.getEmail(), user.getRole());
+
+        return new Rotation(user, successor);
+    }
+
+    /**
+     * Revoke the family of the given refresh token, if it exists.
+     *
+     * @param rawToken the refresh token
+     */
+    public void revokeRefreshToken(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+            .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    /**
+     * Revoke every refresh token issued to a user.
+     *
+     * @param username the username
+     */
+    public void revokeAllForUser(String username) {
+        int revoked = refreshTokenRepository.revokeAllForUser(username);
+        logger.info("Revoked {} refresh tokens for user: {}", revoked, username);
+    }
+
+    /**
+     * Delete expired refresh tokens.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.refresh-purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        logger.debug("Purged {} expired refresh tokens", deleted);
+    }
+
+    private UserPrincipal loadActiveUser(RefreshToken token) {
+        try {
+            return (UserPrincipal) ("CUSTOMER".equals(token.getRole())
+                ? userDetailsService.loadUserByCustomerId(token.getUserId())
+                : userDetailsService.loadUserByAdminId(token.getUserId()));
+        } catch (UsernameNotFoundException e) {
+            logger.warn("Refresh refused for inactive or deleted user: {}", token.getUsername());
+            throw new AuthenticationFailedException("User account is no longer active");
+        }
+    }
+
+    private String issue(String familyId, Long userId, String username, String email, String role) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken token = new RefreshToken();
+        token.setTokenHash(hash(rawToken));
+        token.setFamilyId(familyId);
+        token.setUserId(userId);
+        token.setUsername(username);
+        token.setEmail(email);
+        token.setRole(role);
+        token.setExpiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshExpirationMs)));
+        refreshTokenRepository.save(token);
+
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        if (rawToken == null) {
+            throw new AuthenticationFailedException("Refresh token is required");
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Result of a refresh token rotation.
+     *
+     * @param user the user the refresh token belongs to, as currently stored
+     * @param successor the raw value of the newly issued refresh token
+     */
+    public record Rotation(UserPrincipal user, String successor) {
+    }
+}
@@ -0,0 +1,558 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.dto.CategorySalesDTO;
+import com.grocery.ordering.dto.CustomerDTO;
+import com.grocery.ordering.dto.CustomerSalesDTO;
+import com.grocery.ordering.dto.DailySalesDTO;
+import com.grocery.ordering.dto.ProductSalesDTO;
+import com.grocery.ordering.dto.SalesRebuildResultDTO;
+import com.grocery.ordering.dto.TopCustomersDTO;
+import com.grocery.ordering.entity.Order;
+import com.grocery.ordering.entity.OrderItem;
+import com.grocery.ordering.entity.Product;
+import com.grocery.ordering.entity.SalesByCategory;
+import com.grocery.ordering.entity.SalesByCustomer;
+import com.grocery.ordering.entity.SalesByProduct;
+import com.grocery.ordering.entity.SalesDaily;
+import com.grocery.ordering.entity.SalesRollupState;
+import com.grocery.ordering.exception.BusinessRuleException;
+import com.grocery.ordering.exception.ValidationException;
+import com.grocery.ordering.repository.CustomerRepository;
+import com.grocery.ordering.repository.OrderRepository;
+import com.grocery.ordering.repository.SalesByCategoryRepository;
+import com.grocery.ordering.repository.SalesByCustomerRepository;
+import com.grocery.ordering.repository.SalesByProductRepository;
+import com.grocery.ordering.repository.SalesDailyRepository;
+import com.grocery.ordering.repository.SalesRollupChangeRepository;
+import com.grocery.ordering.repository.SalesRollupStateRepository;
+import com.grocery.ordering.util.ValidationUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Service class for sales reporting.
+ * Sales are kept in four rollup tables - by day, product, category and
+ * customer - which are adjusted in the transaction that places or cancels
+ * an order, so reports read a few pre-aggregated rows instead of scanning
+ * the orders. Cancelled orders are not counted. A rebuild recomputes the
+ * rollups from the order history in parallel chunks of order IDs, then
+ * sums again the chunks whose orders changed while it was reading.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class SalesAggregateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalesAggregateService.class);
+
+    private static final String UNCATEGORIZED = "Uncategorized";
+    private static final int DEFAULT_REPORT_DAYS = 30;
+    private static final int MAX_REPORT_DAYS = 366;
+    private static final int MAX_TOP_PRODUCTS = 100;
+    private static final int MAX_TOP_CUSTOMERS = 100;
+
+    @Autowired
+    private SalesDailyRepository salesDailyRepository;
+
+    @Autowired
+    private SalesByProductRepository salesByProductRepository;
+
+    @Autowired
+    private SalesByCategoryRepository salesByCategoryRepository;
+
+    @Autowired
+    private SalesByCustomerRepository salesByCustomerRepository;
+
+    @Autowired
+    private SalesRollupStateRepository salesRollupStateRepository;
+
+    @Autowired
+    private SalesRollupChangeRepository salesRollupChangeRepository;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.reports.backfill.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.reports.backfill.threads:4}")
+    private int threads;
+
+    @Value("${app.reports.backfill.on-startup:true}")
+    private boolean backfillOnStartup;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    /**
+     * Build the rollups at startup when any of them is empty but orders exist,
+     * such as after a fresh schema with seed data or the first deployment.
+     *
+     * @param event the application ready event
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillIfEmpty(ApplicationReadyEvent event) {
+        boolean empty = salesDailyRepository.count() == 0 || salesByCustomerRepository.count() == 0;
+        if (backfillOnStartup && empty && orderRepository.findMaxOrderId() != null) {
+            logger.info("Sales rollups are empty, rebuilding from order history");
+            rebuildRollups();
+        }
+    }
+
+    /**
+     * Take the shared rollup lock until the current transaction ends, so a
+     * rebuild neither starts nor finishes in between. Transactions that
+     * write to the rollups call this before any other write, so they never
+     * wait for the lock while holding other rows.
+     */
+    public void lockRollups() {
+        lockState(false);
+    }
+
+    /**
+     * Add a newly placed order to the rollups, in the caller's transaction.
+     *
+     * @param order the order, with its items
+     */
+    public void recordOrder(Order order) {
+        applyOrder(order, 1);
+    }
+
+    /**
+     * Remove a cancelled order from the rollups, in the caller's transaction.
+     *
+     * @param order the order, with its items
+     */
+    public void reverseOrder(Order order) {
+        applyOrder(order, -1);
+    }
+
+    /**
+     * Remove cancelled orders from the rollups, in the caller's transaction.
+     * The orders are summed by the database first, so the rollups get one
+     * update per day, customer, product and category however many orders
+     * were cancelled.
+     *
+     * @param orderIds the IDs of the cancelled orders
+     */
+    public void reverseOrders(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        applyTotals(sumRows(orderRepository.findOrderSalesByIds(orderIds),
+            orderRepository.sumProductSalesByIds(orderIds)), -1, orderIds);
+    }
+
+    /**
+     * Get daily sales for a date range.
+     *
+     * @param from the first day, or null for 30 days before the last day
+     * @param to the last day, or null for today
+     * @return list of daily sales DTOs, oldest first; days without sales are omitted
+     */
+    @Transactional(readOnly = true)
+    public List<DailySalesDTO> getDailySales(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_REPORT_DAYS - 1);
+        ValidationUtils.validateDateRange(start, end);
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_REPORT_DAYS) {
+            throw new ValidationException("from", "Date range must not exceed " + MAX_REPORT_DAYS + " days");
+        }
+        return salesDailyRepository.findDailySales(start, end);
+    }
+
+    /**
+     * Get the best selling products by revenue.
+     *
+     * @param limit the number of products, clamped to 1..100
+     * @return list of product sales DTOs, highest revenue first
+     */
+    @Transactional(readOnly = true)
+    public List<ProductSalesDTO> getTopProducts(int limit) {
+        return salesByProductRepository.findTopProducts(Limit.of(Math.max(1, Math.min(limit, MAX_TOP_PRODUCTS))));
+    }
+
+    /**
+     * Get sales by category.
+     *
+     * @return list of category sales DTOs, highest revenue first
+     */
+    @Transactional(readOnly = true)
+    public List<CategorySalesDTO> getCategorySales() {
+        return salesByCategoryRepository.findCategorySales();
+    }
+
+    /**
+     * Get the customers with the highest spend and the most orders.
+     * Each ranking is read from the customer running totals through its own
+     * index, so only the top rows are touched rather than every customer.
+     *
+     * @param limit the number of customers per ranking, clamped to 1..100
+     * @return the top customers by spend and by order count, highest first
+     */
+    @Transactional(readOnly = true)
+    public TopCustomersDTO getTopCustomers(int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_TOP_CUSTOMERS));
+        List<CustomerSalesDTO> topBySpend = salesByCustomerRepository.findTopBySpend(Limit.of(size));
+        List<CustomerSalesDTO> topByOrderCount = salesByCustomerRepository.findTopByOrderCount(Limit.of(size));
+        Set<Long> customerIds = new HashSet<>();
+        topBySpend.forEach(customer -> customerIds.add(customer.getCustomerId()));
+        topByOrderCount.forEach(customer -> customerIds.add(customer.getCustomerId()));
+        if (!customerIds.isEmpty()) {
+            Map<Long, CustomerDTO> details = customerRepository.findCustomerViewsByIds(customerIds).stream()
+                .collect(Collectors.toMap(CustomerDTO::getCustomerId, Function.identity()));
+            Stream.concat(topBySpend.stream(), topByOrderCount.stream()).forEach(customer -> {
+                CustomerDTO detail = details.get(customer.getCustomerId());
+                if (detail != null) {
+                    customer.setCustomerName(detail.getCustomerName());
+                    customer.setEmail(detail.getEmail());
+                }
+            });
+        }
+        return new TopCustomersDTO(topBySpend, topByOrderCount);
+    }
+
+    /**
+     * Recompute all rollups from the order history.
+     * Order ID ranges are summed in parallel, each in its own read-only
+     * transaction, while orders placed or cancelled meanwhile are noted in
+     * the database. The rollups are then replaced in one transaction that
+     * holds the rollup state row exclusively, so writers on any instance
+     * are held off, sums again the chunks holding noted orders and sums the
+     * orders placed after the chunks were laid out.
+     *
+     * @return summary of the rebuild
+     * @throws BusinessRuleException if a rebuild is already running
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SalesRebuildResultDTO rebuildRollups() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new BusinessRuleException("A sales rollup rebuild is already running");
+        }
+        long started = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        boolean marked = false;
+        boolean finished = false;
+        try {
+            // Transactions that wrote to the rollups before changes were noted must commit before the chunks are read
+            transaction.executeWithoutResult(status -> {
+                SalesRollupState state = lockState(true);
+                if (state.isRebuilding()) {
+                    logger.warn("A previous sales rollup rebuild did not finish, starting over");
+                }
+                salesRollupChangeRepository.deleteAllChanges();
+                state.setRebuilding(true);
+                state.setUpdatedAt(LocalDateTime.now());
+            });
+            marked = true;
+
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+            Long minId = readOnly.execute(status -> orderRepository.findMinOrderId());
+            Long maxId = readOnly.execute(status -> orderRepository.findMaxOrderId());
+
+            List<Future<SalesTotals>> chunks = new ArrayList<>();
+            if (maxId != null) {
+                for (long fromId = minId; fromId <= maxId; fromId += chunkSize) {
+                    long chunkFrom = fromId;
+                    long chunkTo = Math.min(fromId + chunkSize - 1, maxId);
+                    chunks.add(executor.submit(() -> readOnly.execute(status -> sumOrders(chunkFrom, chunkTo))));
+                }
+            }
+            List<SalesTotals> chunkTotals = new ArrayList<>(chunks.size());
+            for (Future<SalesTotals> chunk : chunks) {
+                chunkTotals.add(chunk.get());
+            }
+
+            SalesTotals totals = new SalesTotals();
+            transaction.executeWithoutResult(status -> {
+                // Waits for writers holding the shared lock and holds off new ones until the rollups are replaced
+                SalesRollupState state = lockState(true);
+                List<Long> changed = salesRollupChangeRepository.findAllOrderIds();
+
+                Set<Integer> stale = new HashSet<>();
+                for (Long orderId : changed) {
+                    if (maxId != null && orderId >= minId && orderId <= maxId) {
+                        stale.add((int) ((orderId - minId) / chunkSize));
+                    }
+                }
+                for (int chunk = 0; chunk < chunkTotals.size(); chunk++) {
+                    long chunkFrom = minId + (long) chunk * chunkSize;
+                    totals.merge(stale.contains(chunk)
+                        ? sumOrders(chunkFrom, Math.min(chunkFrom + chunkSize - 1, maxId))
+                        : chunkTotals.get(chunk));
+                }
+                Long latestId = orderRepository.findMaxOrderId();
+                if (latestId != null && (maxId == null || latestId > maxId)) {
+                    totals.merge(sumOrders(maxId != null ? maxId + 1 : 0, latestId));
+                }
+                replaceRollups(totals);
+                salesRollupChangeRepository.deleteAllChanges();
+                state.setRebuilding(false);
+                state.setUpdatedAt(LocalDateTime.now());
+                logger.debug("Sales rollup rebuild summed {} chunks again for {} changed orders",
+                    stale.size(), changed.size());
+            });
+            finished = true;
+
+            long durationMs = (System.nanoTime() - started) / 1_000_000;
+            logger.info("Sales rollups rebuilt from {} orders in {} chunks in {} ms",
+                totals.orders, chunks.size(), durationMs);
+            return new SalesRebuildResultDTO(totals.orders, chunks.size(), totals.days.size(),
+                totals.products.size(), totals.categories.size(), totals.customers.size(), durationMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Sales rollup rebuild was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Sales rollup rebuild failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+            if (marked && !finished) {
+                clearRebuilding(transaction);
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    private void applyOrder(Order order, int sign) {
+        SalesTotals totals = new SalesTotals();
+        long units = 0;
+        if (order.getOrderItems() != null) {
+            for (OrderItem item : order.getOrderItems()) {
+                Product product = item.getProduct();
+                String category = categoryOf(product.getCategory());
+                totals.products.computeIfAbsent(product.getProductId(), id -> new Totals(product.getProductName(), category))
+                    .add(0, item.getQuantity(), item.getTotalPrice());
+                totals.categories.computeIfAbsent(category, c -> new Totals(null, c))
+                    .add(0, item.getQuantity(), item.getTotalPrice());
+                units += item.getQuantity();
+            }
+        }
+        totals.days.computeIfAbsent(order.getOrderDate().toLocalDate(), d -> new Totals(null, null))
+            .add(1, units, order.getTotalAmount());
+        totals.customers.computeIfAbsent(order.getCustomer().getCustomerId(), id -> new Totals(null, null))
+            .add(1, 0, order.getTotalAmount());
+        totals.orders = 1;
+        applyTotals(totals, sign, List.of(order.getOrderId()));
+    }
+
+    /**
+     * Add summed sales to the rollups, or remove them when the sign is
+     * negative, with one upsert per day, customer, product and category in
+     * the caller's transaction. The rollup lock is shared until the
+     * transaction ends, so a rebuild either sees the orders committed or
+     * finds them noted as changed.
+     */
+    private void applyTotals(SalesTotals totals, int sign, Collection<Long> orderIds) {
+        if (lockState(false).isRebuilding()) {
+            orderIds.forEach(salesRollupChangeRepository::note);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BigDecimal factor = BigDecimal.valueOf(sign);
+        totals.days.forEach((salesDate, day) -> salesDailyRepository.addSales(salesDate,
+            sign * day.orders, sign * day.units, day.revenue.multiply(factor), now));
+        totals.customers.forEach((customerId, customer) -> salesByCustomerRepository.addSales(customerId,
+            sign * customer.orders, customer.revenue.multiply(factor), now));
+        totals.products.forEach((productId, product) -> salesByProductRepository.addSales(productId,
+            product.name, product.category, sign * product.units, product.revenue.multiply(factor), now));
+        totals.categories.forEach((category, sums) -> salesByCategoryRepository.addSales(category,
+            sign * sums.units, sums.revenue.multiply(factor), now));
+    }
+
+    /**
+     * Lock the rollup state row, shared or exclusively, creating it first if missing.
+     */
+    private SalesRollupState lockState(boolean exclusive) {
+        Optional<SalesRollupState> state = exclusive
+            ? salesRollupStateRepository.lockExclusive(SalesRollupState.STATE_ID)
+            : salesRollupStateRepository.lockShared(SalesRollupState.STATE_ID);
+        if (state.isEmpty()) {
+            salesRollupStateRepository.createIfMissing(SalesRollupState.STATE_ID, LocalDateTime.now());
+            state = exclusive
+                ? salesRollupStateRepository.lockExclusive(SalesRollupState.STATE_ID)
+                : salesRollupStateRepository.lockShared(SalesRollupState.STATE_ID);
+        }
+        return state.orElseThrow(() -> new IllegalStateException("Sales rollup state row is missing"));
+    }
+
+    /**
+     * Stop noting changed orders after a rebuild failed part way.
+     */
+    private void clearRebuilding(TransactionTemplate transaction) {
+        try {
+            transaction.executeWithoutResult(status -> {
+                SalesRollupState state = lockState(true);
+                salesRollupChangeRepository.deleteAllChanges();
+                state.setRebuilding(false);
+                state.setUpdatedAt(LocalDateTime.now());
+            });
+        } catch (RuntimeException e) {
+            logger.warn("Failed to clear the sales rollup rebuild state: {}", e.getMessage());
+        }
+    }
+
+    private SalesTotals sumOrders(long fromId, long toId) {
+        return sumRows(orderRepository.findOrderSalesInRange(fromId, toId, Order.OrderStatus.CANCELLED),
+            orderRepository.sumProductSalesInRange(fromId, toId, Order.OrderStatus.CANCELLED));
+    }
+
+    private static SalesTotals sumRows(List<Object[]> orderRows, List<Object[]> productRows) {
+        SalesTotals totals = new SalesTotals();
+        for (Object[] row : orderRows) {
+            LocalDate salesDate = ((LocalDateTime) row[0]).toLocalDate();
+            totals.days.computeIfAbsent(salesDate, d -> new Totals(null, null))
+                .add(1, ((Number) row[2]).longValue(), (BigDecimal) row[1]);
+            totals.customers.computeIfAbsent((Long) row[3], id -> new Totals(null, null))
+                .add(1, 0, (BigDecimal) row[1]);
+            totals.orders++;
+        }
+        for (Object[] row : productRows) {
+            String category = categoryOf((String) row[2]);
+            long units = ((Number) row[3]).longValue();
+            BigDecimal revenue = (BigDecimal) row[4];
+            totals.products.computeIfAbsent((Long) row[0], id -> new Totals((String) row[1], category))
+                .add(0, units, revenue);
+            totals.categories.computeIfAbsent(category, c -> new Totals(null, c)).add(0, units, revenue);
+        }
+        return totals;
+    }
+
+    private void replaceRollups(SalesTotals totals) {
+        LocalDateTime now = LocalDateTime.now();
+        salesDailyRepository.deleteAllRollups();
+        salesByProductRepository.deleteAllRollups();
+        salesByCategoryRepository.deleteAllRollups();
+        salesByCustomerRepository.deleteAllRollups();
+
+        List<SalesDaily> days = new ArrayList<>(totals.days.size());
+        totals.days.forEach((salesDate, day) -> {
+            SalesDaily row = new SalesDaily(salesDate);
+            row.setOrderCount(day.orders);
+            row.setUnitsSold(day.units);
+            row.setRevenue(day.revenue);
+            row.setUpdatedAt(now);
+            days.add(row);
+        });
+        salesDailyRepository.saveAll(days);
+
+        List<SalesByProduct> products = new ArrayList<>(totals.products.size());
+        totals.products.forEach((productId, product) -> {
+            SalesByProduct row = new SalesByProduct(productId, product.name, product.category);
+            row.setUnitsSold(product.units);
+            row.setRevenue(product.revenue);
+            row.setUpdatedAt(now);
+            products.add(row);
+        });
+        salesByProductRepository.saveAll(products);
+
+        List<SalesByCategory> categories = new ArrayList<>(totals.categories.size());
+        totals.categories.forEach((category, sums) -> {
+            SalesByCategory row = new SalesByCategory(category);
+            row.setUnitsSold(sums.units);
+            row.setRevenue(sums.revenue);
+            row.setUpdatedAt(now);
+            categories.add(row);
+        });
+        salesByCategoryRepository.saveAll(categories);
+
+        List<SalesByCustomer> customers = new ArrayList<>(totals.customers.size());
+        totals.customers.forEach((customerId, sums) -> {
+            SalesByCustomer row = new SalesByCustomer(customerId);
+            row.setOrderCount(sums.orders);
+            row.setTotalSpent(sums.revenue);
+            row.setUpdatedAt(now);
+            customers.add(row);
+        });
+        salesByCustomerRepository.saveAll(customers);
+    }
+
+    private static String categoryOf(String category) {
+        return category == null || category.isBlank() ? UNCATEGORIZED : category;
+    }
+
+    /**
+     * Running sums for one rollup row.
+     */
+    private static final class Totals {
+        private final String name;
+        private final String category;
+        private long orders;
+        private long units;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        private Totals(String name, String category) {
+            this.name = name;
+            this.category = category;
+        }
+
+        private void add(long orders, long units, BigDecimal revenue) {
+            this.orders += orders;
+            this.units += units;
+            this.revenue = this.revenue.add(revenue);
+        }
+    }
+
+    /**
+     * Sums of one chunk of orders, keyed like the four rollup tables.
+     */
+    private static final class SalesTotals {
+        private final Map<LocalDate, Totals> days = new HashMap<>();
+        private final Map<Long, Totals> products = new HashMap<>();
+        private final Map<String, Totals> categories = new HashMap<>();
+        private final Map<Long, Totals> customers = new HashMap<>();
+        private long orders;
+
+        private void merge(SalesTotals other) {
+            other.days.forEach((key, sums) -> days.computeIfAbsent(key, k -> new Totals(null, null))
+                .add(sums.orders, sums.units, sums.revenue));
+            other.products.forEach((key, sums) -> products.computeIfAbsent(key, k -> new Totals(sums.name, sums.category))
+                .add(sums.orders, sums.units, sums.revenue));
+            other.categories.forEach((key, sums) -> categories.computeIfAbsent(key, k -> new Totals(null, key))
+                .add(sums.orders, sums.units, sums.revenue));
+            other.customers.forEach((key, sums) -> customers.computeIfAbsent(key, k -> new Totals(null, null))
+                .add(sums.orders, sums.units, sums.revenue));
+            orders += other.orders;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.dto.ProductDTO;
+import com.grocery.ordering.dto.TrendingProductDTO;
+import com.grocery.ordering.entity.Order;
+import com.grocery.ordering.entity.OrderItem;
+import com.grocery.ordering.exception.ValidationException;
+import com.grocery.ordering.repository.OrderRepository;
+import com.grocery.ordering.repository.ProductRepository;
+import com.grocery.ordering.util.SpaceSavingSketch;
+import com.grocery.ordering.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service class for trending products.
+ * Units sold are counted per product in one heavy hitters sketch per
+ * window, fed with the lines of committed orders, so the trending shelf is
+ * read from memory instead of grouping the order items on every request.
+ * The in-stock products resolved from each sketch are kept for a few
+ * seconds, so requests in between do not query the products either.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@Service
+@Transactional(readOnly = true)
+public class TrendingProductService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrendingProductService.class);
+
+    /**
+     * Trending windows; sales fade out with the window as their mean lifetime.
+     */
+    public enum Window {
+        HOUR(3_600_000L),
+        DAY(86_400_000L);
+
+        private final long lifetimeMillis;
+
+        Window(long lifetimeMillis) {
+            this.lifetimeMillis = lifetimeMillis;
+        }
+
+        /**
+         * Parse a window name.
+         *
+         * @param name the window name, case-insensitive
+         * @return the window
+         * @throws ValidationException if the window is not supported
+         */
+        public static Window of(String name) {
+            try {
+                return valueOf(name.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException("window", "Window must be hour or day");
+            }
+        }
+    }
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Value("${app.trending.capacity:200}")
+    private int capacity;
+
+    @Value("${app.trending.max-limit:50}")
+    private int maxLimit;
+
+    @Value("${app.trending.snapshot-ttl-ms:5000}")
+    private long snapshotTtlMs;
+
+    private final Map<Window, SpaceSavingSketch> sketches = new EnumMap<>(Window.class);
+    private final Map<Window, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        long now = System.currentTimeMillis();
+        for (Window window : Window.values()) {
+            // Candidates are over-fetched to make up for products that went out of stock
+            sketches.put(window, new SpaceSavingSketch(capacity, maxLimit * 2, window.lifetimeMillis, now));
+        }
+    }
+
+    /**
+     * Replay the last day of orders once the application is ready.
+     *
+     * @param event the application ready event
+     */
+    @EventListener
+    public void warmUp(ApplicationReadyEvent event) {
+        List<Object[]> lines = orderRepository.findOrderLinesSince(
+            LocalDateTime.now().minusDays(1), Order.OrderStatus.CANCELLED);
+        for (Object[] line : lines) {
+            record((Long) line[0], (Integer) line[1], (LocalDateTime) line[2]);
+        }
+        logger.info("Trending products sketch warmed up with {} order lines", lines.size());
+    }
+
+    /**
+     * Count the lines of a new order once the current transaction commits,
+     * so rolled back orders do not trend.
+     *
+     * @param order the order, with its items
+     */
+    public void recordOrder(Order order) {
+        if (order.getOrderItems() == null || order.getOrderItems().isEmpty()) {
+            return;
+        }
+        List<OrderItem> items = List.copyOf(order.getOrderItems());
+        LocalDateTime orderDate = order.getOrderDate();
+        Runnable apply = () -> items.forEach(item ->
+            record(item.getProduct().getProductId(), item.getQuantity(), orderDate));
+        TransactionUtils.afterCommit(apply);
+    }
+
+    /**
+     * Get the trending products of a window that are in stock.
+     *
+     * @param window the window
+     * @param limit the number of products, clamped to 1..max-limit
+     * @return list of trending product DTOs, highest score first
+     */
+    public List<TrendingProductDTO> getTrendingProducts(Window window, int limit) {
+        int size = Math.max(1, Math.min(limit, maxLimit));
+        long now = System.currentTimeMillis();
+        Snapshot snapshot = snapshots.get(window);
+        if (snapshot == null || now - snapshot.takenAt() >= snapshotTtlMs) {
+            // Concurrent refreshes compute the same list, so the last one simply wins
+            snapshot = new Snapshot(resolve(window, maxLimit, now), now);
+            snapshots.put(window, snapshot);
+        }
+        List<TrendingProductDTO> trending = snapshot.products();
+        return trending.size() > size ? trending.subList(0, size) : trending;
+    }
+
+    /**
+     * Resolve the top products of a window's sketch to in-stock product views.
+     */
+    private List<TrendingProductDTO> resolve(Window window, int size, long now) {
+        List<SpaceSavingSketch.Item> items = sketches.get(window).top(size * 2, now);
+        if (items.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ProductDTO> products = productRepository.findInStockProductViewsByIds(
+                items.stream().map(SpaceSavingSketch.Item::key).toList()).stream()
+            .collect(Collectors.toMap(ProductDTO::getProductId, Function.identity()));
+        List<TrendingProductDTO> trending = new ArrayList<>(size);
+        for (SpaceSavingSketch.Item item : items) {
+            ProductDTO product = products.get(item.key());
+            if (product != null) {
+                trending.add(new TrendingProductDTO(product, round(item.count()), round(item.error())));
+                if (trending.size() == size) {
+                    break;
+                }
+            }
+        }
+        return List.copyOf(trending);
+    }
+
+    private void record(Long productId, Integer quantity, LocalDateTime orderDate) {
+        long timestamp = orderDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        for (SpaceSavingSketch sketch : sketches.values()) {
+            sketch.add(productId, quantity, timestamp);
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /**
+     * Trending products of a window, resolved to in-stock views at a point in time.
+     */
+    private record Snapshot(List<TrendingProductDTO> products, long takenAt) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.grocery.ordering.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the k greatest elements offered to it, in O(log k) per element and
+ * O(k) memory, using a min-heap whose root is the weakest element kept.
+ * Not thread-safe.
+ *
+ * @param <T> the element type
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class BoundedTopK<T> {
+
+    private final int k;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;
+
+    /**
+     * Create an empty top-k.
+     *
+     * @param k the number of elements to keep
+     * @param order the order in which greater elements rank higher
+     */
+    public BoundedTopK(int k, Comparator<? super T> order) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+        this.k = k;
+        this.order = order;
+        this.heap = new PriorityQueue<>(k, order);
+    }
+
+    /**
+     * Offer an element.
+     *
+     * @param element the element
+     * @return true if the element is among the k greatest so far
+     */
+    public boolean offer(T element) {
+        if (heap.size() < k) {
+            heap.add(element);
+            return true;
+        }
+        if (order.compare(element, heap.peek()) <= 0) {
+            return false;
+        }
+        heap.poll();
+        heap.add(element);
+        return true;
+    }
+
+    /**
+     * Get the kept elements.
+     *
+     * @return the kept elements, greatest first
+     */
+    public List<T> toList() {
+        List<T> elements = new ArrayList<>(heap);
+        elements.sort(order.reversed());
+        return elements;
+    }
+}
@@ -0,0 +1,165 @@
+package com.grocery.ordering.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sparse matrix counting how often two products are bought in the same
+ * basket, keyed by primitive product IDs. Each product keeps at most
+ * {@code maxNeighbours} neighbours: when a row grows to twice that, only
+ * the most frequent neighbours are kept, so memory stays linear in the
+ * number of products. Neighbours are ranked by cosine similarity, which
+ * stops staples that are in every basket from topping every list.
+ * Not thread-safe.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class CoOccurrenceMatrix {
+
+    private static final Comparator<Neighbour> BY_SCORE = Comparator
+        .comparingDouble(Neighbour::score)
+        .thenComparingLong(Neighbour::count)
+        .thenComparing(Neighbour::productId, Comparator.reverseOrder());
+
+    /**
+     * A product bought together with another: how many baskets held both, and their cosine similarity.
+     */
+    public record Neighbour(long productId, long count, double score) {
+    }
+
+    private final int maxNeighbours;
+    private final int maxBasketSize;
+    private final LongLongHashMap basketCounts = new LongLongHashMap();
+    private final LongObjectHashMap<LongLongHashMap> rows = new LongObjectHashMap<>();
+    private long baskets;
+
+    /**
+     * Create an empty matrix.
+     *
+     * @param maxNeighbours number of neighbours kept per product after pruning
+     * @param maxBasketSize baskets with more distinct products add no pairs, as bulk orders say little about affinity
+     */
+    public CoOccurrenceMatrix(int maxNeighbours, int maxBasketSize) {
+        if (maxNeighbours <= 0 || maxBasketSize <= 0) {
+            throw new IllegalArgumentException("Neighbour and basket limits must be positive");
+        }
+        this.maxNeighbours = maxNeighbours;
+        this.maxBasketSize = maxBasketSize;
+    }
+
+    /**
+     * Count the products of one basket.
+     *
+     * @param productIds the products, duplicates allowed
+     */
+    public void addBasket(long[] productIds) {
+        long[] distinct = distinct(productIds);
+        for (long productId : distinct) {
+            basketCounts.addTo(productId, 1);
+        }
+        if (distinct.length <= maxBasketSize) {
+            for (int i = 0; i < distinct.length; i++) {
+                for (int j = 0; j < distinct.length; j++) {
+                    if (i != j) {
+                        addPair(distinct[i], distinct[j], 1);
+                    }
+                }
+            }
+        }
+        baskets++;
+    }
+
+    /**
+     * Add the counts of another matrix to this one.
+     *
+     * @param other the matrix to add
+     */
+    public void merge(CoOccurrenceMatrix other) {
+        other.basketCounts.forEach(basketCounts::addTo);
+        other.rows.forEach((productId, row) -> row.forEach((neighbour, count) -> addPair(productId, neighbour, count)));
+        baskets += other.baskets;
+    }
+
+    /**
+     * Get the products most often bought with a product.
+     *
+     * @param productId the product
+     * @param limit the number of neighbours
+     * @return up to limit neighbours, most similar first
+     */
+    public List<Neighbour> related(long productId, int limit) {
+        LongLongHashMap row = rows.get(productId);
+        if (row == null || limit <= 0) {
+            return List.of();
+        }
+        double productBaskets = basketCounts.get(productId);
+        BoundedTopK<Neighbour> top = new BoundedTopK<>(limit, BY_SCORE);
+        row.forEach((neighbour, count) -> top.offer(new Neighbour(neighbour, count,
+            count / Math.sqrt(productBaskets * Math.max(basketCounts.get(neighbour), 1)))));
+        return top.toList();
+    }
+
+    /**
+     * Get the number of products with neighbours.
+     *
+     * @return the number of products with neighbours
+     */
+    public int products() {
+        return rows.size();
+    }
+
+    /**
+     * Get the number of baskets counted.
+     *
+     * @return the number of baskets counted
+     */
+    public long baskets() {
+        return baskets;
+    }
+
+    private void addPair(long productId, long neighbour, long count) {
+        LongLongHashMap row = rows.computeIfAbsent(productId, id -> new LongLongHashMap());
+        row.addTo(neighbour, count);
+        if (row.size() > maxNeighbours * 2) {
+            rows.put(productId, prune(row));
+        }
+    }
+
+    private static long[] distinct(long[] productIds) {
+        long[] sorted = productIds.clone();
+        Arrays.sort(sorted);
+        int length = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[length++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, length);
+    }
+
+    /**
+     * Keep the most frequent neighbours of a row; ties at the cut-off are kept in table order.
+     */
+    private LongLongHashMap prune(LongLongHashMap row) {
+        long[] counts = new long[row.size()];
+        int[] index = {0};
+        row.forEach((neighbour, count) -> counts[index[0]++] = count);
+        Arrays.sort(counts);
+        long threshold = counts[counts.length - maxNeighbours];
+        long aboveThreshold = Arrays.stream(counts).filter(count -> count > threshold).count();
+        long[] tiesAllowed = {maxNeighbours - aboveThreshold};
+
+        LongLongHashMap pruned = new LongLongHashMap(maxNeighbours * 2);
+        row.forEach((neighbour, count) -> {
+            if (count > threshold) {
+                pruned.addTo(neighbour, count);
+            } else if (count == threshold && tiesAllowed[0] > 0) {
+                pruned.addTo(neighbour, count);
+                tiesAllowed[0]--;
+            }
+        });
+        return pruned;
+    }
+}
@@ -0,0 +1,57 @@
+package com.grocery.ordering.util;
+
+import com.grocery.ordering.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a listing ordered by a timestamp and then an ID, both descending.
+ * The next page starts strictly after this position, so pages stay stable
+ * while new rows are inserted and each page costs one index range scan
+ * regardless of how deep the client has paged.
+ * Cursors are passed to clients as opaque URL-safe strings.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public record KeysetCursor(LocalDateTime timestamp, long id) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encode the cursor for a client.
+     *
+     * @return opaque URL-safe cursor string
+     */
+    public String encode() {
+        String raw = timestamp.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor received from a client.
+     *
+     * @param cursor the opaque cursor string, or null for the first page
+     * @return the decoded cursor, or null for the first page
+     * @throws ValidationException if the cursor is malformed
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new ValidationException("cursor", "Invalid cursor");
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("cursor", "Invalid cursor");
+        }
+    }
+}
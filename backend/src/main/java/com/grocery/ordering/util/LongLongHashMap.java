@@ -0,0 +1,178 @@
+package com.grocery.ordering.util;
+
+/**
+ * Open addressing hash map from primitive long keys to primitive long
+ * values, so counters keyed by entity IDs need no boxing. Absent keys read
+ * as 0. Not thread-safe.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class LongLongHashMap {
+
+    /** Key 0 marks a free slot; a real 0 key is held outside the table. */
+    private static final long FREE = 0L;
+
+    /**
+     * Receives the entries of a map.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private int mask;
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+    public LongLongHashMap() {
+        this(8);
+    }
+
+    /**
+     * Create a map sized for a number of entries.
+     *
+     * @param expectedSize the expected number of entries
+     */
+    public LongLongHashMap(int expectedSize) {
+        allocate(tableSize(expectedSize));
+    }
+
+    /**
+     * Get the value of a key.
+     *
+     * @param key the key
+     * @return the value, or 0 if the key is absent
+     */
+    public long get(long key) {
+        if (key == FREE) {
+            return hasZeroKey ? zeroValue : 0L;
+        }
+        int slot = slot(key);
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0L;
+    }
+
+    /**
+     * Check whether a key is present.
+     *
+     * @param key the key
+     * @return true if the key is present
+     */
+    public boolean containsKey(long key) {
+        if (key == FREE) {
+            return hasZeroKey;
+        }
+        int slot = slot(key);
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Add to the value of a key, inserting the key with the delta if absent.
+     *
+     * @param key the key
+     * @param delta the amount to add
+     * @return the new value
+     */
+    public long addTo(long key, long delta) {
+        if (key == FREE) {
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue += delta;
+            return zeroValue;
+        }
+        int slot = slot(key);
+        while (keys[slot] != FREE) {
+            if (keys[slot] == key) {
+                values[slot] += delta;
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = delta;
+        if (++size > (mask + 1) / 4 * 3) {
+            rehash((mask + 1) * 2);
+        }
+        return delta;
+    }
+
+    /**
+     * Get the number of entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Visit every entry, in no particular order.
+     *
+     * @param consumer receives each key and value
+     */
+    public void forEach(EntryConsumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(FREE, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int slot = slot(oldKeys[i]);
+                while (keys[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Smallest power of two table that holds the entries below the 3/4 load factor.
+     */
+    static int tableSize(int expectedSize) {
+        int capacity = 8;
+        while (capacity / 4 * 3 < Math.max(expectedSize, 1)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
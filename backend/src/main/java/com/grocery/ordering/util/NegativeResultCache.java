@@ -0,0 +1,110 @@
+package com.grocery.ordering.util;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Short-lived cache of queries that recently returned no results, with the
+ * suggestions computed for them, so that repeated misses skip the database.
+ * Entries expire after a fixed time to live and the whole cache is cleared
+ * whenever the underlying data changes in a way that could create a hit.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class NegativeResultCache {
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a negative result cache.
+     *
+     * @param ttlMillis how long a miss is remembered
+     * @param maxEntries maximum number of remembered queries
+     */
+    public NegativeResultCache(long ttlMillis, int maxEntries) {
+        if (ttlMillis < 0 || maxEntries < 0) {
+            throw new IllegalArgumentException("TTL and capacity must not be negative");
+        }
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Look up a query that recently returned no results.
+     *
+     * @param query the query
+     * @return the suggestions stored for the miss, or null if the query is not cached
+     */
+    public List<String> get(String query) {
+        String key = normalize(query);
+        Entry entry = entries.get(key);
+        if (entry == null || entry.expiresAt - System.nanoTime() <= 0) {
+            if (entry != null) {
+                entries.remove(key, entry);
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.suggestions;
+    }
+
+    /**
+     * Remember that a query returned no results.
+     *
+     * @param query the query
+     * @param suggestions the suggestions to return for repeated misses
+     */
+    public void put(String query, List<String> suggestions) {
+        if (maxEntries == 0 || ttlNanos == 0) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            evictExpired();
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(normalize(query), new Entry(System.nanoTime() + ttlNanos, List.copyOf(suggestions)));
+    }
+
+    /**
+     * Forget all cached misses, for example after data that could match them changed.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.expiresAt - now <= 0);
+    }
+
+    private static String normalize(String query) {
+        return query.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Entry(long expiresAt, List<String> suggestions) {
+    }
+}
@@ -0,0 +1,374 @@
+package com.grocery.ordering.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Promotion rules compiled into lookup tables, so a basket is priced in one
+ * pass over its lines however many promotions are active. Line rules are
+ * indexed by product ID and by category, keeping per key only the best
+ * percentage and the buy-X-get-Y offers no other offer beats; basket
+ * thresholds are sorted with running best discounts, so the threshold a
+ * subtotal reaches is found by binary search.
+ * <p>
+ * Each line gets at most one line promotion, the one saving the most, with
+ * product promotions winning ties over category promotions. At most one
+ * basket promotion then applies to the subtotal after line discounts and is
+ * shared across the lines in proportion to what they cost. Immutable once
+ * built, so it can be shared between threads.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public final class PromotionTable {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final BigDecimal NONE = BigDecimal.ZERO.setScale(2);
+    private static final PromotionTable EMPTY = new Builder().build();
+
+    /**
+     * A basket line to be priced.
+     */
+    public record Line(long productId, String category, BigDecimal unitPrice, int quantity) {
+    }
+
+    /**
+     * A priced line: the undiscounted total, the discount and the promotions applied, 0 meaning none.
+     */
+    public record PricedLine(BigDecimal grossTotal, BigDecimal discount, long linePromotionId, long basketPromotionId) {
+
+        public BigDecimal netTotal() {
+            return grossTotal.subtract(discount);
+        }
+    }
+
+    /**
+     * A priced basket, with its lines in the order they were given.
+     */
+    public record PricedBasket(List<PricedLine> lines, BigDecimal subtotal, BigDecimal discount, BigDecimal total) {
+    }
+
+    /**
+     * A basket threshold promotion.
+     */
+    private record Threshold(long promotionId, BigDecimal threshold, BigDecimal amountOff, BigDecimal percentOff) {
+    }
+
+    /**
+     * Line promotions of one product or category.
+     */
+    private static final class LineRules {
+
+        private long percentPromotionId;
+        private BigDecimal percent = BigDecimal.ZERO;
+        private long[] bundlePromotionIds = new long[0];
+        private int[] buyQuantities = new int[0];
+        private int[] freeQuantities = new int[0];
+
+        private void addPercent(long promotionId, BigDecimal percentOff) {
+            if (percentOff.compareTo(percent) > 0) {
+                percent = percentOff;
+                percentPromotionId = promotionId;
+            }
+        }
+
+        /**
+         * Add a buy-X-get-Y offer unless a kept offer is at least as good: one
+         * giving as many items free for no more items bought. Offers it beats
+         * are dropped.
+         */
+        private void addBundle(long promotionId, int buy, int free) {
+            int kept = 0;
+            for (int i = 0; i < buyQuantities.length; i++) {
+                if (buyQuantities[i] <= buy && freeQuantities[i] == free) {
+                    return;
+                }
+                if (!(buy <= buyQuantities[i] && free == freeQuantities[i])) {
+                    bundlePromotionIds[kept] = bundlePromotionIds[i];
+                    buyQuantities[kept] = buyQuantities[i];
+                    freeQuantities[kept] = freeQuantities[i];
+                    kept++;
+                }
+            }
+            bundlePromotionIds = Arrays.copyOf(bundlePromotionIds, kept + 1);
+            buyQuantities = Arrays.copyOf(buyQuantities, kept + 1);
+            freeQuantities = Arrays.copyOf(freeQuantities, kept + 1);
+            bundlePromotionIds[kept] = promotionId;
+            buyQuantities[kept] = buy;
+            freeQuantities[kept] = free;
+        }
+    }
+
+    /**
+     * Collects promotion rules and compiles them into a table.
+     */
+    public static final class Builder {
+
+        private final LongObjectHashMap<LineRules> byProduct = new LongObjectHashMap<>();
+        private final Map<String, LineRules> byCategory = new HashMap<>();
+        private final List<Threshold> thresholds = new ArrayList<>();
+        private int rules;
+
+        /**
+         * Add a percentage off a product or a category.
+         *
+         * @param promotionId the promotion ID, positive
+         * @param productId the product, or null for a category promotion
+         * @param category the category, used when productId is null
+         * @param percentOff the percentage off, above 0 and below 100
+         * @return this builder
+         */
+        public Builder percentOff(long promotionId, Long productId, String category, BigDecimal percentOff) {
+            if (percentOff.signum() <= 0 || percentOff.compareTo(HUNDRED) >= 0) {
+                throw new IllegalArgumentException("Percentage off must be above 0 and below 100");
+            }
+            rulesFor(productId, category).addPercent(promotionId, percentOff);
+            rules++;
+            return this;
+        }
+
+        /**
+         * Add a buy-X-get-Y-free offer on a product or a category: of every
+         * X + Y items on a line, Y are free.
+         *
+         * @param promotionId the promotion ID, positive
+         * @param productId the product, or null for a category promotion
+         * @param category the category, used when productId is null
+         * @param buy the number of items paid for, at least 1
+         * @param free the number of items free, at least 1
+         * @return this builder
+         */
+        public Builder buyXGetY(long promotionId, Long productId, String category, int buy, int free) {
+            if (buy < 1 || free < 1) {
+                throw new IllegalArgumentException("Buy and free quantities must be at least 1");
+            }
+            rulesFor(productId, category).addBundle(promotionId, buy, free);
+            rules++;
+            return this;
+        }
+
+        /**
+         * Add a basket discount for subtotals reaching a threshold, as a fixed
+         * amount, a percentage, or whichever saves more if both are given.
+         *
+         * @param promotionId the promotion ID, positive
+         * @param threshold the subtotal after line discounts that must be reached
+         * @param amountOff the amount off, below the threshold, or null
+         * @param percentOff the percentage off, below 100, or null
+         * @return this builder
+         */
+        public Builder basketThreshold(long promotionId, BigDecimal threshold, BigDecimal amountOff, BigDecimal percentOff) {
+            BigDecimal amount = amountOff != null ? amountOff : BigDecimal.ZERO;
+            BigDecimal percent = percentOff != null ? percentOff : BigDecimal.ZERO;
+            if (threshold.signum() <= 0 || amount.signum() < 0 || amount.compareTo(threshold) >= 0
+                    || percent.signum() < 0 || percent.compareTo(HUNDRED) >= 0
+                    || (amount.signum() == 0 && percent.signum() == 0)) {
+                throw new IllegalArgumentException("Basket discount must be below the threshold and below 100 percent");
+            }
+            thresholds.add(new Threshold(promotionId, threshold, amount.setScale(2, RoundingMode.HALF_UP), percent));
+            rules++;
+            return this;
+        }
+
+        /**
+         * Compile the rules added so far. The builder must not be used afterwards.
+         *
+         * @return the promotion table
+         */
+        public PromotionTable build() {
+            return new PromotionTable(this);
+        }
+
+        private LineRules rulesFor(Long productId, String category) {
+            if (productId != null) {
+                return byProduct.computeIfAbsent(productId, id -> new LineRules());
+            }
+            if (category == null) {
+                throw new IllegalArgumentException("A line promotion needs a product or a category");
+            }
+            return byCategory.computeIfAbsent(category, key -> new LineRules());
+        }
+    }
+
+    private final LongObjectHashMap<LineRules> byProduct;
+    private final Map<String, LineRules> byCategory;
+    private final int rules;
+
+    // Thresholds ascending; for each, the best amount and best percentage among it and all lower thresholds
+    private final BigDecimal[] thresholds;
+    private final BigDecimal[] bestAmounts;
+    private final long[] bestAmountIds;
+    private final BigDecimal[] bestPercents;
+    private final long[] bestPercentIds;
+
+    private PromotionTable(Builder builder) {
+        this.byProduct = builder.byProduct;
+        this.byCategory = Map.copyOf(builder.byCategory);
+        this.rules = builder.rules;
+
+        List<Threshold> sorted = new ArrayList<>(builder.thresholds);
+        sorted.sort(Comparator.comparing(Threshold::threshold));
+        int size = sorted.size();
+        thresholds = new BigDecimal[size];
+        bestAmounts = new BigDecimal[size];
+        bestAmountIds = new long[size];
+        bestPercents = new BigDecimal[size];
+        bestPercentIds = new long[size];
+        for (int i = 0; i < size; i++) {
+            Threshold threshold = sorted.get(i);
+            thresholds[i] = threshold.threshold();
+            boolean betterAmount = i == 0 || threshold.amountOff().compareTo(bestAmounts[i - 1]) > 0;
+            bestAmounts[i] = betterAmount ? threshold.amountOff() : bestAmounts[i - 1];
+            bestAmountIds[i] = betterAmount ? threshold.promotionId() : bestAmountIds[i - 1];
+            boolean betterPercent = i == 0 || threshold.percentOff().compareTo(bestPercents[i - 1]) > 0;
+            bestPercents[i] = betterPercent ? threshold.percentOff() : bestPercents[i - 1];
+            bestPercentIds[i] = betterPercent ? threshold.promotionId() : bestPercentIds[i - 1];
+        }
+    }
+
+    /**
+     * Get a table without promotions.
+     *
+     * @return the empty table
+     */
+    public static PromotionTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Get the number of rules compiled into the table.
+     *
+     * @return the number of rules
+     */
+    public int size() {
+        return rules;
+    }
+
+    /**
+     * Price a basket.
+     *
+     * @param lines the basket lines
+     * @return the priced basket
+     */
+    public PricedBasket price(List<Line> lines) {
+        int count = lines.size();
+        BigDecimal[] gross = new BigDecimal[count];
+        BigDecimal[] discounts = new BigDecimal[count];
+        long[] linePromotionIds = new long[count];
+        BigDecimal subtotal = NONE;
+        BigDecimal lineDiscounts = NONE;
+
+        for (int i = 0; i < count; i++) {
+            Line line = lines.get(i);
+            gross[i] = line.unitPrice().multiply(BigDecimal.valueOf(line.quantity())).setScale(2, RoundingMode.HALF_UP);
+            discounts[i] = NONE;
+            LineRules productRules = byProduct.get(line.productId());
+            if (productRules != null) {
+                applyBest(productRules, line, gross[i], discounts, linePromotionIds, i);
+            }
+            LineRules categoryRules = line.category() != null ? byCategory.get(line.category()) : null;
+            if (categoryRules != null) {
+                applyBest(categoryRules, line, gross[i], discounts, linePromotionIds, i);
+            }
+            subtotal = subtotal.add(gross[i]);
+            lineDiscounts = lineDiscounts.add(discounts[i]);
+        }
+
+        BigDecimal afterLines = subtotal.subtract(lineDiscounts);
+        long basketPromotionId = 0;
+        BigDecimal basketDiscount = NONE;
+        int reached = reachedThreshold(afterLines);
+        if (reached >= 0) {
+            BigDecimal byPercent = afterLines.multiply(bestPercents[reached]).divide(HUNDRED, 2, RoundingMode.HALF_UP);
+            if (byPercent.compareTo(bestAmounts[reached]) > 0) {
+                basketDiscount = byPercent;
+                basketPromotionId = bestPercentIds[reached];
+            } else {
+                basketDiscount = bestAmounts[reached];
+                basketPromotionId = bestAmountIds[reached];
+            }
+            shareBasketDiscount(basketDiscount, afterLines, gross, discounts);
+        }
+
+        List<PricedLine> priced = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            priced.add(new PricedLine(gross[i], discounts[i], linePromotionIds[i],
+                basketPromotionId != 0 && gross[i].signum() > 0 ? basketPromotionId : 0));
+        }
+        BigDecimal discount = lineDiscounts.add(basketDiscount);
+        return new PricedBasket(priced, subtotal, discount, subtotal.subtract(discount));
+    }
+
+    private static void applyBest(LineRules rules, Line line, BigDecimal gross, BigDecimal[] discounts,
+                                  long[] promotionIds, int index) {
+        if (rules.percentPromotionId != 0) {
+            BigDecimal discount = gross.multiply(rules.percent).divide(HUNDRED, 2, RoundingMode.HALF_UP);
+            if (discount.compareTo(discounts[index]) > 0) {
+                discounts[index] = discount;
+                promotionIds[index] = rules.percentPromotionId;
+            }
+        }
+        for (int j = 0; j < rules.buyQuantities.length; j++) {
+            int freeItems = line.quantity() / (rules.buyQuantities[j] + rules.freeQuantities[j]) * rules.freeQuantities[j];
+            if (freeItems > 0) {
+                BigDecimal discount = line.unitPrice().multiply(BigDecimal.valueOf(freeItems)).setScale(2, RoundingMode.HALF_UP);
+                if (discount.compareTo(discounts[index]) > 0) {
+                    discounts[index] = discount;
+                    promotionIds[index] = rules.bundlePromotionIds[j];
+                }
+            }
+        }
+    }
+
+    /**
+     * Find the highest threshold a subtotal reaches.
+     *
+     * @return its index, or -1 if none is reached
+     */
+    private int reachedThreshold(BigDecimal subtotal) {
+        int low = 0;
+        int high = thresholds.length - 1;
+        int reached = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid].compareTo(subtotal) <= 0) {
+                reached = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Add a basket discount to the line discounts in proportion to each
+     * line's cost after line discounts. Shares are rounded down and the
+     * cents left over go to the most expensive line.
+     */
+    private static void shareBasketDiscount(BigDecimal basketDiscount, BigDecimal afterLines,
+                                            BigDecimal[] gross, BigDecimal[] discounts) {
+        BigDecimal remaining = basketDiscount;
+        int largest = -1;
+        BigDecimal largestNet = BigDecimal.ZERO;
+        for (int i = 0; i < gross.length; i++) {
+            BigDecimal net = gross[i].subtract(discounts[i]);
+            BigDecimal share = basketDiscount.multiply(net).divide(afterLines, 2, RoundingMode.DOWN);
+            discounts[i] = discounts[i].add(share);
+            remaining = remaining.subtract(share);
+            if (net.compareTo(largestNet) > 0) {
+                largestNet = net;
+                largest = i;
+            }
+        }
+        if (largest >= 0) {
+            discounts[largest] = discounts[largest].add(remaining);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.grocery.ordering.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Suggests alternative search terms for queries that found nothing.
+ * A candidate is suggested when the query is a prefix of one of its words,
+ * or within a small edit distance of a word or of a word's prefix of about
+ * the query's length, to catch typos such as "aple" for "Apples".
+ * Candidates are split into words once, in a {@link Vocabulary} that callers
+ * keep until their terms change, and each distinct word is compared once.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public final class SearchSuggester {
+
+    private SearchSuggester() {
+    }
+
+    /**
+     * Rank candidates by their closeness to the query.
+     *
+     * @param query the query that found nothing
+     * @param candidates the known terms, such as product names and categories
+     * @param limit the maximum number of suggestions
+     * @return the closest candidates, best first
+     */
+    public static List<String> suggest(String query, Collection<String> candidates, int limit) {
+        return suggest(query, new Vocabulary(candidates), limit);
+    }
+
+    /**
+     * Rank the terms of a vocabulary by their closeness to the query.
+     *
+     * @param query the query that found nothing
+     * @param vocabulary the known terms
+     * @param limit the maximum number of suggestions
+     * @return the closest terms, best first
+     */
+    public static List<String> suggest(String query, Vocabulary vocabulary, int limit) {
+        String needle = query.trim().toLowerCase(Locale.ROOT);
+        if (needle.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int maxDistance = Math.max(1, needle.length() / 3);
+
+        // Best distance per term, over all of its words
+        int[] best = new int[vocabulary.terms.size()];
+        Arrays.fill(best, Integer.MAX_VALUE);
+        for (Map.Entry<String, int[]> word : vocabulary.words.entrySet()) {
+            String text = word.getKey();
+            int distance = text.startsWith(needle) ? 0 : prefixDistance(needle, text, maxDistance);
+            if (distance <= maxDistance) {
+                for (int term : word.getValue()) {
+                    best[term] = Math.min(best[term], distance);
+                }
+            }
+        }
+
+        List<Scored> scored = new ArrayList<>();
+        for (int term = 0; term < best.length; term++) {
+            if (best[term] <= maxDistance) {
+                scored.add(new Scored(vocabulary.terms.get(term), best[term]));
+            }
+        }
+
+        return scored.stream()
+            .sorted(Comparator.comparingInt(Scored::distance).thenComparing(Scored::term))
+            .map(Scored::term)
+            .distinct()
+            .limit(limit)
+            .toList();
+    }
+
+    /**
+     * Smallest edit distance between the query and the word, or a prefix of
+     * the word within one character of the query's length.
+     */
+    private static int prefixDistance(String needle, String word, int bound) {
+        int best = distance(needle, word, bound);
+        for (int length = needle.length() - 1; length <= needle.length() + 1; length++) {
+            if (length > 0 && length < word.length()) {
+                best = Math.min(best, distance(needle, word.substring(0, length), bound));
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Levenshtein distance, giving up once it exceeds the bound.
+     */
+    private static int distance(String a, String b, int bound) {
+        if (Math.abs(a.length() - b.length()) > bound) {
+            return bound + 1;
+        }
+
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > bound) {
+                return bound + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private record Scored(String term, int distance) {
+    }
+
+    /**
+     * Known terms with their lower-case words, each distinct word mapped to
+     * the terms it appears in. Immutable, so it can be shared between queries.
+     */
+    public static final class Vocabulary {
+
+        private final List<String> terms;
+        private final Map<String, int[]> words;
+
+        /**
+         * Build a vocabulary of the given terms; null terms are skipped.
+         *
+         * @param candidates the known terms, such as product names and categories
+         */
+        public Vocabulary(Collection<String> candidates) {
+            List<String> termList = new ArrayList<>(candidates.size());
+            Map<String, List<Integer>> index = new HashMap<>();
+            for (String candidate : candidates) {
+                if (candidate == null) {
+                    continue;
+                }
+                int term = termList.size();
+                termList.add(candidate);
+                for (String word : candidate.toLowerCase(Locale.ROOT).split("\\s+")) {
+                    index.computeIfAbsent(word, key -> new ArrayList<>()).add(term);
+                }
+            }
+            terms = List.copyOf(termList);
+            words = new HashMap<>(index.size() * 2);
+            index.forEach((word, list) -> words.put(word, list.stream().mapToInt(Integer::intValue).toArray()));
+        }
+
+        public int size() {
+            return terms.size();
+        }
+    }
+}
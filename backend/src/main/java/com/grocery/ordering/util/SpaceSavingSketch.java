@@ -0,0 +1,174 @@
+package com.grocery.ordering.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Space-Saving heavy hitters sketch over exponentially decayed counts.
+ * At most {@code capacity} keys are monitored; a key that is not monitored
+ * takes over the counter with the smallest count, inheriting that count as
+ * its possible overestimate. Any key whose decayed count exceeds
+ * 1/capacity of the decayed total is guaranteed to be monitored.
+ * <p>
+ * Decay uses forward weights: an arrival at time t is stored as
+ * count * e^((t - landmark) / lifetime), so older arrivals never need to be
+ * touched and the ranking only changes on arrival. The top entries are
+ * copied to an immutable snapshot on every update, which lets readers take
+ * the top k without locking in O(k).
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class SpaceSavingSketch {
+
+    /** Rescale the forward weights before they can overflow a double. */
+    private static final double MAX_EXPONENT = 64.0;
+
+    private static final Comparator<Counter> BY_WEIGHT =
+        Comparator.comparingDouble((Counter counter) -> counter.weight).thenComparingLong(counter -> counter.key);
+
+    /**
+     * A heavy hitter: its decayed count estimate and the most that estimate may overstate it by.
+     */
+    public record Item(long key, double count, double error) {
+    }
+
+    private record Snapshot(List<Counter> top, long landmark) {
+    }
+
+    private static final class Counter {
+        private final long key;
+        private double weight;
+        private double error;
+
+        private Counter(long key, double weight, double error) {
+            this.key = key;
+            this.weight = weight;
+            this.error = error;
+        }
+    }
+
+    private final int capacity;
+    private final int snapshotSize;
+    private final double lifetimeMillis;
+
+    private final Map<Long, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> byWeight = new TreeSet<>(BY_WEIGHT);
+    private long landmark;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Create a sketch.
+     *
+     * @param capacity number of monitored keys
+     * @param snapshotSize number of top keys readers can see
+     * @param lifetimeMillis mean lifetime of an arrival; its weight falls by e over this time
+     * @param nowMillis the current time, used as the initial landmark
+     */
+    public SpaceSavingSketch(int capacity, int snapshotSize, long lifetimeMillis, long nowMillis) {
+        if (capacity <= 0 || snapshotSize <= 0 || lifetimeMillis <= 0) {
+            throw new IllegalArgumentException("Capacity, snapshot size and lifetime must be positive");
+        }
+        this.capacity = capacity;
+        this.snapshotSize = Math.min(snapshotSize, capacity);
+        this.lifetimeMillis = lifetimeMillis;
+        this.landmark = nowMillis;
+        this.snapshot = new Snapshot(List.of(), nowMillis);
+    }
+
+    /**
+     * Record an arrival.
+     *
+     * @param key the key
+     * @param count the number of occurrences, must be positive
+     * @param timestampMillis when the occurrences happened
+     */
+    public synchronized void add(long key, long count, long timestampMillis) {
+        if (count <= 0) {
+            return;
+        }
+        if ((timestampMillis - landmark) / lifetimeMillis > MAX_EXPONENT) {
+            rescale(timestampMillis);
+        }
+        double weight = count * Math.exp((timestampMillis - landmark) / lifetimeMillis);
+
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            byWeight.remove(counter);
+            counter.weight += weight;
+        } else if (counters.size() < capacity) {
+            counter = new Counter(key, weight, 0);
+            counters.put(key, counter);
+        } else {
+            Counter smallest = byWeight.pollFirst();
+            counters.remove(smallest.key);
+            counter = new Counter(key, smallest.weight + weight, smallest.weight);
+            counters.put(key, counter);
+        }
+        byWeight.add(counter);
+        publish();
+    }
+
+    /**
+     * Get the keys with the highest decayed counts.
+     *
+     * @param k the number of keys, at most the snapshot size
+     * @param nowMillis the time to decay the counts to
+     * @return up to k items, highest count first
+     */
+    public List<Item> top(int k, long nowMillis) {
+        Snapshot current = snapshot;
+        int size = Math.min(Math.max(k, 0), current.top().size());
+        double decay = Math.exp((current.landmark() - nowMillis) / lifetimeMillis);
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Counter counter = current.top().get(i);
+            items.add(new Item(counter.key, counter.weight * decay, counter.error * decay));
+        }
+        return items;
+    }
+
+    /**
+     * Get the number of monitored keys.
+     *
+     * @return the number of monitored keys
+     */
+    public synchronized int size() {
+        return counters.size();
+    }
+
+    /**
+     * Move the landmark to now, scaling every weight down to match; the
+     * ranking is unchanged, but the tree is rebuilt in case rounding
+     * created ties.
+     */
+    private void rescale(long nowMillis) {
+        double factor = Math.exp((landmark - nowMillis) / lifetimeMillis);
+        for (Counter counter : counters.values()) {
+            counter.weight *= factor;
+            counter.error *= factor;
+        }
+        byWeight.clear();
+        byWeight.addAll(counters.values());
+        landmark = nowMillis;
+    }
+
+    /**
+     * Copy the top counters for readers; the copies are never mutated.
+     */
+    private void publish() {
+        List<Counter> top = new ArrayList<>(snapshotSize);
+        Iterator<Counter> iterator = byWeight.descendingIterator();
+        while (iterator.hasNext() && top.size() < snapshotSize) {
+            Counter counter = iterator.next();
+            top.add(new Counter(counter.key, counter.weight, counter.error));
+        }
+        snapshot = new Snapshot(List.copyOf(top), landmark);
+    }
+}
@@ -0,0 +1,147 @@
+package com.grocery.ordering.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Single-pass detector for SQL injection and script markers in user input.
+ * Forbidden punctuation is checked with a lookup table and the keyword list
+ * with an Aho-Corasick automaton compiled once into a flat transition table,
+ * so each input is scanned in one pass without allocating.
+ * Keywords are matched case-insensitively (ASCII) anywhere in the input.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public final class SqlInjectionScanner {
+
+    private static final String[] KEYWORDS = {
+        "union", "select", "insert", "update", "delete", "drop", "create", "alter", "exec", "execute",
+        "script", "javascript", "vbscript", "onload", "onerror", "onclick",
+        "&lt", "&gt"
+    };
+
+    private static final String FORBIDDEN_CHARACTERS = "';|*<>";
+
+    // Alphabet of the automaton: a-z folded from either case, then '&'
+    private static final int ALPHABET_SIZE = 27;
+    private static final int AMPERSAND = 26;
+
+    private static final boolean[] FORBIDDEN = new boolean[128];
+
+    private static final int[] TRANSITIONS;
+    private static final boolean[] ACCEPTING;
+
+    static {
+        for (char c : FORBIDDEN_CHARACTERS.toCharArray()) {
+            FORBIDDEN[c] = true;
+        }
+
+        // Build the trie
+        List<int[]> gotoTable = new ArrayList<>();
+        List<Boolean> output = new ArrayList<>();
+        gotoTable.add(newRow());
+        output.add(false);
+        for (String keyword : KEYWORDS) {
+            int state = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                int symbol = symbolOf(keyword.charAt(i));
+                if (gotoTable.get(state)[symbol] < 0) {
+                    gotoTable.get(state)[symbol] = gotoTable.size();
+                    gotoTable.add(newRow());
+                    output.add(false);
+                }
+                state = gotoTable.get(state)[symbol];
+            }
+            output.set(state, true);
+        }
+
+        // Resolve failure links breadth-first into a complete transition table
+        int states = gotoTable.size();
+        int[] failure = new int[states];
+        TRANSITIONS = new int[states * ALPHABET_SIZE];
+        ACCEPTING = new boolean[states];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < ALPHABET_SIZE; symbol++) {
+            int next = gotoTable.get(0)[symbol];
+            if (next > 0) {
+                queue.add(next);
+                TRANSITIONS[symbol] = next;
+            }
+        }
+        ACCEPTING[0] = output.get(0);
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            ACCEPTING[state] = output.get(state) || ACCEPTING[failure[state]];
+            for (int symbol = 0; symbol < ALPHABET_SIZE; symbol++) {
+                int next = gotoTable.get(state)[symbol];
+                if (next > 0) {
+                    failure[next] = TRANSITIONS[failure[state] * ALPHABET_SIZE + symbol];
+                    queue.add(next);
+                    TRANSITIONS[state * ALPHABET_SIZE + symbol] = next;
+                } else {
+                    TRANSITIONS[state * ALPHABET_SIZE + symbol] = TRANSITIONS[failure[state] * ALPHABET_SIZE + symbol];
+                }
+            }
+        }
+    }
+
+    private SqlInjectionScanner() {
+    }
+
+    /**
+     * Check whether input contains forbidden punctuation, a comment marker or a keyword.
+     *
+     * @param input the input to scan, may be null
+     * @return true if the input must be rejected
+     */
+    public static boolean isSuspicious(CharSequence input) {
+        if (input == null) {
+            return false;
+        }
+
+        int state = 0;
+        char previous = 0;
+        for (int i = 0, length = input.length(); i < length; i++) {
+            char c = input.charAt(i);
+            if (c < 128 && FORBIDDEN[c]) {
+                return true;
+            }
+            if (c == '-' && previous == '-') {
+                return true;
+            }
+            previous = c;
+
+            int symbol = symbolOf(c);
+            if (symbol < 0) {
+                // No keyword contains this character
+                state = 0;
+                continue;
+            }
+            state = TRANSITIONS[state * ALPHABET_SIZE + symbol];
+            if (ACCEPTING[state]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int symbolOf(char c) {
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A';
+        }
+        return c == '&' ? AMPERSAND : -1;
+    }
+
+    private static int[] newRow() {
+        int[] row = new int[ALPHABET_SIZE];
+        Arrays.fill(row, -1);
+        return row;
+    }
+}
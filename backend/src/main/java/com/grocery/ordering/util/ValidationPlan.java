@@ -0,0 +1,208 @@
+package com.grocery.ordering.util;
+
+import com.grocery.ordering.exception.ValidationException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable, precompiled set of validation rules for one DTO class.
+ * Plans are built once and validate every field in a single pass,
+ * collecting all violations instead of stopping at the first one.
+ * Within a field, checks run in order and stop at the first failure.
+ *
+ * @param <T> the validated type
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public final class ValidationPlan<T> {
+
+    private final String nullMessage;
+    private final List<FieldRule<T>> fields;
+
+    private ValidationPlan(String nullMessage, List<FieldRule<T>> fields) {
+        this.nullMessage = nullMessage;
+        this.fields = List.copyOf(fields);
+    }
+
+    /**
+     * Start building a plan.
+     *
+     * @param nullMessage the message reported when the validated object is null
+     * @param <T> the validated type
+     * @return a new builder
+     */
+    public static <T> Builder<T> builder(String nullMessage) {
+        return new Builder<>(nullMessage);
+    }
+
+    /**
+     * Validate an object against this plan.
+     *
+     * @param target the object to validate
+     * @return every violation found, empty if the object is valid
+     */
+    public List<Violation> validate(T target) {
+        if (target == null) {
+            return List.of(new Violation(null, nullMessage));
+        }
+
+        List<Violation> violations = null;
+        for (FieldRule<T> field : fields) {
+            String message = field.check(target);
+            if (message != null) {
+                if (violations == null) {
+                    violations = new ArrayList<>();
+                }
+                violations.add(new Violation(field.name, message));
+            }
+        }
+        return violations == null ? Collections.emptyList() : violations;
+    }
+
+    /**
+     * Validate an object against this plan.
+     *
+     * @param target the object to validate
+     * @throws ValidationException carrying every violation, if any
+     */
+    public void validateOrThrow(T target) {
+        List<Violation> violations = validate(target);
+        if (!violations.isEmpty()) {
+            throw new ValidationException(violations);
+        }
+    }
+
+    /**
+     * A single failed check.
+     *
+     * @param field the field name, or null if the whole object is invalid
+     * @param message the error message
+     */
+    public record Violation(String field, String message) {
+    }
+
+    /**
+     * A check on a present field value.
+     * Returns the error message, or null if the value passes.
+     */
+    @FunctionalInterface
+    public interface Check {
+        String apply(Object value);
+    }
+
+    /**
+     * Builder for validation plans.
+     *
+     * @param <T> the validated type
+     */
+    public static final class Builder<T> {
+
+        private final String nullMessage;
+        private final List<FieldRule<T>> fields = new ArrayList<>();
+
+        private Builder(String nullMessage) {
+            this.nullMessage = nullMessage;
+        }
+
+        /**
+         * Add a required field. A null value, or blank text, fails with the given message.
+         *
+         * @param name the field name reported in violations
+         * @param getter the field accessor
+         * @param requiredMessage the message when the field is missing
+         * @param checks checks run, in order, on a present value
+         * @return this builder
+         */
+        public Builder<T> required(String name, Function<T, ?> getter, String requiredMessage, Check... checks) {
+            fields.add(new FieldRule<>(name, getter, requiredMessage, checks));
+            return this;
+        }
+
+        /**
+         * Add an optional field. Checks are skipped when the value is null or blank text.
+         *
+         * @param name the field name reported in violations
+         * @param getter the field accessor
+         * @param checks checks run, in order, on a present value
+         * @return this builder
+         */
+        public Builder<T> optional(String name, Function<T, ?> getter, Check... checks) {
+            fields.add(new FieldRule<>(name, getter, null, checks));
+            return this;
+        }
+
+        public ValidationPlan<T> build() {
+            return new ValidationPlan<>(nullMessage, fields);
+        }
+    }
+
+    // Check factories
+
+    public static Check maxLength(int max, String message) {
+        return value -> value.toString().length() > max ? message : null;
+    }
+
+    public static Check minLength(int min, String message) {
+        return value -> value.toString().length() < min ? message : null;
+    }
+
+    public static Check matches(Pattern pattern, String message) {
+        return value -> pattern.matcher(value.toString()).matches() ? null : message;
+    }
+
+    public static Check matchesTrimmed(Pattern pattern, String message) {
+        return value -> pattern.matcher(value.toString().trim()).matches() ? null : message;
+    }
+
+    public static Check positive(String message) {
+        return value -> ((BigDecimal) value).signum() <= 0 ? message : null;
+    }
+
+    public static Check maxScale(int scale, String message) {
+        return value -> ((BigDecimal) value).scale() > scale ? message : null;
+    }
+
+    public static Check notNegative(String message) {
+        return value -> ((Number) value).longValue() < 0 ? message : null;
+    }
+
+    public static Check noSqlInjection(String label) {
+        String message = "Invalid characters detected in " + label + ". Please use only alphanumeric characters and spaces.";
+        return value -> SqlInjectionScanner.isSuspicious(value.toString()) ? message : null;
+    }
+
+    private static final class FieldRule<T> {
+
+        private final String name;
+        private final Function<T, ?> getter;
+        private final String requiredMessage;
+        private final Check[] checks;
+
+        private FieldRule(String name, Function<T, ?> getter, String requiredMessage, Check[] checks) {
+            this.name = name;
+            this.getter = getter;
+            this.requiredMessage = requiredMessage;
+            this.checks = checks.clone();
+        }
+
+        private String check(T target) {
+            Object value = getter.apply(target);
+            if (value == null || (value instanceof String text && text.isBlank())) {
+                return requiredMessage;
+            }
+
+            for (Check check : checks) {
+                String message = check.apply(value);
+                if (message != null) {
+                    return message;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -3,9 +3,11 @@ package com.grocery.ordering.util;
 import com.grocery.ordering.dto.CustomerDTO;
 import com.grocery.ordering.dto.CustomerRegistrationDTO;
 import com.grocery.ordering.dto.ProductDTO;
+import com.grocery.ordering.exception.ValidationException;
 import org.springframework.util.StringUtils;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.regex.Pattern;
 
 /**
@@ -29,112 +31,112 @@ public class ValidationUtils {
     );
     
     private static final Pattern NAME_PATTERN = Pattern.compile("^[a-zA-Z\\s]{2,100}$");
-    
-    // SQL injection patterns to detect and prevent
-    private static final Pattern[] SQL_INJECTION_PATTERNS = {
-        Pattern.compile("(?i).*('|(\\-\\-)|(;)|(\\|)|(\\*)).*"),
-        Pattern.compile("(?i).*(union|select|insert|update|delete|drop|create|alter|exec|execute).*"),
-        Pattern.compile("(?i).*(script|javascript|vbscript|onload|onerror|onclick).*"),
-        Pattern.compile("(?i).*(\\<|\\>|\\&lt|\\&gt).*")
-    };
+
+    // Precompiled validation plans, one per DTO class
+    private static final ValidationPlan<CustomerRegistrationDTO> CUSTOMER_REGISTRATION_PLAN =
+        ValidationPlan.<CustomerRegistrationDTO>builder("Registration data cannot be null")
+            .required("customerName", CustomerRegistrationDTO::getCustomerName, "Customer name is required",
+                ValidationPlan.maxLength(100, "Customer name must not exceed 100 characters"),
+                ValidationPlan.matchesTrimmed(NAME_PATTERN, "Customer name must contain only letters and spaces"),
+                ValidationPlan.noSqlInjection("Customer Name"))
+            .required("email", CustomerRegistrationDTO::getEmail, "Email is required",
+                ValidationPlan.maxLength(100, "Email must not exceed 100 characters"),
+                ValidationPlan.matchesTrimmed(EMAIL_PATTERN, "Email format is invalid"),
+                ValidationPlan.noSqlInjection("Email"))
+            .required("password", CustomerRegistrationDTO::getPassword, "Password is required",
+                ValidationPlan.minLength(8, "Password must be at least 8 characters long"),
+                ValidationPlan.matches(PASSWORD_PATTERN, "Password must contain at least one uppercase letter, one lowercase letter, one digit, and one special character"))
+            .required("address", CustomerRegistrationDTO::getAddress, "Address is required",
+                ValidationPlan.maxLength(500, "Address must not exceed 500 characters"),
+                ValidationPlan.noSqlInjection("Address"))
+            .required("contactNumber", CustomerRegistrationDTO::getContactNumber, "Contact number is required",
+                ValidationPlan.matchesTrimmed(PHONE_PATTERN, "Contact number must be exactly 10 digits"),
+                ValidationPlan.noSqlInjection("Contact Number"))
+            .build();
+
+    private static final ValidationPlan<CustomerDTO> CUSTOMER_UPDATE_PLAN =
+        ValidationPlan.<CustomerDTO>builder("Customer data cannot be null")
+            .required("customerName", CustomerDTO::getCustomerName, "Customer name is required",
+                ValidationPlan.maxLength(100, "Customer name must not exceed 100 characters"),
+                ValidationPlan.matchesTrimmed(NAME_PATTERN, "Customer name must contain only letters and spaces"),
+                ValidationPlan.noSqlInjection("Customer Name"))
+            .required("email", CustomerDTO::getEmail, "Email is required",
+                ValidationPlan.maxLength(100, "Email must not exceed 100 characters"),
+                ValidationPlan.matchesTrimmed(EMAIL_PATTERN, "Email format is invalid"),
+                ValidationPlan.noSqlInjection("Email"))
+            .required("address", CustomerDTO::getAddress, "Address is required",
+                ValidationPlan.maxLength(500, "Address must not exceed 500 characters"),
+                ValidationPlan.noSqlInjection("Address"))
+            .required("contactNumber", CustomerDTO::getContactNumber, "Contact number is required",
+                ValidationPlan.matchesTrimmed(PHONE_PATTERN, "Contact number must be exactly 10 digits"),
+                ValidationPlan.noSqlInjection("Contact Number"))
+            .build();
+
+    private static final ValidationPlan<ProductDTO> PRODUCT_PLAN =
+        ValidationPlan.<ProductDTO>builder("Product data cannot be null")
+            .required("productName", ProductDTO::getProductName, "Product name is required",
+                ValidationPlan.maxLength(100, "Product name must not exceed 100 characters"),
+                ValidationPlan.noSqlInjection("Product Name"))
+            .required("price", ProductDTO::getPrice, "Price is required",
+                ValidationPlan.positive("Price must be greater than 0"),
+                ValidationPlan.maxScale(2, "Price can have at most 2 decimal places"))
+            .required("quantity", ProductDTO::getQuantity, "Quantity is required",
+                ValidationPlan.notNegative("Quantity cannot be negative"))
+            .optional("category", ProductDTO::getCategory,
+                ValidationPlan.maxLength(50, "Category must not exceed 50 characters"),
+                ValidationPlan.noSqlInjection("Category"))
+            .optional("description", ProductDTO::getDescription,
+                ValidationPlan.maxLength(1000, "Description must not exceed 1000 characters"),
+                ValidationPlan.noSqlInjection("Description"))
+            .build();
 
     /**
      * Validate customer registration data.
      * 
      * @param registrationDTO the registration data to validate
-     * @throws RuntimeException if validation fails
+     * @throws ValidationException listing every invalid field
      */
     public static void validateCustomerRegistration(CustomerRegistrationDTO registrationDTO) {
-        if (registrationDTO == null) {
-            throw new RuntimeException("Registration data cannot be null");
-        }
-
-        validateCustomerName(registrationDTO.getCustomerName());
-        validateEmail(registrationDTO.getEmail());
-        validatePassword(registrationDTO.getPassword());
-        validateAddress(registrationDTO.getAddress());
-        validateContactNumber(registrationDTO.getContactNumber());
-        
-        // Check for SQL injection in all fields
-        preventSQLInjection(registrationDTO.getCustomerName(), "Customer Name");
-        preventSQLInjection(registrationDTO.getEmail(), "Email");
-        preventSQLInjection(registrationDTO.getAddress(), "Address");
-        preventSQLInjection(registrationDTO.getContactNumber(), "Contact Number");
+        CUSTOMER_REGISTRATION_PLAN.validateOrThrow(registrationDTO);
     }
 
     /**
      * Validate customer update data.
      * 
      * @param customerDTO the customer data to validate
-     * @throws RuntimeException if validation fails
+     * @throws ValidationException listing every invalid field
      */
     public static void validateCustomerUpdate(CustomerDTO customerDTO) {
-        if (customerDTO == null) {
-            throw new RuntimeException("Customer data cannot be null");
-        }
-
-        validateCustomerName(customerDTO.getCustomerName());
-        validateEmail(customerDTO.getEmail());
-        validateAddress(customerDTO.getAddress());
-        validateContactNumber(customerDTO.getContactNumber());
-        
-        // Check for SQL injection in all fields
-        preventSQLInjection(customerDTO.getCustomerName(), "Customer Name");
-        preventSQLInjection(customerDTO.getEmail(), "Email");
-        preventSQLInjection(customerDTO.getAddress(), "Address");
-        preventSQLInjection(customerDTO.getContactNumber(), "Contact Number");
+        CUSTOMER_UPDATE_PLAN.validateOrThrow(customerDTO);
     }
 
     /**
      * Validate product data.
      * 
      * @param productDTO the product data to validate
-     * @throws RuntimeException if validation fails
+     * @throws ValidationException listing every invalid field
      */
     public static void validateProduct(ProductDTO productDTO) {
-        if (productDTO == null) {
-            throw new RuntimeException("Product data cannot be null");
-        }
-
-        validateProductName(productDTO.getProductName());
-        validatePrice(productDTO.getPrice());
-        validateQuantity(productDTO.getQuantity());
-        
-        if (StringUtils.hasText(productDTO.getCategory())) {
-            validateCategory(productDTO.getCategory());
-        }
-        
-        if (StringUtils.hasText(productDTO.getDescription())) {
-            validateDescription(productDTO.getDescription());
-        }
-        
-        // Check for SQL injection in all fields
-        preventSQLInjection(productDTO.getProductName(), "Product Name");
-        if (productDTO.getCategory() != null) {
-            preventSQLInjection(productDTO.getCategory(), "Category");
-        }
-        if (productDTO.getDescription() != null) {
-            preventSQLInjection(productDTO.getDescription(), "Description");
-        }
+        PRODUCT_PLAN.validateOrThrow(productDTO);
     }
 
     /**
      * Validate customer name.
      * 
      * @param customerName the customer name to validate
-     * @throws RuntimeException if validation fails
+     * @throws ValidationException if validation fails
      */
     public static void validateCustomerName(String customerName) {
         if (!StringUtils.hasText(customerName)) {
-            throw new RuntimeException("Customer name is required");
+            throw new ValidationException("customerName", "Customer name is required");
         }
         
         if (customerName.length() > 100) {
-            throw new RuntimeException("Customer name must not exceed 100 characters");
+            throw new ValidationException("customerName", "Customer name must not exceed 100 characters");
         }
         
         if (!NAME_PATTERN.matcher(customerName.trim()).matches()) {
-            throw new RuntimeException("Customer name must contain only letters and spaces");
+            throw new ValidationException("customerName", "Customer name must contain only letters and spaces");
         }
     }
 
@@ -142,19 +144,19 @@ public class ValidationUtils {
      * Validate email address.
      * 
      * @param email the email to validate
-     * @throws RuntimeException if validation fails
+     * @throws ValidationException if validation fails
      */
     public static void validateEmail(String email) {
         if (!StringUtils.hasText(email)) {
-            throw new RuntimeException("Email is required");
+            throw new ValidationException("email", "Email is required");
         }
         
         if (email.length() > 100) {
-            throw new RuntimeException("Email must not exceed 100 characters");
+            throw new ValidationException("email", "Email must not exceed 100 characters");
         }
         
         if (!EMAIL_PATTERN.matcher(email.trim()).matches()) {
-            throw new RuntimeException("Email format is invalid");
+            throw new ValidationException("email", "Email format is invalid");
         }
     }
 
@@ -162,19 +164,19 @@ public class ValidationUtils {
      * Validate password.
      * 
      * @param password the password to validate
-     * @throws RuntimeException if validation fails
+     * @throws ValidationException if validation fails
      */
     public static void validatePassword(String password) {
         if (!StringUtils.hasText(password)) {
-            throw new RuntimeException("Password is required");
+            throw new ValidationException("password", "Password is required");
         }
         
         if (password.length() < 8) {
-            throw new RuntimeException("Password must be at least 8 characters long");
+            throw new ValidationException("password", "Password must be at least 8 characters long");
         }
         
         if (!PASSWORD_PATTERN.matcher(password).matches()) {
-            throw new RuntimeException("Password must contain at least one uppercase letter, one lowercase letter, one digit, and one special character");
+            throw new ValidationException("password", "Password must contain at least one uppercase letter, one lowercase letter, one digit, and one special character");
         }
     }
 
@@ -182,15 +184,15 @@ public class ValidationUtils {
      * Validate contact number.
      * 
      * @param contactNumber the contact number to validate
-     * @throws RuntimeException if validation fails
+     * @throws ValidationException if validation fails
      */
     public static void validateContactNumber(String contactNumber) {
         if (!StringUtils.hasText(contactNumber)) {
-            throw new RuntimeException("Contact number is required");
+            throw new ValidationException("contactNumber", "Contact number is required");
         }
         
         if (!PHONE_PATTERN.matcher(contactNumber.trim()).matches()) {
-            throw new RuntimeException("Contact number must be exactly 10 digits");
+            throw new ValidationException("contactNumber", "Contact number must be exactly 10 digits");
         }
     }
 
@@ -198,15 +200,15 @@ public class ValidationUtils {
      * Validate address.
      * 
      * @param address the address to validate
-     * @throws RuntimeException if validation fails
+     * @throws ValidationException if validation fails
      */
     public static void validateAddress(String address) {
         if (!StringUtils.hasText(address)) {
-            throw new RuntimeException("Address is required");
+            throw new ValidationException("address", "Address is required");
         }
         
         if (address.length() > 500) {
-            throw new RuntimeException("Address must not exceed 500 characters");
+            throw new ValidationException("address", "Address must not exceed 500 characters");
         }
     }
 
@@ -214,15 +216,15 @@ public class ValidationUtils {
      * Validate product name.
      * 
      * @param productName the product name to validate
-     * @throws RuntimeException if validation fails
+     * @throws ValidationException if validation fails
      */
     public static void validateProductName(String productName) {
         if (!StringUtils.hasText(productName)) {
-            throw new RuntimeException("Product name is required");
+            throw new ValidationException("productName", "Product name is required");
         }
         
         if (productName.length() > 100) {
-            throw new RuntimeException("Product name must not exceed 100 characters");
+            throw new ValidationException("productName", "Product name must not exceed 100 characters");
         }
     }
 
@@ -230,19 +232,19 @@ public class ValidationUtils {
      * Validate price.
      * 
      * @param price the price to validate
-     * @throws RuntimeException if validation fails
+     * @throws ValidationException if validation fails
      */
     public static void validatePrice(BigDecimal price) {
         if (price == null) {
-            throw new RuntimeException("Price is required");
+            throw new ValidationException("price", "Price is required");
         }
         
         if (price.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new RuntimeException("Price must be greater than 0");
+            throw new ValidationException("price", "Price must be greater than 0");
         }
         
         if (price.scale() > 2) {
-            throw new RuntimeException("Price can have at most 2 decimal places");
+            throw new ValidationException("price", "Price can have at most 2 decimal places");
         }
     }
 
@@ -250,15 +252,15 @@ public class ValidationUtils {
      * Validate quantity.
      * 
      * @param quantity the quantity to validate
-     * @throws RuntimeException if validation fails
+     * @throws ValidationException if validation fails
      */
     public static void validateQuantity(Integer quantity) {
         if (quantity == null) {
-            throw new RuntimeException("Quantity is required");
+            throw new ValidationException("quantity", "Quantity is required");
         }
         
         if (quantity < 0) {
-            throw new RuntimeException("Quantity cannot be negative");
+            throw new ValidationException("quantity", "Quantity cannot be negative");
         }
     }
 
@@ -266,11 +268,11 @@ public class ValidationUtils {
      * Validate category.
      * 
      * @param category the category to validate
-     * @throws RuntimeException if validation fails
+     * @throws ValidationException if validation fails
      */
     public static void validateCategory(String category) {
         if (category.length() > 50) {
-            throw new RuntimeException("Category must not exceed 50 characters");
+            throw new ValidationException("category", "Category must not exceed 50 characters");
         }
     }
 
@@ -278,32 +280,25 @@ public class ValidationUtils {
      * Validate description.
      * 
      * @param description the description to validate
-     * @throws RuntimeException if validation fails
+     * @throws ValidationException if validation fails
      */
     public static void validateDescription(String description) {
         if (description.length() > 1000) {
-            throw new RuntimeException("Description must not exceed 1000 characters");
+            throw new ValidationException("description", "Description must not exceed 1000 characters");
         }
     }
 
     /**
      * Prevent SQL injection attacks by checking input against known patterns.
+     * Uses the single-pass {@link SqlInjectionScanner}.
      * 
      * @param input the input string to check
      * @param fieldName the name of the field being validated
-     * @throws RuntimeException if SQL injection is detected
+     * @throws ValidationException if SQL injection is detected
      */
     public static void preventSQLInjection(String input, String fieldName) {
-        if (!StringUtils.hasText(input)) {
-            return;
-        }
-
-        String cleanInput = input.trim();
-        
-        for (Pattern pattern : SQL_INJECTION_PATTERNS) {
-            if (pattern.matcher(cleanInput).matches()) {
-                throw new RuntimeException("Invalid characters detected in " + fieldName + ". Please use only alphanumeric characters and spaces.");
-            }
+        if (SqlInjectionScanner.isSuspicious(input)) {
+            throw new ValidationException(fieldName, "Invalid characters detected in " + fieldName + ". Please use only alphanumeric characters and spaces.");
         }
     }
 
@@ -329,17 +324,30 @@ public class ValidationUtils {
      * Validate search term for safe database queries.
      * 
      * @param searchTerm the search term to validate
-     * @throws RuntimeException if validation fails
+     * @throws ValidationException if validation fails
      */
     public static void validateSearchTerm(String searchTerm) {
         if (!StringUtils.hasText(searchTerm)) {
-            throw new RuntimeException("Search term cannot be empty");
+            throw new ValidationException("searchTerm", "Search term cannot be empty");
         }
         
         if (searchTerm.length() > 100) {
-            throw new RuntimeException("Search term must not exceed 100 characters");
+            throw new ValidationException("searchTerm", "Search term must not exceed 100 characters");
         }
         
         preventSQLInjection(searchTerm, "Search Term");
     }
+
+    /**
+     * Validate an optional date range.
+     * 
+     * @param from the first day, or null for no lower bound
+     * @param to the last day, or null for no upper bound
+     * @throws ValidationException if the range ends before it starts
+     */
+    public static void validateDateRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ValidationException("from", "Start date must not be after end date");
+        }
+    }
 }
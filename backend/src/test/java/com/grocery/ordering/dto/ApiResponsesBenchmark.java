@@ -0,0 +1,97 @@
+package com.grocery.ordering.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.grocery.ordering.dto.ApiResponses.ProductListResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark serializing a product listing of 1000 items as the former
+ * map envelope, as a typed record through a prepared writer, and as the
+ * same record with Blackbird registered.
+ * Run with:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.grocery.ordering.dto.ApiResponsesBenchmark}
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponsesBenchmark {
+
+    private static final int PRODUCTS = 1000;
+
+    private List<ProductDTO> products;
+    private ObjectMapper mapper;
+    private ObjectWriter recordWriter;
+    private ObjectWriter blackbirdWriter;
+
+    @Setup
+    public void setUp() {
+        products = new ArrayList<>(PRODUCTS);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < PRODUCTS; i++) {
+            ProductDTO product = new ProductDTO((long) i, "Product " + i, BigDecimal.valueOf(100 + i, 2), i % 50,
+                "Fresh product number " + i, "Category " + (i % 10));
+            product.setIsActive(true);
+            product.setIsReserved(false);
+            product.setCreatedAt(now);
+            product.setUpdatedAt(now);
+            products.add(product);
+        }
+
+        mapper = newMapper();
+        recordWriter = mapper.writerFor(ProductListResponse.class);
+        blackbirdWriter = newMapper().registerModule(new BlackbirdModule()).writerFor(ProductListResponse.class);
+    }
+
+    private static ObjectMapper newMapper() {
+        return new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public byte[] mapEnvelope() throws Exception {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("products", products);
+        response.put("count", products.size());
+        response.put("timestamp", System.currentTimeMillis());
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] recordWithPreparedWriter() throws Exception {
+        return recordWriter.writeValueAsBytes(ProductListResponse.of(products));
+    }
+
+    @Benchmark
+    public byte[] recordWithBlackbird() throws Exception {
+        return blackbirdWriter.writeValueAsBytes(ProductListResponse.of(products));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ApiResponsesBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,61 @@
+package com.grocery.ordering.entity;
+
+import com.grocery.ordering.entity.Order.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the order status transition table.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class OrderStatusTest {
+
+    @Test
+    @DisplayName("Test Orders Move Forward One Step Or Cancel")
+    public void testOrdersMoveForwardOneStepOrCancel() {
+        assertTrue(OrderStatus.PENDING.canTransitionTo(OrderStatus.CONFIRMED));
+        assertTrue(OrderStatus.CONFIRMED.canTransitionTo(OrderStatus.PROCESSING));
+        assertTrue(OrderStatus.PROCESSING.canTransitionTo(OrderStatus.SHIPPED));
+        assertTrue(OrderStatus.SHIPPED.canTransitionTo(OrderStatus.DELIVERED));
+        for (OrderStatus status : EnumSet.range(OrderStatus.PENDING, OrderStatus.SHIPPED)) {
+            assertTrue(status.canTransitionTo(OrderStatus.CANCELLED), status + " should be cancellable");
+        }
+
+        // No skipping, going back or staying put
+        assertFalse(OrderStatus.PENDING.canTransitionTo(OrderStatus.SHIPPED));
+        assertFalse(OrderStatus.SHIPPED.canTransitionTo(OrderStatus.PROCESSING));
+        assertFalse(OrderStatus.CONFIRMED.canTransitionTo(OrderStatus.CONFIRMED));
+    }
+
+    @Test
+    @DisplayName("Test Final Statuses Cannot Move")
+    public void testFinalStatusesCannotMove() {
+        for (OrderStatus next : OrderStatus.values()) {
+            assertFalse(OrderStatus.DELIVERED.canTransitionTo(next));
+            assertFalse(OrderStatus.CANCELLED.canTransitionTo(next));
+        }
+    }
+
+    @Test
+    @DisplayName("Test Predecessors Match Transitions")
+    public void testPredecessorsMatchTransitions() {
+        assertEquals(Set.of(), OrderStatus.PENDING.predecessors());
+        assertEquals(Set.of(OrderStatus.PENDING), OrderStatus.CONFIRMED.predecessors());
+        assertEquals(Set.of(OrderStatus.SHIPPED), OrderStatus.DELIVERED.predecessors());
+        assertEquals(EnumSet.of(OrderStatus.PENDING, OrderStatus.CONFIRMED, OrderStatus.PROCESSING, OrderStatus.SHIPPED),
+            OrderStatus.CANCELLED.predecessors());
+
+        for (OrderStatus to : OrderStatus.values()) {
+            for (OrderStatus from : OrderStatus.values()) {
+                assertEquals(from.canTransitionTo(to), to.predecessors().contains(from), from + " -> " + to);
+            }
+        }
+    }
+}
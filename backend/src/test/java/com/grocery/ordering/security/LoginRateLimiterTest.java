@@ -0,0 +1,63 @@
+package com.grocery.ordering.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the login rate limiter.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class LoginRateLimiterTest {
+
+    @Test
+    @DisplayName("Test Per-Account Limit")
+    public void testPerAccountLimit() {
+        LoginRateLimiter limiter = new LoginRateLimiter(100, 1, 3, 1);
+
+        assertTrue(limiter.tryAcquire("10.0.0.1", "john.doe@email.com"));
+        assertTrue(limiter.tryAcquire("10.0.0.2", "john.doe@email.com"));
+        assertTrue(limiter.tryAcquire("10.0.0.3", "JOHN.DOE@email.com "));
+        assertFalse(limiter.tryAcquire("10.0.0.4", "john.doe@email.com"));
+
+        // Other accounts are unaffected
+        assertTrue(limiter.tryAcquire("10.0.0.4", "jane.smith@email.com"));
+        assertEquals(1, limiter.getRejectedByUser());
+        assertEquals(0, limiter.getRejectedByIp());
+    }
+
+    @Test
+    @DisplayName("Test Per-IP Limit")
+    public void testPerIpLimit() {
+        LoginRateLimiter limiter = new LoginRateLimiter(2, 1, 100, 1);
+
+        assertTrue(limiter.tryAcquire("10.0.0.1", "user1"));
+        assertTrue(limiter.tryAcquire("10.0.0.1", "user2"));
+        assertFalse(limiter.tryAcquire("10.0.0.1", "user3"));
+        assertTrue(limiter.tryAcquire("10.0.0.2", "user3"));
+
+        assertEquals(1, limiter.getRejectedByIp());
+        assertEquals(3, limiter.getAllowedAttempts());
+    }
+
+    @Test
+    @DisplayName("Test Token Bucket Refill")
+    public void testTokenBucketRefill() {
+        long interval = 1_000L;
+        LoginRateLimiter.TokenBucket bucket = new LoginRateLimiter.TokenBucket(2, interval, 0L);
+
+        assertTrue(bucket.tryConsume(0L));
+        assertTrue(bucket.tryConsume(0L));
+        assertFalse(bucket.tryConsume(0L));
+        assertFalse(bucket.isFull(0L));
+
+        // One interval later exactly one token is back
+        assertTrue(bucket.tryConsume(interval));
+        assertFalse(bucket.tryConsume(interval));
+
+        assertTrue(bucket.isFull(10 * interval));
+    }
+}
@@ -0,0 +1,188 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.dto.CartDTO;
+import com.grocery.ordering.dto.OrderDTO;
+import com.grocery.ordering.dto.ProductDTO;
+import com.grocery.ordering.entity.Customer;
+import com.grocery.ordering.exception.BusinessRuleException;
+import com.grocery.ordering.repository.CartItemRepository;
+import com.grocery.ordering.repository.CustomerRepository;
+import com.grocery.ordering.repository.ProductRepository;
+import com.grocery.ordering.util.PromotionTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for checking out a cart.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+public class CartServiceTest {
+
+    private static final Long CUSTOMER_ID = 1L;
+
+    @Mock
+    private CartItemRepository cartItemRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private PromotionService promotionService;
+
+    @InjectMocks
+    private CartService cartService;
+
+    private final Map<Long, ProductDTO> products = Map.of(
+        1L, product(1L, "Apples", "1.50"),
+        2L, product(2L, "Milk", "2.00"));
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(cartService, "idleTtlMs", 1_800_000L);
+        ReflectionTestUtils.setField(cartService, "repriceAfterMs", 60_000L);
+        ReflectionTestUtils.setField(cartService, "maxLines", 100);
+
+        Customer customer = new Customer("John Doe", "john.doe@email.com", "secret", "123 Main Street", "9876543210");
+        customer.setCustomerId(CUSTOMER_ID);
+        lenient().when(customerRepository.findById(CUSTOMER_ID)).thenReturn(Optional.of(customer));
+        lenient().when(productRepository.findProductViewsByIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(products::get).toList();
+        });
+        lenient().when(promotionService.getTable()).thenReturn(PromotionTable.empty());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static ProductDTO product(Long productId, String name, String price) {
+        ProductDTO product = new ProductDTO(productId, name, new BigDecimal(price), 50, name, "Groceries");
+        product.setIsActive(true);
+        return product;
+    }
+
+    private static OrderDTO createdOrder(long orderId) {
+        OrderDTO order = new OrderDTO();
+        order.setOrderId(orderId);
+        order.setCustomerId(CUSTOMER_ID);
+        return order;
+    }
+
+    @Test
+    @DisplayName("Test Concurrent Checkouts Place One Order")
+    public void testConcurrentCheckoutsPlaceOneOrder() throws Exception {
+        cartService.addItem(CUSTOMER_ID, 1L, 2);
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderService.createOrder(any())).thenAnswer(invocation -> {
+            creating.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return createdOrder(10L);
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<OrderDTO> first = executor.submit(() -> cartService.checkout(CUSTOMER_ID, null));
+            assertTrue(creating.await(5, TimeUnit.SECONDS));
+
+            // The first checkout has taken the lines, so the second finds the cart empty
+            BusinessRuleException error = assertThrows(BusinessRuleException.class,
+                () -> cartService.checkout(CUSTOMER_ID, null));
+            assertEquals("Cart is empty", error.getMessage());
+
+            release.countDown();
+            assertEquals(10L, first.get(5, TimeUnit.SECONDS).getOrderId());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+        verify(orderService, times(1)).createOrder(any());
+        assertTrue(cartService.getCart(CUSTOMER_ID).getLines().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test Rolled Back Checkout Restores Cart")
+    public void testRolledBackCheckoutRestoresCart() {
+        cartService.addItem(CUSTOMER_ID, 1L, 2);
+        when(orderService.createOrder(any())).thenThrow(new BusinessRuleException("Insufficient quantity"));
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThrows(BusinessRuleException.class, () -> cartService.checkout(CUSTOMER_ID, null));
+        assertTrue(cartService.getCart(CUSTOMER_ID).getLines().isEmpty());
+
+        // Added while the checkout was running, then merged with the restored lines
+        cartService.addItem(CUSTOMER_ID, 1L, 1);
+        cartService.addItem(CUSTOMER_ID, 2L, 1);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        CartDTO cart = cartService.getCart(CUSTOMER_ID);
+        assertEquals(2, cart.getLines().size());
+        assertEquals(3, cart.getLines().get(0).getQuantity());
+        assertEquals(1, cart.getLines().get(1).getQuantity());
+        assertEquals(4, cart.getItemCount());
+        assertEquals(new BigDecimal("6.50"), cart.getSubtotal());
+        verify(cartItemRepository, never()).deleteByCustomerId(anyLong());
+    }
+
+    @Test
+    @DisplayName("Test Committed Checkout Keeps Lines Added Since")
+    public void testCommittedCheckoutKeepsLinesAddedSince() {
+        cartService.addItem(CUSTOMER_ID, 1L, 2);
+        when(orderService.createOrder(any())).thenReturn(createdOrder(11L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertEquals(11L, cartService.checkout(CUSTOMER_ID, null).getOrderId());
+        cartService.addItem(CUSTOMER_ID, 2L, 1);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        CartDTO cart = cartService.getCart(CUSTOMER_ID);
+        assertEquals(1, cart.getLines().size());
+        assertEquals(2L, cart.getLines().get(0).getProductId());
+        assertEquals(new BigDecimal("2.00"), cart.getSubtotal());
+        verify(cartItemRepository).deleteByCustomerId(CUSTOMER_ID);
+    }
+}
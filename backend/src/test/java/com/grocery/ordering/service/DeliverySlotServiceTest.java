@@ -0,0 +1,112 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.dto.DeliverySlotDTO;
+import com.grocery.ordering.entity.DeliverySlot;
+import com.grocery.ordering.exception.BusinessRuleException;
+import com.grocery.ordering.repository.DeliverySlotRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for booking places in delivery slots.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+public class DeliverySlotServiceTest {
+
+    private static final Long SLOT_ID = 5L;
+
+    @Mock
+    private DeliverySlotRepository deliverySlotRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private DeliverySlotService deliverySlotService;
+
+    @BeforeEach
+    public void setUp() {
+        // No template slots, so only the slot below is bookable
+        ReflectionTestUtils.setField(deliverySlotService, "template", "");
+        ReflectionTestUtils.setField(deliverySlotService, "daysAhead", 7);
+        deliverySlotService.init();
+
+        DeliverySlot slot = new DeliverySlot(LocalDate.now().plusDays(1), LocalTime.of(9, 0), LocalTime.of(12, 0), 2);
+        slot.setSlotId(SLOT_ID);
+        when(deliverySlotRepository.findBySlotDateBetween(any(), any())).thenReturn(List.of(slot));
+        deliverySlotService.refresh();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private int remaining() {
+        List<DeliverySlotDTO> slots = deliverySlotService.getAvailableSlots();
+        assertEquals(1, slots.size());
+        return slots.get(0).getRemaining();
+    }
+
+    @Test
+    @DisplayName("Test Full Slot Rejected Without Database Update")
+    public void testFullSlotRejectedWithoutDatabaseUpdate() {
+        when(deliverySlotRepository.tryBook(SLOT_ID)).thenReturn(1);
+
+        deliverySlotService.book(SLOT_ID);
+        deliverySlotService.book(SLOT_ID);
+        assertEquals(0, remaining());
+
+        BusinessRuleException error = assertThrows(BusinessRuleException.class, () -> deliverySlotService.book(SLOT_ID));
+        assertEquals("Delivery slot is full", error.getMessage());
+        verify(deliverySlotRepository, times(2)).tryBook(SLOT_ID);
+    }
+
+    @Test
+    @DisplayName("Test Slot Filled Elsewhere Rejected By Conditional Update")
+    public void testSlotFilledElsewhereRejectedByConditionalUpdate() {
+        // Another instance took the last places, so the in-memory count is behind the row
+        when(deliverySlotRepository.tryBook(SLOT_ID)).thenReturn(0);
+
+        BusinessRuleException error = assertThrows(BusinessRuleException.class, () -> deliverySlotService.book(SLOT_ID));
+        assertEquals("Delivery slot is full", error.getMessage());
+        assertEquals(2, remaining());
+    }
+
+    @Test
+    @DisplayName("Test Rolled Back Booking Keeps Place")
+    public void testRolledBackBookingKeepsPlace() {
+        when(deliverySlotRepository.tryBook(SLOT_ID)).thenReturn(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        deliverySlotService.book(SLOT_ID);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(2, remaining());
+    }
+}
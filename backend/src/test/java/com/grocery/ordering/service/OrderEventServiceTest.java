@@ -0,0 +1,200 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.dto.OrderStatusEventDTO;
+import com.grocery.ordering.entity.Order.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+
+/**
+ * Tests for the order event streams.
+ * Streams are opened through MockMvc so events are written to a real
+ * asynchronous response, and status changes are published in transactions
+ * of a transaction manager that does nothing but run the synchronizations.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class OrderEventServiceTest {
+
+    private AnnotationConfigApplicationContext context;
+    private OrderEventService orderEventService;
+    private TransactionTemplate transaction;
+    private MockMvc mockMvc;
+
+    @Configuration
+    @EnableTransactionManagement
+    static class EventConfig {
+
+        @Bean
+        public PlatformTransactionManager transactionManager() {
+            return new AbstractPlatformTransactionManager() {
+                @Override
+                protected Object doGetTransaction() {
+                    return new Object();
+                }
+
+                @Override
+                protected void doBegin(Object transaction, TransactionDefinition definition) {
+                }
+
+                @Override
+                protected void doCommit(DefaultTransactionStatus status) {
+                }
+
+                @Override
+                protected void doRollback(DefaultTransactionStatus status) {
+                }
+            };
+        }
+
+        @Bean
+        public OrderEventService orderEventService() {
+            return new OrderEventService();
+        }
+    }
+
+    @RestController
+    static class EventController {
+
+        private final OrderEventService orderEventService;
+
+        EventController(OrderEventService orderEventService) {
+            this.orderEventService = orderEventService;
+        }
+
+        @GetMapping("/events/{customerId}")
+        public SseEmitter events(@PathVariable Long customerId) {
+            return orderEventService.subscribe(customerId);
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        System.setProperty("app.orders.events.max-streams-per-customer", "2");
+        System.setProperty("app.orders.events.sender-threads", "1");
+        context = new AnnotationConfigApplicationContext(EventConfig.class);
+        orderEventService = context.getBean(OrderEventService.class);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        mockMvc = standaloneSetup(new EventController(orderEventService)).build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        context.close();
+        System.clearProperty("app.orders.events.max-streams-per-customer");
+        System.clearProperty("app.orders.events.sender-threads");
+    }
+
+    private MvcResult open(long customerId) throws Exception {
+        return mockMvc.perform(get("/events/" + customerId)).andExpect(request().asyncStarted()).andReturn();
+    }
+
+    private static String content(MvcResult stream) {
+        return new String(stream.getResponse().getContentAsByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private int openStreams() {
+        return ((AtomicInteger) ReflectionTestUtils.getField(orderEventService, "streams")).get();
+    }
+
+    /**
+     * Wait for the sends handed to the single sender thread so far.
+     */
+    private void awaitSender() throws Exception {
+        ExecutorService sender = (ExecutorService) ReflectionTestUtils.getField(orderEventService, "sender");
+        sender.submit(() -> { }).get(5, TimeUnit.SECONDS);
+    }
+
+    private void publish(long orderId, long customerId, boolean commit) {
+        transaction.executeWithoutResult(status -> {
+            context.publishEvent(new OrderStatusEventDTO(orderId, customerId, OrderStatus.PENDING,
+                OrderStatus.CONFIRMED));
+            if (!commit) {
+                status.setRollbackOnly();
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Test Oldest Stream Closed Over Cap")
+    public void testOldestStreamClosedOverCap() throws Exception {
+        MvcResult first = open(1L);
+        open(1L);
+        open(2L);
+        assertEquals(3, openStreams());
+        assertTrue(content(first).contains(":connected"));
+
+        // A third stream of the same customer closes the oldest one, which then gets nothing more
+        MvcResult third = open(1L);
+        assertEquals(3, openStreams());
+        orderEventService.heartbeat();
+        awaitSender();
+        assertFalse(content(first).contains(":heartbeat"));
+        assertTrue(content(third).contains(":heartbeat"));
+    }
+
+    @Test
+    @DisplayName("Test Stream Of Departed Client Removed On Heartbeat")
+    public void testStreamOfDepartedClientRemovedOnHeartbeat() throws Exception {
+        MvcResult live = open(1L);
+        SseEmitter departed = orderEventService.subscribe(1L);
+        departed.complete();
+        assertEquals(2, openStreams());
+
+        orderEventService.heartbeat();
+        awaitSender();
+
+        assertEquals(1, openStreams());
+        assertTrue(content(live).contains(":heartbeat"));
+    }
+
+    @Test
+    @DisplayName("Test Status Change Delivered Only After Commit")
+    public void testStatusChangeDeliveredOnlyAfterCommit() throws Exception {
+        MvcResult stream = open(7L);
+
+        transaction.executeWithoutResult(status -> {
+            context.publishEvent(new OrderStatusEventDTO(41L, 7L, OrderStatus.PENDING, OrderStatus.CONFIRMED));
+            assertFalse(content(stream).contains("41-CONFIRMED"));
+        });
+        publish(42L, 7L, false);
+        publish(43L, 7L, true);
+        // Another customer's change is not sent on this stream
+        publish(44L, 8L, true);
+        awaitSender();
+
+        String content = content(stream);
+        assertTrue(content.contains("event:order-status\nid:41-CONFIRMED\n"));
+        assertTrue(content.contains("\"orderId\":43"));
+        assertFalse(content.contains("\"orderId\":42"));
+        assertFalse(content.contains("\"orderId\":44"));
+    }
+}
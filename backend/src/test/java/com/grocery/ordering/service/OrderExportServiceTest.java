@@ -0,0 +1,168 @@
+package com.grocery.ordering.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grocery.ordering.dto.OrderExportRow;
+import com.grocery.ordering.entity.Order;
+import com.grocery.ordering.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the streaming order export.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+public class OrderExportServiceTest {
+
+    private static final LocalDateTime ORDER_DATE = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @InjectMocks
+    private OrderExportService orderExportService;
+
+    private final AtomicBoolean streamClosed = new AtomicBoolean();
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(orderExportService, "objectMapper", Jackson2ObjectMapperBuilder.json().build());
+        orderExportService.init();
+    }
+
+    private static OrderExportRow row(long orderId, String customerName, String address, Long itemId,
+                                      String productName, String unitPrice) {
+        return new OrderExportRow(orderId, ORDER_DATE, Order.OrderStatus.PENDING, new BigDecimal("-5.00"), 7L,
+            customerName, "john.doe@email.com", address, "9876543210", itemId, itemId != null ? 100 + itemId : null,
+            productName, itemId != null ? 2 : null, unitPrice != null ? new BigDecimal(unitPrice) : null,
+            unitPrice != null ? new BigDecimal(unitPrice).multiply(BigDecimal.valueOf(2)) : null,
+            itemId != null ? new BigDecimal("0.50") : null, itemId != null && itemId == 1 ? "3,5" : null);
+    }
+
+    private void givenRows(OrderExportRow... rows) {
+        when(orderRepository.streamExportRows(any(), any()))
+            .thenReturn(Stream.of(rows).onClose(() -> streamClosed.set(true)));
+    }
+
+    private String export(OrderExportService.Format format) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        orderExportService.exportOrders(null, null, format, output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Test CSV Quoting And Formula Guard")
+    public void testCsvQuotingAndFormulaGuard() throws IOException {
+        givenRows(
+            row(1, "Doe, \"JD\" John", "Line 1\nLine 2", 1L, "=HYPERLINK(\"x\")", "1.50"),
+            row(2, "@admin", "+1 Main Street", 2L, "-Milk", "2.00"),
+            row(3, "Jane", "Elm Street", null, null, null));
+
+        String[] lines = export(OrderExportService.Format.CSV).split("\n(?=\\d+,|$)");
+
+        assertTrue(lines[0].startsWith("order_id,order_date,"));
+        assertTrue(lines[0].endsWith(",line_total,discount_amount,applied_promotions"));
+        assertEquals("1,2024-01-15T10:30,PENDING,-5.00,7,\"Doe, \"\"JD\"\" John\",john.doe@email.com,"
+            + "\"Line 1\nLine 2\",9876543210,1,101,\"'=HYPERLINK(\"\"x\"\")\",2,1.50,3.00,0.50,\"3,5\"", lines[1]);
+        // Text starting with a formula character is prefixed, numbers such as -5.00 are not
+        assertEquals("2,2024-01-15T10:30,PENDING,-5.00,7,'@admin,john.doe@email.com,'+1 Main Street,"
+            + "9876543210,2,102,'-Milk,2,2.00,4.00,0.50,", lines[2]);
+        // An order without items has empty line fields
+        assertEquals("3,2024-01-15T10:30,PENDING,-5.00,7,Jane,john.doe@email.com,Elm Street,9876543210,,,,,,,,",
+            lines[3]);
+    }
+
+    @Test
+    @DisplayName("Test NDJSON Groups Items By Order")
+    public void testNdjsonGroupsItemsByOrder() throws IOException {
+        givenRows(
+            row(1, "John \"JD\" Doe", "Main Street", 1L, "Apples", "1.50"),
+            row(1, "John \"JD\" Doe", "Main Street", 2L, "Milk\nWhole", "2.00"),
+            row(2, "Jane", "Elm Street", null, null, null));
+
+        String output = export(OrderExportService.Format.NDJSON);
+        String[] lines = output.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(output.endsWith("\n"));
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode first = mapper.readTree(lines[0]);
+        assertEquals(1, first.get("orderId").asLong());
+        assertEquals("John \"JD\" Doe", first.get("customerName").asText());
+        assertEquals(2, first.get("orderItems").size());
+        assertEquals("Milk\nWhole", first.get("orderItems").get(1).get("productName").asText());
+        // Discounts and the promotions behind them are exported with each item
+        assertEquals(0.5, first.get("orderItems").get(0).get("discountAmount").asDouble());
+        assertEquals("3,5", first.get("orderItems").get(0).get("appliedPromotions").asText());
+
+        JsonNode second = mapper.readTree(lines[1]);
+        assertEquals(2, second.get("orderId").asLong());
+        assertEquals(0, second.get("orderItems").size());
+    }
+
+    @Test
+    @DisplayName("Test Streaming Closes Cursor But Not Output")
+    public void testStreamingClosesCursorButNotOutput() throws IOException {
+        givenRows(row(1, "John", "Main Street", 1L, "Apples", "1.50"), row(2, "Jane", "Elm Street", null, null, null));
+        AtomicBoolean outputClosed = new AtomicBoolean();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        OutputStream output = new OutputStream() {
+            @Override
+            public void write(int b) {
+                bytes.write(b);
+            }
+
+            @Override
+            public void close() {
+                outputClosed.set(true);
+            }
+        };
+
+        assertEquals(2, orderExportService.exportOrders(null, null, OrderExportService.Format.NDJSON, output));
+        assertTrue(streamClosed.get());
+        assertFalse(outputClosed.get());
+        assertEquals(2, bytes.toString(StandardCharsets.UTF_8).split("\n").length);
+    }
+
+    @Test
+    @DisplayName("Test Cursor Closed When Client Goes Away")
+    public void testCursorClosedWhenClientGoesAway() {
+        givenRows(List.of(1, 2, 3, 4, 5).stream()
+            .map(id -> row(id, "John", "Main Street".repeat(2000), null, null, null))
+            .toArray(OrderExportRow[]::new));
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class,
+            () -> orderExportService.exportOrders(null, null, OrderExportService.Format.CSV, broken));
+        assertTrue(streamClosed.get());
+    }
+}
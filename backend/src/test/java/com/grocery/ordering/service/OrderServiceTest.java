@@ -0,0 +1,290 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.dto.BulkStatusResultDTO;
+import com.grocery.ordering.dto.OrderStatusEventDTO;
+import com.grocery.ordering.dto.ReorderLineDTO;
+import com.grocery.ordering.dto.ReorderResultDTO;
+import com.grocery.ordering.entity.Customer;
+import com.grocery.ordering.entity.Order;
+import com.grocery.ordering.entity.Order.OrderStatus;
+import com.grocery.ordering.entity.OrderItem;
+import com.grocery.ordering.entity.Product;
+import com.grocery.ordering.exception.BusinessRuleException;
+import com.grocery.ordering.exception.ResourceNotFoundException;
+import com.grocery.ordering.repository.CustomerRepository;
+import com.grocery.ordering.repository.OrderRepository;
+import com.grocery.ordering.repository.ProductRepository;
+import com.grocery.ordering.util.PromotionTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for bulk order status transitions and reordering past orders.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+public class OrderServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private DashboardStatsService dashboardStatsService;
+
+    @Mock
+    private TrendingProductService trendingProductService;
+
+    @Mock
+    private RecommendationService recommendationService;
+
+    @Mock
+    private PromotionService promotionService;
+
+    @Mock
+    private SalesAggregateService salesAggregateService;
+
+    @Mock
+    private DeliverySlotService deliverySlotService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private OrderService orderService;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(orderService, "maxBulkSize", 100);
+        // Two orders per chunk, so the tests also cover sums across chunks
+        ReflectionTestUtils.setField(orderService, "bulkChunkSize", 2);
+    }
+
+    /**
+     * Serve the current status and customer of each order as the status query does.
+     */
+    private void givenStatuses(Map<Long, OrderStatus> statuses) {
+        when(orderRepository.findStatusesByIds(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            List<Object[]> rows = new ArrayList<>();
+            for (Long id : ids) {
+                if (statuses.containsKey(id)) {
+                    rows.add(new Object[] {id, statuses.get(id), 100 + id});
+                }
+            }
+            return rows;
+        });
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+
+    private static Customer customer(long customerId) {
+        Customer customer = new Customer("John Doe", "john.doe@email.com", "secret", "1 Main Street", "9876543210");
+        customer.setCustomerId(customerId);
+        return customer;
+    }
+
+    private static Product product(long productId, int stock, String price) {
+        Product product = new Product("Product " + productId, new BigDecimal(price), stock, null, "Dairy");
+        product.setProductId(productId);
+        return product;
+    }
+
+    /**
+     * Serve a past order of a customer with its items, as the fetch-join query does.
+     */
+    private Order givenPastOrder(long orderId, Customer customer, Object[]... lines) {
+        Order order = new Order(customer, BigDecimal.ZERO, "1 Main Street", "9876543210");
+        order.setOrderId(orderId);
+        List<OrderItem> items = new ArrayList<>();
+        for (Object[] line : lines) {
+            Product product = (Product) line[0];
+            items.add(new OrderItem(order, product, (Integer) line[1], product.getPrice()));
+        }
+        order.setOrderItems(items);
+        when(orderRepository.findByIdWithItems(orderId)).thenReturn(Optional.of(order));
+        return order;
+    }
+
+    @Test
+    @DisplayName("Test Bulk Transition Moves Only Eligible Orders")
+    public void testBulkTransitionMovesOnlyEligibleOrders() {
+        givenStatuses(Map.of(1L, OrderStatus.PENDING, 2L, OrderStatus.SHIPPED, 3L, OrderStatus.PENDING,
+            4L, OrderStatus.CANCELLED));
+        when(orderRepository.updateStatuses(anyCollection(), anyCollection(), eq(OrderStatus.CONFIRMED)))
+            .thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+
+        BulkStatusResultDTO result = orderService.bulkUpdateStatus(List.of(1L, 2L, 3L, 3L, 4L, 9L),
+            OrderStatus.CONFIRMED);
+
+        assertEquals(5, result.getRequested());
+        assertEquals(2, result.getUpdated());
+        assertEquals(List.of(9L), result.getNotFound());
+        assertEquals(Map.of(OrderStatus.SHIPPED, List.of(2L), OrderStatus.CANCELLED, List.of(4L)), result.getRejected());
+        verify(orderRepository).updateStatuses(List.of(1L), OrderStatus.CONFIRMED.predecessors(), OrderStatus.CONFIRMED);
+        verify(orderRepository).updateStatuses(List.of(3L), OrderStatus.CONFIRMED.predecessors(), OrderStatus.CONFIRMED);
+
+        ArgumentCaptor<OrderStatusEventDTO> events = ArgumentCaptor.forClass(OrderStatusEventDTO.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(List.of(1L, 3L), events.getAllValues().stream().map(OrderStatusEventDTO::getOrderId).toList());
+        assertEquals(101L, events.getAllValues().get(0).getCustomerId());
+        assertEquals(OrderStatus.PENDING, events.getAllValues().get(0).getPreviousStatus());
+        // Confirming has no cancellation side effects
+        verifyNoInteractions(productRepository, salesAggregateService, deliverySlotService);
+    }
+
+    @Test
+    @DisplayName("Test Bulk Cancel Restores Stock Once Per Product")
+    public void testBulkCancelRestoresStockOncePerProduct() {
+        givenStatuses(Map.of(1L, OrderStatus.PENDING, 2L, OrderStatus.CONFIRMED, 3L, OrderStatus.PROCESSING,
+            4L, OrderStatus.DELIVERED));
+        when(orderRepository.updateStatuses(anyCollection(), anyCollection(), eq(OrderStatus.CANCELLED)))
+            .thenAnswer(invocation -> ((Collection<?>) invocation.getArgument(0)).size());
+        // Orders 1 and 2 are in the first chunk, order 3 in the second
+        when(orderRepository.sumQuantitiesByProduct(List.of(1L, 2L)))
+            .thenReturn(rows(new Object[] {10L, 3L}, new Object[] {11L, 1L}));
+        when(orderRepository.sumQuantitiesByProduct(List.of(3L)))
+            .thenReturn(rows(new Object[] {10L, 2L}));
+        when(orderRepository.countByDeliverySlot(List.of(1L, 2L))).thenReturn(rows(new Object[] {5L, 2L}));
+        when(orderRepository.countByDeliverySlot(List.of(3L))).thenReturn(rows(new Object[] {5L, 1L}));
+
+        BulkStatusResultDTO result = orderService.bulkUpdateStatus(List.of(1L, 2L, 3L, 4L), OrderStatus.CANCELLED);
+
+        assertEquals(3, result.getUpdated());
+        assertEquals(Map.of(OrderStatus.DELIVERED, List.of(4L)), result.getRejected());
+        verify(productRepository).addStock(eq(10L), eq(5L), any());
+        verify(productRepository).addStock(eq(11L), eq(1L), any());
+        verify(productRepository, times(2)).addStock(anyLong(), anyLong(), any());
+        verify(deliverySlotService).release(5L, 3);
+        verify(salesAggregateService).reverseOrders(List.of(1L, 2L));
+        verify(salesAggregateService).reverseOrders(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("Test Orders Changed Concurrently Are Rejected")
+    public void testOrdersChangedConcurrentlyAreRejected() {
+        givenStatuses(Map.of(1L, OrderStatus.PENDING, 2L, OrderStatus.PENDING));
+        // One of the orders moved between the status query and the update
+        when(orderRepository.updateStatuses(anyCollection(), anyCollection(), eq(OrderStatus.CANCELLED)))
+            .thenReturn(1);
+
+        BusinessRuleException error = assertThrows(BusinessRuleException.class,
+            () -> orderService.bulkUpdateStatus(List.of(1L, 2L), OrderStatus.CANCELLED));
+        assertEquals("Orders changed status while being updated, please try again", error.getMessage());
+        verifyNoInteractions(eventPublisher, productRepository, deliverySlotService);
+        // The rollups are locked up front, but nothing is reversed
+        verify(salesAggregateService).lockRollups();
+        verifyNoMoreInteractions(salesAggregateService);
+    }
+
+    @Test
+    @DisplayName("Test Reorder Of Another Customers Order Not Found")
+    public void testReorderOfAnotherCustomersOrderNotFound() {
+        givenPastOrder(5L, customer(2L), new Object[] {product(10L, 5, "3.00"), 1});
+
+        ResourceNotFoundException error = assertThrows(ResourceNotFoundException.class,
+            () -> orderService.reorder(5L, 1L, true));
+        assertEquals("Order not found with ID: 5", error.getMessage());
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Test Reorder Merges Repeated Products Before Stock Check")
+    public void testReorderMergesRepeatedProductsBeforeStockCheck() {
+        Product milk = product(10L, 3, "3.00");
+        // Each line alone fits the stock of 3, together they do not
+        givenPastOrder(5L, customer(1L), new Object[] {milk, 2}, new Object[] {product(11L, 5, "2.00"), 1},
+            new Object[] {milk, 2});
+
+        ReorderResultDTO result = orderService.reorder(5L, 1L, true);
+
+        List<ReorderLineDTO> lines = result.getBasket().getLines();
+        assertEquals(List.of(10L, 11L), lines.stream().map(ReorderLineDTO::getProductId).toList());
+        assertEquals(4, lines.get(0).getQuantity());
+        assertEquals("Only 3 in stock", lines.get(0).getUnavailableReason());
+        assertTrue(lines.get(1).isAvailable());
+        // An unavailable line returns the basket for review instead of placing it
+        assertFalse(result.isPlaced());
+        assertNull(result.getOrder());
+        verify(orderRepository, never()).save(any());
+        verifyNoInteractions(productRepository, salesAggregateService);
+    }
+
+    @Test
+    @DisplayName("Test Reorder Preview Does Not Place Order")
+    public void testReorderPreviewDoesNotPlaceOrder() {
+        givenPastOrder(5L, customer(1L), new Object[] {product(10L, 5, "3.00"), 2});
+
+        ReorderResultDTO result = orderService.reorder(5L, 1L, false);
+
+        assertTrue(result.getBasket().isAllAvailable());
+        assertEquals(new BigDecimal("6.00"), result.getBasket().getTotalAmount());
+        assertFalse(result.isPlaced());
+        verify(orderRepository, never()).save(any());
+        verifyNoInteractions(productRepository, customerRepository, salesAggregateService);
+    }
+
+    @Test
+    @DisplayName("Test Reorder Places Order With Fetched Products")
+    public void testReorderPlacesOrderWithFetchedProducts() {
+        Customer customer = customer(1L);
+        Product milk = product(10L, 5, "3.00");
+        Product bread = product(11L, 4, "2.00");
+        givenPastOrder(5L, customer, new Object[] {milk, 2}, new Object[] {bread, 1});
+        when(customerRepository.findById(1L)).thenReturn(Optional.of(customer));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            if (order.getOrderId() == null) {
+                order.setOrderId(6L);
+            }
+            return order;
+        });
+        when(promotionService.price(anyList()))
+            .thenAnswer(invocation -> PromotionTable.empty().price(invocation.getArgument(0)));
+
+        ReorderResultDTO result = orderService.reorder(5L, 1L, true);
+
+        assertTrue(result.isPlaced());
+        assertEquals(6L, result.getOrder().getOrderId());
+        assertEquals(new BigDecimal("8.00"), result.getOrder().getTotalAmount());
+        // The products of the past order are reused rather than loaded again
+        verify(productRepository, never()).findAllById(any());
+        verify(productRepository).save(milk);
+        verify(productRepository).save(bread);
+        assertEquals(3, milk.getQuantity());
+        assertEquals(3, bread.getQuantity());
+        verify(salesAggregateService).recordOrder(any(Order.class));
+    }
+}
@@ -0,0 +1,165 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.dto.OrderStatusEventDTO;
+import com.grocery.ordering.dto.PickWaveDTO;
+import com.grocery.ordering.entity.Order.OrderStatus;
+import com.grocery.ordering.entity.PickWave;
+import com.grocery.ordering.exception.BusinessRuleException;
+import com.grocery.ordering.exception.ValidationException;
+import com.grocery.ordering.repository.OrderRepository;
+import com.grocery.ordering.repository.PickWaveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for creating pick waves and moving their orders.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+public class PickWaveServiceTest {
+
+    private static final Long WAVE_ID = 9L;
+
+    @Mock
+    private PickWaveRepository pickWaveRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PickWaveService pickWaveService;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(pickWaveService, "defaultSize", 200);
+        ReflectionTestUtils.setField(pickWaveService, "maxSize", 1000);
+        lenient().when(pickWaveRepository.save(any(PickWave.class))).thenAnswer(invocation -> {
+            PickWave wave = invocation.getArgument(0);
+            if (wave.getWaveId() == null) {
+                wave.setWaveId(WAVE_ID);
+            }
+            return wave;
+        });
+    }
+
+    private PickWave givenWave(OrderStatus status) {
+        PickWave wave = new PickWave(null, null);
+        wave.setWaveId(WAVE_ID);
+        wave.setOrderStatus(status);
+        when(pickWaveRepository.findById(WAVE_ID)).thenReturn(Optional.of(wave));
+        return wave;
+    }
+
+    /**
+     * Serve the orders of the wave whose status is among those asked for, as the locked query does.
+     */
+    private void givenWaveOrders(Object[]... rows) {
+        when(orderRepository.findPickWaveOrders(eq(WAVE_ID), anyCollection())).thenAnswer(invocation -> {
+            Collection<?> statuses = invocation.getArgument(1);
+            List<Object[]> matching = new ArrayList<>();
+            for (Object[] row : rows) {
+                if (statuses.contains(row[1])) {
+                    matching.add(row);
+                }
+            }
+            return matching;
+        });
+    }
+
+    private List<OrderStatusEventDTO> publishedEvents() {
+        ArgumentCaptor<OrderStatusEventDTO> events = ArgumentCaptor.forClass(OrderStatusEventDTO.class);
+        verify(eventPublisher, atLeast(0)).publishEvent(events.capture());
+        return events.getAllValues();
+    }
+
+    @Test
+    @DisplayName("Test Only Claimed Orders Counted And Announced")
+    public void testOnlyClaimedOrdersCountedAndAnnounced() {
+        when(orderRepository.findPickWaveCandidates(anyCollection(), isNull(), isNull(), any())).thenReturn(List.of(
+            new Object[] {1L, OrderStatus.PENDING, 101L},
+            new Object[] {2L, OrderStatus.PENDING, 102L},
+            new Object[] {3L, OrderStatus.CONFIRMED, 103L}));
+        // Order 2 was claimed by a concurrent wave before the update
+        when(orderRepository.assignToPickWave(eq(WAVE_ID), eq(List.of(1L, 2L, 3L)), anyCollection(),
+            eq(OrderStatus.CONFIRMED))).thenReturn(2);
+        givenWaveOrders(new Object[] {1L, OrderStatus.CONFIRMED, 101L}, new Object[] {3L, OrderStatus.CONFIRMED, 103L});
+
+        PickWaveDTO wave = pickWaveService.createWave(null, null, null);
+
+        assertEquals(WAVE_ID, wave.getWaveId());
+        assertEquals(2, wave.getOrderCount());
+        // Order 3 was confirmed already, so only order 1 changed status
+        List<OrderStatusEventDTO> events = publishedEvents();
+        assertEquals(1, events.size());
+        assertEquals(1L, events.get(0).getOrderId());
+        assertEquals(101L, events.get(0).getCustomerId());
+        assertEquals(OrderStatus.PENDING, events.get(0).getPreviousStatus());
+    }
+
+    @Test
+    @DisplayName("Test Wave Status Outside Fulfilment Rejected")
+    public void testWaveStatusOutsideFulfilmentRejected() {
+        for (OrderStatus status : EnumSet.of(OrderStatus.PENDING, OrderStatus.CONFIRMED, OrderStatus.CANCELLED)) {
+            ValidationException error = assertThrows(ValidationException.class,
+                () -> pickWaveService.updateWaveStatus(WAVE_ID, status));
+            assertEquals("A pick wave can only move to PROCESSING, SHIPPED or DELIVERED", error.getMessage());
+        }
+        verifyNoInteractions(pickWaveRepository, orderRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Test Illegal Wave Transition Rejected")
+    public void testIllegalWaveTransitionRejected() {
+        givenWave(OrderStatus.CONFIRMED);
+
+        BusinessRuleException error = assertThrows(BusinessRuleException.class,
+            () -> pickWaveService.updateWaveStatus(WAVE_ID, OrderStatus.SHIPPED));
+        assertEquals("Pick wave cannot move from CONFIRMED to SHIPPED", error.getMessage());
+        verifyNoInteractions(orderRepository, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Test Cancelled Orders Not Announced")
+    public void testCancelledOrdersNotAnnounced() {
+        PickWave wave = givenWave(OrderStatus.PROCESSING);
+        givenWaveOrders(new Object[] {1L, OrderStatus.PROCESSING, 101L}, new Object[] {2L, OrderStatus.CANCELLED, 102L},
+            new Object[] {3L, OrderStatus.PROCESSING, 103L});
+        when(orderRepository.updatePickWaveStatus(WAVE_ID, OrderStatus.SHIPPED.predecessors(), OrderStatus.SHIPPED))
+            .thenReturn(2);
+
+        PickWaveDTO result = pickWaveService.updateWaveStatus(WAVE_ID, OrderStatus.SHIPPED);
+
+        assertEquals(OrderStatus.SHIPPED, result.getOrderStatus());
+        assertEquals(OrderStatus.SHIPPED, wave.getOrderStatus());
+        List<OrderStatusEventDTO> events = publishedEvents();
+        assertEquals(List.of(1L, 3L), events.stream().map(OrderStatusEventDTO::getOrderId).toList());
+        assertTrue(events.stream().allMatch(event -> event.getPreviousStatus() == OrderStatus.PROCESSING
+            && event.getOrderStatus() == OrderStatus.SHIPPED));
+    }
+}
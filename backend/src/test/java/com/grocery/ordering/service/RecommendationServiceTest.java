@@ -0,0 +1,134 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.dto.RecommendationRebuildResultDTO;
+import com.grocery.ordering.entity.Order;
+import com.grocery.ordering.entity.Order.OrderStatus;
+import com.grocery.ordering.entity.OrderItem;
+import com.grocery.ordering.entity.Product;
+import com.grocery.ordering.repository.OrderRepository;
+import com.grocery.ordering.repository.ProductRepository;
+import com.grocery.ordering.util.CoOccurrenceMatrix;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for counting baskets into the recommendation matrix.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+public class RecommendationServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private RecommendationService recommendationService;
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(recommendationService, "maxNeighbours", 10);
+        ReflectionTestUtils.setField(recommendationService, "maxBasketSize", 10);
+        // Two orders per chunk on one thread
+        ReflectionTestUtils.setField(recommendationService, "chunkSize", 2);
+        ReflectionTestUtils.setField(recommendationService, "threads", 1);
+        recommendationService.init();
+    }
+
+    private static Order order(long orderId, long... productIds) {
+        Order order = new Order();
+        order.setOrderId(orderId);
+        List<OrderItem> items = new ArrayList<>();
+        for (long productId : productIds) {
+            Product product = new Product("Product " + productId, BigDecimal.ONE, 10, null, "Dairy");
+            product.setProductId(productId);
+            items.add(new OrderItem(order, product, 1, BigDecimal.ONE));
+        }
+        order.setOrderItems(items);
+        return order;
+    }
+
+    private static List<Object[]> rows(long orderId, long... productIds) {
+        List<Object[]> rows = new ArrayList<>();
+        for (long productId : productIds) {
+            rows.add(new Object[] {orderId, productId});
+        }
+        return rows;
+    }
+
+    private CoOccurrenceMatrix matrix() {
+        return (CoOccurrenceMatrix) ReflectionTestUtils.getField(recommendationService, "matrix");
+    }
+
+    private List<Long> related(long productId) {
+        return matrix().related(productId, 10).stream().map(CoOccurrenceMatrix.Neighbour::productId).sorted().toList();
+    }
+
+    @Test
+    @DisplayName("Test Rebuild Counts Again Chunk Of Order Committed Meanwhile")
+    public void testRebuildCountsAgainChunkOfOrderCommittedMeanwhile() {
+        when(orderRepository.findMinOrderId()).thenReturn(1L);
+        // Order 5 is placed after the chunks are laid out
+        when(orderRepository.findMaxOrderId()).thenReturn(4L, 5L);
+        // Order 2 commits just after its chunk was read, and after order 4 had taken a higher ID
+        when(orderRepository.findOrderProductsInRange(1L, 2L, OrderStatus.CANCELLED)).thenAnswer(invocation -> {
+            recommendationService.recordOrder(order(2L, 10L, 12L));
+            return rows(1L, 10L, 11L);
+        }).thenAnswer(invocation -> {
+            List<Object[]> rows = rows(1L, 10L, 11L);
+            rows.addAll(rows(2L, 10L, 12L));
+            return rows;
+        });
+        when(orderRepository.findOrderProductsInRange(3L, 4L, OrderStatus.CANCELLED)).thenReturn(rows(4L, 10L));
+        when(orderRepository.findOrderProductsInRange(5L, 5L, OrderStatus.CANCELLED)).thenReturn(rows(5L, 11L, 12L));
+
+        RecommendationRebuildResultDTO result = recommendationService.rebuild();
+
+        assertEquals(4, result.getOrdersScanned());
+        assertEquals(2, result.getChunks());
+        assertEquals(List.of(11L, 12L), related(10L));
+        assertEquals(List.of(10L, 11L), related(12L));
+        verify(orderRepository, times(2)).findOrderProductsInRange(1L, 2L, OrderStatus.CANCELLED);
+        verify(orderRepository).findOrderProductsInRange(3L, 4L, OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("Test Single Product Orders Counted Like Rebuild")
+    public void testSingleProductOrdersCountedLikeRebuild() {
+        recommendationService.recordOrder(order(1L, 10L));
+        recommendationService.recordOrder(order(2L, 10L, 11L));
+        CoOccurrenceMatrix recorded = matrix();
+
+        when(orderRepository.findMinOrderId()).thenReturn(1L);
+        when(orderRepository.findMaxOrderId()).thenReturn(2L);
+        List<Object[]> history = rows(1L, 10L);
+        history.addAll(rows(2L, 10L, 11L));
+        when(orderRepository.findOrderProductsInRange(1L, 2L, OrderStatus.CANCELLED)).thenReturn(history);
+        recommendationService.rebuild();
+
+        assertEquals(2, recorded.baskets());
+        assertEquals(recorded.baskets(), matrix().baskets());
+        assertEquals(recorded.related(11L, 10), matrix().related(11L, 10));
+    }
+}
@@ -0,0 +1,170 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.entity.RefreshToken;
+import com.grocery.ordering.exception.AuthenticationFailedException;
+import com.grocery.ordering.exception.RefreshTokenReuseException;
+import com.grocery.ordering.repository.RefreshTokenRepository;
+import com.grocery.ordering.security.UserDetailsServiceImpl;
+import com.grocery.ordering.security.UserPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for refresh token rotation and reuse detection.
+ * Issued tokens are kept in a map by hash, standing in for the token table.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+public class RefreshTokenServiceTest {
+
+    private static final Long CUSTOMER_ID = 1L;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    @InjectMocks
+    private RefreshTokenService refreshTokenService;
+
+    private final Map<String, RefreshToken> tokens = new HashMap<>();
+    private final UserPrincipal user = new UserPrincipal(CUSTOMER_ID, "john.doe@email.com", "john.doe@email.com",
+        "secret", "CUSTOMER", true, List.of(new SimpleGrantedAuthority("ROLE_CUSTOMER")));
+
+    @BeforeEach
+    public void setUp() {
+        ReflectionTestUtils.setField(refreshTokenService, "refreshExpirationMs", 60_000L);
+        lenient().when(refreshTokenRepository.save(any(RefreshToken.class))).thenAnswer(invocation -> {
+            RefreshToken token = invocation.getArgument(0);
+            token.setRefreshTokenId((long) tokens.size() + 1);
+            tokens.put(token.getTokenHash(), token);
+            return token;
+        });
+        lenient().when(refreshTokenRepository.findByTokenHash(anyString()))
+            .thenAnswer(invocation -> Optional.ofNullable(tokens.get((String) invocation.getArgument(0))));
+        // A token can be marked used once, as the conditional update allows
+        lenient().when(refreshTokenRepository.markUsed(anyLong(), any())).thenAnswer(invocation -> {
+            Long id = invocation.getArgument(0);
+            for (RefreshToken token : tokens.values()) {
+                if (token.getRefreshTokenId().equals(id) && token.getUsedAt() == null) {
+                    token.setUsedAt(invocation.getArgument(1));
+                    return 1;
+                }
+            }
+            return 0;
+        });
+        lenient().when(userDetailsService.loadUserByCustomerId(CUSTOMER_ID)).thenReturn(user);
+    }
+
+    @Test
+    @DisplayName("Test Rotation Issues Successor In Same Family")
+    public void testRotationIssuesSuccessorInSameFamily() {
+        String first = refreshTokenService.createRefreshToken(user);
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotateRefreshToken(first);
+
+        assertSame(user, rotation.user());
+        assertNotEquals(first, rotation.successor());
+        assertEquals(2, tokens.size());
+        assertEquals(1, tokens.values().stream().map(RefreshToken::getFamilyId).distinct().count());
+        // Only hashes are stored, never the raw values
+        assertFalse(tokens.containsKey(first));
+        assertFalse(tokens.containsKey(rotation.successor()));
+    }
+
+    @Test
+    @DisplayName("Test Reused Token Revokes Family")
+    public void testReusedTokenRevokesFamily() {
+        String first = refreshTokenService.createRefreshToken(user);
+        refreshTokenService.rotateRefreshToken(first);
+        String familyId = tokens.values().iterator().next().getFamilyId();
+
+        RefreshTokenReuseException error = assertThrows(RefreshTokenReuseException.class,
+            () -> refreshTokenService.rotateRefreshToken(first));
+
+        assertEquals("Refresh token has already been used", error.getMessage());
+        verify(refreshTokenRepository).revokeFamily(familyId);
+        // No successor is issued for the reused token
+        assertEquals(2, tokens.size());
+    }
+
+    @Test
+    @DisplayName("Test Family Revocation Survives Reuse Exception")
+    public void testFamilyRevocationSurvivesReuseException() throws NoSuchMethodException {
+        AnnotationTransactionAttributeSource source = new AnnotationTransactionAttributeSource();
+        TransactionAttribute rotate = source.getTransactionAttribute(
+            RefreshTokenService.class.getMethod("rotateRefreshToken", String.class), RefreshTokenService.class);
+        TransactionAttribute refresh = source.getTransactionAttribute(
+            AuthService.class.getMethod("refreshAccessToken", String.class), AuthService.class);
+
+        // Both the rotation and the refresh that joins it commit the revocation before the error reaches the client
+        for (TransactionAttribute attribute : List.of(rotate, refresh)) {
+            assertFalse(attribute.rollbackOn(new RefreshTokenReuseException("Refresh token has already been used")));
+            assertTrue(attribute.rollbackOn(new AuthenticationFailedException("Refresh token has expired")));
+        }
+    }
+
+    @Test
+    @DisplayName("Test Revoked And Expired Tokens Refused")
+    public void testRevokedAndExpiredTokensRefused() {
+        String revoked = refreshTokenService.createRefreshToken(user);
+        tokens.values().forEach(token -> token.setIsRevoked(true));
+        AuthenticationFailedException error = assertThrows(AuthenticationFailedException.class,
+            () -> refreshTokenService.rotateRefreshToken(revoked));
+        assertEquals("Refresh token has been revoked", error.getMessage());
+
+        tokens.clear();
+        String expired = refreshTokenService.createRefreshToken(user);
+        tokens.values().forEach(token -> token.setExpiresAt(LocalDateTime.now().minusSeconds(1)));
+        error = assertThrows(AuthenticationFailedException.class,
+            () -> refreshTokenService.rotateRefreshToken(expired));
+        assertEquals("Refresh token has expired", error.getMessage());
+
+        error = assertThrows(AuthenticationFailedException.class,
+            () -> refreshTokenService.rotateRefreshToken("unknown"));
+        assertEquals("Invalid refresh token", error.getMessage());
+        verify(refreshTokenRepository, never()).markUsed(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Test Inactive User Refused")
+    public void testInactiveUserRefused() {
+        String token = refreshTokenService.createRefreshToken(user);
+        when(userDetailsService.loadUserByCustomerId(CUSTOMER_ID))
+            .thenThrow(new UsernameNotFoundException("User not found or inactive"));
+
+        AuthenticationFailedException error = assertThrows(AuthenticationFailedException.class,
+            () -> refreshTokenService.rotateRefreshToken(token));
+
+        assertEquals("User account is no longer active", error.getMessage());
+        // The token is left unused and no successor is issued
+        verify(refreshTokenRepository, never()).markUsed(anyLong(), any());
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+        assertEquals(1, tokens.size());
+    }
+}
@@ -0,0 +1,280 @@
+package com.grocery.ordering.service;
+
+import com.grocery.ordering.entity.Customer;
+import com.grocery.ordering.entity.Order;
+import com.grocery.ordering.entity.Order.OrderStatus;
+import com.grocery.ordering.entity.OrderItem;
+import com.grocery.ordering.entity.Product;
+import com.grocery.ordering.entity.SalesByCustomer;
+import com.grocery.ordering.entity.SalesDaily;
+import com.grocery.ordering.entity.SalesRollupState;
+import com.grocery.ordering.repository.CustomerRepository;
+import com.grocery.ordering.repository.OrderRepository;
+import com.grocery.ordering.repository.SalesByCategoryRepository;
+import com.grocery.ordering.repository.SalesByCustomerRepository;
+import com.grocery.ordering.repository.SalesByProductRepository;
+import com.grocery.ordering.repository.SalesDailyRepository;
+import com.grocery.ordering.repository.SalesRollupChangeRepository;
+import com.grocery.ordering.repository.SalesRollupStateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the sales rollups.
+ * Every upsert is added to a ledger keyed by rollup row, so the tests can
+ * check what the rollup tables would hold after a series of changes.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+public class SalesAggregateServiceTest {
+
+    private static final LocalDateTime PLACED = LocalDateTime.of(2026, 3, 2, 10, 30);
+
+    @Mock
+    private SalesDailyRepository salesDailyRepository;
+
+    @Mock
+    private SalesByProductRepository salesByProductRepository;
+
+    @Mock
+    private SalesByCategoryRepository salesByCategoryRepository;
+
+    @Mock
+    private SalesByCustomerRepository salesByCustomerRepository;
+
+    @Mock
+    private SalesRollupStateRepository salesRollupStateRepository;
+
+    @Mock
+    private SalesRollupChangeRepository salesRollupChangeRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private SalesAggregateService salesAggregateService;
+
+    @Captor
+    private ArgumentCaptor<List<SalesDaily>> savedDays;
+
+    @Captor
+    private ArgumentCaptor<List<SalesByCustomer>> savedCustomers;
+
+    private final Map<String, BigDecimal> ledger = new TreeMap<>();
+    private final SalesRollupState state = new SalesRollupState();
+
+    @BeforeEach
+    public void setUp() {
+        state.setStateId(SalesRollupState.STATE_ID);
+        lenient().when(salesRollupStateRepository.lockShared(SalesRollupState.STATE_ID)).thenReturn(Optional.of(state));
+        lenient().when(salesRollupStateRepository.lockExclusive(SalesRollupState.STATE_ID))
+            .thenReturn(Optional.of(state));
+
+        lenient().doAnswer(invocation -> {
+            String day = "day " + invocation.getArgument(0);
+            post(day + " orders", BigDecimal.valueOf((long) invocation.getArgument(1)));
+            post(day + " units", BigDecimal.valueOf((long) invocation.getArgument(2)));
+            return post(day + " revenue", invocation.getArgument(3));
+        }).when(salesDailyRepository).addSales(any(), anyLong(), anyLong(), any(), any());
+        lenient().doAnswer(invocation -> {
+            String customer = "customer " + invocation.getArgument(0);
+            post(customer + " orders", BigDecimal.valueOf((long) invocation.getArgument(1)));
+            return post(customer + " spent", invocation.getArgument(2));
+        }).when(salesByCustomerRepository).addSales(anyLong(), anyLong(), any(), any());
+        lenient().doAnswer(invocation -> {
+            String product = "product " + invocation.getArgument(0);
+            post(product + " units", BigDecimal.valueOf((long) invocation.getArgument(3)));
+            return post(product + " revenue", invocation.getArgument(4));
+        }).when(salesByProductRepository).addSales(anyLong(), anyString(), anyString(), anyLong(), any(), any());
+        lenient().doAnswer(invocation -> {
+            String category = "category " + invocation.getArgument(0);
+            post(category + " units", BigDecimal.valueOf((long) invocation.getArgument(1)));
+            return post(category + " revenue", invocation.getArgument(2));
+        }).when(salesByCategoryRepository).addSales(anyString(), anyLong(), any(), any());
+    }
+
+    private Object post(String key, BigDecimal amount) {
+        ledger.merge(key, amount, BigDecimal::add);
+        return null;
+    }
+
+    private static Order order(long orderId, long customerId, OrderItem... items) {
+        Customer customer = new Customer();
+        customer.setCustomerId(customerId);
+        Order order = new Order();
+        order.setOrderId(orderId);
+        order.setCustomer(customer);
+        order.setOrderDate(PLACED);
+        order.setOrderItems(new ArrayList<>(List.of(items)));
+        order.setTotalAmount(order.getOrderItems().stream().map(OrderItem::getTotalPrice)
+            .reduce(BigDecimal.ZERO, BigDecimal::add));
+        return order;
+    }
+
+    private static OrderItem item(long productId, String name, String category, int quantity, String unitPrice) {
+        Product product = new Product(name, new BigDecimal(unitPrice), 50, null, category);
+        product.setProductId(productId);
+        return new OrderItem(null, product, quantity, new BigDecimal(unitPrice));
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return List.of(rows);
+    }
+
+    /**
+     * The ledger with zero entries dropped and amounts compared regardless of scale.
+     */
+    private Map<String, BigDecimal> balances() {
+        Map<String, BigDecimal> balances = new TreeMap<>();
+        ledger.forEach((key, amount) -> {
+            if (amount.signum() != 0) {
+                balances.put(key, amount.stripTrailingZeros());
+            }
+        });
+        return balances;
+    }
+
+    @Test
+    @DisplayName("Test Recorded Then Reversed Order Leaves Rollups At Zero")
+    public void testRecordedThenReversedOrderLeavesRollupsAtZero() {
+        Order order = order(1L, 7L, item(100L, "Milk", "Dairy", 2, "3.00"), item(101L, "Bread", null, 1, "2.50"));
+
+        salesAggregateService.recordOrder(order);
+        assertEquals(new BigDecimal("8.5"), balances().get("day " + PLACED.toLocalDate() + " revenue"));
+        assertEquals(BigDecimal.ONE, balances().get("customer 7 orders"));
+        assertEquals(new BigDecimal("2.5"), balances().get("category Uncategorized revenue"));
+
+        salesAggregateService.reverseOrder(order);
+        assertEquals(Map.of(), balances());
+        // Nothing is noted while no rebuild runs
+        verifyNoInteractions(salesRollupChangeRepository);
+    }
+
+    @Test
+    @DisplayName("Test Bulk Reversal Matches Per Order Reversals")
+    public void testBulkReversalMatchesPerOrderReversals() {
+        Order first = order(1L, 7L, item(100L, "Milk", "Dairy", 2, "3.00"), item(101L, "Bread", null, 1, "2.50"));
+        Order second = order(2L, 8L, item(100L, "Milk", "Dairy", 1, "3.00"));
+        List<Long> orderIds = List.of(1L, 2L);
+        when(orderRepository.findOrderSalesByIds(orderIds)).thenReturn(rows(
+            new Object[] {PLACED, new BigDecimal("8.50"), 3L, 7L},
+            new Object[] {PLACED, new BigDecimal("3.00"), 1L, 8L}));
+        when(orderRepository.sumProductSalesByIds(orderIds)).thenReturn(rows(
+            new Object[] {100L, "Milk", "Dairy", 3L, new BigDecimal("9.00")},
+            new Object[] {101L, "Bread", null, 1L, new BigDecimal("2.50")}));
+
+        salesAggregateService.reverseOrder(first);
+        salesAggregateService.reverseOrder(second);
+        Map<String, BigDecimal> perOrder = balances();
+        ledger.clear();
+        salesAggregateService.reverseOrders(orderIds);
+
+        assertFalse(perOrder.isEmpty());
+        assertEquals(perOrder, balances());
+        // One upsert per day, customer, product and category however many orders
+        verify(salesDailyRepository, times(3)).addSales(any(), anyLong(), anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Test Orders Changed During Rebuild Are Noted")
+    public void testOrdersChangedDuringRebuildAreNoted() {
+        state.setRebuilding(true);
+
+        salesAggregateService.recordOrder(order(9L, 7L, item(100L, "Milk", "Dairy", 1, "3.00")));
+
+        verify(salesRollupChangeRepository).note(9L);
+    }
+
+    @Test
+    @DisplayName("Test Rebuild Sums Noted Chunk Again And Sums Tail")
+    public void testRebuildSumsNotedChunkAgainAndSumsTail() {
+        // Two orders per chunk on one thread, over orders 1 to 4 when the chunks are laid out
+        ReflectionTestUtils.setField(salesAggregateService, "chunkSize", 2);
+        ReflectionTestUtils.setField(salesAggregateService, "threads", 1);
+        LocalDateTime nextDay = PLACED.plusDays(1);
+        when(orderRepository.findMinOrderId()).thenReturn(1L);
+        // Order 6 is placed after the chunks are laid out
+        when(orderRepository.findMaxOrderId()).thenReturn(4L, 6L);
+        // Order 2 commits after its chunk was summed, so it is noted and the chunk summed again
+        when(orderRepository.findOrderSalesInRange(1L, 2L, OrderStatus.CANCELLED)).thenReturn(
+            rows(new Object[] {PLACED, new BigDecimal("10.00"), 1L, 7L}),
+            rows(new Object[] {PLACED, new BigDecimal("10.00"), 1L, 7L},
+                new Object[] {PLACED, new BigDecimal("5.00"), 2L, 8L}));
+        when(orderRepository.findOrderSalesInRange(3L, 4L, OrderStatus.CANCELLED))
+            .thenReturn(rows(new Object[] {PLACED, new BigDecimal("20.00"), 1L, 7L}));
+        when(orderRepository.findOrderSalesInRange(5L, 6L, OrderStatus.CANCELLED))
+            .thenReturn(rows(new Object[] {nextDay, new BigDecimal("4.00"), 1L, 8L}));
+        when(salesRollupChangeRepository.findAllOrderIds()).thenReturn(List.of(2L));
+
+        salesAggregateService.rebuildRollups();
+
+        verify(orderRepository, times(2)).findOrderSalesInRange(1L, 2L, OrderStatus.CANCELLED);
+        verify(orderRepository).findOrderSalesInRange(3L, 4L, OrderStatus.CANCELLED);
+        verify(salesDailyRepository).saveAll(savedDays.capture());
+        Map<LocalDate, SalesDaily> days = new TreeMap<>();
+        savedDays.getValue().forEach(day -> days.put(day.getSalesDate(), day));
+        assertEquals(3, days.get(PLACED.toLocalDate()).getOrderCount());
+        assertEquals(4, days.get(PLACED.toLocalDate()).getUnitsSold());
+        assertEquals(new BigDecimal("35.00"), days.get(PLACED.toLocalDate()).getRevenue());
+        assertEquals(1, days.get(nextDay.toLocalDate()).getOrderCount());
+        assertEquals(new BigDecimal("4.00"), days.get(nextDay.toLocalDate()).getRevenue());
+
+        verify(salesByCustomerRepository).saveAll(savedCustomers.capture());
+        Map<Long, SalesByCustomer> customers = new TreeMap<>();
+        savedCustomers.getValue().forEach(customer -> customers.put(customer.getCustomerId(), customer));
+        assertEquals(2, customers.get(7L).getOrderCount());
+        assertEquals(new BigDecimal("30.00"), customers.get(7L).getTotalSpent());
+        assertEquals(new BigDecimal("9.00"), customers.get(8L).getTotalSpent());
+
+        // The journal is cleared when the rebuild starts and when it finishes, with writers held off both times
+        verify(salesRollupChangeRepository, times(2)).deleteAllChanges();
+        verify(salesRollupStateRepository, times(2)).lockExclusive(SalesRollupState.STATE_ID);
+        verify(salesRollupStateRepository, never()).createIfMissing(anyLong(), any());
+        assertFalse(state.isRebuilding());
+    }
+
+    @Test
+    @DisplayName("Test Missing State Row Created Before Locking")
+    public void testMissingStateRowCreatedBeforeLocking() {
+        when(salesRollupStateRepository.lockShared(SalesRollupState.STATE_ID))
+            .thenReturn(Optional.empty(), Optional.of(state));
+
+        salesAggregateService.lockRollups();
+
+        verify(salesRollupStateRepository).createIfMissing(eq(SalesRollupState.STATE_ID), any());
+        verify(salesRollupStateRepository, times(2)).lockShared(SalesRollupState.STATE_ID);
+    }
+}
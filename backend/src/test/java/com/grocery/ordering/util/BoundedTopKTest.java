@@ -0,0 +1,43 @@
+package com.grocery.ordering.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the bounded top-k heap.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class BoundedTopKTest {
+
+    @Test
+    @DisplayName("Test Keeps Greatest Elements In Order")
+    public void testKeepsGreatestElementsInOrder() {
+        BoundedTopK<Integer> top = new BoundedTopK<>(3, Comparator.naturalOrder());
+        for (int value : new int[] {5, 1, 9, 3, 7, 2, 8}) {
+            top.offer(value);
+        }
+
+        assertEquals(List.of(9, 8, 7), top.toList());
+        assertFalse(top.offer(4));
+        assertTrue(top.offer(10));
+        assertEquals(List.of(10, 9, 8), top.toList());
+    }
+
+    @Test
+    @DisplayName("Test Fewer Elements Than K")
+    public void testFewerElementsThanK() {
+        BoundedTopK<String> top = new BoundedTopK<>(5, Comparator.comparing(String::length));
+        top.offer("bb");
+        top.offer("a");
+
+        assertEquals(List.of("bb", "a"), top.toList());
+        assertThrows(IllegalArgumentException.class, () -> new BoundedTopK<String>(0, Comparator.naturalOrder()));
+    }
+}
@@ -0,0 +1,92 @@
+package com.grocery.ordering.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the co-occurrence matrix and its primitive maps.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class CoOccurrenceMatrixTest {
+
+    @Test
+    @DisplayName("Test Related Products Ranked By Similarity")
+    public void testRelatedProductsRankedBySimilarity() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(10, 100);
+        for (int i = 0; i < 10; i++) {
+            matrix.addBasket(new long[] {1, 2, 3});
+        }
+        matrix.addBasket(new long[] {1, 4, 4});
+        for (int i = 0; i < 30; i++) {
+            matrix.addBasket(new long[] {3, 5});
+        }
+
+        List<CoOccurrenceMatrix.Neighbour> related = matrix.related(1, 5);
+        assertEquals(List.of(2L, 3L, 4L), related.stream().map(CoOccurrenceMatrix.Neighbour::productId).toList());
+        assertEquals(10, related.get(0).count());
+        assertEquals(1, related.get(2).count());
+        assertEquals(41, matrix.baskets());
+        assertTrue(matrix.related(99, 5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test Pruning And Merge")
+    public void testPruningAndMerge() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(2, 100);
+        for (int i = 0; i < 5; i++) {
+            matrix.addBasket(new long[] {1, 2});
+        }
+        for (int i = 0; i < 4; i++) {
+            matrix.addBasket(new long[] {1, 9});
+        }
+        for (long neighbour = 10; neighbour <= 30; neighbour++) {
+            matrix.addBasket(new long[] {1, neighbour});
+        }
+        assertTrue(matrix.related(1, 10).size() <= 4);
+        assertEquals(List.of(2L, 9L), matrix.related(1, 2).stream().map(CoOccurrenceMatrix.Neighbour::productId).toList());
+
+        CoOccurrenceMatrix other = new CoOccurrenceMatrix(2, 100);
+        other.addBasket(new long[] {1, 9});
+        matrix.merge(other);
+        assertEquals(5, matrix.related(1, 10).stream().filter(n -> n.productId() == 9).findFirst().orElseThrow().count());
+    }
+
+    @Test
+    @DisplayName("Test Oversized Baskets Add No Pairs")
+    public void testOversizedBasketsAddNoPairs() {
+        CoOccurrenceMatrix matrix = new CoOccurrenceMatrix(10, 2);
+        matrix.addBasket(new long[] {1, 2, 3});
+        assertTrue(matrix.related(1, 5).isEmpty());
+        assertEquals(1, matrix.baskets());
+    }
+
+    @Test
+    @DisplayName("Test Primitive Maps")
+    public void testPrimitiveMaps() {
+        LongLongHashMap counts = new LongLongHashMap();
+        for (long key = -500; key <= 500; key++) {
+            counts.addTo(key, key * 2);
+        }
+        counts.addTo(7, 1);
+        assertEquals(1001, counts.size());
+        assertEquals(15, counts.get(7));
+        assertEquals(0, counts.get(0));
+        assertTrue(counts.containsKey(0));
+        assertFalse(counts.containsKey(501));
+
+        LongObjectHashMap<String> names = new LongObjectHashMap<>();
+        for (long key = 1; key <= 100; key++) {
+            names.put(key, "p" + key);
+        }
+        assertEquals("p42", names.get(42));
+        assertNull(names.get(101));
+        assertEquals("new", names.computeIfAbsent(101, key -> "new"));
+        assertEquals(101, names.size());
+    }
+}
@@ -0,0 +1,39 @@
+package com.grocery.ordering.util;
+
+import com.grocery.ordering.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for keyset pagination cursors.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class KeysetCursorTest {
+
+    @Test
+    @DisplayName("Test Cursor Round Trip")
+    public void testCursorRoundTrip() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123456000), 42L);
+        String encoded = cursor.encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"));
+        assertEquals(cursor, KeysetCursor.decode(encoded));
+    }
+
+    @Test
+    @DisplayName("Test Missing And Invalid Cursors")
+    public void testMissingAndInvalidCursors() {
+        assertNull(KeysetCursor.decode(null));
+        assertNull(KeysetCursor.decode(" "));
+
+        assertThrows(ValidationException.class, () -> KeysetCursor.decode("not a cursor"));
+        assertThrows(ValidationException.class, () -> KeysetCursor.decode("bm8tc2VwYXJhdG9y"));
+        assertThrows(ValidationException.class, () -> KeysetCursor.decode("MjAyNHw0Mg"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.grocery.ordering.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the negative result cache and search suggestions.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class NegativeResultCacheTest {
+
+    @Test
+    @DisplayName("Test Misses Are Remembered Case-Insensitively")
+    public void testMissesAreRememberedCaseInsensitively() {
+        NegativeResultCache cache = new NegativeResultCache(60000, 10);
+        assertNull(cache.get("Aple"));
+
+        cache.put("Aple", List.of("Apple"));
+        assertEquals(List.of("Apple"), cache.get(" aple "));
+
+        cache.invalidateAll();
+        assertNull(cache.get("aple"));
+    }
+
+    @Test
+    @DisplayName("Test Capacity And Expiry")
+    public void testCapacityAndExpiry() throws InterruptedException {
+        NegativeResultCache cache = new NegativeResultCache(20, 1);
+        cache.put("first", List.of());
+        cache.put("second", List.of());
+        assertNotNull(cache.get("first"));
+        assertNull(cache.get("second"));
+
+        Thread.sleep(30);
+        assertNull(cache.get("first"));
+    }
+
+    @Test
+    @DisplayName("Test Suggestions For Typos And Prefixes")
+    public void testSuggestionsForTyposAndPrefixes() {
+        List<String> candidates = List.of("Fresh Apples", "Banana", "Whole Milk", "Dairy");
+
+        assertEquals(List.of("Fresh Apples"), SearchSuggester.suggest("aple", candidates, 5));
+        assertEquals(List.of("Banana"), SearchSuggester.suggest("ban", candidates, 5));
+        assertEquals(List.of("Whole Milk"), SearchSuggester.suggest("milc", candidates, 5));
+        assertTrue(SearchSuggester.suggest("xyz", candidates, 5).isEmpty());
+    }
+}
@@ -0,0 +1,115 @@
+package com.grocery.ordering.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark pricing a 50-line basket against 1,000 active promotions,
+ * split between product and category percentages, buy-X-get-Y offers and
+ * basket thresholds, with the compiled table and with a scan of every rule
+ * per line as a baseline.
+ * Run with:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.grocery.ordering.util.PromotionTableBenchmark}
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromotionTableBenchmark {
+
+    private static final int PRODUCTS = 5000;
+    private static final int CATEGORIES = 50;
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    @Param({"1000"})
+    private int promotions;
+
+    @Param({"50"})
+    private int basketLines;
+
+    private PromotionTable table;
+    private List<Object[]> rules;
+    private List<PromotionTable.Line> basket;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        PromotionTable.Builder builder = new PromotionTable.Builder();
+        rules = new ArrayList<>(promotions);
+        for (int id = 1; id <= promotions; id++) {
+            Long productId = random.nextBoolean() ? (long) random.nextInt(PRODUCTS) : null;
+            String category = productId == null ? "category-" + random.nextInt(CATEGORIES) : null;
+            switch (id % 4) {
+                case 0, 1 -> {
+                    BigDecimal percent = BigDecimal.valueOf(5 + random.nextInt(40));
+                    builder.percentOff(id, productId, category, percent);
+                    rules.add(new Object[] {id, productId, category, percent, 0, 0});
+                }
+                case 2 -> {
+                    int buy = 1 + random.nextInt(4);
+                    builder.buyXGetY(id, productId, category, buy, 1);
+                    rules.add(new Object[] {id, productId, category, null, buy, 1});
+                }
+                default -> builder.basketThreshold(id, BigDecimal.valueOf(100 + random.nextInt(5000)),
+                    BigDecimal.valueOf(10 + random.nextInt(90)), null);
+            }
+        }
+        table = builder.build();
+
+        basket = new ArrayList<>(basketLines);
+        for (int i = 0; i < basketLines; i++) {
+            basket.add(new PromotionTable.Line(random.nextInt(PRODUCTS), "category-" + random.nextInt(CATEGORIES),
+                BigDecimal.valueOf(50 + random.nextInt(500), 2), 1 + random.nextInt(6)));
+        }
+    }
+
+    @Benchmark
+    public PromotionTable.PricedBasket compiledTable() {
+        return table.price(basket);
+    }
+
+    /**
+     * Line discounts found by testing every rule against every line, as a
+     * pricing loop without compiled tables would.
+     */
+    @Benchmark
+    public BigDecimal scanEveryRule() {
+        BigDecimal discount = BigDecimal.ZERO;
+        for (PromotionTable.Line line : basket) {
+            BigDecimal gross = line.unitPrice().multiply(BigDecimal.valueOf(line.quantity()));
+            BigDecimal best = BigDecimal.ZERO;
+            for (Object[] rule : rules) {
+                boolean matches = rule[1] != null ? (Long) rule[1] == line.productId() : rule[2].equals(line.category());
+                if (!matches) {
+                    continue;
+                }
+                BigDecimal candidate = rule[3] != null
+                    ? gross.multiply((BigDecimal) rule[3]).divide(HUNDRED, 2, RoundingMode.HALF_UP)
+                    : line.unitPrice().multiply(BigDecimal.valueOf(line.quantity() / ((Integer) rule[4] + 1)));
+                best = best.max(candidate);
+            }
+            discount = discount.add(best);
+        }
+        return discount;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(PromotionTableBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,97 @@
+package com.grocery.ordering.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the compiled promotion table.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class PromotionTableTest {
+
+    private static PromotionTable.Line line(long productId, String category, String unitPrice, int quantity) {
+        return new PromotionTable.Line(productId, category, new BigDecimal(unitPrice), quantity);
+    }
+
+    @Test
+    @DisplayName("Test Best Line Promotion Wins")
+    public void testBestLinePromotionWins() {
+        PromotionTable table = new PromotionTable.Builder()
+            .percentOff(1, null, "Fruits", new BigDecimal("10"))
+            .percentOff(2, null, "Fruits", new BigDecimal("20"))
+            .percentOff(3, 7L, null, new BigDecimal("20"))
+            .buyXGetY(4, 8L, null, 2, 1)
+            .build();
+
+        PromotionTable.PricedBasket basket = table.price(List.of(
+            line(7, "Fruits", "10.00", 2),
+            line(8, "Fruits", "5.00", 7),
+            line(9, "Fruits", "3.00", 1),
+            line(10, "Dairy", "4.00", 1)));
+
+        // Product promotion wins the tie with the category promotion
+        assertEquals(new BigDecimal("4.00"), basket.lines().get(0).discount());
+        assertEquals(3, basket.lines().get(0).linePromotionId());
+        // Two of seven items free beats 20 percent off
+        assertEquals(new BigDecimal("10.00"), basket.lines().get(1).discount());
+        assertEquals(4, basket.lines().get(1).linePromotionId());
+        assertEquals(new BigDecimal("0.60"), basket.lines().get(2).discount());
+        assertEquals(2, basket.lines().get(2).linePromotionId());
+        assertEquals(new BigDecimal("0.00"), basket.lines().get(3).discount());
+        assertEquals(0, basket.lines().get(3).linePromotionId());
+
+        assertEquals(new BigDecimal("62.00"), basket.subtotal());
+        assertEquals(new BigDecimal("14.60"), basket.discount());
+        assertEquals(new BigDecimal("47.40"), basket.total());
+    }
+
+    @Test
+    @DisplayName("Test Basket Threshold Shared Across Lines")
+    public void testBasketThresholdSharedAcrossLines() {
+        PromotionTable table = new PromotionTable.Builder()
+            .basketThreshold(1, new BigDecimal("50"), new BigDecimal("5"), null)
+            .basketThreshold(2, new BigDecimal("100"), new BigDecimal("15"), null)
+            .basketThreshold(3, new BigDecimal("200"), null, new BigDecimal("10"))
+            .basketThreshold(4, new BigDecimal("150"), new BigDecimal("10"), null)
+            .build();
+
+        PromotionTable.PricedBasket small = table.price(List.of(line(1, null, "10.00", 4)));
+        assertEquals(new BigDecimal("0.00"), small.discount());
+
+        // 120 reaches 100 and 50; the larger fixed amount applies
+        PromotionTable.PricedBasket medium = table.price(List.of(
+            line(1, null, "10.00", 3), line(2, null, "30.00", 3)));
+        assertEquals(new BigDecimal("15.00"), medium.discount());
+        assertEquals(2, medium.lines().get(0).basketPromotionId());
+        assertEquals(medium.discount(), medium.lines().get(0).discount().add(medium.lines().get(1).discount()));
+
+        // 10 percent of 300 beats every fixed amount reached
+        PromotionTable.PricedBasket large = table.price(List.of(
+            line(1, null, "33.33", 3), line(2, null, "100.01", 2)));
+        assertEquals(new BigDecimal("30.00"), large.discount());
+        assertEquals(3, large.lines().get(1).basketPromotionId());
+        assertEquals(large.discount(), large.lines().get(0).discount().add(large.lines().get(1).discount()));
+        assertEquals(large.subtotal().subtract(large.discount()), large.total());
+    }
+
+    @Test
+    @DisplayName("Test Empty Table And Invalid Rules")
+    public void testEmptyTableAndInvalidRules() {
+        PromotionTable.PricedBasket basket = PromotionTable.empty().price(List.of(line(1, "Fruits", "2.50", 3)));
+        assertEquals(new BigDecimal("7.50"), basket.total());
+        assertEquals(new BigDecimal("0.00"), basket.discount());
+
+        PromotionTable.Builder builder = new PromotionTable.Builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.percentOff(1, 1L, null, new BigDecimal("100")));
+        assertThrows(IllegalArgumentException.class, () -> builder.buyXGetY(1, null, null, 2, 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> builder.basketThreshold(1, new BigDecimal("10"), new BigDecimal("10"), null));
+    }
+}
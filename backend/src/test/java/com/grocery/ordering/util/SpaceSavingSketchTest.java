@@ -0,0 +1,70 @@
+package com.grocery.ordering.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the Space-Saving heavy hitters sketch.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class SpaceSavingSketchTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @Test
+    @DisplayName("Test Heavy Hitters Survive Eviction")
+    public void testHeavyHittersSurviveEviction() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(20, 5, HOUR, 0);
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            long key = i % 4 == 0 ? 1 : i % 4 == 1 ? 2 : 100 + random.nextInt(1000);
+            sketch.add(key, 1, 0);
+        }
+
+        List<SpaceSavingSketch.Item> top = sketch.top(2, 0);
+        assertEquals(20, sketch.size());
+        assertEquals(2, top.size());
+        assertTrue(top.stream().anyMatch(item -> item.key() == 1));
+        assertTrue(top.stream().anyMatch(item -> item.key() == 2));
+        for (SpaceSavingSketch.Item item : top) {
+            assertTrue(item.count() >= 2500, "count never underestimates");
+            assertTrue(item.count() - item.error() <= 2500, "count minus error never overestimates");
+        }
+    }
+
+    @Test
+    @DisplayName("Test Counts Decay Over Time")
+    public void testCountsDecayOverTime() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(10, 5, HOUR, 0);
+        sketch.add(1, 100, 0);
+        sketch.add(2, 50, 2 * HOUR);
+
+        List<SpaceSavingSketch.Item> top = sketch.top(5, 2 * HOUR);
+        assertEquals(2, top.get(0).key());
+        assertEquals(50.0, top.get(0).count(), 1e-9);
+        assertEquals(100 * Math.exp(-2), top.get(1).count(), 1e-9);
+        assertEquals(50 * Math.exp(-1), sketch.top(1, 3 * HOUR).get(0).count(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Test Rescaling Keeps Counts")
+    public void testRescalingKeepsCounts() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(10, 5, HOUR, 0);
+        sketch.add(1, 10, 0);
+        sketch.add(1, 10, 100 * HOUR);
+        sketch.add(2, 5, 100 * HOUR);
+
+        List<SpaceSavingSketch.Item> top = sketch.top(5, 100 * HOUR);
+        assertEquals(1, top.get(0).key());
+        assertEquals(10.0, top.get(0).count(), 1e-6);
+        assertEquals(5.0, top.get(1).count(), 1e-6);
+        assertTrue(Double.isFinite(top.get(0).count()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.grocery.ordering.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark comparing the single-pass scanner with the legacy regular
+ * expressions on clean input, which is the common case and the worst case
+ * for both since the whole input must be read.
+ * Run with:
+ * {@code mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.grocery.ordering.util.SqlInjectionScannerBenchmark}
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlInjectionScannerBenchmark {
+
+    @Param({"100", "1000"})
+    private int length;
+
+    private String input;
+
+    @Setup
+    public void setUp() {
+        String words = "Fresh organic apples from local farms, hand picked and packed daily. ";
+        StringBuilder builder = new StringBuilder(length);
+        while (builder.length() < length) {
+            builder.append(words);
+        }
+        input = builder.substring(0, length);
+    }
+
+    @Benchmark
+    public boolean legacyRegex() {
+        return SqlInjectionScannerTest.legacyIsSuspicious(input);
+    }
+
+    @Benchmark
+    public boolean singlePassScanner() {
+        return SqlInjectionScanner.isSuspicious(input);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(SqlInjectionScannerBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
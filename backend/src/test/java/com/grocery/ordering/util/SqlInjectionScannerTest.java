@@ -0,0 +1,83 @@
+package com.grocery.ordering.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the single-pass scanner reaches the same verdicts as the
+ * regular expressions it replaced.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class SqlInjectionScannerTest {
+
+    // The patterns previously used by ValidationUtils.preventSQLInjection
+    static final Pattern[] LEGACY_PATTERNS = {
+        Pattern.compile("(?i).*('|(\\-\\-)|(;)|(\\|)|(\\*)).*"),
+        Pattern.compile("(?i).*(union|select|insert|update|delete|drop|create|alter|exec|execute).*"),
+        Pattern.compile("(?i).*(script|javascript|vbscript|onload|onerror|onclick).*"),
+        Pattern.compile("(?i).*(\\<|\\>|\\&lt|\\&gt).*")
+    };
+
+    static boolean legacyIsSuspicious(String input) {
+        if (input == null || input.isBlank()) {
+            return false;
+        }
+        String cleanInput = input.trim();
+        for (Pattern pattern : LEGACY_PATTERNS) {
+            if (pattern.matcher(cleanInput).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    @DisplayName("Test Known Inputs")
+    public void testKnownInputs() {
+        String[] inputs = {
+            "John Doe", "Fresh Apples", "john.doe@email.com", "123 Main Street", "",
+            "'; DROP TABLE users; --", "1' UNION SELECT * FROM customers", "a-b", "a--b",
+            "SeLeCt", "Updated daily", "description", "Tom & Jerry", "&LT;b", "x&gtx",
+            "exe", "execut", "onclic", "scrip", "javascrip", "unio", "uunion", "ununion",
+            "a|b", "2*3", "<b>", "drOP", "alter ego", "e-mail", "&&lt"
+        };
+
+        for (String input : inputs) {
+            assertEquals(legacyIsSuspicious(input), SqlInjectionScanner.isSuspicious(input), input);
+        }
+        assertFalse(SqlInjectionScanner.isSuspicious(null));
+    }
+
+    @Test
+    @DisplayName("Test Random Inputs Match Legacy Patterns")
+    public void testRandomInputsMatchLegacyPatterns() {
+        String alphabet = "abcdefghijklmnopqrstuvwxyzEXCUTNIOSLDRP &-;'|*<>.@";
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20000; i++) {
+            StringBuilder input = new StringBuilder();
+            int length = random.nextInt(20);
+            for (int j = 0; j < length; j++) {
+                input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String value = input.toString();
+            assertEquals(legacyIsSuspicious(value), SqlInjectionScanner.isSuspicious(value), value);
+        }
+    }
+
+    @Test
+    @DisplayName("Test Multi-Line Input Is Scanned")
+    public void testMultiLineInputIsScanned() {
+        // The legacy patterns could not match across line breaks and let these through
+        assertTrue(SqlInjectionScanner.isSuspicious("line one\n'; DROP TABLE users; --"));
+        assertTrue(SqlInjectionScanner.isSuspicious("<script>\nalert(1)"));
+        assertFalse(SqlInjectionScanner.isSuspicious("Flat 4\nMain Street"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.grocery.ordering.util;
+
+import com.grocery.ordering.dto.CustomerRegistrationDTO;
+import com.grocery.ordering.dto.ProductDTO;
+import com.grocery.ordering.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the precompiled DTO validation plans.
+ *
+ * @author Chirag Singhal
+ * @version 1.0.0
+ */
+public class ValidationUtilsTest {
+
+    @Test
+    @DisplayName("Test Registration Reports Every Invalid Field")
+    public void testRegistrationReportsEveryInvalidField() {
+        CustomerRegistrationDTO registration = new CustomerRegistrationDTO();
+        registration.setCustomerName("J0hn");
+        registration.setEmail("not-an-email");
+        registration.setPassword("weak");
+        registration.setAddress("   ");
+        registration.setContactNumber("9876543210");
+
+        ValidationException exception = assertThrows(ValidationException.class,
+            () -> ValidationUtils.validateCustomerRegistration(registration));
+
+        List<ValidationPlan.Violation> violations = exception.getViolations();
+        assertEquals(List.of("customerName", "email", "password", "address"),
+            violations.stream().map(ValidationPlan.Violation::field).toList());
+        assertEquals("Address is required", violations.get(3).message());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    @DisplayName("Test Valid Product Passes")
+    public void testValidProductPasses() {
+        ProductDTO product = new ProductDTO();
+        product.setProductName("Fresh Apples");
+        product.setPrice(new BigDecimal("2.49"));
+        product.setQuantity(10);
+        product.setDescription("");
+
+        assertDoesNotThrow(() -> ValidationUtils.validateProduct(product));
+    }
+
+    @Test
+    @DisplayName("Test Single Product Violation Keeps Message")
+    public void testSingleProductViolationKeepsMessage() {
+        ProductDTO product = new ProductDTO();
+        product.setProductName("Fresh Apples");
+        product.setPrice(new BigDecimal("2.499"));
+        product.setQuantity(10);
+        product.setCategory("Fruit; DROP");
+
+        ValidationException exception = assertThrows(ValidationException.class,
+            () -> ValidationUtils.validateProduct(product));
+
+        assertEquals("Price can have at most 2 decimal places; "
+            + "Invalid characters detected in Category. Please use only alphanumeric characters and spaces.",
+            exception.getMessage());
+    }
+}
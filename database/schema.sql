@@ -7,6 +7,18 @@ CREATE DATABASE IF NOT EXISTS grocery_ordering_system;
 USE grocery_ordering_system;
 
 -- Drop tables if they exist (for clean setup)
+DROP TABLE IF EXISTS revoked_tokens;
+DROP TABLE IF EXISTS refresh_tokens;
+DROP TABLE IF EXISTS sales_rollup_changes;
+DROP TABLE IF EXISTS sales_rollup_state;
+DROP TABLE IF EXISTS sales_daily;
+DROP TABLE IF EXISTS sales_by_product;
+DROP TABLE IF EXISTS sales_by_category;
+DROP TABLE IF EXISTS sales_by_customer;
+DROP TABLE IF EXISTS cart_items;
+DROP TABLE IF EXISTS promotions;
+DROP TABLE IF EXISTS delivery_slots;
+DROP TABLE IF EXISTS pick_waves;
 DROP TABLE IF EXISTS order_items;
 DROP TABLE IF EXISTS orders;
 DROP TABLE IF EXISTS products;
@@ -50,6 +62,7 @@ CREATE TABLE products (
     quantity INT NOT NULL DEFAULT 0,
     description TEXT,
     category VARCHAR(50),
+    aisle VARCHAR(20),
     image_url VARCHAR(255),
     is_reserved BOOLEAN DEFAULT FALSE,
     reserved_by BIGINT,
@@ -72,6 +85,8 @@ CREATE TABLE orders (
     order_status VARCHAR(20) DEFAULT 'PENDING',
     delivery_address TEXT NOT NULL,
     contact_number VARCHAR(10) NOT NULL,
+    delivery_slot_id BIGINT,
+    pick_wave_id BIGINT,
     
     -- Constraints
     CONSTRAINT chk_total_amount CHECK (total_amount >= 0),
@@ -86,6 +101,8 @@ CREATE TABLE order_items (
     quantity INT NOT NULL,
     unit_price DECIMAL(10,2) NOT NULL,
     total_price DECIMAL(10,2) NOT NULL,
+    discount_amount DECIMAL(10,2) NOT NULL DEFAULT 0.00,
+    applied_promotions VARCHAR(50),
     
     -- Constraints
     CONSTRAINT chk_item_quantity CHECK (quantity > 0),
@@ -95,6 +112,141 @@ CREATE TABLE order_items (
     FOREIGN KEY (product_id) REFERENCES products(product_id) ON DELETE CASCADE
 );
 
+-- Create revoked_tokens table (JWT ids revoked on logout, kept until token expiry)
+CREATE TABLE revoked_tokens (
+    jti VARCHAR(36) PRIMARY KEY,
+    username VARCHAR(100),
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    
+    INDEX idx_revoked_tokens_expires_at (expires_at)
+);
+
+-- Create refresh_tokens table (hashed opaque refresh tokens, rotated on every use)
+CREATE TABLE refresh_tokens (
+    refresh_token_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    token_hash VARCHAR(64) NOT NULL UNIQUE,
+    family_id VARCHAR(36) NOT NULL,
+    user_id BIGINT NOT NULL,
+    username VARCHAR(100) NOT NULL,
+    email VARCHAR(100),
+    role VARCHAR(20),
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    used_at TIMESTAMP NULL,
+    is_revoked BOOLEAN DEFAULT FALSE,
+    
+    INDEX idx_refresh_tokens_family (family_id),
+    INDEX idx_refresh_tokens_username (username)
+);
+
+-- Create sales_daily table (sales rollup per day, maintained as orders are placed and cancelled)
+CREATE TABLE sales_daily (
+    sales_date DATE PRIMARY KEY,
+    order_count BIGINT NOT NULL DEFAULT 0,
+    units_sold BIGINT NOT NULL DEFAULT 0,
+    revenue DECIMAL(14,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create sales_by_product table (sales rollup per product)
+CREATE TABLE sales_by_product (
+    product_id BIGINT PRIMARY KEY,
+    product_name VARCHAR(100),
+    category VARCHAR(50),
+    units_sold BIGINT NOT NULL DEFAULT 0,
+    revenue DECIMAL(14,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    
+    INDEX idx_sales_by_product_revenue (revenue)
+);
+
+-- Create sales_by_category table (sales rollup per category)
+CREATE TABLE sales_by_category (
+    category VARCHAR(50) PRIMARY KEY,
+    units_sold BIGINT NOT NULL DEFAULT 0,
+    revenue DECIMAL(14,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create sales_by_customer table (running order count and spend per customer)
+CREATE TABLE sales_by_customer (
+    customer_id BIGINT PRIMARY KEY,
+    order_count BIGINT NOT NULL DEFAULT 0,
+    total_spent DECIMAL(14,2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    
+    INDEX idx_sales_by_customer_total_spent (total_spent),
+    INDEX idx_sales_by_customer_order_count (order_count)
+);
+
+-- Create sales_rollup_state table (single row locked by rollup writers and by rebuilds)
+CREATE TABLE sales_rollup_state (
+    state_id BIGINT PRIMARY KEY,
+    rebuilding BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP NULL
+);
+
+INSERT INTO sales_rollup_state (state_id, rebuilding) VALUES (1, FALSE);
+
+-- Create sales_rollup_changes table (orders placed or cancelled while a rebuild runs)
+CREATE TABLE sales_rollup_changes (
+    order_id BIGINT PRIMARY KEY
+);
+
+CREATE TABLE cart_items (
+    cart_item_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    customer_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity INT NOT NULL,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_cart_items_customer_product UNIQUE (customer_id, product_id)
+);
+
+CREATE TABLE promotions (
+    promotion_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    promotion_type VARCHAR(20) NOT NULL,
+    product_id BIGINT,
+    category VARCHAR(50),
+    percent_off DECIMAL(5,2),
+    buy_quantity INT,
+    free_quantity INT,
+    threshold_amount DECIMAL(10,2),
+    amount_off DECIMAL(10,2),
+    starts_at TIMESTAMP,
+    ends_at TIMESTAMP,
+    is_active BOOLEAN DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT chk_promotion_type CHECK (promotion_type IN ('PERCENT_OFF', 'BUY_X_GET_Y', 'BASKET_THRESHOLD'))
+);
+
+CREATE INDEX idx_promotions_active_window ON promotions(is_active, starts_at, ends_at);
+
+CREATE TABLE delivery_slots (
+    slot_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    slot_date DATE NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    capacity INT NOT NULL,
+    booked INT NOT NULL DEFAULT 0,
+    is_active BOOLEAN DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_delivery_slots_date_start UNIQUE (slot_date, start_time),
+    CONSTRAINT chk_delivery_slot_booked CHECK (booked >= 0 AND booked <= capacity)
+);
+
+CREATE TABLE pick_waves (
+    wave_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    category VARCHAR(50),
+    delivery_slot_id BIGINT,
+    order_status VARCHAR(20) NOT NULL DEFAULT 'CONFIRMED',
+    order_count INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
 -- Insert default admin user
 INSERT INTO admin_users (username, password, email, full_name) VALUES 
 ('admin', '$2a$10$92IXUNpkjO0rOQ5byMi.Ye4oKoEa3Ro9llC/.og/at2uheWG/igi.', 'admin@grocery.com', 'System Administrator');
@@ -116,6 +268,9 @@ INSERT INTO products (product_name, price, quantity, description, category) VALU
 CREATE INDEX idx_customers_email ON customers(email);
 CREATE INDEX idx_products_name ON products(product_name);
 CREATE INDEX idx_orders_customer ON orders(customer_id);
-CREATE INDEX idx_orders_date ON orders(order_date);
+CREATE INDEX idx_orders_date_id ON orders(order_date, order_id);
+CREATE INDEX idx_orders_status_date_id ON orders(order_status, order_date, order_id);
+CREATE INDEX idx_orders_customer_date_id ON orders(customer_id, order_date, order_id);
+CREATE INDEX idx_orders_pick_wave_status ON orders(pick_wave_id, order_status);
 CREATE INDEX idx_order_items_order ON order_items(order_id);
 CREATE INDEX idx_order_items_product ON order_items(product_id);